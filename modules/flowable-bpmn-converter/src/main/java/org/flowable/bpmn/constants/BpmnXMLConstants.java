@@ -60,6 +60,10 @@ public interface BpmnXMLConstants {
 
     public static final String ELEMENT_PROCESS = "process";
     public static final String ATTRIBUTE_PROCESS_EXECUTABLE = "isExecutable";
+    /**
+     * @deprecated Ignored by the engine, see {@link org.flowable.bpmn.model.Process#isEnableEagerExecutionTreeFetching()}.
+     */
+    @Deprecated
     public static final String ATTRIBUTE_PROCESS_EAGER_EXECUTION_FETCHING = "isEagerExecutionFetching";
     public static final String ELEMENT_POTENTIAL_STARTER = "potentialStarter";
     public static final String ATTRIBUTE_PROCESS_CANDIDATE_USERS = "candidateStarterUsers";
@@ -176,6 +180,8 @@ public interface BpmnXMLConstants {
     public static final String ATTRIBUTE_MULTIINSTANCE_COLLECTION = "collection";
     public static final String ATTRIBUTE_MULTIINSTANCE_VARIABLE = "elementVariable";
     public static final String ATTRIBUTE_MULTIINSTANCE_INDEX_VARIABLE = "elementIndexVariable";
+    public static final String ATTRIBUTE_MULTIINSTANCE_INSTANTIATION_CHUNK_SIZE = "instantiationChunkSize";
+    public static final String ATTRIBUTE_MULTIINSTANCE_MAX_ACTIVE_INSTANCES = "maxActiveInstances";
     public static final String ATTRIBUTE_MULTIINSTANCE_COLLECTION_CLASS = "class";
     public static final String ATTRIBUTE_MULTIINSTANCE_COLLECTION_DELEGATEEXPRESSION = "delegateExpression";
 
@@ -46,6 +46,8 @@ public class MultiInstanceParser extends BaseChildElementParser {
         multiInstanceDef.setInputDataItem(BpmnXMLUtil.getAttributeValue(ATTRIBUTE_MULTIINSTANCE_COLLECTION, xtr));
         multiInstanceDef.setElementVariable(BpmnXMLUtil.getAttributeValue(ATTRIBUTE_MULTIINSTANCE_VARIABLE, xtr));
         multiInstanceDef.setElementIndexVariable(BpmnXMLUtil.getAttributeValue(ATTRIBUTE_MULTIINSTANCE_INDEX_VARIABLE, xtr));
+        multiInstanceDef.setInstantiationChunkSize(BpmnXMLUtil.getAttributeValue(ATTRIBUTE_MULTIINSTANCE_INSTANTIATION_CHUNK_SIZE, xtr));
+        multiInstanceDef.setMaxActiveInstances(BpmnXMLUtil.getAttributeValue(ATTRIBUTE_MULTIINSTANCE_MAX_ACTIVE_INSTANCES, xtr));
 
         boolean readyWithMultiInstance = false;
         try {
@@ -46,6 +46,12 @@ public class MultiInstanceExport implements BpmnXMLConstants {
                 if (StringUtils.isNotEmpty(multiInstanceObject.getElementVariable())) {
                     BpmnXMLUtil.writeQualifiedAttribute(ATTRIBUTE_MULTIINSTANCE_VARIABLE, multiInstanceObject.getElementVariable(), xtw);
                 }
+                if (StringUtils.isNotEmpty(multiInstanceObject.getInstantiationChunkSize())) {
+                    BpmnXMLUtil.writeQualifiedAttribute(ATTRIBUTE_MULTIINSTANCE_INSTANTIATION_CHUNK_SIZE, multiInstanceObject.getInstantiationChunkSize(), xtw);
+                }
+                if (StringUtils.isNotEmpty(multiInstanceObject.getMaxActiveInstances())) {
+                    BpmnXMLUtil.writeQualifiedAttribute(ATTRIBUTE_MULTIINSTANCE_MAX_ACTIVE_INSTANCES, multiInstanceObject.getMaxActiveInstances(), xtw);
+                }
 
                 // check for collection element handler extension first since process validation is order-dependent
                 if (handler != null) {
@@ -82,6 +82,8 @@ public class MultiInstanceTaskConverterTest extends AbstractConverterTest {
         assertEquals(PARTICIPANT_VALUE, loopCharacteristics.getCollectionString().trim());
         assertEquals("class", loopCharacteristics.getHandler().getImplementationType());
         assertEquals("org.flowable.engine.test.bpmn.multiinstance.JSONCollectionHandler", loopCharacteristics.getHandler().getImplementation());
+        assertEquals("50", loopCharacteristics.getInstantiationChunkSize());
+        assertEquals("200", loopCharacteristics.getMaxActiveInstances());
 
         // verify subprocess
         flowElement = main.getFlowElement("subprocess1");
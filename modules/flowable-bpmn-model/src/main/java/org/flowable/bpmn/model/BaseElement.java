@@ -13,6 +13,7 @@
 package org.flowable.bpmn.model;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -30,6 +31,8 @@ public abstract class BaseElement implements HasExtensionAttributes {
     protected Map<String, List<ExtensionElement>> extensionElements = new LinkedHashMap<>();
     /** extension attributes could be part of each element */
     protected Map<String, List<ExtensionAttribute>> attributes = new LinkedHashMap<>();
+    /** expressions parsed at deployment time, keyed by their text (not part of the model and not copied) */
+    protected Map<String, Object> parsedExpressions;
 
     public String getId() {
         return id;
@@ -108,6 +111,24 @@ public abstract class BaseElement implements HasExtensionAttributes {
         this.attributes = attributes;
     }
 
+    /**
+     * Returns the expression that was parsed at deployment time for the given expression text of this element, or null if none was parsed.
+     * The result is typed as Object, as the model doesn't depend on the expression language implementation of the engine.
+     */
+    public Object getParsedExpression(String expressionText) {
+        if (parsedExpressions == null || expressionText == null) {
+            return null;
+        }
+        return parsedExpressions.get(expressionText);
+    }
+
+    public void addParsedExpression(String expressionText, Object parsedExpression) {
+        if (parsedExpressions == null) {
+            parsedExpressions = new HashMap<>();
+        }
+        parsedExpressions.put(expressionText, parsedExpression);
+    }
+
     public void setValues(BaseElement otherElement) {
         setId(otherElement.getId());
 
@@ -25,6 +25,8 @@ public class MultiInstanceLoopCharacteristics extends BaseElement {
     protected String elementVariable;
     protected String elementIndexVariable;
     protected boolean sequential;
+    protected String instantiationChunkSize;
+    protected String maxActiveInstances;
 
     public String getInputDataItem() {
         return inputDataItem;
@@ -90,6 +92,22 @@ public class MultiInstanceLoopCharacteristics extends BaseElement {
         this.sequential = sequential;
     }
 
+    public String getInstantiationChunkSize() {
+        return instantiationChunkSize;
+    }
+
+    public void setInstantiationChunkSize(String instantiationChunkSize) {
+        this.instantiationChunkSize = instantiationChunkSize;
+    }
+
+    public String getMaxActiveInstances() {
+        return maxActiveInstances;
+    }
+
+    public void setMaxActiveInstances(String maxActiveInstances) {
+        this.maxActiveInstances = maxActiveInstances;
+    }
+
     @Override
     public MultiInstanceLoopCharacteristics clone() {
         MultiInstanceLoopCharacteristics clone = new MultiInstanceLoopCharacteristics();
@@ -108,5 +126,7 @@ public class MultiInstanceLoopCharacteristics extends BaseElement {
         setElementVariable(otherLoopCharacteristics.getElementVariable());
         setElementIndexVariable(otherLoopCharacteristics.getElementIndexVariable());
         setSequential(otherLoopCharacteristics.isSequential());
+        setInstantiationChunkSize(otherLoopCharacteristics.getInstantiationChunkSize());
+        setMaxActiveInstances(otherLoopCharacteristics.getMaxActiveInstances());
     }
 }
@@ -448,10 +448,19 @@ public class Process extends BaseElement implements FlowElementsContainer, HasEx
         this.initialFlowElement = initialFlowElement;
     }
 
+    /**
+     * @deprecated The engine ignores this setting: eager execution tree fetching is configured for all process definitions
+     *             in the performance settings of the process engine. It's only kept to parse and export existing models.
+     */
+    @Deprecated
     public boolean isEnableEagerExecutionTreeFetching() {
         return enableEagerExecutionTreeFetching;
     }
 
+    /**
+     * @deprecated See {@link #isEnableEagerExecutionTreeFetching()}.
+     */
+    @Deprecated
     public void setEnableEagerExecutionTreeFetching(boolean enableEagerExecutionTreeFetching) {
         this.enableEagerExecutionTreeFetching = enableEagerExecutionTreeFetching;
     }
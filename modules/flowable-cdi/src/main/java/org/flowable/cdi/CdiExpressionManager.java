@@ -44,8 +44,10 @@ public class CdiExpressionManager extends ProcessExpressionManager {
             }
         }
         
-        if (arrayElResolverIndex > 0) {
+        if (arrayElResolverIndex >= 0) {
             elResolvers.add(arrayElResolverIndex, new CdiResolver());
+        } else {
+            elResolvers.add(new CdiResolver());
         }
     }
 
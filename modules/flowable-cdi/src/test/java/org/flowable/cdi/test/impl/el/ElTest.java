@@ -14,8 +14,12 @@ package org.flowable.cdi.test.impl.el;
 
 import static org.junit.Assert.assertEquals;
 
+import java.util.Collections;
+
 import org.flowable.cdi.test.CdiFlowableTestCase;
 import org.flowable.cdi.test.impl.beans.MessageBean;
+import org.flowable.common.engine.api.delegate.Expression;
+import org.flowable.common.engine.impl.el.VariableContainerWrapper;
 import org.flowable.engine.test.Deployment;
 import org.junit.Test;
 
@@ -32,6 +36,19 @@ public class ElTest extends CdiFlowableTestCase {
         assertEquals("Greetings from Flowable", messageBean.getMessage());
     }
 
+    @Test
+    public void testResolveBeanWithSharedResolvers() throws Exception {
+        MessageBean messageBean = getBeanInstance(MessageBean.class);
+        messageBean.setMessage("Hello");
+
+        // The resolvers that don't depend on the variables, including the cdi resolver, are shared between evaluations
+        Expression expression = processEngineConfiguration.getExpressionManager().createExpression("#{messageBean.message}");
+        assertEquals("Hello", expression.getValue(new VariableContainerWrapper(Collections.<String, Object>emptyMap())));
+
+        messageBean.setMessage("Hello again");
+        assertEquals("Hello again", expression.getValue(new VariableContainerWrapper(Collections.<String, Object>emptyMap())));
+    }
+
     // @Test
     // @Deployment(resources="org/flowable/cdi/test/impl/el/ElTest.testInvalidExpression.bpmn20.xml")
     // public void testInvalidExpressions() throws Exception {
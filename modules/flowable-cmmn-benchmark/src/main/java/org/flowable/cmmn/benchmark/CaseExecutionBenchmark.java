@@ -0,0 +1,95 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.cmmn.api.runtime.CaseInstance;
+import org.flowable.cmmn.benchmark.CaseModelGenerator.CaseModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the number of case instances per second that are started, or started and run to completion by completing
+ * their start task, for the different {@link CaseModel}s. The history level is the default one (audit).
+ *
+ * The number of sql statements per operation is counted by the {@link SqlStatementCountingDbSqlSessionFactory}
+ * and printed at the end of every trial.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CaseExecutionBenchmark {
+
+    @Param({ "HUMAN_TASK", "SENTRY_CASCADE", "PARALLEL_STAGE", "REPETITION" })
+    public CaseModel caseModel;
+
+    @Param({ "10", "100" })
+    public int size;
+
+    protected CmmnBenchmarkEngine engine;
+    protected Map<String, Object> variables;
+    protected long operationCount;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        CaseModelGenerator generator = new CaseModelGenerator(caseModel, size);
+        engine = new CmmnBenchmarkEngine(null);
+        engine.deploy(generator);
+        variables = generator.createVariables();
+        engine.getDbSqlSessionFactory().reset();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        SqlStatementCountingDbSqlSessionFactory dbSqlSessionFactory = engine.getDbSqlSessionFactory();
+        if (operationCount > 0) {
+            System.out.printf("sql statements per operation: %.1f (selects %.1f, inserts %.1f, updates %.1f, deletes %.1f)%n",
+                    (double) dbSqlSessionFactory.getStatementCount() / operationCount,
+                    (double) dbSqlSessionFactory.getSelectCount() / operationCount,
+                    (double) dbSqlSessionFactory.getInsertCount() / operationCount,
+                    (double) dbSqlSessionFactory.getUpdateCount() / operationCount,
+                    (double) dbSqlSessionFactory.getDeleteCount() / operationCount);
+        }
+        engine.close();
+    }
+
+    @Benchmark
+    public CaseInstance startCase() {
+        operationCount++;
+        return engine.startCaseInstance(variables);
+    }
+
+    @Benchmark
+    public CaseInstance startCaseAndCompleteStartTask() {
+        operationCount++;
+        CaseInstance caseInstance = engine.startCaseInstance(variables);
+        engine.completeStartTask(caseInstance.getId());
+        return caseInstance;
+    }
+}
@@ -0,0 +1,159 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.benchmark;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Generates the case models used by the benchmarks. The size of a model is the number of tasks in the sentry cascade,
+ * the number of parallel tasks in the stage or the number of items in the collection the repetition goes through.
+ *
+ * Every model contains a human task named 'Start task', which is the only wait state: completing it runs the rest of the case
+ * instance and completes it.
+ */
+public class CaseModelGenerator {
+
+    public static final String CASE_KEY = "benchmarkCase";
+    public static final String START_TASK_NAME = "Start task";
+    public static final String ITEMS_VARIABLE = "items";
+
+    public enum CaseModel {
+
+        /**
+         * Only the start task.
+         */
+        HUMAN_TASK,
+
+        /**
+         * A chain of tasks after the start task, every task has an entry sentry on the completion of the previous one.
+         */
+        SENTRY_CASCADE,
+
+        /**
+         * A stage with parallel tasks after the start task, every task has its own entry sentry on the completion of the start task.
+         */
+        PARALLEL_STAGE,
+
+        /**
+         * A stage after the start task with a task that is repeated for every item of the collection in the 'items' variable.
+         */
+        REPETITION
+    }
+
+    protected final CaseModel caseModel;
+    protected final int size;
+
+    public CaseModelGenerator(CaseModel caseModel, int size) {
+        this.caseModel = caseModel;
+        this.size = size;
+    }
+
+    public String generateCmmnXml() {
+        // the schema requires the plan items first, then the sentries and then the plan item definitions
+        StringBuilder planItems = new StringBuilder();
+        StringBuilder sentries = new StringBuilder();
+        StringBuilder definitions = new StringBuilder();
+        planItems.append("      <planItem id=\"startTaskPlanItem\" name=\"").append(START_TASK_NAME).append("\" definitionRef=\"startTask\" />\n");
+
+        switch (caseModel) {
+            case HUMAN_TASK:
+                break;
+            case SENTRY_CASCADE:
+                String previousPlanItemId = "startTaskPlanItem";
+                for (int i = 0; i < size; i++) {
+                    String planItemId = "taskPlanItem" + i;
+                    appendPlanItemWithEntrySentry(planItems, sentries, planItemId, "task", previousPlanItemId, "      ");
+                    previousPlanItemId = planItemId;
+                }
+                break;
+            case PARALLEL_STAGE:
+                planItems.append("      <planItem id=\"stagePlanItem\" definitionRef=\"stage\" />\n");
+                StringBuilder stagePlanItems = new StringBuilder();
+                StringBuilder stageSentries = new StringBuilder();
+                for (int i = 0; i < size; i++) {
+                    appendPlanItemWithEntrySentry(stagePlanItems, stageSentries, "taskPlanItem" + i, "task", "startTaskPlanItem", "        ");
+                }
+                definitions.append("      <stage id=\"stage\" name=\"Stage\">\n").append(stagePlanItems).append(stageSentries).append("      </stage>\n");
+                break;
+            case REPETITION:
+                // a task without entry criteria is repeated as soon as it completes, the stage makes it start after the start task
+                appendPlanItemWithEntrySentry(planItems, sentries, "stagePlanItem", "stage", "startTaskPlanItem", "      ");
+                definitions.append("      <stage id=\"stage\" name=\"Stage\">\n");
+                definitions.append("        <planItem id=\"taskPlanItem\" definitionRef=\"task\">\n");
+                definitions.append("          <itemControl>\n");
+                definitions.append("            <repetitionRule>\n");
+                definitions.append("              <condition><![CDATA[${repetitionCounter < ").append(ITEMS_VARIABLE).append(".size()}]]></condition>\n");
+                definitions.append("            </repetitionRule>\n");
+                definitions.append("          </itemControl>\n");
+                definitions.append("        </planItem>\n");
+                definitions.append("      </stage>\n");
+                break;
+        }
+
+        StringBuilder xml = new StringBuilder();
+        xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+        xml.append("<definitions xmlns=\"http://www.omg.org/spec/CMMN/20151109/MODEL\" targetNamespace=\"http://flowable.org/cmmn\">\n");
+        xml.append("  <case id=\"").append(CASE_KEY).append("\" name=\"Benchmark case\">\n");
+        xml.append("    <casePlanModel id=\"casePlanModel\">\n");
+        xml.append(planItems).append(sentries).append(definitions);
+        xml.append("      <humanTask id=\"startTask\" name=\"").append(START_TASK_NAME).append("\" />\n");
+        xml.append("      <task id=\"task\" name=\"Task\" isBlocking=\"false\" />\n");
+        xml.append("    </casePlanModel>\n");
+        xml.append("  </case>\n");
+        xml.append("</definitions>\n");
+        return xml.toString();
+    }
+
+    protected void appendPlanItemWithEntrySentry(StringBuilder planItems, StringBuilder sentries, String planItemId, String definitionRef,
+            String sourcePlanItemId, String indent) {
+        String sentryId = "sentry" + planItemId;
+        planItems.append(indent).append("<planItem id=\"").append(planItemId).append("\" definitionRef=\"").append(definitionRef).append("\">\n");
+        planItems.append(indent).append("  <entryCriterion sentryRef=\"").append(sentryId).append("\" />\n");
+        planItems.append(indent).append("</planItem>\n");
+        appendSentry(sentries, sentryId, sourcePlanItemId, indent);
+    }
+
+    protected void appendSentry(StringBuilder sentries, String sentryId, String sourcePlanItemId, String indent) {
+        sentries.append(indent).append("<sentry id=\"").append(sentryId).append("\">\n");
+        sentries.append(indent).append("  <planItemOnPart sourceRef=\"").append(sourcePlanItemId).append("\">\n");
+        sentries.append(indent).append("    <standardEvent>complete</standardEvent>\n");
+        sentries.append(indent).append("  </planItemOnPart>\n");
+        sentries.append(indent).append("</sentry>\n");
+    }
+
+    /**
+     * Returns the variables to start a case instance with: only the repetition model uses the 'items' collection.
+     */
+    public Map<String, Object> createVariables() {
+        Map<String, Object> variables = new HashMap<>();
+        if (caseModel == CaseModel.REPETITION) {
+            List<String> items = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                items.add("item" + i);
+            }
+            variables.put(ITEMS_VARIABLE, items);
+        }
+        return variables;
+    }
+
+    public CaseModel getCaseModel() {
+        return caseModel;
+    }
+
+    public int getSize() {
+        return size;
+    }
+}
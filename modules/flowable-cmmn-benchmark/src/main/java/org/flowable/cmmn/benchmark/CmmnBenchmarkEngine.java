@@ -0,0 +1,105 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.flowable.cmmn.api.repository.CaseDefinition;
+import org.flowable.cmmn.api.repository.CmmnDeployment;
+import org.flowable.cmmn.api.runtime.CaseInstance;
+import org.flowable.cmmn.engine.CmmnEngine;
+import org.flowable.cmmn.engine.CmmnEngineConfiguration;
+import org.flowable.cmmn.engine.impl.cfg.StandaloneInMemCmmnEngineConfiguration;
+import org.flowable.common.engine.impl.AbstractEngineConfiguration;
+import org.flowable.task.api.Task;
+
+/**
+ * Builds the in-memory CMMN engines used by the benchmarks and the load driver.
+ * Every engine gets its own H2 database, so benchmarks with different engine settings don't share state.
+ * The sql statements of every engine are counted by a {@link SqlStatementCountingDbSqlSessionFactory}.
+ */
+public class CmmnBenchmarkEngine {
+
+    public interface ConfigurationCustomizer {
+
+        void customize(CmmnEngineConfiguration cmmnEngineConfiguration);
+    }
+
+    protected static final AtomicInteger ENGINE_COUNTER = new AtomicInteger();
+
+    protected final CmmnEngine cmmnEngine;
+    protected final SqlStatementCountingDbSqlSessionFactory dbSqlSessionFactory;
+
+    public CmmnBenchmarkEngine(ConfigurationCustomizer customizer) {
+        int engineNumber = ENGINE_COUNTER.incrementAndGet();
+        CmmnEngineConfiguration cmmnEngineConfiguration = new StandaloneInMemCmmnEngineConfiguration();
+        cmmnEngineConfiguration.setCmmnEngineName("benchmark-" + engineNumber);
+        cmmnEngineConfiguration.setJdbcUrl("jdbc:h2:mem:flowable-cmmn-benchmark-" + engineNumber + ";DB_CLOSE_DELAY=1000");
+        cmmnEngineConfiguration.setDatabaseSchemaUpdate(AbstractEngineConfiguration.DB_SCHEMA_UPDATE_DROP_CREATE);
+        cmmnEngineConfiguration.setDisableIdmEngine(true);
+        if (customizer != null) {
+            customizer.customize(cmmnEngineConfiguration);
+        }
+
+        this.dbSqlSessionFactory = new SqlStatementCountingDbSqlSessionFactory(cmmnEngineConfiguration.isUsePrefixId());
+        cmmnEngineConfiguration.setDbSqlSessionFactory(dbSqlSessionFactory);
+        this.cmmnEngine = cmmnEngineConfiguration.buildCmmnEngine();
+    }
+
+    public CaseDefinition deploy(CaseModelGenerator generator) {
+        CmmnDeployment deployment = cmmnEngine.getCmmnRepositoryService().createDeployment()
+                .name("benchmark")
+                .addString("benchmark.cmmn", generator.generateCmmnXml())
+                .deploy();
+
+        return cmmnEngine.getCmmnRepositoryService().createCaseDefinitionQuery()
+                .deploymentId(deployment.getId())
+                .caseDefinitionKey(CaseModelGenerator.CASE_KEY)
+                .singleResult();
+    }
+
+    public CaseInstance startCaseInstance(Map<String, Object> variables) {
+        return cmmnEngine.getCmmnRuntimeService().createCaseInstanceBuilder()
+                .caseDefinitionKey(CaseModelGenerator.CASE_KEY)
+                .variables(variables)
+                .start();
+    }
+
+    /**
+     * Completes the start task of the case instance, which runs the rest of the case instance.
+     */
+    public void completeStartTask(String caseInstanceId) {
+        Task task = cmmnEngine.getCmmnTaskService().createTaskQuery()
+                .caseInstanceId(caseInstanceId)
+                .taskName(CaseModelGenerator.START_TASK_NAME)
+                .singleResult();
+        cmmnEngine.getCmmnTaskService().complete(task.getId());
+    }
+
+    public void close() {
+        cmmnEngine.close();
+    }
+
+    public CmmnEngine getCmmnEngine() {
+        return cmmnEngine;
+    }
+
+    public CmmnEngineConfiguration getCmmnEngineConfiguration() {
+        return cmmnEngine.getCmmnEngineConfiguration();
+    }
+
+    public SqlStatementCountingDbSqlSessionFactory getDbSqlSessionFactory() {
+        return dbSqlSessionFactory;
+    }
+}
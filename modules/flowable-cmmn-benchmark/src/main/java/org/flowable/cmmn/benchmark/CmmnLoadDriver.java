@@ -0,0 +1,140 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.cmmn.api.runtime.CaseInstance;
+import org.flowable.cmmn.benchmark.CaseModelGenerator.CaseModel;
+
+import com.sun.management.ThreadMXBean;
+
+/**
+ * Multi-threaded load driver that starts case instances and runs them to completion (by completing their start task)
+ * on several threads against one in-memory CMMN engine, first for a warmup period and then for a measured period.
+ *
+ * For the measured period it reports the operations per second, the sql statements per operation and the bytes allocated
+ * per operation by the worker threads.
+ *
+ * Usage: CmmnLoadDriver [caseModel] [size] [threads] [durationSeconds], which defaults to SENTRY_CASCADE 10 4 30.
+ * The warmup period is a third of the measured period.
+ */
+public class CmmnLoadDriver {
+
+    protected final CmmnBenchmarkEngine engine;
+    protected final Map<String, Object> variables;
+    protected final int threadCount;
+
+    public CmmnLoadDriver(CaseModelGenerator generator, int threadCount) {
+        this.engine = new CmmnBenchmarkEngine(null);
+        this.engine.deploy(generator);
+        this.variables = generator.createVariables();
+        this.threadCount = threadCount;
+    }
+
+    public static void main(String[] args) throws Exception {
+        CaseModel caseModel = args.length > 0 ? CaseModel.valueOf(args[0]) : CaseModel.SENTRY_CASCADE;
+        int size = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        int threadCount = args.length > 2 ? Integer.parseInt(args[2]) : 4;
+        int durationSeconds = args.length > 3 ? Integer.parseInt(args[3]) : 30;
+
+        CmmnLoadDriver loadDriver = new CmmnLoadDriver(new CaseModelGenerator(caseModel, size), threadCount);
+        try {
+            loadDriver.run(TimeUnit.SECONDS.toMillis(Math.max(1, durationSeconds / 3)));
+
+            SqlStatementCountingDbSqlSessionFactory dbSqlSessionFactory = loadDriver.getEngine().getDbSqlSessionFactory();
+            dbSqlSessionFactory.reset();
+            LoadResult result = loadDriver.run(TimeUnit.SECONDS.toMillis(durationSeconds));
+
+            System.out.printf("%s (size %d) on %d threads: %d operations in %d ms%n",
+                    caseModel, size, threadCount, result.operationCount, result.durationMillis);
+            System.out.printf("operations per second:        %.1f%n", result.operationCount * 1000.0 / result.durationMillis);
+            System.out.printf("sql statements per operation: %.1f%n", (double) dbSqlSessionFactory.getStatementCount() / result.operationCount);
+            System.out.printf("bytes allocated per operation: %d%n", result.allocatedBytes / result.operationCount);
+        } finally {
+            loadDriver.getEngine().close();
+        }
+    }
+
+    public LoadResult run(long durationMillis) throws InterruptedException, ExecutionException {
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        try {
+            long startTime = System.currentTimeMillis();
+            long endTime = startTime + durationMillis;
+
+            List<Future<LoadResult>> futures = new ArrayList<>(threadCount);
+            for (int i = 0; i < threadCount; i++) {
+                futures.add(executorService.submit(() -> runWorker(endTime)));
+            }
+
+            LoadResult result = new LoadResult();
+            for (Future<LoadResult> future : futures) {
+                LoadResult workerResult = future.get();
+                result.operationCount += workerResult.operationCount;
+                result.allocatedBytes += workerResult.allocatedBytes;
+            }
+            result.durationMillis = System.currentTimeMillis() - startTime;
+            return result;
+
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    protected LoadResult runWorker(long endTime) {
+        ThreadMXBean threadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long allocatedBytesAtStart = threadMXBean.getThreadAllocatedBytes(threadId);
+
+        LoadResult result = new LoadResult();
+        while (System.currentTimeMillis() < endTime) {
+            CaseInstance caseInstance = engine.startCaseInstance(variables);
+            engine.completeStartTask(caseInstance.getId());
+            result.operationCount++;
+        }
+
+        result.allocatedBytes = threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBytesAtStart;
+        return result;
+    }
+
+    public CmmnBenchmarkEngine getEngine() {
+        return engine;
+    }
+
+    public static class LoadResult {
+
+        protected long operationCount;
+        protected long allocatedBytes;
+        protected long durationMillis;
+
+        public long getOperationCount() {
+            return operationCount;
+        }
+
+        public long getAllocatedBytes() {
+            return allocatedBytes;
+        }
+
+        public long getDurationMillis() {
+            return durationMillis;
+        }
+    }
+}
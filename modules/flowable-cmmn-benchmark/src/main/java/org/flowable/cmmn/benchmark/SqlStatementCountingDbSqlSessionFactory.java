@@ -0,0 +1,111 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.benchmark;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.ibatis.session.SqlSession;
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.db.DbSqlSession;
+import org.flowable.common.engine.impl.db.DbSqlSessionFactory;
+import org.flowable.common.engine.impl.persistence.cache.EntityCache;
+
+/**
+ * A {@link DbSqlSessionFactory} that counts the sql statements sent to the database.
+ *
+ * The MyBatis session of every {@link DbSqlSession} is wrapped, so all selects, inserts, updates and deletes are counted,
+ * including the bulk operations (which count as one statement) and the statements executed directly on the MyBatis session.
+ */
+public class SqlStatementCountingDbSqlSessionFactory extends DbSqlSessionFactory {
+
+    protected final LongAdder selectCount = new LongAdder();
+    protected final LongAdder insertCount = new LongAdder();
+    protected final LongAdder updateCount = new LongAdder();
+    protected final LongAdder deleteCount = new LongAdder();
+
+    public SqlStatementCountingDbSqlSessionFactory(boolean usePrefixId) {
+        super(usePrefixId);
+    }
+
+    @Override
+    protected DbSqlSession createDbSqlSession() {
+        return new SqlStatementCountingDbSqlSession(this, Context.getCommandContext().getSession(EntityCache.class));
+    }
+
+    public long getSelectCount() {
+        return selectCount.sum();
+    }
+
+    public long getInsertCount() {
+        return insertCount.sum();
+    }
+
+    public long getUpdateCount() {
+        return updateCount.sum();
+    }
+
+    public long getDeleteCount() {
+        return deleteCount.sum();
+    }
+
+    public long getStatementCount() {
+        return getSelectCount() + getInsertCount() + getUpdateCount() + getDeleteCount();
+    }
+
+    public void reset() {
+        selectCount.reset();
+        insertCount.reset();
+        updateCount.reset();
+        deleteCount.reset();
+    }
+
+    protected void countStatement(String methodName) {
+        if (methodName.startsWith("select")) {
+            selectCount.increment();
+        } else if (methodName.equals("insert")) {
+            insertCount.increment();
+        } else if (methodName.equals("update")) {
+            updateCount.increment();
+        } else if (methodName.equals("delete")) {
+            deleteCount.increment();
+        }
+    }
+
+    public static class SqlStatementCountingDbSqlSession extends DbSqlSession {
+
+        public SqlStatementCountingDbSqlSession(SqlStatementCountingDbSqlSessionFactory dbSqlSessionFactory, EntityCache entityCache) {
+            super(dbSqlSessionFactory, entityCache);
+            this.sqlSession = createCountingSqlSession(dbSqlSessionFactory, sqlSession);
+        }
+
+        protected static SqlSession createCountingSqlSession(SqlStatementCountingDbSqlSessionFactory dbSqlSessionFactory, SqlSession sqlSession) {
+            InvocationHandler invocationHandler = new InvocationHandler() {
+
+                @Override
+                public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                    dbSqlSessionFactory.countStatement(method.getName());
+                    try {
+                        return method.invoke(sqlSession, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                }
+            };
+            return (SqlSession) Proxy.newProxyInstance(SqlSession.class.getClassLoader(), new Class<?>[] { SqlSession.class }, invocationHandler);
+        }
+    }
+}
@@ -366,6 +366,16 @@ public class CmmnXmlConverter implements CmmnXmlConstants {
             planItem.getExitDependencies().forEach(exitDependency -> exitDependency.addExitDependentPlanItem(planItem));
         }
 
+        // Index the sentries by the plan item and transition of their onParts,
+        // so only the sentries that listen to a lifecycle event need to be evaluated when it happens
+        for (Sentry sentry : conversionHelper.getSentries()) {
+            for (SentryOnPart sentryOnPart : sentry.getOnParts()) {
+                if (sentryOnPart.getSource() != null && sentryOnPart.getStandardEvent() != null) {
+                    sentryOnPart.getSource().addDependentSentryId(sentryOnPart.getStandardEvent(), sentry.getId());
+                }
+            }
+        }
+
 
         // set DI elements
         for (CmmnDiShape diShape : conversionHelper.getDiShapes()) {
@@ -0,0 +1,54 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.test.cmmn.converter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+
+import org.flowable.cmmn.model.CmmnModel;
+import org.flowable.cmmn.model.PlanItem;
+import org.junit.Test;
+
+public class SentryDependencyIndexConverterTest extends AbstractConverterTest {
+
+    private static final String CMMN_RESOURCE = "org/flowable/test/cmmn/converter/exit-criteria-on-planmodel.cmmn";
+
+    @Test
+    public void convertXMLToModel() throws Exception {
+        CmmnModel cmmnModel = readXMLFile(CMMN_RESOURCE);
+        validateModel(cmmnModel);
+    }
+
+    @Test
+    public void convertModelToXML() throws Exception {
+        CmmnModel cmmnModel = readXMLFile(CMMN_RESOURCE);
+        CmmnModel parsedModel = exportAndReadXMLFile(cmmnModel);
+        validateModel(parsedModel);
+    }
+
+    public void validateModel(CmmnModel cmmnModel) {
+        PlanItem planItemTaskA = cmmnModel.findPlanItem("planItemTaskA");
+        assertEquals(Collections.singleton("sentryMileStoneTwo"), planItemTaskA.getDependentSentryIds("complete"));
+        assertTrue(planItemTaskA.getDependentSentryIds("start").isEmpty());
+        assertEquals(1, planItemTaskA.getDependentSentryIds().size());
+
+        assertEquals(Collections.singleton("sentryTaskB"), cmmnModel.findPlanItem("planItemMileStoneTwo").getDependentSentryIds("occur"));
+        assertEquals(Collections.singleton("sentryMileStoneOne"), cmmnModel.findPlanItem("planItemTaskB").getDependentSentryIds("complete"));
+
+        // sentry of the exit criterion of the plan model
+        assertEquals(Collections.singleton("mileStoneReachedSentry"), cmmnModel.findPlanItem("planItemMileStoneOne").getDependentSentryIds("occur"));
+    }
+
+}
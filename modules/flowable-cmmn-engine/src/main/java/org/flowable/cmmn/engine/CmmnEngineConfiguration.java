@@ -188,6 +188,7 @@ import org.flowable.common.engine.impl.cfg.BeansConfigurationHelper;
 import org.flowable.common.engine.impl.db.AbstractDataManager;
 import org.flowable.common.engine.impl.db.SchemaManager;
 import org.flowable.common.engine.impl.el.ExpressionManager;
+import org.flowable.common.engine.impl.el.JuelExpressionCompiler;
 import org.flowable.common.engine.impl.el.function.FlowableShortHandExpressionFunction;
 import org.flowable.common.engine.impl.el.function.VariableContainsAnyExpressionFunction;
 import org.flowable.common.engine.impl.el.function.VariableContainsExpressionFunction;
@@ -356,6 +357,8 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     protected boolean isExpressionCacheEnabled = true;
     protected int expressionCacheSize = 4096;
     protected int expressionTextLengthCacheLimit = -1; // negative value to have no max length
+    protected int expressionCompilationThreshold = -1; // negative value to never compile expressions
+    protected boolean enableExpressionPreParsing = true; // parse the expressions of a case definition when it's deployed or cached instead of on first use
 
     protected ScriptingEngines scriptingEngines;
     protected List<ResolverFactory> resolverFactories;
@@ -392,6 +395,18 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     protected EntityLinkServiceConfiguration entityLinkServiceConfiguration;
     protected boolean enableEntityLinks;
 
+    /**
+     * When fetching a case instance, also fetch the satisfied sentry parts of the case instance and all its plan item instances
+     * with one query, instead of fetching them per plan item instance when they are needed.
+     * (the plan item instances themselves are always fetched together with the case instance)
+     */
+    protected boolean enableEagerCaseInstanceTreeFetching;
+
+    /**
+     * When fetching a case instance, also fetch the variables of the case instance and the local variables of all its plan item instances with one query.
+     */
+    protected boolean enableEagerCaseInstanceVariableFetching;
+
     // Task support
     protected TaskServiceConfiguration taskServiceConfiguration;
     protected InternalHistoryTaskManager internalHistoryTaskManager;
@@ -912,6 +927,10 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
                 cmmnExpressionManager.setExpressionCache(new DefaultDeploymentCache<>(expressionCacheSize));
                 cmmnExpressionManager.setExpressionTextLengthCacheLimit(expressionTextLengthCacheLimit);
             }
+
+            if (expressionCompilationThreshold >= 0) {
+                cmmnExpressionManager.setExpressionCompiler(new JuelExpressionCompiler(expressionCompilationThreshold));
+            }
             
             expressionManager = cmmnExpressionManager;
         }
@@ -1712,6 +1731,9 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
                 // In case an async history executor was injected, only the job handlers are set. 
                 // In the normal case, these are set on the jobServiceConfiguration, but these are not shared between instances
                 if (historyJobHandlers != null) {
+                    if (asyncHistoryExecutor.getJobServiceConfiguration() == null) {
+                        asyncHistoryExecutor.setJobServiceConfiguration(jobServiceConfiguration);
+                    }
                     historyJobHandlers.forEach((type, handler) -> { asyncHistoryExecutor.getJobServiceConfiguration().mergeHistoryJobHandler(handler); });
                 }
                 
@@ -2259,6 +2281,24 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public int getExpressionCompilationThreshold() {
+        return expressionCompilationThreshold;
+    }
+
+    public CmmnEngineConfiguration setExpressionCompilationThreshold(int expressionCompilationThreshold) {
+        this.expressionCompilationThreshold = expressionCompilationThreshold;
+        return this;
+    }
+
+    public boolean isEnableExpressionPreParsing() {
+        return enableExpressionPreParsing;
+    }
+
+    public CmmnEngineConfiguration setEnableExpressionPreParsing(boolean enableExpressionPreParsing) {
+        this.enableExpressionPreParsing = enableExpressionPreParsing;
+        return this;
+    }
+
     public DelegateExpressionFieldInjectionMode getDelegateExpressionFieldInjectionMode() {
         return delegateExpressionFieldInjectionMode;
     }
@@ -3160,6 +3200,24 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public boolean isEnableEagerCaseInstanceTreeFetching() {
+        return enableEagerCaseInstanceTreeFetching;
+    }
+
+    public CmmnEngineConfiguration setEnableEagerCaseInstanceTreeFetching(boolean enableEagerCaseInstanceTreeFetching) {
+        this.enableEagerCaseInstanceTreeFetching = enableEagerCaseInstanceTreeFetching;
+        return this;
+    }
+
+    public boolean isEnableEagerCaseInstanceVariableFetching() {
+        return enableEagerCaseInstanceVariableFetching;
+    }
+
+    public CmmnEngineConfiguration setEnableEagerCaseInstanceVariableFetching(boolean enableEagerCaseInstanceVariableFetching) {
+        this.enableEagerCaseInstanceVariableFetching = enableEagerCaseInstanceVariableFetching;
+        return this;
+    }
+
     public Map<String, HistoryJobHandler> getHistoryJobHandlers() {
         return historyJobHandlers;
     }
@@ -13,6 +13,9 @@
 package org.flowable.cmmn.engine.impl.agenda;
 
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 import org.flowable.cmmn.engine.impl.agenda.operation.ActivateAsyncPlanItemInstanceOperation;
 import org.flowable.cmmn.engine.impl.agenda.operation.ActivatePlanItemInstanceOperation;
@@ -21,6 +24,7 @@ import org.flowable.cmmn.engine.impl.agenda.operation.CompleteCaseInstanceOperat
 import org.flowable.cmmn.engine.impl.agenda.operation.CompletePlanItemInstanceOperation;
 import org.flowable.cmmn.engine.impl.agenda.operation.CreatePlanItemInstanceForRepetitionOperation;
 import org.flowable.cmmn.engine.impl.agenda.operation.CreatePlanItemInstanceOperation;
+import org.flowable.cmmn.engine.impl.agenda.operation.CreatePlanItemInstancesOperation;
 import org.flowable.cmmn.engine.impl.agenda.operation.DisablePlanItemInstanceOperation;
 import org.flowable.cmmn.engine.impl.agenda.operation.EnablePlanItemInstanceOperation;
 import org.flowable.cmmn.engine.impl.agenda.operation.EvaluateCriteriaOperation;
@@ -36,6 +40,7 @@ import org.flowable.cmmn.engine.impl.criteria.PlanItemLifeCycleEvent;
 import org.flowable.cmmn.engine.impl.persistence.entity.CaseInstanceEntity;
 import org.flowable.cmmn.engine.impl.persistence.entity.PlanItemInstanceEntity;
 import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
+import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.impl.agenda.AbstractAgenda;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.slf4j.Logger;
@@ -48,15 +53,29 @@ public class DefaultCmmnEngineAgenda extends AbstractAgenda implements CmmnEngin
 
     private static final Logger LOGGER = LoggerFactory.getLogger(DefaultCmmnEngineAgenda.class);
 
+    // the planned criteria evaluations, executed in planning order after all other operations.
+    // Evaluations for the same lifecycle event of the same case instance share a key, see getEvaluateCriteriaOperationKey
+    protected Map<Object, EvaluateCriteriaOperation> evaluateCriteriaOperations = new LinkedHashMap<>();
+
     public DefaultCmmnEngineAgenda(CommandContext commandContext) {
         super(commandContext);
     }
 
     public void addOperation(CmmnOperation operation, String caseInstanceId) {
-        
-        int operationIndex = getOperationIndex(operation);
-        if (operationIndex >= 0) {
-            operations.add(operationIndex, operation);
+
+        // The operation to evaluate the criteria is the most expensive operation. As such, it is
+        // - kept apart from the other operations, which are always executed before, as these can trigger new evaluations
+        // - checked for duplicates: an evaluation of the 'same situation' that is already planned is removed,
+        //   as the new one, which is planned at the end, will do the same thing at a later point in the execution
+
+        if (operation instanceof EvaluateCriteriaOperation) {
+            EvaluateCriteriaOperation evaluateCriteriaOperation = (EvaluateCriteriaOperation) operation;
+            Object key = getEvaluateCriteriaOperationKey(evaluateCriteriaOperation);
+            if (evaluateCriteriaOperations.remove(key) != null && LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Deferred criteria evaluation {} to later in the execution", key);
+            }
+            evaluateCriteriaOperations.put(key, evaluateCriteriaOperation);
+
         } else {
             operations.addLast(operation);
         }
@@ -69,27 +88,53 @@ public class DefaultCmmnEngineAgenda extends AbstractAgenda implements CmmnEngin
             CommandContextUtil.addInvolvedCaseInstanceId(commandContext, caseInstanceId);
         }
     }
-    
+
     /**
-     * Returns the index in the list of operations where the {@link CmmnOperation} should be inserted.
-     * Returns a negative value if the element should be added to the end of the list. 
+     * Returns the key under which the evaluation is planned. Evaluations for the same lifecycle event of the same case instance
+     * have the same key, all other evaluations are planned separately.
      */
-    protected int getOperationIndex(CmmnOperation operation) {
-        
-        // The operation to evaluate the criteria is the most expensive operation.
-        // As such, when it's planned it is always 
-        // - moved to the end of the operations list
-        // - checked for duplicates to avoid duplicate evaluations (see the add method for it)
-        // - other operations are always planned before, as these can trigger new evaluation operations
-        
-        if (!operations.isEmpty() && !(operation instanceof EvaluateCriteriaOperation)) {
-            for (int i=0; i<operations.size(); i++) {
-                if (operations.get(i) instanceof EvaluateCriteriaOperation) {
-                    return i;
-                }
-            }
+    protected Object getEvaluateCriteriaOperationKey(EvaluateCriteriaOperation evaluateCriteriaOperation) {
+        PlanItemLifeCycleEvent planItemLifeCycleEvent = evaluateCriteriaOperation.getPlanItemLifeCycleEvent();
+        if (evaluateCriteriaOperation.getCaseInstanceEntityId() == null || planItemLifeCycleEvent == null
+                || planItemLifeCycleEvent.getTransition() == null || planItemLifeCycleEvent.getPlanItem() == null) {
+            return evaluateCriteriaOperation;
+        }
+        return evaluateCriteriaOperation.getCaseInstanceEntityId() + '|' + planItemLifeCycleEvent.getPlanItem().getId()
+                + '|' + planItemLifeCycleEvent.getTransition() + '|' + evaluateCriteriaOperation.isEvaluateCaseInstanceCompleted();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return operations.isEmpty() && evaluateCriteriaOperations.isEmpty();
+    }
+
+    @Override
+    public Runnable getNextOperation() {
+        assertOperationsNotEmpty();
+        if (!operations.isEmpty()) {
+            return operations.poll();
+        }
+
+        Iterator<EvaluateCriteriaOperation> evaluateCriteriaOperationIterator = evaluateCriteriaOperations.values().iterator();
+        EvaluateCriteriaOperation evaluateCriteriaOperation = evaluateCriteriaOperationIterator.next();
+        evaluateCriteriaOperationIterator.remove();
+        return evaluateCriteriaOperation;
+    }
+
+    @Override
+    public Runnable peekOperation() {
+        assertOperationsNotEmpty();
+        if (!operations.isEmpty()) {
+            return operations.peek();
+        }
+        return evaluateCriteriaOperations.values().iterator().next();
+    }
+
+    @Override
+    protected void assertOperationsNotEmpty() {
+        if (isEmpty()) {
+            throw new FlowableException("Unable to peek empty agenda.");
         }
-        return -1;
     }
 
     @Override
@@ -118,37 +163,7 @@ public class DefaultCmmnEngineAgenda extends AbstractAgenda implements CmmnEngin
     }
     
     protected void internalPlanEvaluateCriteria(String caseInstanceEntityId, PlanItemLifeCycleEvent planItemLifeCycleEvent, boolean evaluateCaseInstanceCompleted) {
-        
-        // To avoid too many evaluations of the 'same situation', the currently planned operations are looked at
-        // and when one is found that matches the pattern of one that is now to be planned, it is removed as the new one will
-        // do the same thing at a later point in the execution.
-        
-        Iterator<Runnable> plannedOperations = operations.iterator();
-        boolean found = false;
-        while (!found && plannedOperations.hasNext()) {
-            Runnable operation = plannedOperations.next();
-            if (operation instanceof EvaluateCriteriaOperation) {
-                EvaluateCriteriaOperation evaluateCriteriaOperation = (EvaluateCriteriaOperation) operation;
-                if (evaluateCriteriaOperation.getCaseInstanceEntityId() != null
-                        && evaluateCriteriaOperation.getPlanItemLifeCycleEvent() != null
-                        && evaluateCriteriaOperation.getPlanItemLifeCycleEvent().getTransition() != null
-                        && evaluateCriteriaOperation.getPlanItemLifeCycleEvent().getPlanItem() != null
-                        && planItemLifeCycleEvent != null
-                        && evaluateCriteriaOperation.getCaseInstanceEntityId().equals(caseInstanceEntityId)
-                        && evaluateCriteriaOperation.getPlanItemLifeCycleEvent().getTransition().equals(planItemLifeCycleEvent.getTransition())
-                        && evaluateCriteriaOperation.getPlanItemLifeCycleEvent().getPlanItem().getId().equals(planItemLifeCycleEvent.getPlanItem().getId())
-                        && evaluateCriteriaOperation.isEvaluateCaseInstanceCompleted() == evaluateCaseInstanceCompleted) {
-                    LOGGER.info("Deferred criteria evaluation for case instance with id '{}' to later in the execution. Plan item = {}, Plan item definition = {}, transition = {}",
-                        caseInstanceEntityId,
-                        planItemLifeCycleEvent.getPlanItem().getId(),
-                        planItemLifeCycleEvent.getPlanItem().getPlanItemDefinition(),
-                        planItemLifeCycleEvent.getTransition());
-                    plannedOperations.remove();
-                    found = true;
-                }
-            }
-        }
-        
+        // When the same evaluation is already planned, it is replaced by this one (see addOperation)
         EvaluateCriteriaOperation evaluateCriteriaOperation = new EvaluateCriteriaOperation(commandContext, caseInstanceEntityId, planItemLifeCycleEvent);
         evaluateCriteriaOperation.setEvaluateCaseInstanceCompleted(evaluateCaseInstanceCompleted);
         addOperation(evaluateCriteriaOperation, caseInstanceEntityId);
@@ -159,6 +174,13 @@ public class DefaultCmmnEngineAgenda extends AbstractAgenda implements CmmnEngin
         addOperation(new CreatePlanItemInstanceOperation(commandContext, planItemInstanceEntity), planItemInstanceEntity.getCaseInstanceId());
     }
 
+    @Override
+    public void planCreatePlanItemInstancesOperation(List<PlanItemInstanceEntity> planItemInstanceEntities) {
+        if (!planItemInstanceEntities.isEmpty()) {
+            addOperation(new CreatePlanItemInstancesOperation(commandContext, planItemInstanceEntities), planItemInstanceEntities.get(0).getCaseInstanceId());
+        }
+    }
+
     @Override
     public void planCreatePlanItemInstanceForRepetitionOperation(PlanItemInstanceEntity planItemInstanceEntity) {
         addOperation(new CreatePlanItemInstanceForRepetitionOperation(commandContext, planItemInstanceEntity), planItemInstanceEntity.getCaseInstanceId());
@@ -61,7 +61,7 @@ public class ActivatePlanItemInstanceOperation extends AbstractPlanItemInstanceO
             ManualActivationRule manualActivationRule = planItemControl.getManualActivationRule();
 
             if (StringUtils.isNotEmpty(manualActivationRule.getCondition())) {
-                return evaluateBooleanExpression(commandContext, planItemInstanceEntity, manualActivationRule.getCondition());
+                return evaluateBooleanExpression(commandContext, planItemInstanceEntity, planItemInstanceEntity.getPlanItem(), manualActivationRule.getCondition());
             } else {
                 return true; // Having a manual activation rule without condition, defaults to true.
             }
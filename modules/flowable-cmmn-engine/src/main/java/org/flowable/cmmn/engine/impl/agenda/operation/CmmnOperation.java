@@ -13,13 +13,17 @@
 package org.flowable.cmmn.engine.impl.agenda.operation;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.cmmn.engine.impl.persistence.entity.CaseInstanceEntity;
 import org.flowable.cmmn.engine.impl.persistence.entity.PlanItemInstanceEntity;
 import org.flowable.cmmn.engine.impl.repository.CaseDefinitionUtil;
 import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
+import org.flowable.cmmn.engine.impl.util.ExpressionUtil;
+import org.flowable.cmmn.model.BaseElement;
 import org.flowable.cmmn.model.PlanItem;
 import org.flowable.cmmn.model.PlanItemDefinition;
 import org.flowable.cmmn.model.Stage;
@@ -65,37 +69,44 @@ public abstract class CmmnOperation implements Runnable {
     protected List<PlanItemInstanceEntity> createPlanItemInstances(CommandContext commandContext, List<PlanItem> planItems, String caseDefinitionId,
             String caseInstanceId, PlanItemInstanceEntity stagePlanItemInstanceEntity, String tenantId) {
 
-        List<PlanItemInstanceEntity> planItemInstances = new ArrayList<>();
-        for (PlanItem planItem : planItems) {
-
-            // In some cases (e.g. cross-border triggering of a sentry, the child plan item instance has been activated already
-            // As such, it doesn't need to be created again (this is the if check here, which goes against the cache)
-
-            if (stagePlanItemInstanceEntity == null || !childPlanItemInstanceForPlanItemExists(stagePlanItemInstanceEntity, planItem)) {
-                PlanItemInstanceEntity childPlanItemInstance = CommandContextUtil.getPlanItemInstanceEntityManager(commandContext)
-                    .createChildPlanItemInstance(planItem,
-                        caseDefinitionId,
-                        caseInstanceId,
-                        stagePlanItemInstanceEntity != null ? stagePlanItemInstanceEntity.getId() : null,
-                        tenantId,
-                        true);
-                planItemInstances.add(childPlanItemInstance);
-                CommandContextUtil.getAgenda(commandContext).planCreatePlanItemInstanceOperation(childPlanItemInstance);
+        // In some cases (e.g. cross-border triggering of a sentry, the child plan item instance has been activated already
+        // As such, it doesn't need to be created again (this is the check here, which goes against the cache)
+
+        List<PlanItem> planItemsToCreate = planItems;
+        if (stagePlanItemInstanceEntity != null) {
+            Set<String> existingPlanItemIds = getChildPlanItemInstancePlanItemIds(stagePlanItemInstanceEntity);
+            if (!existingPlanItemIds.isEmpty()) {
+                planItemsToCreate = new ArrayList<>(planItems.size());
+                for (PlanItem planItem : planItems) {
+                    if (!existingPlanItemIds.contains(planItem.getId())) {
+                        planItemsToCreate.add(planItem);
+                    }
+                }
             }
         }
+
+        List<PlanItemInstanceEntity> planItemInstances = CommandContextUtil.getPlanItemInstanceEntityManager(commandContext)
+            .createChildPlanItemInstances(planItemsToCreate,
+                caseDefinitionId,
+                caseInstanceId,
+                stagePlanItemInstanceEntity != null ? stagePlanItemInstanceEntity.getId() : null,
+                tenantId,
+                true);
+        CommandContextUtil.getAgenda(commandContext).planCreatePlanItemInstancesOperation(planItemInstances);
         return planItemInstances;
     }
 
-    protected boolean childPlanItemInstanceForPlanItemExists(PlanItemInstanceEntity stagePlanItemInstanceEntity, PlanItem planItem) {
+    protected Set<String> getChildPlanItemInstancePlanItemIds(PlanItemInstanceEntity stagePlanItemInstanceEntity) {
+        Set<String> planItemIds = new HashSet<>();
         List<PlanItemInstanceEntity> childPlanItemInstances = stagePlanItemInstanceEntity.getChildPlanItemInstances();
-        if (childPlanItemInstances != null && !childPlanItemInstances.isEmpty()) {
+        if (childPlanItemInstances != null) {
             for (PlanItemInstanceEntity childPlanItemInstanceEntity : childPlanItemInstances) {
-                if (childPlanItemInstanceEntity.getPlanItem() != null && planItem.getId().equals(childPlanItemInstanceEntity.getPlanItem().getId())) {
-                    return true;
+                if (childPlanItemInstanceEntity.getPlanItem() != null) {
+                    planItemIds.add(childPlanItemInstanceEntity.getPlanItem().getId());
                 }
             }
         }
-        return false;
+        return planItemIds;
     }
 
     protected PlanItemInstanceEntity copyAndInsertPlanItemInstance(CommandContext commandContext, PlanItemInstanceEntity planItemInstanceEntityToCopy, boolean addToParent) {
@@ -148,21 +159,29 @@ public abstract class CmmnOperation implements Runnable {
     protected boolean evaluateRepetitionRule(PlanItemInstanceEntity planItemInstanceEntity) {
         if (hasRepetitionRule(planItemInstanceEntity)) {
             String repetitionCondition = planItemInstanceEntity.getPlanItem().getItemControl().getRepetitionRule().getCondition();
-            return evaluateRepetitionRule(planItemInstanceEntity, repetitionCondition);
+            return evaluateRepetitionRule(planItemInstanceEntity, planItemInstanceEntity.getPlanItem(), repetitionCondition);
         }
         return false;
     }
 
     protected boolean evaluateRepetitionRule(VariableContainer variableContainer, String repetitionCondition) {
+        return evaluateRepetitionRule(variableContainer, null, repetitionCondition);
+    }
+
+    protected boolean evaluateRepetitionRule(VariableContainer variableContainer, PlanItem planItem, String repetitionCondition) {
         if (StringUtils.isNotEmpty(repetitionCondition)) {
-            return evaluateBooleanExpression(commandContext, variableContainer, repetitionCondition);
+            return evaluateBooleanExpression(commandContext, variableContainer, planItem, repetitionCondition);
         } else {
             return true; // no condition set, but a repetition rule defined is assumed to be defaulting to true
         }
     }
 
     protected boolean evaluateBooleanExpression(CommandContext commandContext, VariableContainer variableContainer, String condition) {
-        Expression expression = CommandContextUtil.getExpressionManager(commandContext).createExpression(condition);
+        return evaluateBooleanExpression(commandContext, variableContainer, null, condition);
+    }
+
+    protected boolean evaluateBooleanExpression(CommandContext commandContext, VariableContainer variableContainer, BaseElement element, String condition) {
+        Expression expression = ExpressionUtil.getExpression(element, condition, CommandContextUtil.getExpressionManager(commandContext));
         Object evaluationResult = expression.getValue(variableContainer);
         if (evaluationResult instanceof Boolean) {
             return (boolean) evaluationResult;
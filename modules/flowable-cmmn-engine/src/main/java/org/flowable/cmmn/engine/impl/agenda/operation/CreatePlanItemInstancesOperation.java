@@ -0,0 +1,56 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.engine.impl.agenda.operation;
+
+import java.util.List;
+
+import org.flowable.cmmn.engine.impl.persistence.entity.PlanItemInstanceEntity;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+
+/**
+ * Operation that executes the create transition of all the child plan item instances of a stage (or the plan model)
+ * at once, instead of planning a {@link CreatePlanItemInstanceOperation} for each of them.
+ *
+ * This only saves planning an agenda operation per child: each child still plans the criteria evaluation
+ * of its own create transition, as sentries can have an on-part for the create transition of any of them.
+ */
+public class CreatePlanItemInstancesOperation extends CmmnOperation {
+
+    protected List<PlanItemInstanceEntity> planItemInstanceEntities;
+
+    public CreatePlanItemInstancesOperation(CommandContext commandContext, List<PlanItemInstanceEntity> planItemInstanceEntities) {
+        super(commandContext);
+        this.planItemInstanceEntities = planItemInstanceEntities;
+    }
+
+    @Override
+    public void run() {
+        for (PlanItemInstanceEntity planItemInstanceEntity : planItemInstanceEntities) {
+            new CreatePlanItemInstanceOperation(commandContext, planItemInstanceEntity).run();
+        }
+    }
+
+    public List<PlanItemInstanceEntity> getPlanItemInstanceEntities() {
+        return planItemInstanceEntities;
+    }
+
+    public void setPlanItemInstanceEntities(List<PlanItemInstanceEntity> planItemInstanceEntities) {
+        this.planItemInstanceEntities = planItemInstanceEntities;
+    }
+
+    @Override
+    public String toString() {
+        return "[Create PlanItem instances] " + planItemInstanceEntities.size() + " plan item instances";
+    }
+
+}
@@ -37,6 +37,7 @@ import org.flowable.cmmn.engine.impl.persistence.entity.SentryPartInstanceEntity
 import org.flowable.cmmn.engine.impl.repository.CaseDefinitionUtil;
 import org.flowable.cmmn.engine.impl.util.CaseInstanceUtil;
 import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
+import org.flowable.cmmn.engine.impl.util.ExpressionUtil;
 import org.flowable.cmmn.model.Criterion;
 import org.flowable.cmmn.model.EventListener;
 import org.flowable.cmmn.model.HasExitCriteria;
@@ -226,6 +227,9 @@ public class EvaluateCriteriaOperation extends AbstractCaseInstanceOperation {
         for (Criterion criterion : criteria) {
 
             Sentry sentry = criterion.getSentry();
+            if (!isSentryAffectedByLifeCycleEvent(sentry)) {
+                continue;
+            }
 
             // There can be zero or more on parts and zero or one if part.
             // All defined parts need to be satisfied for the sentry to trigger.
@@ -296,6 +300,22 @@ public class EvaluateCriteriaOperation extends AbstractCaseInstanceOperation {
         return null;
     }
 
+    /**
+     * Returns false if the sentry can't be satisfied by the current lifecycle event, in which case it doesn't need to be evaluated:
+     * the sentry only has on parts and none of them listens to the plan item and transition of the event
+     * (see the sentry index on {@link PlanItem#getDependentSentryIds(String)}, built when the model is parsed).
+     * <p>
+     * Sentries with an if part can be satisfied by variable changes and are always evaluated, as are all sentries when
+     * the evaluation isn't caused by a lifecycle event.
+     */
+    protected boolean isSentryAffectedByLifeCycleEvent(Sentry sentry) {
+        if (planItemLifeCycleEvent == null || planItemLifeCycleEvent.getPlanItem() == null
+                || sentry.getOnParts().isEmpty() || sentry.getSentryIfPart() != null) {
+            return true;
+        }
+        return planItemLifeCycleEvent.getPlanItem().getDependentSentryIds(planItemLifeCycleEvent.getTransition()).contains(sentry.getId());
+    }
+
     public boolean sentryOnPartMatchesCurrentLifeCycleEvent(SentryOnPart sentryOnPart) {
         return planItemLifeCycleEvent.getPlanItem().getId().equals(sentryOnPart.getSourceRef())
                 && planItemLifeCycleEvent.getTransition().equals(sentryOnPart.getStandardEvent());
@@ -341,7 +361,7 @@ public class EvaluateCriteriaOperation extends AbstractCaseInstanceOperation {
     }
     
     protected boolean evaluateSentryIfPart(Sentry sentry, VariableContainer variableContainer) {
-        Expression conditionExpression = CommandContextUtil.getExpressionManager(commandContext).createExpression(sentry.getSentryIfPart().getCondition());
+        Expression conditionExpression = ExpressionUtil.getExpression(sentry, sentry.getSentryIfPart().getCondition(), CommandContextUtil.getExpressionManager(commandContext));
         Object result = conditionExpression.getValue(variableContainer);
         if (result instanceof Boolean) {
             return (Boolean) result;
@@ -371,7 +391,7 @@ public class EvaluateCriteriaOperation extends AbstractCaseInstanceOperation {
             boolean isRequired = true; // Having a required rule means required by default, unless the condition says otherwise
             String requiredCondition = planItemControl.getRequiredRule().getCondition();
             if (StringUtils.isNotEmpty(requiredCondition)) {
-                isRequired = evaluateBooleanExpression(commandContext, planItemInstanceEntity, requiredCondition);
+                isRequired = evaluateBooleanExpression(commandContext, planItemInstanceEntity, planItemInstanceEntity.getPlanItem(), requiredCondition);
             }
             return isRequired;
         }
@@ -416,7 +436,7 @@ public class EvaluateCriteriaOperation extends AbstractCaseInstanceOperation {
             boolean isCompletionNeutral = true; // Having a required rule means required by default, unless the condition says otherwise
             String condition = planItemControl.getCompletionNeutralRule().getCondition();
             if (StringUtils.isNotEmpty(condition)) {
-                isCompletionNeutral = evaluateBooleanExpression(commandContext, planItemInstanceEntity, condition);
+                isCompletionNeutral = evaluateBooleanExpression(commandContext, planItemInstanceEntity, planItemInstanceEntity.getPlanItem(), condition);
             }
             return isCompletionNeutral;
         }
@@ -483,7 +503,7 @@ public class EvaluateCriteriaOperation extends AbstractCaseInstanceOperation {
 
                 if (childPlanItemInstances.isEmpty() // runtime state
                         && (potentialTerminatedPlanItemInstances.isEmpty()
-                            || (hasRepetitionRule(entryDependentPlanItem) && evaluateRepetitionRule(caseInstanceEntity, entryDependentPlanItem.getItemControl().getRepetitionRule().getCondition())))) { // (terminated state) the plan item instance should not have been created anytime before
+                            || (hasRepetitionRule(entryDependentPlanItem) && evaluateRepetitionRule(caseInstanceEntity, entryDependentPlanItem, entryDependentPlanItem.getItemControl().getRepetitionRule().getCondition())))) { // (terminated state) the plan item instance should not have been created anytime before
 
                     // If the sentry satisfied, the plan item becomes active and all parent stages that are not yet activate are made active
                     String satisfiedCriterion = evaluateDependentPlanItemEntryCriteria(entryDependentPlanItem);
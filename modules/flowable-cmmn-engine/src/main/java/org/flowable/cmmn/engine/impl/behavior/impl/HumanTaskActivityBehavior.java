@@ -25,6 +25,7 @@ import org.flowable.cmmn.engine.impl.persistence.entity.PlanItemInstanceEntity;
 import org.flowable.cmmn.engine.impl.task.TaskHelper;
 import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
 import org.flowable.cmmn.engine.impl.util.EntityLinkUtil;
+import org.flowable.cmmn.engine.impl.util.ExpressionUtil;
 import org.flowable.cmmn.model.HumanTask;
 import org.flowable.cmmn.model.PlanItemTransition;
 import org.flowable.common.engine.api.FlowableException;
@@ -103,7 +104,7 @@ public class HumanTaskActivityBehavior extends TaskActivityBehavior implements P
 
     protected void handleTaskName(PlanItemInstanceEntity planItemInstanceEntity, ExpressionManager expressionManager, TaskEntity taskEntity) {
         if (StringUtils.isNotEmpty(humanTask.getName())) {
-            Object name = expressionManager.createExpression(humanTask.getName()).getValue(planItemInstanceEntity);
+            Object name = ExpressionUtil.getExpression(humanTask, humanTask.getName(), expressionManager).getValue(planItemInstanceEntity);
             if (name != null) {
                 if (name instanceof String) {
                     taskEntity.setName((String) name);
@@ -116,7 +117,7 @@ public class HumanTaskActivityBehavior extends TaskActivityBehavior implements P
 
     protected void handleTaskDescription(PlanItemInstanceEntity planItemInstanceEntity, ExpressionManager expressionManager, TaskEntity taskEntity) {
         if (StringUtils.isNotEmpty(humanTask.getDocumentation())) {
-            Object description = expressionManager.createExpression(humanTask.getDocumentation()).getValue(planItemInstanceEntity);
+            Object description = ExpressionUtil.getExpression(humanTask, humanTask.getDocumentation(), expressionManager).getValue(planItemInstanceEntity);
             if (description != null) {
                 if (description instanceof String) {
                     taskEntity.setDescription((String) description);
@@ -130,7 +131,7 @@ public class HumanTaskActivityBehavior extends TaskActivityBehavior implements P
     protected void handleAssignee(PlanItemInstanceEntity planItemInstanceEntity, TaskService taskService,
             ExpressionManager expressionManager, TaskEntity taskEntity) {
         if (StringUtils.isNotEmpty(humanTask.getAssignee())) {
-            Object assigneeExpressionValue = expressionManager.createExpression(humanTask.getAssignee()).getValue(planItemInstanceEntity);
+            Object assigneeExpressionValue = ExpressionUtil.getExpression(humanTask, humanTask.getAssignee(), expressionManager).getValue(planItemInstanceEntity);
             String assigneeValue = null;
             if (assigneeExpressionValue != null) {
                 assigneeValue = assigneeExpressionValue.toString();
@@ -143,7 +144,7 @@ public class HumanTaskActivityBehavior extends TaskActivityBehavior implements P
     protected void handleOwner(PlanItemInstanceEntity planItemInstanceEntity, TaskService taskService,
             ExpressionManager expressionManager, TaskEntity taskEntity) {
         if (StringUtils.isNotEmpty(humanTask.getOwner())) {
-            Object ownerExpressionValue = expressionManager.createExpression(humanTask.getOwner()).getValue(planItemInstanceEntity);
+            Object ownerExpressionValue = ExpressionUtil.getExpression(humanTask, humanTask.getOwner(), expressionManager).getValue(planItemInstanceEntity);
             String ownerValue = null;
             if (ownerExpressionValue != null) {
                 ownerValue = ownerExpressionValue.toString();
@@ -155,7 +156,7 @@ public class HumanTaskActivityBehavior extends TaskActivityBehavior implements P
 
     protected void handlePriority(PlanItemInstanceEntity planItemInstanceEntity, ExpressionManager expressionManager, TaskEntity taskEntity) {
         if (StringUtils.isNotEmpty(humanTask.getPriority())) {
-            Object priority = expressionManager.createExpression(humanTask.getPriority()).getValue(planItemInstanceEntity);
+            Object priority = ExpressionUtil.getExpression(humanTask, humanTask.getPriority(), expressionManager).getValue(planItemInstanceEntity);
             if (priority != null) {
                 if (priority instanceof String) {
                     try {
@@ -175,7 +176,7 @@ public class HumanTaskActivityBehavior extends TaskActivityBehavior implements P
     protected void handleFormKey(PlanItemInstanceEntity planItemInstanceEntity, ExpressionManager expressionManager,
             TaskEntity taskEntity) {
         if (StringUtils.isNotEmpty(humanTask.getFormKey())) {
-            Object formKey = expressionManager.createExpression(humanTask.getFormKey()).getValue(planItemInstanceEntity);
+            Object formKey = ExpressionUtil.getExpression(humanTask, humanTask.getFormKey(), expressionManager).getValue(planItemInstanceEntity);
             if (formKey != null) {
                 if (formKey instanceof String) {
                     taskEntity.setFormKey((String) formKey);
@@ -189,7 +190,7 @@ public class HumanTaskActivityBehavior extends TaskActivityBehavior implements P
     protected void handleDueDate(CommandContext commandContext, PlanItemInstanceEntity planItemInstanceEntity,
             ExpressionManager expressionManager, TaskEntity taskEntity) {
         if (StringUtils.isNotEmpty(humanTask.getDueDate())) {
-            Object dueDate = expressionManager.createExpression(humanTask.getDueDate()).getValue(planItemInstanceEntity);
+            Object dueDate = ExpressionUtil.getExpression(humanTask, humanTask.getDueDate(), expressionManager).getValue(planItemInstanceEntity);
             if (dueDate != null) {
                 if (dueDate instanceof Date) {
                     taskEntity.setDueDate((Date) dueDate);
@@ -213,7 +214,7 @@ public class HumanTaskActivityBehavior extends TaskActivityBehavior implements P
     protected void handleCategory(PlanItemInstanceEntity planItemInstanceEntity, ExpressionManager expressionManager,
             TaskEntity taskEntity) {
         if (StringUtils.isNotEmpty(humanTask.getCategory())) {
-            final Object category = expressionManager.createExpression(humanTask.getCategory()).getValue(planItemInstanceEntity);
+            final Object category = ExpressionUtil.getExpression(humanTask, humanTask.getCategory(), expressionManager).getValue(planItemInstanceEntity);
             if (category != null) {
                 if (category instanceof String) {
                     taskEntity.setCategory((String) category);
@@ -229,7 +230,7 @@ public class HumanTaskActivityBehavior extends TaskActivityBehavior implements P
         List<String> candidateUsers = humanTask.getCandidateUsers();
         if (candidateUsers != null && !candidateUsers.isEmpty()) {
             for (String candidateUser : candidateUsers) {
-                Expression userIdExpr = expressionManager.createExpression(candidateUser);
+                Expression userIdExpr = ExpressionUtil.getExpression(humanTask, candidateUser, expressionManager);
                 Object value = userIdExpr.getValue(planItemInstanceEntity);
                 if (value instanceof String) {
                     List<String> candidates = extractCandidates((String) value);
@@ -250,7 +251,7 @@ public class HumanTaskActivityBehavior extends TaskActivityBehavior implements P
         List<String> candidateGroups = humanTask.getCandidateGroups();
         if (candidateGroups != null && !candidateGroups.isEmpty()) {
             for (String candidateGroup : candidateGroups) {
-                Expression groupIdExpr = expressionManager.createExpression(candidateGroup);
+                Expression groupIdExpr = ExpressionUtil.getExpression(humanTask, candidateGroup, expressionManager);
                 Object value = groupIdExpr.getValue(planItemInstanceEntity);
                 if (value instanceof String) {
                     List<String> candidates = extractCandidates((String) value);
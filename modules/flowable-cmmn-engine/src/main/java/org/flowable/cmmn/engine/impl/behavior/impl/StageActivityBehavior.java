@@ -20,6 +20,8 @@ import org.flowable.cmmn.engine.impl.behavior.PlanItemActivityBehavior;
 import org.flowable.cmmn.engine.impl.persistence.entity.PlanItemInstanceEntity;
 import org.flowable.cmmn.engine.impl.runtime.StateTransition;
 import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
+import org.flowable.cmmn.engine.impl.util.ExpressionUtil;
+import org.flowable.cmmn.model.PlanItem;
 import org.flowable.cmmn.model.PlanItemTransition;
 import org.flowable.cmmn.model.Stage;
 import org.flowable.common.engine.api.delegate.Expression;
@@ -39,7 +41,8 @@ public class StageActivityBehavior extends CoreCmmnTriggerableActivityBehavior i
     @Override
     public void execute(CommandContext commandContext, PlanItemInstanceEntity planItemInstanceEntity) {
         if (planItemInstanceEntity.getPlanItem().getName() != null) {
-            Expression nameExpression = CommandContextUtil.getExpressionManager(commandContext).createExpression(planItemInstanceEntity.getPlanItem().getName());
+            PlanItem planItem = planItemInstanceEntity.getPlanItem();
+            Expression nameExpression = ExpressionUtil.getExpression(planItem, planItem.getName(), CommandContextUtil.getExpressionManager(commandContext));
             planItemInstanceEntity.setName(nameExpression.getValue(planItemInstanceEntity).toString());
         }
         CommandContextUtil.getAgenda(commandContext).planInitStageOperation(planItemInstanceEntity);
@@ -22,6 +22,7 @@ import org.flowable.cmmn.engine.impl.behavior.PlanItemActivityBehavior;
 import org.flowable.cmmn.engine.impl.job.TriggerTimerEventJobHandler;
 import org.flowable.cmmn.engine.impl.persistence.entity.PlanItemInstanceEntity;
 import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
+import org.flowable.cmmn.engine.impl.util.ExpressionUtil;
 import org.flowable.cmmn.model.PlanItemTransition;
 import org.flowable.cmmn.model.TimerEventListener;
 import org.flowable.common.engine.api.FlowableException;
@@ -49,11 +50,13 @@ import org.joda.time.format.ISODateTimeFormat;
  */
 public class TimerEventListenerActivityBehaviour extends CoreCmmnActivityBehavior implements PlanItemActivityBehavior {
     
+    protected TimerEventListener timerEventListener;
     protected String timerExpression;
     protected String startTriggerSourceRef;
     protected String startTriggerStandardEvent;
     
     public TimerEventListenerActivityBehaviour(TimerEventListener timerEventListener) {
+        this.timerEventListener = timerEventListener;
         this.timerExpression = timerEventListener.getTimerExpression();
         this.startTriggerSourceRef = timerEventListener.getTimerStartTriggerSourceRef();
         this.startTriggerStandardEvent = timerEventListener.getTimerStartTriggerStandardEvent();
@@ -162,7 +165,7 @@ public class TimerEventListenerActivityBehaviour extends CoreCmmnActivityBehavio
 
     protected Object resolveTimerExpression(CommandContext commandContext, PlanItemInstanceEntity planItemInstanceEntity) {
         ExpressionManager expressionManager = CommandContextUtil.getExpressionManager(commandContext);
-        Expression expression = expressionManager.createExpression(timerExpression);
+        Expression expression = ExpressionUtil.getExpression(timerEventListener, timerExpression, expressionManager);
         return expression.getValue(planItemInstanceEntity);
     }
     
@@ -27,6 +27,11 @@ public class CmmnHistoryTaskManager implements InternalHistoryTaskManager {
         this.cmmnHistoryManager = cmmnHistoryManager;
     }
 
+    @Override
+    public void recordTaskCreated(TaskEntity taskEntity) {
+        CommandContextUtil.getCmmnHistoryManager().recordTaskCreated(taskEntity);
+    }
+
     @Override
     public void recordTaskInfoChange(TaskEntity taskEntity) {
         CommandContextUtil.getCmmnHistoryManager().recordTaskInfoChange(taskEntity);
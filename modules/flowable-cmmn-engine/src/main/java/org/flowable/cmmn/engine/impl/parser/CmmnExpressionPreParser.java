@@ -0,0 +1,128 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.engine.impl.parser;
+
+import java.util.Collection;
+
+import org.apache.commons.lang3.StringUtils;
+import org.flowable.cmmn.engine.impl.util.ExpressionUtil;
+import org.flowable.cmmn.model.BaseElement;
+import org.flowable.cmmn.model.Case;
+import org.flowable.cmmn.model.CaseElement;
+import org.flowable.cmmn.model.CmmnModel;
+import org.flowable.cmmn.model.HumanTask;
+import org.flowable.cmmn.model.PlanItem;
+import org.flowable.cmmn.model.PlanItemControl;
+import org.flowable.cmmn.model.PlanItemRule;
+import org.flowable.cmmn.model.Sentry;
+import org.flowable.cmmn.model.TimerEventListener;
+import org.flowable.common.engine.impl.el.ExpressionManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Parses the expressions of a {@link CmmnModel} that otherwise would only be parsed when they are used for the first time
+ * (sentry conditions, plan item control rules, human task properties, ...)
+ * and stores the resulting expressions on the model elements, where they are picked up by {@link ExpressionUtil#getExpression}.
+ */
+public class CmmnExpressionPreParser {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CmmnExpressionPreParser.class);
+
+    protected ExpressionManager expressionManager;
+
+    public CmmnExpressionPreParser(ExpressionManager expressionManager) {
+        this.expressionManager = expressionManager;
+    }
+
+    public void preParseExpressions(CmmnModel cmmnModel) {
+        for (Case caze : cmmnModel.getCases()) {
+            for (CaseElement caseElement : caze.getAllCaseElements().values()) {
+                preParseExpressions(caseElement);
+            }
+        }
+    }
+
+    protected void preParseExpressions(CaseElement caseElement) {
+        if (caseElement instanceof PlanItem) {
+            PlanItem planItem = (PlanItem) caseElement;
+            preParseExpression(planItem, planItem.getName());
+
+            PlanItemControl itemControl = planItem.getItemControl();
+            if (itemControl != null) {
+                preParseRuleExpression(planItem, itemControl.getRequiredRule());
+                preParseRuleExpression(planItem, itemControl.getRepetitionRule());
+                preParseRuleExpression(planItem, itemControl.getManualActivationRule());
+                preParseRuleExpression(planItem, itemControl.getCompletionNeutralRule());
+            }
+
+        } else if (caseElement instanceof Sentry) {
+            Sentry sentry = (Sentry) caseElement;
+            if (sentry.getSentryIfPart() != null) {
+                preParseExpression(sentry, sentry.getSentryIfPart().getCondition());
+            }
+
+        } else if (caseElement instanceof HumanTask) {
+            HumanTask humanTask = (HumanTask) caseElement;
+            preParseExpression(humanTask, humanTask.getName());
+            preParseExpression(humanTask, humanTask.getDocumentation());
+            preParseExpression(humanTask, humanTask.getAssignee());
+            preParseExpression(humanTask, humanTask.getOwner());
+            preParseExpression(humanTask, humanTask.getPriority());
+            preParseExpression(humanTask, humanTask.getFormKey());
+            preParseExpression(humanTask, humanTask.getDueDate());
+            preParseExpression(humanTask, humanTask.getCategory());
+            preParseExpressions(humanTask, humanTask.getCandidateUsers());
+            preParseExpressions(humanTask, humanTask.getCandidateGroups());
+
+        } else if (caseElement instanceof TimerEventListener) {
+            TimerEventListener timerEventListener = (TimerEventListener) caseElement;
+            preParseExpression(timerEventListener, timerEventListener.getTimerExpression());
+        }
+    }
+
+    protected void preParseRuleExpression(PlanItem planItem, PlanItemRule planItemRule) {
+        if (planItemRule != null) {
+            preParseExpression(planItem, planItemRule.getCondition());
+        }
+    }
+
+    protected void preParseExpressions(BaseElement element, Collection<String> expressionTexts) {
+        if (expressionTexts != null) {
+            for (String expressionText : expressionTexts) {
+                preParseExpression(element, expressionText);
+            }
+        }
+    }
+
+    protected void preParseExpression(BaseElement element, String expressionText) {
+        if (StringUtils.isEmpty(expressionText) || element.getParsedExpression(expressionText) != null) {
+            return;
+        }
+
+        try {
+            element.addParsedExpression(expressionText, expressionManager.createExpression(expressionText));
+        } catch (RuntimeException e) {
+            LOGGER.debug("Could not parse expression '{}' of element {}, it will be parsed when it is used", expressionText, element.getId(), e);
+        }
+    }
+
+    public ExpressionManager getExpressionManager() {
+        return expressionManager;
+    }
+
+    public void setExpressionManager(ExpressionManager expressionManager) {
+        this.expressionManager = expressionManager;
+    }
+
+}
@@ -74,6 +74,11 @@ public class CmmnParserImpl implements CmmnParser {
 
             processCmmnElements(cmmnModel, cmmnParseResult);
 
+            // Parse the expressions that are otherwise only parsed on their first use
+            if (cmmnEngineConfiguration != null && cmmnEngineConfiguration.isEnableExpressionPreParsing() && expressionManager != null) {
+                new CmmnExpressionPreParser(expressionManager).preParseExpressions(cmmnModel);
+            }
+
             return cmmnParseResult;
 
         } catch (Exception e) {
@@ -26,6 +26,13 @@ public interface PlanItemInstanceEntityManager extends EntityManager<PlanItemIns
     
     PlanItemInstanceEntity createChildPlanItemInstance(PlanItem planItem, String caseDefinitionId, 
             String caseInstanceId, String stagePlanItemInstanceId, String tenantId, boolean addToParent);
+
+    /**
+     * Creates the plan item instances for all given plan items of one stage (or the plan model when the stage plan item instance id is null)
+     * at once. The case instance and the parent are only looked up once, instead of once per plan item.
+     */
+    List<PlanItemInstanceEntity> createChildPlanItemInstances(List<PlanItem> planItems, String caseDefinitionId,
+            String caseInstanceId, String stagePlanItemInstanceId, String tenantId, boolean addToParent);
     
     PlanItemInstanceQuery createPlanItemInstanceQuery();
 
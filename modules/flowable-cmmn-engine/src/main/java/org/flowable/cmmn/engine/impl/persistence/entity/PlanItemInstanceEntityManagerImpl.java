@@ -13,6 +13,8 @@
 
 package org.flowable.cmmn.engine.impl.persistence.entity;
 
+import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
 
 import org.flowable.cmmn.api.runtime.PlanItemDefinitionType;
@@ -22,6 +24,7 @@ import org.flowable.cmmn.engine.CmmnEngineConfiguration;
 import org.flowable.cmmn.engine.impl.persistence.entity.data.PlanItemInstanceDataManager;
 import org.flowable.cmmn.engine.impl.runtime.PlanItemInstanceQueryImpl;
 import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
+import org.flowable.cmmn.engine.impl.util.ExpressionUtil;
 import org.flowable.cmmn.model.PlanItem;
 import org.flowable.cmmn.model.PlanItemDefinition;
 import org.flowable.common.engine.api.delegate.Expression;
@@ -56,17 +59,53 @@ public class PlanItemInstanceEntityManagerImpl extends AbstractCmmnEntityManager
             String stagePlanItemInstanceId, String tenantId, boolean addToParent) {
         
         CommandContext commandContext = CommandContextUtil.getCommandContext();
-        ExpressionManager expressionManager = cmmnEngineConfiguration.getExpressionManager();
         CaseInstanceEntity caseInstanceEntity = getCaseInstanceEntityManager().findById(caseInstanceId);
+        Date createTime = CommandContextUtil.getCmmnEngineConfiguration(commandContext).getClock().getCurrentTime();
+
+        PlanItemInstanceEntity planItemInstanceEntity = createPlanItemInstance(planItem, caseDefinitionId, caseInstanceId, caseInstanceEntity,
+                stagePlanItemInstanceId, tenantId, createTime);
         
+        if (addToParent) {
+            addPlanItemInstanceToParent(commandContext, planItemInstanceEntity);
+        }
+        
+        return planItemInstanceEntity;
+    }
+
+    @Override
+    public List<PlanItemInstanceEntity> createChildPlanItemInstances(List<PlanItem> planItems, String caseDefinitionId,
+            String caseInstanceId, String stagePlanItemInstanceId, String tenantId, boolean addToParent) {
+
+        CommandContext commandContext = CommandContextUtil.getCommandContext();
+        CaseInstanceEntity caseInstanceEntity = getCaseInstanceEntityManager().findById(caseInstanceId);
+        Date createTime = CommandContextUtil.getCmmnEngineConfiguration(commandContext).getClock().getCurrentTime();
+
+        List<PlanItemInstanceEntity> planItemInstanceEntities = new ArrayList<>(planItems.size());
+        for (PlanItem planItem : planItems) {
+            planItemInstanceEntities.add(createPlanItemInstance(planItem, caseDefinitionId, caseInstanceId, caseInstanceEntity,
+                    stagePlanItemInstanceId, tenantId, createTime));
+        }
+
+        if (addToParent && !planItemInstanceEntities.isEmpty()) {
+            getParentChildPlanItemInstances(commandContext, caseInstanceEntity, stagePlanItemInstanceId).addAll(planItemInstanceEntities);
+        }
+
+        return planItemInstanceEntities;
+    }
+
+    protected PlanItemInstanceEntity createPlanItemInstance(PlanItem planItem, String caseDefinitionId, String caseInstanceId,
+            CaseInstanceEntity caseInstanceEntity, String stagePlanItemInstanceId, String tenantId, Date createTime) {
+
+        ExpressionManager expressionManager = cmmnEngineConfiguration.getExpressionManager();
+
         PlanItemInstanceEntity planItemInstanceEntity = create();
         planItemInstanceEntity.setCaseDefinitionId(caseDefinitionId);
         planItemInstanceEntity.setCaseInstanceId(caseInstanceId);
         if (planItem.getName() != null) {
-            Expression nameExpression = expressionManager.createExpression(planItem.getName());
+            Expression nameExpression = ExpressionUtil.getExpression(planItem, planItem.getName(), expressionManager);
             planItemInstanceEntity.setName(nameExpression.getValue(caseInstanceEntity).toString());
         }
-        planItemInstanceEntity.setCreateTime(CommandContextUtil.getCmmnEngineConfiguration(commandContext).getClock().getCurrentTime());
+        planItemInstanceEntity.setCreateTime(createTime);
         planItemInstanceEntity.setElementId(planItem.getId());
         PlanItemDefinition planItemDefinition = planItem.getPlanItemDefinition();
         if (planItemDefinition != null) {
@@ -78,14 +117,19 @@ public class PlanItemInstanceEntityManagerImpl extends AbstractCmmnEntityManager
         planItemInstanceEntity.setTenantId(tenantId);
        
         insert(planItemInstanceEntity);
-        
-        if (addToParent) {
-            addPlanItemInstanceToParent(commandContext, planItemInstanceEntity);
-        }
-        
+
         return planItemInstanceEntity;
     }
     
+    protected List<PlanItemInstanceEntity> getParentChildPlanItemInstances(CommandContext commandContext, CaseInstanceEntity caseInstanceEntity,
+            String stagePlanItemInstanceId) {
+        if (stagePlanItemInstanceId != null) {
+            return CommandContextUtil.getPlanItemInstanceEntityManager(commandContext).findById(stagePlanItemInstanceId).getChildPlanItemInstances();
+        } else {
+            return caseInstanceEntity.getChildPlanItemInstances();
+        }
+    }
+
     protected void addPlanItemInstanceToParent(CommandContext commandContext, PlanItemInstanceEntity planItemInstanceEntity) {
         if (planItemInstanceEntity.getStageInstanceId() != null) {
             PlanItemInstanceEntity stagePlanItemInstanceEntity = CommandContextUtil.getPlanItemInstanceEntityManager(commandContext)
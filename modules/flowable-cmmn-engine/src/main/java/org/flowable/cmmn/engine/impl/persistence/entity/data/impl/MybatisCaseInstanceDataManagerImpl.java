@@ -17,6 +17,7 @@ import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.flowable.cmmn.api.runtime.CaseInstance;
 import org.flowable.cmmn.engine.CmmnEngineConfiguration;
@@ -30,6 +31,7 @@ import org.flowable.cmmn.engine.impl.persistence.entity.data.CaseInstanceDataMan
 import org.flowable.cmmn.engine.impl.persistence.entity.data.impl.matcher.CaseInstanceByCaseDefinitionIdMatcher;
 import org.flowable.cmmn.engine.impl.runtime.CaseInstanceQueryImpl;
 import org.flowable.common.engine.api.FlowableOptimisticLockingException;
+import org.flowable.common.engine.api.scope.ScopeTypes;
 import org.flowable.common.engine.impl.persistence.cache.EntityCache;
 import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
 
@@ -89,6 +91,7 @@ public class MybatisCaseInstanceDataManagerImpl extends AbstractCmmnDataManager<
             List<PlanItemInstanceEntity> allPlanItemInstances = caseInstanceEntity.getChildPlanItemInstances();
             ArrayList<PlanItemInstanceEntity> directPlanItemInstances = new ArrayList<>();
             HashMap<String, PlanItemInstanceEntity> planItemInstanceMap = new HashMap<>(allPlanItemInstances.size());
+            HashMap<String, PlanItemInstanceEntity> fetchedPlanItemInstanceMap = new HashMap<>(allPlanItemInstances.size());
 
             // Map all plan item instances to its id
             for (PlanItemInstanceEntity planItemInstanceEntity : allPlanItemInstances) {
@@ -106,6 +109,7 @@ public class MybatisCaseInstanceDataManagerImpl extends AbstractCmmnDataManager<
                 } else {
                     // Mapping
                     planItemInstanceMap.put(planItemInstanceEntity.getId(), planItemInstanceEntity);
+                    fetchedPlanItemInstanceMap.put(planItemInstanceEntity.getId(), planItemInstanceEntity);
 
                     // Cache
                     entityCache.put(planItemInstanceEntity, true);
@@ -140,6 +144,16 @@ public class MybatisCaseInstanceDataManagerImpl extends AbstractCmmnDataManager<
             }
 
             caseInstanceEntity.setChildPlanItemInstances(directPlanItemInstances);
+
+            // Plan item instances that were already in the cache keep their own state,
+            // only the freshly fetched ones get their sentry part and variable instances set
+            if (cmmnEngineConfiguration.isEnableEagerCaseInstanceTreeFetching()) {
+                fetchSentryPartInstances(caseInstanceEntity, fetchedPlanItemInstanceMap);
+            }
+            if (cmmnEngineConfiguration.isEnableEagerCaseInstanceVariableFetching()) {
+                fetchVariableInstances(caseInstanceEntity, fetchedPlanItemInstanceMap);
+            }
+
             return caseInstanceEntity;
 
         } else {
@@ -148,6 +162,46 @@ public class MybatisCaseInstanceDataManagerImpl extends AbstractCmmnDataManager<
         }
     }
 
+    protected void fetchSentryPartInstances(CaseInstanceEntityImpl caseInstanceEntity, Map<String, PlanItemInstanceEntity> fetchedPlanItemInstanceMap) {
+        List<SentryPartInstanceEntity> sentryPartInstances = cmmnEngineConfiguration.getSentryPartInstanceEntityManager()
+                .findSentryPartInstancesByCaseInstanceId(caseInstanceEntity.getId());
+
+        // Always set a list, so that entities without satisfied sentry parts don't trigger a fetch later
+        caseInstanceEntity.setSatisfiedSentryPartInstances(new ArrayList<>(1));
+        for (PlanItemInstanceEntity planItemInstanceEntity : fetchedPlanItemInstanceMap.values()) {
+            planItemInstanceEntity.setSatisfiedSentryPartInstances(new ArrayList<>(1));
+        }
+
+        for (SentryPartInstanceEntity sentryPartInstanceEntity : sentryPartInstances) {
+            if (sentryPartInstanceEntity.getPlanItemInstanceId() == null) {
+                caseInstanceEntity.getSatisfiedSentryPartInstances().add(sentryPartInstanceEntity);
+            } else {
+                PlanItemInstanceEntity planItemInstanceEntity = fetchedPlanItemInstanceMap.get(sentryPartInstanceEntity.getPlanItemInstanceId());
+                if (planItemInstanceEntity != null) {
+                    planItemInstanceEntity.getSatisfiedSentryPartInstances().add(sentryPartInstanceEntity);
+                }
+            }
+        }
+    }
+
+    protected void fetchVariableInstances(CaseInstanceEntityImpl caseInstanceEntity, Map<String, PlanItemInstanceEntity> fetchedPlanItemInstanceMap) {
+        List<VariableInstanceEntity> variableInstances = cmmnEngineConfiguration.getVariableServiceConfiguration().getVariableService()
+                .findVariableInstancesByScopeIdAndScopeTypeIncludingSubScopes(caseInstanceEntity.getId(), ScopeTypes.CMMN);
+
+        // The case instance variables have no sub scope id, the local variables of a plan item instance have its id as sub scope id
+        Map<String, Map<String, VariableInstanceEntity>> variableInstancesBySubScopeId = new HashMap<>();
+        for (VariableInstanceEntity variableInstanceEntity : variableInstances) {
+            variableInstancesBySubScopeId.computeIfAbsent(variableInstanceEntity.getSubScopeId(), subScopeId -> new HashMap<>())
+                    .put(variableInstanceEntity.getName(), variableInstanceEntity);
+        }
+
+        caseInstanceEntity.internalSetVariableInstances(variableInstancesBySubScopeId.getOrDefault(null, new HashMap<>(1)));
+        for (PlanItemInstanceEntity planItemInstanceEntity : fetchedPlanItemInstanceMap.values()) {
+            ((PlanItemInstanceEntityImpl) planItemInstanceEntity).internalSetVariableInstances(
+                    variableInstancesBySubScopeId.getOrDefault(planItemInstanceEntity.getId(), new HashMap<>(1)));
+        }
+    }
+
     @Override
     public List<CaseInstanceEntity> findCaseInstancesByCaseDefinitionId(String caseDefinitionId) {
         return getList("selectCaseInstancesByCaseDefinitionId", caseDefinitionId, caseInstanceByCaseDefinitionIdMatcher, true);
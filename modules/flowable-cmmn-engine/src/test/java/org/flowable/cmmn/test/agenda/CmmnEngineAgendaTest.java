@@ -0,0 +1,79 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.test.agenda;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.flowable.cmmn.engine.impl.agenda.DefaultCmmnEngineAgenda;
+import org.flowable.cmmn.engine.impl.agenda.operation.EvaluateCriteriaOperation;
+import org.flowable.cmmn.engine.impl.criteria.PlanItemLifeCycleEvent;
+import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
+import org.flowable.cmmn.engine.test.FlowableCmmnTestCase;
+import org.flowable.cmmn.model.PlanItem;
+import org.flowable.cmmn.model.PlanItemTransition;
+import org.junit.Test;
+
+public class CmmnEngineAgendaTest extends FlowableCmmnTestCase {
+
+    @Test
+    public void testIdenticalCriteriaEvaluationsAreCoalesced() {
+        cmmnEngineConfiguration.getCommandExecutor().execute(commandContext -> {
+            DefaultCmmnEngineAgenda agenda = new DefaultCmmnEngineAgenda(commandContext);
+            PlanItem planItemA = createPlanItem("planItemA");
+            PlanItem planItemB = createPlanItem("planItemB");
+
+            agenda.planEvaluateCriteriaOperation("caseInstance1", new PlanItemLifeCycleEvent(planItemA, PlanItemTransition.COMPLETE));
+            agenda.planEvaluateCriteriaOperation("caseInstance2");
+            agenda.planEvaluateCriteriaOperation("caseInstance1", new PlanItemLifeCycleEvent(planItemB, PlanItemTransition.COMPLETE));
+            agenda.planEvaluateCriteriaOperation("caseInstance1");
+            agenda.planEvaluateCriteriaOperation("caseInstance1", new PlanItemLifeCycleEvent(planItemA, PlanItemTransition.COMPLETE));
+            agenda.planEvaluateCriteriaOperation("caseInstance1", new PlanItemLifeCycleEvent(planItemA, PlanItemTransition.EXIT));
+            agenda.planEvaluateCriteriaOperation("caseInstance1", true);
+
+            // other operations are executed before the criteria evaluations
+            Runnable otherOperation = () -> {};
+            agenda.planOperation(otherOperation);
+            assertThat(agenda.getNextOperation()).isSameAs(otherOperation);
+
+            // only the evaluations of the same lifecycle event are coalesced, the last one planned is kept at the end
+            assertThat(getEvaluationDescription(agenda.getNextOperation())).isEqualTo("caseInstance2 null");
+            assertThat(getEvaluationDescription(agenda.getNextOperation())).isEqualTo("caseInstance1 planItemB complete");
+            assertThat(getEvaluationDescription(agenda.getNextOperation())).isEqualTo("caseInstance1 null");
+            assertThat(getEvaluationDescription(agenda.getNextOperation())).isEqualTo("caseInstance1 planItemA complete");
+            assertThat(getEvaluationDescription(agenda.getNextOperation())).isEqualTo("caseInstance1 planItemA exit");
+
+            EvaluateCriteriaOperation completionEvaluation = (EvaluateCriteriaOperation) agenda.getNextOperation();
+            assertThat(getEvaluationDescription(completionEvaluation)).isEqualTo("caseInstance1 null");
+            assertThat(completionEvaluation.isEvaluateCaseInstanceCompleted()).isTrue();
+            assertThat(agenda.isEmpty()).isTrue();
+
+            // the case instances above don't exist, they must not be evaluated when the command is finished
+            CommandContextUtil.getInvolvedCaseInstanceIds(commandContext).clear();
+            return null;
+        });
+    }
+
+    protected String getEvaluationDescription(Runnable operation) {
+        EvaluateCriteriaOperation evaluateCriteriaOperation = (EvaluateCriteriaOperation) operation;
+        PlanItemLifeCycleEvent planItemLifeCycleEvent = evaluateCriteriaOperation.getPlanItemLifeCycleEvent();
+        return evaluateCriteriaOperation.getCaseInstanceEntityId() + " "
+                + (planItemLifeCycleEvent != null ? planItemLifeCycleEvent.getPlanItem().getId() + " " + planItemLifeCycleEvent.getTransition() : "null");
+    }
+
+    protected PlanItem createPlanItem(String id) {
+        PlanItem planItem = new PlanItem();
+        planItem.setId(id);
+        return planItem;
+    }
+
+}
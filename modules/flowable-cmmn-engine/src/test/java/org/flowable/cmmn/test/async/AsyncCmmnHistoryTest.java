@@ -255,6 +255,21 @@ public class AsyncCmmnHistoryTest extends CustomCmmnConfigurationFlowableTestCas
         historicTaskInstance = cmmnHistoryService.createHistoricTaskInstanceQuery().caseInstanceId(caseInstance.getId()).singleResult();
         assertNotNull(historicTaskInstance.getEndTime());
     }
+
+    @Test
+    public void testStandaloneTask() {
+        Task task = cmmnTaskService.createTaskBuilder().name("Standalone task").assignee("johnDoe").create();
+        assertEquals(0, cmmnHistoryService.createHistoricTaskInstanceQuery().taskId(task.getId()).count());
+
+        waitForAsyncHistoryExecutorToProcessAllJobs();
+        HistoricTaskInstance historicTaskInstance = cmmnHistoryService.createHistoricTaskInstanceQuery().taskId(task.getId()).singleResult();
+        assertEquals("Standalone task", historicTaskInstance.getName());
+        assertEquals("johnDoe", historicTaskInstance.getAssignee());
+        assertNull(historicTaskInstance.getScopeId());
+
+        cmmnTaskService.deleteTask(task.getId(), true);
+        assertEquals(0, cmmnHistoryService.createHistoricTaskInstanceQuery().taskId(task.getId()).count());
+    }
     
     @Test
     @CmmnDeployment
@@ -0,0 +1,51 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.test.async;
+
+import static org.junit.Assert.assertEquals;
+
+import org.flowable.cmmn.engine.CmmnEngineConfiguration;
+import org.flowable.cmmn.engine.impl.history.async.CmmnAsyncHistoryConstants;
+import org.flowable.job.api.HistoryJob;
+import org.flowable.task.api.Task;
+import org.junit.Test;
+
+/**
+ * Runs the async history tests with the history data of a transaction grouped and gzip compressed into one history job.
+ */
+public class AsyncCmmnHistoryZippedTest extends AsyncCmmnHistoryTest {
+
+    @Override
+    protected String getEngineName() {
+        return "AsyncCmmnHistoryZippedTest";
+    }
+
+    @Override
+    protected void configureConfiguration(CmmnEngineConfiguration cmmnEngineConfiguration) {
+        super.configureConfiguration(cmmnEngineConfiguration);
+        cmmnEngineConfiguration.setAsyncHistoryJsonGzipCompressionEnabled(true);
+    }
+
+    @Test
+    public void testHistoryJobIsZipped() {
+        Task task = cmmnTaskService.createTaskBuilder().name("Standalone task").create();
+
+        HistoryJob historyJob = cmmnManagementService.createHistoryJobQuery().singleResult();
+        assertEquals(CmmnAsyncHistoryConstants.JOB_HANDLER_TYPE_DEFAULT_ASYNC_HISTORY_ZIPPED, historyJob.getJobHandlerType());
+
+        waitForAsyncHistoryExecutorToProcessAllJobs();
+        assertEquals(1, cmmnHistoryService.createHistoricTaskInstanceQuery().taskId(task.getId()).count());
+        cmmnTaskService.deleteTask(task.getId(), true);
+    }
+
+}
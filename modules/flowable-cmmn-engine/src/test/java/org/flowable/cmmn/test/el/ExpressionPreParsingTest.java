@@ -0,0 +1,67 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.test.el;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.flowable.cmmn.api.runtime.CaseInstance;
+import org.flowable.cmmn.engine.impl.util.ExpressionUtil;
+import org.flowable.cmmn.engine.test.CmmnDeployment;
+import org.flowable.cmmn.engine.test.FlowableCmmnTestCase;
+import org.flowable.cmmn.model.CmmnModel;
+import org.flowable.cmmn.model.HumanTask;
+import org.flowable.cmmn.model.Sentry;
+import org.flowable.common.engine.api.delegate.Expression;
+import org.flowable.common.engine.impl.el.ExpressionManager;
+import org.flowable.task.api.Task;
+import org.junit.Test;
+
+public class ExpressionPreParsingTest extends FlowableCmmnTestCase {
+
+    @Test
+    @CmmnDeployment
+    public void testExpressionsParsedAtDeployment() {
+        String caseDefinitionId = cmmnRepositoryService.createCaseDefinitionQuery().caseDefinitionKey("preParsedExpressionsCase").singleResult().getId();
+        CmmnModel cmmnModel = cmmnRepositoryService.getCmmnModel(caseDefinitionId);
+        HumanTask reviewTask = (HumanTask) cmmnModel.findPlanItemDefinition("reviewTask");
+        Sentry sentry = (Sentry) cmmnModel.getPrimaryCase().getAllCaseElements().get("sentryEscalate");
+
+        assertTrue(reviewTask.getParsedExpression("Review ${amount}") instanceof Expression);
+        assertTrue(reviewTask.getParsedExpression("${approver}") instanceof Expression);
+        assertTrue(sentry.getParsedExpression("${amount > 100}") instanceof Expression);
+
+        // The lookup returns the pre-parsed expression for the model text and parses any other text
+        ExpressionManager expressionManager = cmmnEngineConfiguration.getExpressionManager();
+        assertSame(reviewTask.getParsedExpression("${approver}"), ExpressionUtil.getExpression(reviewTask, "${approver}", expressionManager));
+        Expression otherExpression = ExpressionUtil.getExpression(reviewTask, "${otherApprover}", expressionManager);
+        assertNotSame(reviewTask.getParsedExpression("${approver}"), otherExpression);
+        assertEquals("${otherApprover}", otherExpression.getExpressionText());
+
+        CaseInstance caseInstance = cmmnRuntimeService.createCaseInstanceBuilder()
+                .caseDefinitionKey("preParsedExpressionsCase")
+                .variable("amount", 150)
+                .variable("approver", "kermit")
+                .start();
+        Task task = cmmnTaskService.createTaskQuery().caseInstanceId(caseInstance.getId()).singleResult();
+        assertEquals("Review 150", task.getName());
+        assertEquals("kermit", task.getAssignee());
+        cmmnTaskService.complete(task.getId());
+
+        task = cmmnTaskService.createTaskQuery().caseInstanceId(caseInstance.getId()).singleResult();
+        assertEquals("Escalate", task.getName());
+    }
+
+}
@@ -314,4 +314,19 @@ public class RepetitionRuleTest extends FlowableCmmnTestCase {
         cmmnTaskService.complete(taskB.getId());
         assertCaseInstanceEnded(caseInstance);
     }
+
+    @Test
+    @CmmnDeployment
+    public void testRepeatingTaskWithTwoEventsInOneTransaction() {
+        // A and B are non-blocking and complete in the transaction that starts the case: each completion activates C once
+        CaseInstance caseInstance = cmmnRuntimeService.createCaseInstanceBuilder()
+                .caseDefinitionKey("testRepeatingTaskWithTwoEventsInOneTransaction")
+                .start();
+
+        List<Task> tasks = cmmnTaskService.createTaskQuery().caseInstanceId(caseInstance.getId()).list();
+        assertEquals(2, tasks.size());
+        for (Task task : tasks) {
+            assertEquals("C", task.getName());
+        }
+    }
 }
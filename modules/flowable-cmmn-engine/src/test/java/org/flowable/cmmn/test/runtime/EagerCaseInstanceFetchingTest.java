@@ -0,0 +1,100 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.test.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.flowable.cmmn.api.runtime.CaseInstance;
+import org.flowable.cmmn.api.runtime.PlanItemInstance;
+import org.flowable.cmmn.engine.CmmnEngineConfiguration;
+import org.flowable.cmmn.engine.impl.persistence.entity.CaseInstanceEntity;
+import org.flowable.cmmn.engine.impl.persistence.entity.PlanItemInstanceEntity;
+import org.flowable.cmmn.engine.impl.persistence.entity.SentryPartInstanceEntityImpl;
+import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
+import org.flowable.cmmn.engine.test.CmmnDeployment;
+import org.flowable.cmmn.test.impl.CustomCmmnConfigurationFlowableTestCase;
+import org.flowable.common.engine.impl.persistence.cache.EntityCache;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntityImpl;
+import org.junit.Test;
+
+public class EagerCaseInstanceFetchingTest extends CustomCmmnConfigurationFlowableTestCase {
+
+    @Override
+    protected String getEngineName() {
+        return this.getClass().getName();
+    }
+
+    @Override
+    protected void configureConfiguration(CmmnEngineConfiguration cmmnEngineConfiguration) {
+        cmmnEngineConfiguration.setEnableEagerCaseInstanceTreeFetching(true);
+        cmmnEngineConfiguration.setEnableEagerCaseInstanceVariableFetching(true);
+    }
+
+    @Test
+    @CmmnDeployment
+    public void testEagerFetching() {
+        CaseInstance caseInstance = cmmnRuntimeService.createCaseInstanceBuilder()
+                .caseDefinitionKey("myCase")
+                .variable("caseVariable", "caseValue")
+                .start();
+
+        PlanItemInstance taskOne = getPlanItemInstance(caseInstance.getId(), "Task One");
+        PlanItemInstance taskTwo = getPlanItemInstance(caseInstance.getId(), "Task Two");
+        PlanItemInstance milestone = getPlanItemInstance(caseInstance.getId(), "PlanItem Milestone One");
+        cmmnRuntimeService.triggerPlanItemInstance(taskOne.getId());
+        cmmnRuntimeService.setLocalVariable(taskTwo.getId(), "localVariable", "localValue");
+
+        cmmnEngineConfiguration.getCommandExecutor().execute(commandContext -> {
+            CaseInstanceEntity caseInstanceEntity = CommandContextUtil.getCaseInstanceEntityManager(commandContext).findById(caseInstance.getId());
+
+            // Everything is fetched together with the case instance
+            EntityCache entityCache = CommandContextUtil.getEntityCache(commandContext);
+            assertThat(entityCache.findInCache(SentryPartInstanceEntityImpl.class)).hasSize(1);
+            assertThat(entityCache.findInCache(VariableInstanceEntityImpl.class)).hasSize(2);
+
+            assertThat(caseInstanceEntity.getSatisfiedSentryPartInstances()).isEmpty();
+            assertThat(caseInstanceEntity.getVariable("caseVariable")).isEqualTo("caseValue");
+            assertThat(caseInstanceEntity.hasVariableLocal("localVariable")).isFalse();
+
+            for (PlanItemInstanceEntity planItemInstanceEntity : caseInstanceEntity.getChildPlanItemInstances()) {
+                if (planItemInstanceEntity.getId().equals(milestone.getId())) {
+                    assertThat(planItemInstanceEntity.getSatisfiedSentryPartInstances()).hasSize(1);
+                } else {
+                    assertThat(planItemInstanceEntity.getSatisfiedSentryPartInstances()).isEmpty();
+                }
+
+                if (planItemInstanceEntity.getId().equals(taskTwo.getId())) {
+                    assertThat(planItemInstanceEntity.getVariableLocal("localVariable")).isEqualTo("localValue");
+                } else {
+                    assertThat(planItemInstanceEntity.hasVariableLocal("localVariable")).isFalse();
+                }
+                assertThat(planItemInstanceEntity.getVariable("caseVariable")).isEqualTo("caseValue");
+            }
+
+            assertThat(entityCache.findInCache(SentryPartInstanceEntityImpl.class)).hasSize(1);
+            assertThat(entityCache.findInCache(VariableInstanceEntityImpl.class)).hasSize(2);
+            return null;
+        });
+
+        cmmnRuntimeService.triggerPlanItemInstance(taskTwo.getId());
+        assertThat(cmmnRuntimeService.createMilestoneInstanceQuery().milestoneInstanceCaseInstanceId(caseInstance.getId()).count()).isEqualTo(0);
+
+        cmmnRuntimeService.triggerPlanItemInstance(getPlanItemInstance(caseInstance.getId(), "Task Three").getId());
+        assertCaseInstanceEnded(caseInstance);
+    }
+
+    protected PlanItemInstance getPlanItemInstance(String caseInstanceId, String name) {
+        return cmmnRuntimeService.createPlanItemInstanceQuery().caseInstanceId(caseInstanceId).planItemInstanceName(name).singleResult();
+    }
+
+}
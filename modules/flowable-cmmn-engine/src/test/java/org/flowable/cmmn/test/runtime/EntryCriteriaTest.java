@@ -324,4 +324,41 @@ public class EntryCriteriaTest extends FlowableCmmnTestCase {
         assertThat(planItemInstanceStageThree.getState()).isEqualTo(PlanItemInstanceState.ACTIVE);
     }
 
+    @Test
+    @CmmnDeployment
+    public void testOnPartsSatisfiedByInterleavedLifecycleEvents() {
+        CaseInstance caseInstance = cmmnRuntimeService.createCaseInstanceBuilder()
+                .caseDefinitionKey("myCase")
+                .variable("proceed", false)
+                .start();
+
+        // The lifecycle events of D don't affect any sentry, those of A and C only satisfy a part of the sentries
+        triggerPlanItemInstance(caseInstance, "A");
+        triggerPlanItemInstance(caseInstance, "D");
+        triggerPlanItemInstance(caseInstance, "C");
+        assertEquals(0, cmmnHistoryService.createHistoricMilestoneInstanceQuery().milestoneInstanceCaseInstanceId(caseInstance.getId()).count());
+
+        // The if part is evaluated again when the variable changes, even though no plan item went through a transition
+        cmmnRuntimeService.setVariable(caseInstance.getId(), "proceed", true);
+        assertThat(cmmnHistoryService.createHistoricMilestoneInstanceQuery().milestoneInstanceCaseInstanceId(caseInstance.getId()).list())
+                .extracting(HistoricMilestoneInstance::getName)
+                .containsExactly("Milestone Two");
+
+        // The on part of A was remembered
+        triggerPlanItemInstance(caseInstance, "B");
+        assertThat(cmmnHistoryService.createHistoricMilestoneInstanceQuery().milestoneInstanceCaseInstanceId(caseInstance.getId()).orderByMilestoneName().asc().list())
+                .extracting(HistoricMilestoneInstance::getName)
+                .containsExactly("Milestone One", "Milestone Two");
+        assertCaseInstanceEnded(caseInstance);
+    }
+
+    protected void triggerPlanItemInstance(CaseInstance caseInstance, String name) {
+        PlanItemInstance planItemInstance = cmmnRuntimeService.createPlanItemInstanceQuery()
+                .caseInstanceId(caseInstance.getId())
+                .planItemInstanceName(name)
+                .planItemInstanceState(PlanItemInstanceState.ACTIVE)
+                .singleResult();
+        cmmnRuntimeService.triggerPlanItemInstance(planItemInstance.getId());
+    }
+
 }
@@ -229,5 +229,40 @@ public class StageTest extends FlowableCmmnTestCase {
         assertEquals(0, cmmnRuntimeService.createCaseInstanceQuery().count());
         assertEquals(1, cmmnHistoryService.createHistoricCaseInstanceQuery().finished().count());
     }
+
+    @Test
+    @CmmnDeployment
+    public void testStageWithManyPlanItems() {
+        CaseInstance caseInstance = cmmnRuntimeService.createCaseInstanceBuilder()
+                .caseDefinitionKey("myCase")
+                .variable("taskName", "Task E")
+                .start();
+
+        List<PlanItemInstance> planItemInstances = cmmnRuntimeService.createPlanItemInstanceQuery()
+                .caseInstanceId(caseInstance.getId())
+                .planItemInstanceState(PlanItemInstanceState.ACTIVE)
+                .orderByName().asc()
+                .list();
+        String[] expectedNames = new String[] { "Stage One", "Task A", "Task B", "Task C", "Task D", "Task E" };
+        assertEquals(expectedNames.length, planItemInstances.size());
+        for (int i = 0; i < planItemInstances.size(); i++) {
+            assertEquals(expectedNames[i], planItemInstances.get(i).getName());
+        }
+
+        PlanItemInstance planItemInstanceTaskF = cmmnRuntimeService.createPlanItemInstanceQuery()
+                .caseInstanceId(caseInstance.getId())
+                .planItemInstanceState(PlanItemInstanceState.AVAILABLE)
+                .singleResult();
+        assertEquals("Task F", planItemInstanceTaskF.getName());
+        assertEquals(planItemInstances.get(0).getId(), planItemInstanceTaskF.getStageInstanceId());
+        assertEquals(7, cmmnHistoryService.createHistoricPlanItemInstanceQuery().planItemInstanceCaseInstanceId(caseInstance.getId()).count());
+
+        // Completing task A activates task F
+        cmmnRuntimeService.triggerPlanItemInstance(planItemInstances.get(1).getId());
+        assertEquals(PlanItemInstanceState.ACTIVE, cmmnRuntimeService.createPlanItemInstanceQuery()
+                .planItemInstanceId(planItemInstanceTaskF.getId())
+                .singleResult()
+                .getState());
+    }
     
 }
@@ -13,8 +13,13 @@
 package org.flowable.cmmn.model;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * @author Joram Barrez
@@ -53,6 +58,12 @@ public class PlanItem extends CaseElement implements HasEntryCriteria, HasExitCr
      * Said differently: this list of plan items have an exit criteria that references this plan item.
      */
     protected List<PlanItem> exitDependentPlanItems = new ArrayList<>();
+
+    /**
+     * The ids of the {@link Sentry}s that have an on part with this plan item as source, by the standard event (transition) of that on part.
+     * Said differently: the sentries that can be satisfied when this plan item goes through the given transition.
+     */
+    protected Map<String, Set<String>> dependentSentryIds = new HashMap<>();
     
     protected Object behavior;
 
@@ -206,6 +217,23 @@ public class PlanItem extends CaseElement implements HasEntryCriteria, HasExitCr
         }
     }
 
+    public Map<String, Set<String>> getDependentSentryIds() {
+        return dependentSentryIds;
+    }
+
+    public void setDependentSentryIds(Map<String, Set<String>> dependentSentryIds) {
+        this.dependentSentryIds = dependentSentryIds;
+    }
+
+    public Set<String> getDependentSentryIds(String standardEvent) {
+        Set<String> sentryIds = dependentSentryIds.get(standardEvent);
+        return sentryIds != null ? sentryIds : Collections.<String>emptySet();
+    }
+
+    public void addDependentSentryId(String standardEvent, String sentryId) {
+        dependentSentryIds.computeIfAbsent(standardEvent, key -> new HashSet<>()).add(sentryId);
+    }
+
     public List<PlanItem> getAllDependentPlanItems() {
         List<PlanItem> allDependentPlanItems = new ArrayList<>(entryDependentPlanItems.size() + exitDependentPlanItems.size());
         allDependentPlanItems.addAll(entryDependentPlanItems);
@@ -16,7 +16,6 @@ package org.flowable.cmmn.spring;
 import java.util.Map;
 
 import org.flowable.cmmn.engine.impl.el.CmmnExpressionManager;
-import org.flowable.common.engine.api.variable.VariableContainer;
 import org.flowable.common.engine.impl.el.DefaultExpressionManager;
 import org.flowable.common.engine.impl.el.JsonNodeELResolver;
 import org.flowable.common.engine.impl.el.ReadOnlyMapELResolver;
@@ -50,10 +49,8 @@ public class SpringCmmnExpressionManager extends CmmnExpressionManager {
     }
 
     @Override
-    protected ELResolver createElResolver(VariableContainer variableContainer) {
+    protected ELResolver createStaticElResolver() {
         CompositeELResolver compositeElResolver = new CompositeELResolver();
-        compositeElResolver.add(createVariableElResolver(variableContainer));
-
         if (beans != null) {
             // Only expose limited set of beans in expressions
             compositeElResolver.add(new ReadOnlyMapELResolver(beans));
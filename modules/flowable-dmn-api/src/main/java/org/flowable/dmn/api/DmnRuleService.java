@@ -33,6 +33,13 @@ public interface DmnRuleService {
      */
     ExecuteDecisionBuilder createExecuteDecisionBuilder();
 
+    /**
+     * Create a builder to execute a decision for a batch of inputs.
+     *
+     * @return the {@link ExecuteDecisionBatchBuilder} build
+     */
+    ExecuteDecisionBatchBuilder createExecuteDecisionBatchBuilder();
+
     /**
      * Execute a decision identified by it's key.
      *
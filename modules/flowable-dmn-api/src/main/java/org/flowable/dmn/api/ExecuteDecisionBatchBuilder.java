@@ -0,0 +1,88 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.api;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+
+/**
+ * Helper for executing a decision for a batch of inputs.
+ * 
+ * An instance can be obtained through {@link org.flowable.dmn.api.DmnRuleService#createExecuteDecisionBatchBuilder()}.
+ * 
+ * The decision is looked up once and executed for every variable map of the batch, in one transaction.
+ * The historic decision executions of the batch are inserted together at the end of the transaction.
+ */
+public interface ExecuteDecisionBatchBuilder {
+
+    /**
+     * Set the key of the decision
+     **/
+    ExecuteDecisionBatchBuilder decisionKey(String decisionKey);
+
+    /**
+     * Set the parent deployment id
+     */
+    ExecuteDecisionBatchBuilder parentDeploymentId(String parentDeploymentId);
+
+    /**
+     * Set the tenantId
+     **/
+    ExecuteDecisionBatchBuilder tenantId(String tenantId);
+
+    /**
+     * allow to search for definition by key in the default tenant when tenant specific search fails
+     */
+    ExecuteDecisionBatchBuilder fallbackToDefaultTenant();
+
+    /**
+     * Adds the variables of one execution of the decision
+     */
+    ExecuteDecisionBatchBuilder addVariables(Map<String, Object> variables);
+
+    /**
+     * Adds the variables of several executions of the decision
+     */
+    ExecuteDecisionBatchBuilder variables(Collection<Map<String, Object>> variables);
+
+    /**
+     * Evaluate the executions of the batch with the given number of threads. By default the executions are evaluated sequentially.
+     */
+    ExecuteDecisionBatchBuilder parallelism(int parallelism);
+
+    /**
+     * Don't store historic decision executions for the executions of this batch
+     */
+    ExecuteDecisionBatchBuilder disableHistory();
+
+    /**
+     * Executes the decision for every variable map, returning the output results in the order of the variable maps
+     **/
+    List<List<Map<String, Object>>> execute();
+
+    /**
+     * Executes the decision for every variable map, returning result objects including an audit trail in the order of the variable maps
+     **/
+    List<DecisionExecutionAuditContainer> executeWithAuditTrail();
+
+    /**
+     * Executes the decision for every variable map of the stream, in batches of the given size: every batch is executed in its own transaction.
+     * The result handler is called with the variable map and the output results of each execution, in the order of the stream.
+     * The variable maps added to this builder are not executed.
+     **/
+    void execute(Stream<Map<String, Object>> variablesStream, int batchSize, BiConsumer<Map<String, Object>, List<Map<String, Object>>> resultHandler);
+
+}
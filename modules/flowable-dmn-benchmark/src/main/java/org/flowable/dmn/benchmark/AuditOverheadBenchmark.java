@@ -0,0 +1,116 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.benchmark;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.dmn.api.DecisionExecutionAuditContainer;
+import org.flowable.dmn.api.DmnRuleService;
+import org.flowable.dmn.benchmark.DecisionTableGenerator.InputType;
+import org.flowable.dmn.engine.DmnEngineConfiguration;
+import org.flowable.dmn.engine.impl.audit.DecisionExecutionAuditLevel;
+import org.flowable.dmn.model.HitPolicy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the overhead of the decision execution audit and of the decision execution history,
+ * by executing the same decision table with the different {@link DecisionExecutionAuditLevel}s and history modes.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AuditOverheadBenchmark {
+
+    protected static final int VARIABLE_SET_COUNT = 64;
+
+    public enum HistoryMode {
+        DISABLED, SYNC, ASYNC
+    }
+
+    @Param({ "10", "100" })
+    public int ruleCount;
+
+    @Param({ "NONE", "SUMMARY", "FULL" })
+    public DecisionExecutionAuditLevel auditLevel;
+
+    @Param({ "DISABLED", "SYNC", "ASYNC" })
+    public HistoryMode historyMode;
+
+    protected DmnBenchmarkEngine engine;
+    protected DmnRuleService ruleService;
+    protected List<Map<String, Object>> variableSets;
+    protected int invocation;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        DecisionTableGenerator generator = new DecisionTableGenerator(ruleCount, HitPolicy.RULE_ORDER, InputType.NUMBER);
+        engine = new DmnBenchmarkEngine(new DmnBenchmarkEngine.ConfigurationCustomizer() {
+
+            @Override
+            public void customize(DmnEngineConfiguration dmnEngineConfiguration) {
+                dmnEngineConfiguration.setDecisionExecutionAuditLevel(auditLevel);
+                dmnEngineConfiguration.setHistoryEnabled(historyMode != HistoryMode.DISABLED);
+                dmnEngineConfiguration.setAsyncHistoryEnabled(historyMode == HistoryMode.ASYNC);
+            }
+        });
+        engine.deploy(generator);
+        ruleService = engine.getDmnEngine().getDmnRuleService();
+        variableSets = generator.createVariableSets(VARIABLE_SET_COUNT);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        engine.close();
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> execute() {
+        return ruleService.createExecuteDecisionBuilder()
+                .decisionKey(DecisionTableGenerator.DECISION_KEY)
+                .variables(nextVariables())
+                .execute();
+    }
+
+    /**
+     * The audit trail is always fully audited, whatever the configured audit level: this is the upper bound of the audit cost.
+     */
+    @Benchmark
+    public DecisionExecutionAuditContainer executeWithAuditTrail() {
+        return ruleService.createExecuteDecisionBuilder()
+                .decisionKey(DecisionTableGenerator.DECISION_KEY)
+                .variables(nextVariables())
+                .executeWithAuditTrail();
+    }
+
+    protected Map<String, Object> nextVariables() {
+        return new HashMap<>(variableSets.get(invocation++ & (VARIABLE_SET_COUNT - 1)));
+    }
+}
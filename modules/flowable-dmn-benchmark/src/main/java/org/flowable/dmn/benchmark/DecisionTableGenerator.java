@@ -0,0 +1,212 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.benchmark;
+
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.dmn.model.HitPolicy;
+
+/**
+ * Generates synthetic decision tables with a configurable number of rules, hit policy and input type.
+ *
+ * Every table has two inputs: the first one (of the given {@link InputType}) identifies a single rule, the second one is a string
+ * that matches a subset of the rules. All rules have two outputs, a string 'result' and a number 'score'.
+ * Except for the UNIQUE and ANY hit policies, a final catch-all rule is added so that each evaluation matches more than one rule.
+ */
+public class DecisionTableGenerator {
+
+    public static final String DECISION_KEY = "benchmarkDecision";
+
+    protected static final String[] SEGMENTS = { "A", "B", "C", "D" };
+    protected static final String START_DATE = "2018-01-01";
+
+    public enum InputType {
+        NUMBER, STRING, DATE, COLLECTION
+    }
+
+    protected final int ruleCount;
+    protected final HitPolicy hitPolicy;
+    protected final InputType inputType;
+
+    public DecisionTableGenerator(int ruleCount, HitPolicy hitPolicy, InputType inputType) {
+        this.ruleCount = ruleCount;
+        this.hitPolicy = hitPolicy;
+        this.inputType = inputType;
+    }
+
+    public String generateDmnXml() {
+        StringBuilder xml = new StringBuilder();
+        xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+        xml.append("<definitions xmlns=\"http://www.omg.org/spec/DMN/20151101\" id=\"benchmark\" name=\"Benchmark\" namespace=\"http://flowable.org/dmn\">\n");
+        xml.append("  <decision id=\"").append(DECISION_KEY).append("\" name=\"Benchmark decision\">\n");
+        xml.append("    <decisionTable id=\"decisionTable\" hitPolicy=\"").append(hitPolicy.getValue()).append("\">\n");
+
+        xml.append("      <input id=\"input1\" label=\"Input 1\">\n");
+        xml.append("        <inputExpression id=\"inputExpression1\" typeRef=\"").append(getInputTypeRef()).append("\">\n");
+        xml.append("          <text>input1</text>\n");
+        xml.append("        </inputExpression>\n");
+        xml.append("      </input>\n");
+        xml.append("      <input id=\"input2\" label=\"Input 2\">\n");
+        xml.append("        <inputExpression id=\"inputExpression2\" typeRef=\"string\">\n");
+        xml.append("          <text>input2</text>\n");
+        xml.append("        </inputExpression>\n");
+        xml.append("      </input>\n");
+
+        xml.append("      <output id=\"output1\" label=\"Result\" name=\"result\" typeRef=\"string\"");
+        if (hitPolicy == HitPolicy.PRIORITY || hitPolicy == HitPolicy.OUTPUT_ORDER) {
+            // these hit policies order the matched rules by the position of the output value in the output values list
+            xml.append(">\n        <outputValues>\n          <text>\"HIGH\", \"MEDIUM\", \"LOW\", \"DEFAULT\"</text>\n        </outputValues>\n      </output>\n");
+        } else {
+            xml.append(" />\n");
+        }
+        xml.append("      <output id=\"output2\" label=\"Score\" name=\"score\" typeRef=\"number\" />\n");
+
+        for (int i = 0; i < ruleCount; i++) {
+            appendRule(xml, i, getInputEntry(i), getSegmentEntry(i), getResult(i), String.valueOf(i));
+        }
+        if (hitPolicy != HitPolicy.UNIQUE && hitPolicy != HitPolicy.ANY) {
+            appendRule(xml, ruleCount, "-", "-", "DEFAULT", "-1");
+        }
+
+        xml.append("    </decisionTable>\n");
+        xml.append("  </decision>\n");
+        xml.append("</definitions>\n");
+        return xml.toString();
+    }
+
+    /**
+     * Returns the input variables that match the rule with the given index.
+     */
+    public Map<String, Object> createVariables(int ruleIndex) {
+        Map<String, Object> variables = new HashMap<>();
+        switch (inputType) {
+            case NUMBER:
+                variables.put("input1", ruleIndex);
+                break;
+            case STRING:
+                variables.put("input1", getKey(ruleIndex));
+                break;
+            case DATE:
+                Calendar calendar = Calendar.getInstance();
+                calendar.setTime(parseDate(START_DATE));
+                calendar.add(Calendar.DAY_OF_MONTH, ruleIndex);
+                variables.put("input1", calendar.getTime());
+                break;
+            case COLLECTION:
+                variables.put("input1", new ArrayList<>(Arrays.asList("X", getKey(ruleIndex), "Y")));
+                break;
+        }
+        variables.put("input2", SEGMENTS[ruleIndex % SEGMENTS.length]);
+        return variables;
+    }
+
+    /**
+     * Returns the input variables for a set of rules spread over the whole table, so that benchmarks don't only measure the first rules.
+     */
+    public List<Map<String, Object>> createVariableSets(int count) {
+        List<Map<String, Object>> variableSets = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            variableSets.add(createVariables((int) ((long) i * ruleCount / count)));
+        }
+        return variableSets;
+    }
+
+    protected void appendRule(StringBuilder xml, int index, String inputEntry, String segmentEntry, String result, String score) {
+        xml.append("      <rule id=\"rule").append(index).append("\">\n");
+        appendEntry(xml, "inputEntry", index + "_1", inputEntry);
+        appendEntry(xml, "inputEntry", index + "_2", segmentEntry);
+        appendEntry(xml, "outputEntry", index + "_1", "\"" + result + "\"");
+        appendEntry(xml, "outputEntry", index + "_2", score);
+        xml.append("      </rule>\n");
+    }
+
+    protected void appendEntry(StringBuilder xml, String elementName, String id, String text) {
+        xml.append("        <").append(elementName).append(" id=\"").append(elementName).append(id).append("\">\n");
+        xml.append("          <text><![CDATA[").append(text).append("]]></text>\n");
+        xml.append("        </").append(elementName).append(">\n");
+    }
+
+    protected String getInputTypeRef() {
+        switch (inputType) {
+            case NUMBER:
+                return "number";
+            case DATE:
+                return "date";
+            default:
+                return "string";
+        }
+    }
+
+    protected String getInputEntry(int ruleIndex) {
+        switch (inputType) {
+            case NUMBER:
+                return "== " + ruleIndex;
+            case STRING:
+                return "== \"" + getKey(ruleIndex) + "\"";
+            case DATE:
+                return "== fn_addDate(fn_date('" + START_DATE + "'),0,0," + ruleIndex + ")";
+            default:
+                return "${collection:containsAny(input1, \"" + getKey(ruleIndex) + "\")}";
+        }
+    }
+
+    protected String getSegmentEntry(int ruleIndex) {
+        // every other rule also restricts the second input, which fits the segment returned by createVariables
+        if (ruleIndex % 2 == 0) {
+            return "-";
+        }
+        return "== \"" + SEGMENTS[ruleIndex % SEGMENTS.length] + "\"";
+    }
+
+    protected String getResult(int ruleIndex) {
+        switch (ruleIndex % 3) {
+            case 0:
+                return "HIGH";
+            case 1:
+                return "MEDIUM";
+            default:
+                return "LOW";
+        }
+    }
+
+    protected String getKey(int ruleIndex) {
+        return "K" + ruleIndex;
+    }
+
+    protected Date parseDate(String date) {
+        try {
+            return new SimpleDateFormat("yyyy-MM-dd").parse(date);
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Invalid date " + date, e);
+        }
+    }
+
+    public int getRuleCount() {
+        return ruleCount;
+    }
+
+    public HitPolicy getHitPolicy() {
+        return hitPolicy;
+    }
+
+    public InputType getInputType() {
+        return inputType;
+    }
+}
@@ -0,0 +1,75 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.benchmark;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.flowable.common.engine.impl.AbstractEngineConfiguration;
+import org.flowable.dmn.api.DmnDecisionTable;
+import org.flowable.dmn.api.DmnDeployment;
+import org.flowable.dmn.engine.DmnEngine;
+import org.flowable.dmn.engine.DmnEngineConfiguration;
+import org.flowable.dmn.engine.impl.cfg.StandaloneInMemDmnEngineConfiguration;
+
+/**
+ * Builds the in-memory DMN engines used by the benchmarks.
+ * Every engine gets its own H2 database, so benchmarks with different engine settings don't share state.
+ */
+public class DmnBenchmarkEngine {
+
+    public interface ConfigurationCustomizer {
+
+        void customize(DmnEngineConfiguration dmnEngineConfiguration);
+    }
+
+    protected static final AtomicInteger ENGINE_COUNTER = new AtomicInteger();
+
+    protected final DmnEngine dmnEngine;
+
+    public DmnBenchmarkEngine(ConfigurationCustomizer customizer) {
+        int engineNumber = ENGINE_COUNTER.incrementAndGet();
+        DmnEngineConfiguration dmnEngineConfiguration = new StandaloneInMemDmnEngineConfiguration();
+        dmnEngineConfiguration.setEngineName("benchmark-" + engineNumber);
+        dmnEngineConfiguration.setJdbcUrl("jdbc:h2:mem:flowable-benchmark-" + engineNumber + ";DB_CLOSE_DELAY=1000");
+        dmnEngineConfiguration.setDatabaseSchemaUpdate(AbstractEngineConfiguration.DB_SCHEMA_UPDATE_DROP_CREATE);
+        dmnEngineConfiguration.setHistoryEnabled(false);
+        if (customizer != null) {
+            customizer.customize(dmnEngineConfiguration);
+        }
+        this.dmnEngine = dmnEngineConfiguration.buildDmnEngine();
+    }
+
+    public DmnDecisionTable deploy(DecisionTableGenerator generator) {
+        DmnDeployment deployment = dmnEngine.getDmnRepositoryService().createDeployment()
+                .name("benchmark")
+                .addString("benchmark.dmn", generator.generateDmnXml())
+                .deploy();
+
+        return dmnEngine.getDmnRepositoryService().createDecisionTableQuery()
+                .deploymentId(deployment.getId())
+                .decisionTableKey(DecisionTableGenerator.DECISION_KEY)
+                .singleResult();
+    }
+
+    public void close() {
+        dmnEngine.close();
+    }
+
+    public DmnEngine getDmnEngine() {
+        return dmnEngine;
+    }
+
+    public DmnEngineConfiguration getDmnEngineConfiguration() {
+        return dmnEngine.getDmnEngineConfiguration();
+    }
+}
@@ -0,0 +1,119 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.benchmark;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.common.engine.impl.el.ExpressionManager;
+import org.flowable.dmn.engine.impl.el.ELInputEntryExpressionPreParser;
+import org.flowable.dmn.engine.impl.el.FlowableAddDateFunctionDelegate;
+import org.flowable.dmn.engine.impl.el.FlowableContainsAnyFunctionDelegate;
+import org.flowable.dmn.engine.impl.el.RuleExpressionCondition;
+import org.flowable.dmn.engine.impl.el.util.CollectionUtil;
+import org.flowable.dmn.engine.impl.el.util.DateUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the DMN custom functions, both called directly and evaluated as an input entry expression through the
+ * expression manager of the engine, which shows the cost of the function mapping ({@link FlowableContainsAnyFunctionDelegate},
+ * {@link FlowableAddDateFunctionDelegate}, ...) on top of the function itself.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FunctionDelegateBenchmark {
+
+    @Param({ "1", "10", "100" })
+    public int collectionSize;
+
+    protected DmnBenchmarkEngine engine;
+    protected List<String> collection;
+    protected String searchedValue;
+    protected Date startDate;
+    protected Map<String, Object> variables;
+    protected RuleExpressionCondition containsAnyCondition;
+    protected RuleExpressionCondition addDateCondition;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        engine = new DmnBenchmarkEngine(null);
+
+        collection = new ArrayList<>(collectionSize);
+        for (int i = 0; i < collectionSize; i++) {
+            collection.add("K" + i);
+        }
+        // the last element is searched, so the whole collection is scanned
+        searchedValue = "K" + (collectionSize - 1);
+        startDate = DateUtil.toDate("2018-01-01");
+
+        variables = new HashMap<>();
+        variables.put("input1", collection);
+        variables.put("input2", DateUtil.addDate(startDate, 0, 0, 10));
+
+        containsAnyCondition = createCondition("${collection:containsAny(input1, \"" + searchedValue + "\")}", "input1", "string");
+        addDateCondition = createCondition("== fn_addDate(fn_date('2018-01-01'),0,0,10)", "input2", "date");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        engine.close();
+    }
+
+    protected RuleExpressionCondition createCondition(String inputEntry, String inputVariable, String inputVariableType) {
+        // input entries are parsed the same way as the ones of a deployed decision table
+        String parsedExpression = ELInputEntryExpressionPreParser.parse(inputEntry, inputVariable, inputVariableType);
+        ExpressionManager expressionManager = engine.getDmnEngineConfiguration().getExpressionManager();
+        return new RuleExpressionCondition(expressionManager.createExpression(parsedExpression));
+    }
+
+    @Benchmark
+    public boolean containsAnyDirect() {
+        // containsAny is a deprecated alias of anyOf
+        return CollectionUtil.anyOf(collection, searchedValue);
+    }
+
+    @Benchmark
+    public boolean containsAnyExpression() {
+        return containsAnyCondition.evaluate(variables);
+    }
+
+    @Benchmark
+    public Date addDateDirect() {
+        return DateUtil.addDate(startDate, 0, 0, 10);
+    }
+
+    @Benchmark
+    public boolean addDateExpression() {
+        return addDateCondition.evaluate(variables);
+    }
+}
@@ -0,0 +1,148 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.benchmark;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.dmn.api.DecisionExecutionAuditContainer;
+import org.flowable.dmn.api.DmnDecisionTable;
+import org.flowable.dmn.benchmark.DecisionTableGenerator.InputType;
+import org.flowable.dmn.engine.DmnEngineConfiguration;
+import org.flowable.dmn.engine.RuleEngineExecutor;
+import org.flowable.dmn.engine.impl.ExecuteDecisionInfo;
+import org.flowable.dmn.engine.impl.audit.DecisionExecutionAuditLevel;
+import org.flowable.dmn.engine.impl.compiler.CompiledDecisionTable;
+import org.flowable.dmn.engine.impl.persistence.deploy.DecisionTableCacheEntry;
+import org.flowable.dmn.engine.impl.util.CommandContextUtil;
+import org.flowable.dmn.model.Decision;
+import org.flowable.dmn.model.HitPolicy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the {@link RuleEngineExecutor} on its own: the decision is resolved once and {@value #BATCH_SIZE} decisions are executed
+ * in a single command, so the cost of the service layer, the command stack and the decision lookup is left out.
+ * The same table is executed interpreted, compiled into an executable rule plan, and compiled with a rule index.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RuleEngineExecutorBenchmark {
+
+    protected static final int BATCH_SIZE = 64;
+
+    public enum PlanMode {
+        INTERPRETED, COMPILED, INDEXED
+    }
+
+    @Param({ "10", "100", "1000" })
+    public int ruleCount;
+
+    @Param({ "FIRST", "COLLECT" })
+    public HitPolicy hitPolicy;
+
+    @Param({ "INTERPRETED", "COMPILED", "INDEXED" })
+    public PlanMode planMode;
+
+    @Param({ "SUMMARY", "FULL" })
+    public DecisionExecutionAuditLevel auditLevel;
+
+    protected DmnBenchmarkEngine engine;
+    protected CommandExecutor commandExecutor;
+    protected DmnDecisionTable decisionTable;
+    protected Decision decision;
+    protected CompiledDecisionTable compiledDecisionTable;
+    protected List<Map<String, Object>> variableSets;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        DecisionTableGenerator generator = new DecisionTableGenerator(ruleCount, hitPolicy, InputType.NUMBER);
+        engine = new DmnBenchmarkEngine(new DmnBenchmarkEngine.ConfigurationCustomizer() {
+
+            @Override
+            public void customize(DmnEngineConfiguration dmnEngineConfiguration) {
+                dmnEngineConfiguration.setEnableDecisionTableCompilation(planMode != PlanMode.INTERPRETED);
+                dmnEngineConfiguration.setDecisionTableIndexRuleThreshold(planMode == PlanMode.INDEXED ? 1 : -1);
+            }
+        });
+        decisionTable = engine.deploy(generator);
+        commandExecutor = engine.getDmnEngineConfiguration().getCommandExecutor();
+        variableSets = generator.createVariableSets(BATCH_SIZE);
+
+        DecisionTableCacheEntry cacheEntry = commandExecutor.execute(new Command<DecisionTableCacheEntry>() {
+
+            @Override
+            public DecisionTableCacheEntry execute(CommandContext commandContext) {
+                return CommandContextUtil.getDmnEngineConfiguration(commandContext).getDeploymentManager().resolveDecisionTable(decisionTable);
+            }
+        });
+        decision = cacheEntry.getDecision();
+        compiledDecisionTable = cacheEntry.getCompiledDecisionTable();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        engine.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void execute(final Blackhole blackhole) {
+        commandExecutor.execute(new Command<Void>() {
+
+            @Override
+            public Void execute(CommandContext commandContext) {
+                RuleEngineExecutor ruleEngineExecutor = CommandContextUtil.getDmnEngineConfiguration(commandContext).getRuleEngineExecutor();
+                for (Map<String, Object> variables : variableSets) {
+                    DecisionExecutionAuditContainer auditContainer = ruleEngineExecutor.execute(decision, createExecuteDecisionInfo(variables));
+                    blackhole.consume(auditContainer);
+                }
+                return null;
+            }
+        });
+    }
+
+    protected ExecuteDecisionInfo createExecuteDecisionInfo(Map<String, Object> variables) {
+        ExecuteDecisionInfo executeDecisionInfo = new ExecuteDecisionInfo();
+        executeDecisionInfo.setDecisionKey(decisionTable.getKey());
+        executeDecisionInfo.setDecisionDefinitionId(decisionTable.getId());
+        executeDecisionInfo.setDeploymentId(decisionTable.getDeploymentId());
+        executeDecisionInfo.setVariables(new HashMap<>(variables));
+        executeDecisionInfo.setCompiledDecisionTable(compiledDecisionTable);
+        executeDecisionInfo.setAuditLevel(auditLevel);
+        executeDecisionInfo.setHistoryEnabled(false);
+        return executeDecisionInfo;
+    }
+}
@@ -31,6 +31,7 @@ import org.flowable.common.engine.impl.cfg.BeansConfigurationHelper;
 import org.flowable.common.engine.impl.db.DbSqlSessionFactory;
 import org.flowable.common.engine.impl.el.DefaultExpressionManager;
 import org.flowable.common.engine.impl.el.ExpressionManager;
+import org.flowable.common.engine.impl.el.JuelExpressionCompiler;
 import org.flowable.common.engine.impl.interceptor.CommandInterceptor;
 import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
 import org.flowable.common.engine.impl.interceptor.SessionFactory;
@@ -50,7 +51,10 @@ import org.flowable.dmn.engine.impl.DmnRuleServiceImpl;
 import org.flowable.dmn.engine.impl.RuleEngineExecutorImpl;
 import org.flowable.dmn.engine.impl.cfg.StandaloneDmnEngineConfiguration;
 import org.flowable.dmn.engine.impl.cfg.StandaloneInMemDmnEngineConfiguration;
+import org.flowable.dmn.engine.impl.audit.AsyncDecisionExecutionHistoryWriter;
+import org.flowable.dmn.engine.impl.audit.DecisionExecutionAuditLevel;
 import org.flowable.dmn.engine.impl.cmd.SchemaOperationsDmnEngineBuild;
+import org.flowable.dmn.engine.impl.compiler.DecisionTableCompiler;
 import org.flowable.dmn.engine.impl.db.DmnDbSchemaManager;
 import org.flowable.dmn.engine.impl.db.EntityDependencyOrder;
 import org.flowable.dmn.engine.impl.deployer.CachingAndArtifactsManager;
@@ -78,6 +82,7 @@ import org.flowable.dmn.engine.impl.hitpolicy.HitPolicyPriority;
 import org.flowable.dmn.engine.impl.hitpolicy.HitPolicyRuleOrder;
 import org.flowable.dmn.engine.impl.hitpolicy.HitPolicyUnique;
 import org.flowable.dmn.engine.impl.parser.DmnParseFactory;
+import org.flowable.dmn.engine.impl.persistence.deploy.DecisionResultCache;
 import org.flowable.dmn.engine.impl.persistence.deploy.DecisionTableCacheEntry;
 import org.flowable.dmn.engine.impl.persistence.deploy.Deployer;
 import org.flowable.dmn.engine.impl.persistence.deploy.DeploymentManager;
@@ -137,6 +142,11 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration
 
     // EXPRESSION MANAGER /////////////////////////////////////////////
     protected ExpressionManager expressionManager;
+    protected int expressionCompilationThreshold = -1; // negative value to never compile expressions
+    protected boolean enableExpressionPreParsing = true; // parse the rule entries when a decision table is deployed or cached instead of on every execution
+    protected boolean enableDecisionTableCompilation = true; // compile decision tables into an executable plan when they are deployed or cached
+    protected int decisionTableIndexRuleThreshold = 32; // index the rules of compiled decision tables with at least this number of rules, negative value to never index
+    protected DecisionTableCompiler decisionTableCompiler;
     protected List<FlowableFunctionDelegate> flowableFunctionDelegates;
     protected List<FlowableFunctionDelegate> customFlowableFunctionDelegates;
 
@@ -154,10 +164,21 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration
     protected DeploymentManager deploymentManager;
 
     protected boolean historyEnabled;
+    protected DecisionExecutionAuditLevel decisionExecutionAuditLevel = DecisionExecutionAuditLevel.FULL;
+    protected double decisionExecutionAuditSampleRatio = 0.01; // ratio of the executions audited with the full level when the sampled audit level is used
+    protected boolean asyncHistoryEnabled; // insert the historic decision executions in the background instead of in the transaction of the execution
+    protected int asyncHistoryBatchSize = 100;
+    protected int asyncHistoryQueueCapacity = 10000; // maximum number of historic decision executions waiting to be inserted
+    protected long asyncHistoryQueueFullWaitTime = 1000L; // milliseconds a committing thread waits for room in a full queue before the execution is dropped
+    protected AsyncDecisionExecutionHistoryWriter asyncDecisionExecutionHistoryWriter;
 
     protected int decisionCacheLimit = -1; // By default, no limit
     protected DeploymentCache<DecisionTableCacheEntry> decisionCache;
 
+    protected Set<String> decisionResultCacheDecisionKeys; // keys of the decisions of which the results are cached, by default none
+    protected int decisionResultCacheLimit = 1000;
+    protected DecisionResultCache decisionResultCache;
+
     protected ObjectMapper objectMapper = new ObjectMapper();
 
     // HIT POLICIES
@@ -255,6 +276,9 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration
         initClock();
         initHitPolicyBehaviors();
         initRuleEngineExecutor();
+        initDecisionResultCache();
+        initDecisionTableCompiler();
+        initAsyncDecisionExecutionHistoryWriter();
     }
 
     // services
@@ -397,7 +421,11 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration
 
     public void initExpressionManager() {
         if (expressionManager == null) {
-            expressionManager = new DefaultExpressionManager(beans);
+            DefaultExpressionManager defaultExpressionManager = new DefaultExpressionManager(beans);
+            if (expressionCompilationThreshold >= 0) {
+                defaultExpressionManager.setExpressionCompiler(new JuelExpressionCompiler(expressionCompilationThreshold));
+            }
+            expressionManager = defaultExpressionManager;
         }
 
         expressionManager.setFunctionDelegates(flowableFunctionDelegates);
@@ -550,6 +578,27 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration
     }
 
 
+    public void initDecisionTableCompiler() {
+        if (decisionTableCompiler == null) {
+            decisionTableCompiler = new DecisionTableCompiler(expressionManager, hitPolicyBehaviors);
+            decisionTableCompiler.setIndexRuleThreshold(decisionTableIndexRuleThreshold);
+            decisionTableCompiler.setDecisionResultCache(decisionResultCache);
+        }
+    }
+
+    public void initDecisionResultCache() {
+        if (decisionResultCache == null && decisionResultCacheDecisionKeys != null && !decisionResultCacheDecisionKeys.isEmpty()) {
+            decisionResultCache = new DecisionResultCache(decisionResultCacheDecisionKeys, decisionResultCacheLimit);
+        }
+    }
+
+    public void initAsyncDecisionExecutionHistoryWriter() {
+        if (asyncHistoryEnabled && asyncDecisionExecutionHistoryWriter == null) {
+            asyncDecisionExecutionHistoryWriter = new AsyncDecisionExecutionHistoryWriter(this, asyncHistoryBatchSize,
+                    asyncHistoryQueueCapacity, asyncHistoryQueueFullWaitTime);
+        }
+    }
+
     // getters and setters
     // //////////////////////////////////////////////////////
 
@@ -721,6 +770,51 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration
         return this;
     }
 
+    public int getExpressionCompilationThreshold() {
+        return expressionCompilationThreshold;
+    }
+
+    public DmnEngineConfiguration setExpressionCompilationThreshold(int expressionCompilationThreshold) {
+        this.expressionCompilationThreshold = expressionCompilationThreshold;
+        return this;
+    }
+
+    public boolean isEnableExpressionPreParsing() {
+        return enableExpressionPreParsing;
+    }
+
+    public DmnEngineConfiguration setEnableExpressionPreParsing(boolean enableExpressionPreParsing) {
+        this.enableExpressionPreParsing = enableExpressionPreParsing;
+        return this;
+    }
+
+    public boolean isEnableDecisionTableCompilation() {
+        return enableDecisionTableCompilation;
+    }
+
+    public DmnEngineConfiguration setEnableDecisionTableCompilation(boolean enableDecisionTableCompilation) {
+        this.enableDecisionTableCompilation = enableDecisionTableCompilation;
+        return this;
+    }
+
+    public int getDecisionTableIndexRuleThreshold() {
+        return decisionTableIndexRuleThreshold;
+    }
+
+    public DmnEngineConfiguration setDecisionTableIndexRuleThreshold(int decisionTableIndexRuleThreshold) {
+        this.decisionTableIndexRuleThreshold = decisionTableIndexRuleThreshold;
+        return this;
+    }
+
+    public DecisionTableCompiler getDecisionTableCompiler() {
+        return decisionTableCompiler;
+    }
+
+    public DmnEngineConfiguration setDecisionTableCompiler(DecisionTableCompiler decisionTableCompiler) {
+        this.decisionTableCompiler = decisionTableCompiler;
+        return this;
+    }
+
     public List<FlowableFunctionDelegate> getFlowableFunctionDelegates() {
         return flowableFunctionDelegates;
     }
@@ -766,6 +860,96 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration
         return this;
     }
 
+    public DecisionExecutionAuditLevel getDecisionExecutionAuditLevel() {
+        return decisionExecutionAuditLevel;
+    }
+
+    public DmnEngineConfiguration setDecisionExecutionAuditLevel(DecisionExecutionAuditLevel decisionExecutionAuditLevel) {
+        this.decisionExecutionAuditLevel = decisionExecutionAuditLevel;
+        return this;
+    }
+
+    public double getDecisionExecutionAuditSampleRatio() {
+        return decisionExecutionAuditSampleRatio;
+    }
+
+    public DmnEngineConfiguration setDecisionExecutionAuditSampleRatio(double decisionExecutionAuditSampleRatio) {
+        this.decisionExecutionAuditSampleRatio = decisionExecutionAuditSampleRatio;
+        return this;
+    }
+
+    public boolean isAsyncHistoryEnabled() {
+        return asyncHistoryEnabled;
+    }
+
+    public DmnEngineConfiguration setAsyncHistoryEnabled(boolean asyncHistoryEnabled) {
+        this.asyncHistoryEnabled = asyncHistoryEnabled;
+        return this;
+    }
+
+    public int getAsyncHistoryBatchSize() {
+        return asyncHistoryBatchSize;
+    }
+
+    public DmnEngineConfiguration setAsyncHistoryBatchSize(int asyncHistoryBatchSize) {
+        this.asyncHistoryBatchSize = asyncHistoryBatchSize;
+        return this;
+    }
+
+    public int getAsyncHistoryQueueCapacity() {
+        return asyncHistoryQueueCapacity;
+    }
+
+    public DmnEngineConfiguration setAsyncHistoryQueueCapacity(int asyncHistoryQueueCapacity) {
+        this.asyncHistoryQueueCapacity = asyncHistoryQueueCapacity;
+        return this;
+    }
+
+    public long getAsyncHistoryQueueFullWaitTime() {
+        return asyncHistoryQueueFullWaitTime;
+    }
+
+    public DmnEngineConfiguration setAsyncHistoryQueueFullWaitTime(long asyncHistoryQueueFullWaitTime) {
+        this.asyncHistoryQueueFullWaitTime = asyncHistoryQueueFullWaitTime;
+        return this;
+    }
+
+    public Set<String> getDecisionResultCacheDecisionKeys() {
+        return decisionResultCacheDecisionKeys;
+    }
+
+    public DmnEngineConfiguration setDecisionResultCacheDecisionKeys(Set<String> decisionResultCacheDecisionKeys) {
+        this.decisionResultCacheDecisionKeys = decisionResultCacheDecisionKeys;
+        return this;
+    }
+
+    public int getDecisionResultCacheLimit() {
+        return decisionResultCacheLimit;
+    }
+
+    public DmnEngineConfiguration setDecisionResultCacheLimit(int decisionResultCacheLimit) {
+        this.decisionResultCacheLimit = decisionResultCacheLimit;
+        return this;
+    }
+
+    public DecisionResultCache getDecisionResultCache() {
+        return decisionResultCache;
+    }
+
+    public DmnEngineConfiguration setDecisionResultCache(DecisionResultCache decisionResultCache) {
+        this.decisionResultCache = decisionResultCache;
+        return this;
+    }
+
+    public AsyncDecisionExecutionHistoryWriter getAsyncDecisionExecutionHistoryWriter() {
+        return asyncDecisionExecutionHistoryWriter;
+    }
+
+    public DmnEngineConfiguration setAsyncDecisionExecutionHistoryWriter(AsyncDecisionExecutionHistoryWriter asyncDecisionExecutionHistoryWriter) {
+        this.asyncDecisionExecutionHistoryWriter = asyncDecisionExecutionHistoryWriter;
+        return this;
+    }
+
     public int getDecisionCacheLimit() {
         return decisionCacheLimit;
     }
@@ -28,6 +28,11 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 public interface RuleEngineExecutor {
 
     DecisionExecutionAuditContainer execute(Decision decision, ExecuteDecisionInfo executeDecisionInfo);
+
+    /**
+     * Stores the historic decision execution of an execution of which the history was not recorded by {@link #execute(Decision, ExecuteDecisionInfo)}.
+     */
+    void recordDecisionExecution(ExecuteDecisionInfo executeDecisionInfo, DecisionExecutionAuditContainer auditContainer);
     
     Map<String, AbstractHitPolicy> getHitPolicyBehaviors();
 
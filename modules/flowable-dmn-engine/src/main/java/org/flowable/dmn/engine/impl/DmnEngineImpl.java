@@ -60,6 +60,10 @@ public class DmnEngineImpl implements DmnEngine {
     @Override
     public void close() {
         DmnEngines.unregister(this);
+
+        if (dmnEngineConfiguration.getAsyncDecisionExecutionHistoryWriter() != null) {
+            dmnEngineConfiguration.getAsyncDecisionExecutionHistoryWriter().shutdown();
+        }
     }
 
     // getters and setters
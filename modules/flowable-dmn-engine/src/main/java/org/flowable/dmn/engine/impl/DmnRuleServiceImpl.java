@@ -18,8 +18,11 @@ import java.util.Map;
 import org.flowable.common.engine.impl.service.CommonEngineServiceImpl;
 import org.flowable.dmn.api.DecisionExecutionAuditContainer;
 import org.flowable.dmn.api.DmnRuleService;
+import org.flowable.dmn.api.ExecuteDecisionBatchBuilder;
 import org.flowable.dmn.api.ExecuteDecisionBuilder;
 import org.flowable.dmn.engine.DmnEngineConfiguration;
+import org.flowable.dmn.engine.impl.audit.DecisionExecutionAuditLevel;
+import org.flowable.dmn.engine.impl.cmd.ExecuteDecisionBatchCmd;
 import org.flowable.dmn.engine.impl.cmd.ExecuteDecisionCmd;
 import org.flowable.dmn.engine.impl.cmd.ExecuteDecisionSingleResultCmd;
 import org.flowable.dmn.engine.impl.cmd.ExecuteDecisionWithAuditTrailCmd;
@@ -33,6 +36,11 @@ public class DmnRuleServiceImpl extends CommonEngineServiceImpl<DmnEngineConfigu
     public ExecuteDecisionBuilder createExecuteDecisionBuilder() {
         return new ExecuteDecisionBuilderImpl(this);
     }
+
+    @Override
+    public ExecuteDecisionBatchBuilder createExecuteDecisionBatchBuilder() {
+        return new ExecuteDecisionBatchBuilderImpl(this);
+    }
     
     @Override
     @Deprecated
@@ -117,4 +125,12 @@ public class DmnRuleServiceImpl extends CommonEngineServiceImpl<DmnEngineConfigu
     public DecisionExecutionAuditContainer executeDecisionWithAuditTrail(ExecuteDecisionBuilderImpl executeDecisionBuilder) {
         return commandExecutor.execute(new ExecuteDecisionWithAuditTrailCmd(executeDecisionBuilder));
     }
+
+    public List<DecisionExecutionAuditContainer> executeDecisionBatch(ExecuteDecisionBatchBuilderImpl executeDecisionBatchBuilder, List<Map<String, Object>> variables) {
+        return commandExecutor.execute(new ExecuteDecisionBatchCmd(executeDecisionBatchBuilder, variables));
+    }
+
+    public List<DecisionExecutionAuditContainer> executeDecisionBatchWithAuditTrail(ExecuteDecisionBatchBuilderImpl executeDecisionBatchBuilder, List<Map<String, Object>> variables) {
+        return commandExecutor.execute(new ExecuteDecisionBatchCmd(executeDecisionBatchBuilder, variables, DecisionExecutionAuditLevel.FULL));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,162 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.dmn.api.DecisionExecutionAuditContainer;
+import org.flowable.dmn.api.ExecuteDecisionBatchBuilder;
+
+public class ExecuteDecisionBatchBuilderImpl implements ExecuteDecisionBatchBuilder {
+
+    protected DmnRuleServiceImpl ruleService;
+
+    protected String decisionKey;
+    protected String parentDeploymentId;
+    protected String tenantId;
+    protected boolean fallbackToDefaultTenant;
+    protected List<Map<String, Object>> variables = new ArrayList<>();
+    protected int parallelism = 1;
+    protected boolean historyEnabled = true;
+
+    public ExecuteDecisionBatchBuilderImpl(DmnRuleServiceImpl ruleService) {
+        this.ruleService = ruleService;
+    }
+
+    @Override
+    public ExecuteDecisionBatchBuilder decisionKey(String decisionKey) {
+        this.decisionKey = decisionKey;
+        return this;
+    }
+
+    @Override
+    public ExecuteDecisionBatchBuilder parentDeploymentId(String parentDeploymentId) {
+        this.parentDeploymentId = parentDeploymentId;
+        return this;
+    }
+
+    @Override
+    public ExecuteDecisionBatchBuilder tenantId(String tenantId) {
+        this.tenantId = tenantId;
+        return this;
+    }
+
+    @Override
+    public ExecuteDecisionBatchBuilder fallbackToDefaultTenant() {
+        this.fallbackToDefaultTenant = true;
+        return this;
+    }
+
+    @Override
+    public ExecuteDecisionBatchBuilder addVariables(Map<String, Object> variables) {
+        this.variables.add(variables);
+        return this;
+    }
+
+    @Override
+    public ExecuteDecisionBatchBuilder variables(Collection<Map<String, Object>> variables) {
+        if (variables != null) {
+            this.variables.addAll(variables);
+        }
+        return this;
+    }
+
+    @Override
+    public ExecuteDecisionBatchBuilder parallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new FlowableIllegalArgumentException("parallelism must be at least 1");
+        }
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    @Override
+    public ExecuteDecisionBatchBuilder disableHistory() {
+        this.historyEnabled = false;
+        return this;
+    }
+
+    @Override
+    public List<List<Map<String, Object>>> execute() {
+        return getDecisionResults(ruleService.executeDecisionBatch(this, variables));
+    }
+
+    @Override
+    public List<DecisionExecutionAuditContainer> executeWithAuditTrail() {
+        return ruleService.executeDecisionBatchWithAuditTrail(this, variables);
+    }
+
+    @Override
+    public void execute(Stream<Map<String, Object>> variablesStream, int batchSize, BiConsumer<Map<String, Object>, List<Map<String, Object>>> resultHandler) {
+        if (batchSize < 1) {
+            throw new FlowableIllegalArgumentException("batchSize must be at least 1");
+        }
+
+        List<Map<String, Object>> batch = new ArrayList<>(batchSize);
+        Iterator<Map<String, Object>> variablesIterator = variablesStream.iterator();
+        while (variablesIterator.hasNext()) {
+            batch.add(variablesIterator.next());
+            if (batch.size() == batchSize || !variablesIterator.hasNext()) {
+                List<List<Map<String, Object>>> decisionResults = getDecisionResults(ruleService.executeDecisionBatch(this, batch));
+                for (int i = 0; i < batch.size(); i++) {
+                    resultHandler.accept(batch.get(i), decisionResults.get(i));
+                }
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+    }
+
+    protected List<List<Map<String, Object>>> getDecisionResults(List<DecisionExecutionAuditContainer> executionResults) {
+        List<List<Map<String, Object>>> decisionResults = new ArrayList<>(executionResults.size());
+        for (DecisionExecutionAuditContainer executionResult : executionResults) {
+            decisionResults.add(executionResult != null ? executionResult.getDecisionResult() : null);
+        }
+        return decisionResults;
+    }
+
+    public String getDecisionKey() {
+        return decisionKey;
+    }
+
+    public String getParentDeploymentId() {
+        return parentDeploymentId;
+    }
+
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    public boolean isFallbackToDefaultTenant() {
+        return fallbackToDefaultTenant;
+    }
+
+    public List<Map<String, Object>> getVariables() {
+        return variables;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public boolean isHistoryEnabled() {
+        return historyEnabled;
+    }
+
+}
@@ -14,6 +14,9 @@ package org.flowable.dmn.engine.impl;
 
 import java.util.Map;
 
+import org.flowable.dmn.engine.impl.audit.DecisionExecutionAuditLevel;
+import org.flowable.dmn.engine.impl.compiler.CompiledDecisionTable;
+
 public class ExecuteDecisionInfo {
 
     protected String decisionKey;
@@ -27,6 +30,9 @@ public class ExecuteDecisionInfo {
     protected Map<String, Object> variables;
     protected String tenantId;
     protected boolean fallbackToDefaultTenant;
+    protected CompiledDecisionTable compiledDecisionTable;
+    protected boolean historyEnabled = true;
+    protected DecisionExecutionAuditLevel auditLevel; // null to use the audit level of the engine configuration
     
     public String getDecisionKey() {
         return decisionKey;
@@ -94,4 +100,22 @@ public class ExecuteDecisionInfo {
     public void setFallbackToDefaultTenant(boolean fallbackToDefaultTenant) {
         this.fallbackToDefaultTenant = fallbackToDefaultTenant;
     }
+    public CompiledDecisionTable getCompiledDecisionTable() {
+        return compiledDecisionTable;
+    }
+    public void setCompiledDecisionTable(CompiledDecisionTable compiledDecisionTable) {
+        this.compiledDecisionTable = compiledDecisionTable;
+    }
+    public boolean isHistoryEnabled() {
+        return historyEnabled;
+    }
+    public void setHistoryEnabled(boolean historyEnabled) {
+        this.historyEnabled = historyEnabled;
+    }
+    public DecisionExecutionAuditLevel getAuditLevel() {
+        return auditLevel;
+    }
+    public void setAuditLevel(DecisionExecutionAuditLevel auditLevel) {
+        this.auditLevel = auditLevel;
+    }
 }
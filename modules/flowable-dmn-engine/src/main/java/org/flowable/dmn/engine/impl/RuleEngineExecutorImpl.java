@@ -12,9 +12,14 @@
  */
 package org.flowable.dmn.engine.impl;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
 
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -23,15 +28,30 @@ import org.flowable.common.engine.impl.el.ExpressionManager;
 import org.flowable.dmn.api.DecisionExecutionAuditContainer;
 import org.flowable.dmn.engine.DmnEngineConfiguration;
 import org.flowable.dmn.engine.RuleEngineExecutor;
+import org.flowable.dmn.engine.impl.audit.AsyncDecisionExecutionHistoryWriter;
+import org.flowable.dmn.engine.impl.audit.DecisionExecutionAuditLevel;
+import org.flowable.dmn.engine.impl.audit.DecisionExecutionAuditUtil;
+import org.flowable.dmn.engine.impl.compiler.CompiledDecisionTable;
+import org.flowable.dmn.engine.impl.compiler.CompiledInputEntry;
+import org.flowable.dmn.engine.impl.compiler.CompiledOutputEntry;
+import org.flowable.dmn.engine.impl.compiler.CompiledRule;
+import org.flowable.dmn.engine.impl.compiler.DecisionTableIndex;
 import org.flowable.dmn.engine.impl.el.ELExecutionContext;
 import org.flowable.dmn.engine.impl.el.ELExecutionContextBuilder;
 import org.flowable.dmn.engine.impl.el.ELExpressionExecutor;
 import org.flowable.dmn.engine.impl.el.ExecutionVariableFactory;
 import org.flowable.dmn.engine.impl.hitpolicy.AbstractHitPolicy;
-import org.flowable.dmn.engine.impl.hitpolicy.ComposeDecisionResultBehavior;
-import org.flowable.dmn.engine.impl.hitpolicy.ComposeRuleResultBehavior;
-import org.flowable.dmn.engine.impl.hitpolicy.ContinueEvaluatingBehavior;
 import org.flowable.dmn.engine.impl.hitpolicy.EvaluateRuleValidityBehavior;
+import org.flowable.dmn.engine.impl.hitpolicy.HitPolicyAny;
+import org.flowable.dmn.engine.impl.hitpolicy.HitPolicyCollect;
+import org.flowable.dmn.engine.impl.hitpolicy.HitPolicyFirst;
+import org.flowable.dmn.engine.impl.hitpolicy.HitPolicyOutputOrder;
+import org.flowable.dmn.engine.impl.hitpolicy.HitPolicyPriority;
+import org.flowable.dmn.engine.impl.hitpolicy.HitPolicyRuleOrder;
+import org.flowable.dmn.engine.impl.hitpolicy.HitPolicyUnique;
+import org.flowable.dmn.engine.impl.persistence.deploy.DecisionResultCache;
+import org.flowable.dmn.engine.impl.persistence.deploy.DecisionResultCache.CacheKey;
+import org.flowable.dmn.engine.impl.persistence.deploy.DecisionResultCache.CachedDecisionResult;
 import org.flowable.dmn.engine.impl.persistence.entity.HistoricDecisionExecutionEntity;
 import org.flowable.dmn.engine.impl.persistence.entity.HistoricDecisionExecutionEntityManager;
 import org.flowable.dmn.engine.impl.util.CommandContextUtil;
@@ -54,6 +74,9 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(RuleEngineExecutorImpl.class);
 
+    protected static final Set<Class<?>> INDEXED_HIT_POLICY_BEHAVIORS = new HashSet<>(Arrays.<Class<?>>asList(HitPolicyUnique.class, HitPolicyAny.class,
+            HitPolicyFirst.class, HitPolicyRuleOrder.class, HitPolicyPriority.class, HitPolicyOutputOrder.class, HitPolicyCollect.class));
+
     protected Map<String, AbstractHitPolicy> hitPolicyBehaviors;
     protected ExpressionManager expressionManager;
     protected ObjectMapper objectMapper;
@@ -84,14 +107,52 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
 
         DecisionTable currentDecisionTable = (DecisionTable) decision.getExpression();
 
+        // use the plan compiled when the decision table was deployed, if it was compiled for this decision
+        CompiledDecisionTable compiledDecisionTable = executeDecisionInfo.getCompiledDecisionTable();
+        if (compiledDecisionTable != null && compiledDecisionTable.getDecision() != decision) {
+            compiledDecisionTable = null;
+        }
+
+        // the resolved audit level is kept, so the history of this execution can be recorded later on
+        DecisionExecutionAuditLevel auditLevel = resolveAuditLevel(executeDecisionInfo.getAuditLevel());
+        executeDecisionInfo.setAuditLevel(auditLevel);
+
+        // the result cache is not used when the complete audit trail is requested or recorded
+        DecisionResultCache decisionResultCache = null;
+        CacheKey resultCacheKey = null;
+        if (compiledDecisionTable != null && compiledDecisionTable.getResultCacheInputNames() != null
+                && auditLevel != DecisionExecutionAuditLevel.FULL) {
+            decisionResultCache = CommandContextUtil.getDmnEngineConfiguration().getDecisionResultCache();
+            if (decisionResultCache != null) {
+                resultCacheKey = decisionResultCache.createKey(decision.getId(), executeDecisionInfo.getDecisionDefinitionId(),
+                        compiledDecisionTable.getResultCacheInputNames(), executeDecisionInfo.getVariables());
+            }
+        }
+
+        if (resultCacheKey != null) {
+            CachedDecisionResult cachedDecisionResult = decisionResultCache.get(resultCacheKey);
+            if (cachedDecisionResult != null) {
+                return createCachedDecisionExecution(decision, executeDecisionInfo, cachedDecisionResult);
+            }
+        }
+
         // create execution context and audit trail
-        ELExecutionContext executionContext = ELExecutionContextBuilder.build(decision, executeDecisionInfo.getVariables());
+        ELExecutionContext executionContext;
+        if (compiledDecisionTable != null) {
+            executionContext = ELExecutionContextBuilder.build(compiledDecisionTable, executeDecisionInfo.getVariables(), auditLevel);
+        } else {
+            executionContext = ELExecutionContextBuilder.build(decision, executeDecisionInfo.getVariables(), auditLevel);
+        }
 
         try {
             sanityCheckDecisionTable(currentDecisionTable);
 
-            // evaluate decision table
-            evaluateDecisionTable(currentDecisionTable, executionContext);
+            // evaluate decision table, without a compiled plan the entries are parsed when they are evaluated
+            if (compiledDecisionTable != null) {
+                evaluateDecisionTable(compiledDecisionTable, executionContext);
+            } else {
+                evaluateDecisionTable(createInterpretedDecisionTable(decision), executionContext);
+            }
 
         } catch (FlowableException fe) {
             LOGGER.error("decision table execution sanity check failed", fe);
@@ -102,84 +163,175 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
             // end audit trail
             executionContext.getAuditContainer().stopAudit();
 
-            DmnEngineConfiguration dmnEngineConfiguration = CommandContextUtil.getDmnEngineConfiguration();
-            if (dmnEngineConfiguration.isHistoryEnabled()) {
-                HistoricDecisionExecutionEntityManager historicDecisionExecutionEntityManager = dmnEngineConfiguration.getHistoricDecisionExecutionEntityManager();
-                HistoricDecisionExecutionEntity decisionExecutionEntity = historicDecisionExecutionEntityManager.create();
-                decisionExecutionEntity.setDecisionDefinitionId(executeDecisionInfo.getDecisionDefinitionId());
-                decisionExecutionEntity.setDeploymentId(executeDecisionInfo.getDeploymentId());
-                decisionExecutionEntity.setStartTime(executionContext.getAuditContainer().getStartTime());
-                decisionExecutionEntity.setEndTime(executionContext.getAuditContainer().getEndTime());
-                decisionExecutionEntity.setInstanceId(executeDecisionInfo.getInstanceId());
-                decisionExecutionEntity.setExecutionId(executeDecisionInfo.getExecutionId());
-                decisionExecutionEntity.setActivityId(executeDecisionInfo.getActivityId());
-                decisionExecutionEntity.setScopeType(executeDecisionInfo.getScopeType());
-                decisionExecutionEntity.setTenantId(executeDecisionInfo.getTenantId());
-
-                Boolean failed = executionContext.getAuditContainer().isFailed();
-                if (BooleanUtils.isTrue(failed)) {
-                    decisionExecutionEntity.setFailed(failed.booleanValue());
-                }
+            if (executeDecisionInfo.isHistoryEnabled()) {
+                recordDecisionExecution(executeDecisionInfo, executionContext.getAuditContainer());
+            }
+        }
 
-                try {
-                    decisionExecutionEntity.setExecutionJson(objectMapper.writeValueAsString(executionContext.getAuditContainer()));
-                } catch (Exception e) {
-                    throw new FlowableException("Error writing execution json", e);
-                }
+        DecisionExecutionAuditContainer auditContainer = executionContext.getAuditContainer();
+        if (resultCacheKey != null && !BooleanUtils.isTrue(auditContainer.isFailed()) && auditContainer.getValidationMessage() == null) {
+            decisionResultCache.put(resultCacheKey, auditContainer);
+        }
+
+        return auditContainer;
+    }
+
+    /**
+     * Creates the audit container of an execution of which the result was cached: it only contains the decision result.
+     */
+    protected DecisionExecutionAuditContainer createCachedDecisionExecution(Decision decision, ExecuteDecisionInfo executeDecisionInfo,
+            CachedDecisionResult cachedDecisionResult) {
 
-                historicDecisionExecutionEntityManager.insert(decisionExecutionEntity);
+        DecisionExecutionAuditContainer auditContainer = DecisionExecutionAuditUtil.initializeRuleExecutionAudit(decision,
+                executeDecisionInfo.getVariables(), executeDecisionInfo.getAuditLevel());
+        cachedDecisionResult.addTo(auditContainer);
+        auditContainer.stopAudit();
+
+        if (executeDecisionInfo.isHistoryEnabled()) {
+            recordDecisionExecution(executeDecisionInfo, auditContainer);
+        }
+        return auditContainer;
+    }
+
+    @Override
+    public void recordDecisionExecution(ExecuteDecisionInfo executeDecisionInfo, DecisionExecutionAuditContainer auditContainer) {
+        DmnEngineConfiguration dmnEngineConfiguration = CommandContextUtil.getDmnEngineConfiguration();
+        if (dmnEngineConfiguration.isHistoryEnabled() && executeDecisionInfo.getAuditLevel() != DecisionExecutionAuditLevel.NONE) {
+            HistoricDecisionExecutionEntityManager historicDecisionExecutionEntityManager = dmnEngineConfiguration.getHistoricDecisionExecutionEntityManager();
+            HistoricDecisionExecutionEntity decisionExecutionEntity = historicDecisionExecutionEntityManager.create();
+            decisionExecutionEntity.setDecisionDefinitionId(executeDecisionInfo.getDecisionDefinitionId());
+            decisionExecutionEntity.setDeploymentId(executeDecisionInfo.getDeploymentId());
+            decisionExecutionEntity.setStartTime(auditContainer.getStartTime());
+            decisionExecutionEntity.setEndTime(auditContainer.getEndTime());
+            decisionExecutionEntity.setInstanceId(executeDecisionInfo.getInstanceId());
+            decisionExecutionEntity.setExecutionId(executeDecisionInfo.getExecutionId());
+            decisionExecutionEntity.setActivityId(executeDecisionInfo.getActivityId());
+            decisionExecutionEntity.setScopeType(executeDecisionInfo.getScopeType());
+            decisionExecutionEntity.setTenantId(executeDecisionInfo.getTenantId());
+
+            Boolean failed = auditContainer.isFailed();
+            if (BooleanUtils.isTrue(failed)) {
+                decisionExecutionEntity.setFailed(failed.booleanValue());
+            }
+
+            AsyncDecisionExecutionHistoryWriter asyncHistoryWriter = dmnEngineConfiguration.getAsyncDecisionExecutionHistoryWriter();
+            if (asyncHistoryWriter != null) {
+                asyncHistoryWriter.write(decisionExecutionEntity, auditContainer);
+                return;
+            }
+
+            try {
+                decisionExecutionEntity.setExecutionJson(objectMapper.writeValueAsString(auditContainer));
+            } catch (Exception e) {
+                throw new FlowableException("Error writing execution json", e);
             }
+
+            historicDecisionExecutionEntityManager.insert(decisionExecutionEntity);
+        }
+    }
+
+    protected DecisionExecutionAuditLevel resolveAuditLevel(DecisionExecutionAuditLevel auditLevel) {
+        DmnEngineConfiguration dmnEngineConfiguration = CommandContextUtil.getDmnEngineConfiguration();
+        if (auditLevel == null) {
+            auditLevel = dmnEngineConfiguration.getDecisionExecutionAuditLevel();
         }
 
-        return executionContext.getAuditContainer();
+        if (auditLevel == null) {
+            return DecisionExecutionAuditLevel.FULL;
+
+        } else if (auditLevel == DecisionExecutionAuditLevel.SAMPLED) {
+            if (ThreadLocalRandom.current().nextDouble() < dmnEngineConfiguration.getDecisionExecutionAuditSampleRatio()) {
+                return DecisionExecutionAuditLevel.FULL;
+            }
+            return DecisionExecutionAuditLevel.SUMMARY;
+        }
+
+        return auditLevel;
     }
 
-    protected void evaluateDecisionTable(DecisionTable decisionTable, ELExecutionContext executionContext) {
-        LOGGER.debug("Start table evaluation: {}", decisionTable.getId());
+    /**
+     * Creates a plan of which none of the entries is parsed, so the interpreted execution uses the same evaluation as the compiled one.
+     */
+    protected CompiledDecisionTable createInterpretedDecisionTable(Decision decision) {
+        DecisionTable decisionTable = (DecisionTable) decision.getExpression();
+        List<CompiledRule> rules = new ArrayList<>(decisionTable.getRules().size());
+        for (DecisionRule rule : decisionTable.getRules()) {
+            List<CompiledInputEntry> inputEntries = new ArrayList<>(rule.getInputEntries().size());
+            for (RuleInputClauseContainer inputContainer : rule.getInputEntries()) {
+                String inputEntryText = inputContainer.getInputEntry().getText();
+                inputEntries.add(new CompiledInputEntry(inputContainer, StringUtils.isEmpty(inputEntryText) || "-".equals(inputEntryText), null, null));
+            }
 
-        if (decisionTable == null || decisionTable.getRules().isEmpty()) {
-            throw new IllegalArgumentException("no rules present in table");
+            List<CompiledOutputEntry> outputEntries = new ArrayList<>(rule.getOutputEntries().size());
+            for (RuleOutputClauseContainer outputContainer : rule.getOutputEntries()) {
+                outputEntries.add(new CompiledOutputEntry(outputContainer, StringUtils.isEmpty(outputContainer.getOutputEntry().getText()), null));
+            }
+
+            rules.add(new CompiledRule(rule, inputEntries, outputEntries));
         }
+        return new CompiledDecisionTable(decision, null, rules, null, null);
+    }
 
-        if (executionContext == null) {
-            throw new FlowableException("no execution context available");
+    protected void evaluateDecisionTable(CompiledDecisionTable compiledDecisionTable, ELExecutionContext executionContext) {
+        DecisionTable decisionTable = compiledDecisionTable.getDecisionTable();
+        LOGGER.debug("Start table evaluation: {}", decisionTable.getId());
+
+        if (compiledDecisionTable.getRules().isEmpty()) {
+            throw new IllegalArgumentException("no rules present in table");
         }
 
         try {
-            // evaluate rule conditions
-            Map<Integer, List<RuleOutputClauseContainer>> validRuleOutputEntries = new HashMap<>();
+            AbstractHitPolicy hitPolicyBehavior = compiledDecisionTable.getHitPolicyBehavior();
+            if (hitPolicyBehavior == null) {
+                hitPolicyBehavior = getHitPolicyBehavior(decisionTable.getHitPolicy());
+            }
+
+            // when the decision table is indexed, only the rules that can be valid are evaluated
+            BitSet candidateRules = null;
+            DecisionTableIndex index = compiledDecisionTable.getIndex();
+            if (index != null && isIndexedEvaluationSupported(hitPolicyBehavior)) {
+                candidateRules = index.findCandidateRules(executionContext.getStackVariables());
+            }
 
-            for (DecisionRule rule : decisionTable.getRules()) {
+            // evaluate rule conditions, the valid rules are kept in rule order
+            List<CompiledRule> rules = compiledDecisionTable.getRules();
+            List<CompiledRule> validRules = new ArrayList<>();
+
+            int ruleIndex = candidateRules != null ? candidateRules.nextSetBit(0) : 0;
+            for (; ruleIndex >= 0 && ruleIndex < rules.size(); ruleIndex = candidateRules != null ? candidateRules.nextSetBit(ruleIndex + 1) : ruleIndex + 1) {
+                CompiledRule rule = rules.get(ruleIndex);
                 boolean ruleResult = executeRule(rule, executionContext);
 
                 if (ruleResult) {
                     // evaluate decision table hit policy validity
-                    if (getHitPolicyBehavior(decisionTable.getHitPolicy()) instanceof EvaluateRuleValidityBehavior) {
-                        ((EvaluateRuleValidityBehavior) getHitPolicyBehavior(decisionTable.getHitPolicy())).evaluateRuleValidity(rule.getRuleNumber(), executionContext);
+                    if (hitPolicyBehavior instanceof EvaluateRuleValidityBehavior) {
+                        ((EvaluateRuleValidityBehavior) hitPolicyBehavior).evaluateRuleValidity(rule.getRuleNumber(), executionContext);
                     }
 
                     // add valid rule output(s)
-                    validRuleOutputEntries.put(rule.getRuleNumber(), rule.getOutputEntries());
+                    validRules.add(rule);
                 }
 
                 // should continue evaluating
-                if (getHitPolicyBehavior(decisionTable.getHitPolicy()) instanceof ContinueEvaluatingBehavior) {
-                    if (getHitPolicyBehavior(decisionTable.getHitPolicy()).shouldContinueEvaluating(ruleResult) == false) {
-                        LOGGER.debug("Stopping execution; hit policy {} specific behaviour", decisionTable.getHitPolicy());
-                        break;
-                    }
+                if (!hitPolicyBehavior.shouldContinueEvaluating(ruleResult)) {
+                    LOGGER.debug("Stopping execution; hit policy {} specific behaviour", decisionTable.getHitPolicy());
+                    break;
                 }
             }
 
             // compose rule conclusions
-            for (Map.Entry<Integer, List<RuleOutputClauseContainer>> entry : validRuleOutputEntries.entrySet()) {
-                executeOutputEntryAction(entry.getKey(), entry.getValue(), decisionTable.getHitPolicy(), executionContext);
+            for (CompiledRule validRule : validRules) {
+                LOGGER.debug("Start conclusion processing");
+
+                for (CompiledOutputEntry outputEntry : validRule.getOutputEntries()) {
+                    composeOutputEntryResult(validRule.getRuleNumber(), outputEntry, hitPolicyBehavior, executionContext);
+                }
+
+                LOGGER.debug("End conclusion processing");
             }
 
             // post rule conclusion actions
-            if (getHitPolicyBehavior(decisionTable.getHitPolicy()) instanceof ComposeDecisionResultBehavior) {
-                getHitPolicyBehavior(decisionTable.getHitPolicy()).composeDecisionResults(executionContext);
-            }
+            hitPolicyBehavior.composeDecisionResults(executionContext);
 
         } catch (FlowableException ade) {
             LOGGER.error("decision table execution failed", ade);
@@ -191,49 +343,67 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
         LOGGER.debug("End table evaluation: {}", decisionTable.getId());
     }
 
-    protected boolean executeRule(DecisionRule rule, ELExecutionContext executionContext) {
-        if (rule == null) {
-            throw new FlowableException("rule cannot be null");
-        }
+    /**
+     * Rules that are left out by the index are never valid, which doesn't change the outcome of the built-in hit policies.
+     * Custom hit policies might depend on the evaluation of every rule, so they always evaluate all rules.
+     */
+    protected boolean isIndexedEvaluationSupported(AbstractHitPolicy hitPolicyBehavior) {
+        return INDEXED_HIT_POLICY_BEHAVIORS.contains(hitPolicyBehavior.getClass());
+    }
 
+    protected boolean executeRule(CompiledRule compiledRule, ELExecutionContext executionContext) {
+        DecisionRule rule = compiledRule.getRule();
         LOGGER.debug("Start rule {} evaluation", rule.getRuleNumber());
 
-        // add audit entry
-        executionContext.getAuditContainer().addRuleEntry(rule);
+        // add audit entry, below the full audit level only valid rules are audited
+        boolean fullAudit = executionContext.getAuditLevel() == DecisionExecutionAuditLevel.FULL;
+        if (fullAudit) {
+            executionContext.getAuditContainer().addRuleEntry(rule);
+        }
 
         boolean conditionResult = false;
 
         // go through conditions
-        for (RuleInputClauseContainer conditionContainer : rule.getInputEntries()) {
+        for (CompiledInputEntry inputEntry : compiledRule.getInputEntries()) {
 
             // resetting value
-            String inputEntryId = conditionContainer.getInputEntry().getId();
+            String inputEntryId = inputEntry.getInputEntryId();
             conditionResult = false;
 
             try {
                 // if condition is empty condition or has dash symbol result is TRUE
-                String inputEntryText = conditionContainer.getInputEntry().getText();
-                if (StringUtils.isEmpty(inputEntryText) || "-".equals(inputEntryText)) {
+                if (inputEntry.isMatchAll()) {
                     conditionResult = true;
+                } else if (inputEntry.getCondition() != null) {
+                    conditionResult = ELExpressionExecutor.executeInputExpression(inputEntry.getCondition(), inputEntry.getParsedExpression(), executionContext);
                 } else {
-                    conditionResult = executeInputExpressionEvaluation(conditionContainer, executionContext);
+                    conditionResult = executeInputExpressionEvaluation(inputEntry.getInputContainer(), executionContext);
                 }
 
                 // add audit entry
-                executionContext.getAuditContainer().addInputEntry(rule.getRuleNumber(), inputEntryId, conditionResult);
+                if (fullAudit) {
+                    executionContext.getAuditContainer().addInputEntry(rule.getRuleNumber(), inputEntryId, conditionResult);
+                }
 
-                LOGGER.debug("input entry {} ( {} {} ): {}", inputEntryId,
-                        conditionContainer.getInputClause().getInputExpression().getText(),
-                        inputEntryText, conditionResult);
+                if (LOGGER.isDebugEnabled()) {
+                    RuleInputClauseContainer conditionContainer = inputEntry.getInputContainer();
+                    LOGGER.debug("input entry {} ( {} {} ): {}", inputEntryId,
+                            conditionContainer.getInputClause().getInputExpression().getText(),
+                            conditionContainer.getInputEntry().getText(), conditionResult);
+                }
 
             } catch (FlowableException ade) {
                 // add failed audit entry and rethrow
-                executionContext.getAuditContainer().addInputEntry(rule.getRuleNumber(), inputEntryId, getExceptionMessage(ade), null);
+                if (fullAudit) {
+                    executionContext.getAuditContainer().addInputEntry(rule.getRuleNumber(), inputEntryId, getExceptionMessage(ade), null);
+                }
                 throw ade;
 
             } catch (Exception e) {
                 // add failed audit entry and rethrow
-                executionContext.getAuditContainer().addInputEntry(rule.getRuleNumber(), inputEntryId, getExceptionMessage(e), null);
+                if (fullAudit) {
+                    executionContext.getAuditContainer().addInputEntry(rule.getRuleNumber(), inputEntryId, getExceptionMessage(e), null);
+                }
                 throw new FlowableException(getExceptionMessage(e), e);
             }
 
@@ -244,12 +414,18 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
         }
 
         if (conditionResult) {
+            if (!fullAudit) {
+                executionContext.getAuditContainer().addRuleEntry(rule);
+            }
+
             // mark rule valid
             executionContext.getAuditContainer().markRuleValid(rule.getRuleNumber());
         }
 
         // mark rule end
-        executionContext.getAuditContainer().markRuleEnd(rule.getRuleNumber());
+        if (fullAudit || conditionResult) {
+            executionContext.getAuditContainer().markRuleEnd(rule.getRuleNumber());
+        }
 
         LOGGER.debug("End rule {} evaluation", rule.getRuleNumber());
         return conditionResult;
@@ -259,44 +435,40 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
         return ELExpressionExecutor.executeInputExpression(ruleContainer.getInputClause(), ruleContainer.getInputEntry(), expressionManager, executionContext);
     }
 
-    protected void executeOutputEntryAction(int ruleNumber, List<RuleOutputClauseContainer> ruleOutputContainers, HitPolicy hitPolicy, ELExecutionContext executionContext) {
-        LOGGER.debug("Start conclusion processing");
-
-        for (RuleOutputClauseContainer clauseContainer : ruleOutputContainers) {
-            composeOutputEntryResult(ruleNumber, clauseContainer, hitPolicy, executionContext);
-        }
-
-        LOGGER.debug("End conclusion processing");
-    }
-
-    protected void composeOutputEntryResult(int ruleNumber, RuleOutputClauseContainer ruleClauseContainer, HitPolicy hitPolicy, ELExecutionContext executionContext) {
+    protected void composeOutputEntryResult(int ruleNumber, CompiledOutputEntry outputEntry, AbstractHitPolicy hitPolicyBehavior, ELExecutionContext executionContext) {
+        RuleOutputClauseContainer ruleClauseContainer = outputEntry.getOutputContainer();
         LOGGER.debug("Start evaluation conclusion {} of valid rule {}", ruleClauseContainer.getOutputClause().getOutputNumber(), ruleNumber);
 
-        String outputVariableId = ruleClauseContainer.getOutputClause().getName();
-        String outputVariableType = ruleClauseContainer.getOutputClause().getTypeRef();
+        String outputVariableId = outputEntry.getOutputVariableId();
+        String outputVariableType = outputEntry.getOutputVariableType();
 
         LiteralExpression outputEntryExpression = ruleClauseContainer.getOutputEntry();
 
-        if (StringUtils.isNotEmpty(outputEntryExpression.getText())) {
+        if (!outputEntry.isEmpty()) {
             Object executionVariable = null;
             try {
-                Object resultValue = ELExpressionExecutor.executeOutputExpression(ruleClauseContainer.getOutputClause(), outputEntryExpression, expressionManager, executionContext);
+                Object resultValue;
+                if (outputEntry.getOutput() != null) {
+                    resultValue = ELExpressionExecutor.executeOutputExpression(outputEntry.getOutput(), outputEntryExpression, executionContext);
+                } else {
+                    resultValue = ELExpressionExecutor.executeOutputExpression(ruleClauseContainer.getOutputClause(), outputEntryExpression, expressionManager, executionContext);
+                }
                 executionVariable = ExecutionVariableFactory.getExecutionVariable(outputVariableType, resultValue);
 
                 // update execution context
                 executionContext.getStackVariables().put(outputVariableId, executionVariable);
 
                 // create result
-                if (getHitPolicyBehavior(hitPolicy) instanceof ComposeRuleResultBehavior) {
-                    ((ComposeRuleResultBehavior) getHitPolicyBehavior(hitPolicy)).composeRuleResult(ruleNumber, outputVariableId, executionVariable, executionContext);
-                }
+                hitPolicyBehavior.composeRuleResult(ruleNumber, outputVariableId, executionVariable, executionContext);
 
                 // add audit entry
-                executionContext.getAuditContainer().addOutputEntry(ruleNumber, outputEntryExpression.getId(), executionVariable);
+                if (isOutputAudited(executionContext)) {
+                    executionContext.getAuditContainer().addOutputEntry(ruleNumber, outputEntryExpression.getId(), executionVariable);
+                }
                 executionContext.getAuditContainer().addDecisionResultType(outputVariableId, outputVariableType);
 
                 if (executionVariable != null) {
-                    LOGGER.debug("Created conclusion result: {} of type: {} with value {}", outputVariableId, resultValue.getClass(), resultValue.toString());
+                    LOGGER.debug("Created conclusion result: {} of type: {} with value {}", outputVariableId, resultValue.getClass(), resultValue);
                 } else {
                     LOGGER.warn("Could not create conclusion result");
                 }
@@ -306,7 +478,9 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
                 executionContext.getRuleResults().clear();
 
                 // add failed audit entry and rethrow
-                executionContext.getAuditContainer().addOutputEntry(ruleNumber, outputEntryExpression.getId(), getExceptionMessage(ade), executionVariable);
+                if (isOutputAudited(executionContext)) {
+                    executionContext.getAuditContainer().addOutputEntry(ruleNumber, outputEntryExpression.getId(), getExceptionMessage(ade), executionVariable);
+                }
                 throw ade;
 
             } catch (Exception e) {
@@ -314,7 +488,9 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
                 executionContext.getRuleResults().clear();
 
                 // add failed audit entry and rethrow
-                executionContext.getAuditContainer().addOutputEntry(ruleNumber, outputEntryExpression.getId(), getExceptionMessage(e), executionVariable);
+                if (isOutputAudited(executionContext)) {
+                    executionContext.getAuditContainer().addOutputEntry(ruleNumber, outputEntryExpression.getId(), getExceptionMessage(e), executionVariable);
+                }
                 throw new FlowableException(getExceptionMessage(e), e);
             }
 
@@ -322,12 +498,18 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
             LOGGER.debug("Expression is empty");
 
             // add empty audit entry
-            executionContext.getAuditContainer().addOutputEntry(ruleNumber, outputEntryExpression.getId(), null);
+            if (isOutputAudited(executionContext)) {
+                executionContext.getAuditContainer().addOutputEntry(ruleNumber, outputEntryExpression.getId(), null);
+            }
         }
 
         LOGGER.debug("End evaluation conclusion {} of valid rule {}", ruleClauseContainer.getOutputClause().getOutputNumber(), ruleNumber);
     }
 
+    protected boolean isOutputAudited(ELExecutionContext executionContext) {
+        return executionContext.getAuditLevel() != DecisionExecutionAuditLevel.NONE;
+    }
+
     protected String getExceptionMessage(Exception exception) {
         String exceptionMessage;
         if (exception.getCause() != null && exception.getCause().getMessage() != null) {
@@ -0,0 +1,240 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.audit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.cfg.TransactionContext;
+import org.flowable.common.engine.impl.cfg.TransactionState;
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.dmn.api.DecisionExecutionAuditContainer;
+import org.flowable.dmn.engine.DmnEngineConfiguration;
+import org.flowable.dmn.engine.impl.cmd.InsertHistoricDecisionExecutionsCmd;
+import org.flowable.dmn.engine.impl.persistence.entity.HistoricDecisionExecutionEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes historic decision executions in the background, instead of serializing the audit container and inserting the
+ * historic decision execution in the transaction of the decision execution.
+ *
+ * The historic decision executions are queued when the transaction of the decision execution is committed, so nothing is
+ * written for executions of which the transaction is rolled back. They are inserted by a single thread in transactions of
+ * at most {@link #getBatchSize()} executions, which allows them to be inserted in bulk. The audit container is serialized
+ * when the execution is inserted, so it should not be changed after the decision was executed.
+ *
+ * The queue holds at most {@link #getQueueCapacity()} executions. When it is full, the committing thread waits up to
+ * {@link #getQueueFullWaitTime()} milliseconds for the writer to catch up, which slows down the callers when the executions
+ * are produced faster than they can be inserted.
+ *
+ * Writing is best-effort: an execution that can't be queued in time is dropped and a batch that can't be inserted is retried
+ * up to {@link #getMaxAttempts()} times, after which its historic decision executions are dropped. The dropped executions are
+ * counted in {@link #getFailedDecisionExecutionCount()}.
+ */
+public class AsyncDecisionExecutionHistoryWriter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncDecisionExecutionHistoryWriter.class);
+
+    protected DmnEngineConfiguration dmnEngineConfiguration;
+    protected int batchSize;
+    protected int maxAttempts = 3;
+    protected int queueCapacity;
+    protected long queueFullWaitTime;
+    protected AtomicLong failedDecisionExecutionCount = new AtomicLong();
+
+    protected BlockingQueue<PendingDecisionExecution> pendingDecisionExecutions;
+    protected AtomicBoolean writeScheduled = new AtomicBoolean();
+    protected ExecutorService executorService;
+
+    public AsyncDecisionExecutionHistoryWriter(DmnEngineConfiguration dmnEngineConfiguration, int batchSize) {
+        this(dmnEngineConfiguration, batchSize, 10000, 1000L);
+    }
+
+    public AsyncDecisionExecutionHistoryWriter(DmnEngineConfiguration dmnEngineConfiguration, int batchSize, int queueCapacity, long queueFullWaitTime) {
+        this.dmnEngineConfiguration = dmnEngineConfiguration;
+        this.batchSize = batchSize;
+        this.queueCapacity = queueCapacity;
+        this.queueFullWaitTime = queueFullWaitTime;
+        this.pendingDecisionExecutions = new LinkedBlockingQueue<>(queueCapacity);
+        this.executorService = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "flowable-dmn-async-history");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Queues the historic decision execution once the current transaction is committed, or immediately when there is no
+     * transaction context.
+     */
+    public void write(HistoricDecisionExecutionEntity decisionExecutionEntity, DecisionExecutionAuditContainer auditContainer) {
+        PendingDecisionExecution pendingDecisionExecution = new PendingDecisionExecution(decisionExecutionEntity, auditContainer);
+        TransactionContext transactionContext = Context.getTransactionContext();
+        if (transactionContext != null) {
+            transactionContext.addTransactionListener(TransactionState.COMMITTED, commandContext -> queue(pendingDecisionExecution));
+        } else {
+            queue(pendingDecisionExecution);
+        }
+    }
+
+    protected void queue(PendingDecisionExecution pendingDecisionExecution) {
+        boolean queued;
+        try {
+            queued = pendingDecisionExecutions.offer(pendingDecisionExecution, queueFullWaitTime, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            queued = false;
+        }
+
+        if (!queued) {
+            failedDecisionExecutionCount.incrementAndGet();
+            LOGGER.warn("The queue of the async history writer is full, the historic decision execution of decision {} is dropped",
+                    pendingDecisionExecution.auditContainer.getDecisionKey());
+        }
+
+        if (writeScheduled.compareAndSet(false, true)) {
+            executorService.execute(this::writePendingDecisionExecutions);
+        }
+    }
+
+    /**
+     * Blocks until all the historic decision executions that were queued before this method was called are written.
+     */
+    public void flush() {
+        try {
+            executorService.submit(this::writePendingDecisionExecutions).get();
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FlowableException("Interrupted while writing historic decision executions", e);
+
+        } catch (ExecutionException e) {
+            throw new FlowableException("Error while writing historic decision executions", e.getCause());
+        }
+    }
+
+    public void shutdown() {
+        flush();
+        executorService.shutdown();
+        try {
+            if (!executorService.awaitTermination(60, TimeUnit.SECONDS)) {
+                LOGGER.warn("Timeout while shutting down the async history writer of the DMN engine");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    protected void writePendingDecisionExecutions() {
+        writeScheduled.set(false);
+
+        List<HistoricDecisionExecutionEntity> decisionExecutionEntities = new ArrayList<>(batchSize);
+        PendingDecisionExecution pendingDecisionExecution;
+        while ((pendingDecisionExecution = pendingDecisionExecutions.poll()) != null) {
+            decisionExecutionEntities.add(pendingDecisionExecution.toDecisionExecutionEntity());
+            if (decisionExecutionEntities.size() >= batchSize) {
+                insertDecisionExecutions(decisionExecutionEntities);
+                decisionExecutionEntities = new ArrayList<>(batchSize);
+            }
+        }
+
+        if (!decisionExecutionEntities.isEmpty()) {
+            insertDecisionExecutions(decisionExecutionEntities);
+        }
+    }
+
+    protected void insertDecisionExecutions(List<HistoricDecisionExecutionEntity> decisionExecutionEntities) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                dmnEngineConfiguration.getCommandExecutor().execute(new InsertHistoricDecisionExecutionsCmd(decisionExecutionEntities));
+                return;
+
+            } catch (Exception e) {
+                if (attempt >= maxAttempts) {
+                    failedDecisionExecutionCount.addAndGet(decisionExecutionEntities.size());
+                    LOGGER.error("Could not insert {} historic decision executions after {} attempts, they are dropped",
+                            decisionExecutionEntities.size(), attempt, e);
+                    return;
+                }
+                LOGGER.warn("Could not insert {} historic decision executions (attempt {} of {}), retrying",
+                        decisionExecutionEntities.size(), attempt, maxAttempts, e);
+            }
+        }
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public void setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public long getQueueFullWaitTime() {
+        return queueFullWaitTime;
+    }
+
+    public void setQueueFullWaitTime(long queueFullWaitTime) {
+        this.queueFullWaitTime = queueFullWaitTime;
+    }
+
+    /**
+     * Returns the number of historic decision executions that were dropped because they couldn't be queued or inserted.
+     */
+    public long getFailedDecisionExecutionCount() {
+        return failedDecisionExecutionCount.get();
+    }
+
+    protected class PendingDecisionExecution {
+
+        protected HistoricDecisionExecutionEntity decisionExecutionEntity;
+        protected DecisionExecutionAuditContainer auditContainer;
+
+        public PendingDecisionExecution(HistoricDecisionExecutionEntity decisionExecutionEntity, DecisionExecutionAuditContainer auditContainer) {
+            this.decisionExecutionEntity = decisionExecutionEntity;
+            this.auditContainer = auditContainer;
+        }
+
+        public HistoricDecisionExecutionEntity toDecisionExecutionEntity() {
+            try {
+                decisionExecutionEntity.setExecutionJson(dmnEngineConfiguration.getObjectMapper().writeValueAsString(auditContainer));
+            } catch (Exception e) {
+                LOGGER.error("Error writing execution json of decision {}", auditContainer.getDecisionKey(), e);
+            }
+            return decisionExecutionEntity;
+        }
+    }
+
+}
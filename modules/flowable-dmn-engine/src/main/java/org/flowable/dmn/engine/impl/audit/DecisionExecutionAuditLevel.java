@@ -0,0 +1,45 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.audit;
+
+/**
+ * Defines how much of a decision execution is audited in the {@link org.flowable.dmn.api.DecisionExecutionAuditContainer}
+ * and stored as historic decision execution.
+ *
+ * When async history is enabled on the {@link org.flowable.dmn.engine.DmnEngineConfiguration}, the historic decision executions are
+ * stored on a best-effort basis: executions that can't be inserted after a few attempts are dropped, see
+ * {@link AsyncDecisionExecutionHistoryWriter#getFailedDecisionExecutionCount()}.
+ */
+public enum DecisionExecutionAuditLevel {
+
+    /**
+     * Only the decision result is kept, no historic decision execution is stored.
+     */
+    NONE,
+
+    /**
+     * The rules that matched and their output entries are audited, the input variables and the results of the input entries are not.
+     */
+    SUMMARY,
+
+    /**
+     * Every rule with all its input and output entries and the input variables are audited.
+     */
+    FULL,
+
+    /**
+     * A sample of the executions is audited with the {@link #FULL} level, all other executions with the {@link #SUMMARY} level.
+     */
+    SAMPLED
+
+}
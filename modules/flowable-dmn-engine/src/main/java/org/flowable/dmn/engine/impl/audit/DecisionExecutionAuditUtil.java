@@ -29,6 +29,11 @@ public class DecisionExecutionAuditUtil {
     private static final Logger LOGGER = LoggerFactory.getLogger(DecisionExecutionAuditUtil.class);
 
     public static DecisionExecutionAuditContainer initializeRuleExecutionAudit(Decision decision, Map<String, Object> inputVariables) {
+        return initializeRuleExecutionAudit(decision, inputVariables, DecisionExecutionAuditLevel.FULL);
+    }
+
+    public static DecisionExecutionAuditContainer initializeRuleExecutionAudit(Decision decision, Map<String, Object> inputVariables,
+                    DecisionExecutionAuditLevel auditLevel) {
 
         if (decision == null || decision.getId() == null) {
             LOGGER.error("decision does not contain key");
@@ -45,8 +50,9 @@ public class DecisionExecutionAuditUtil {
         String decisionKey = decision.getId();
         String decisionName = decision.getName();
 
+        // the (defensive copy of the) input variables are only audited with the full audit level
         return new DecisionExecutionAuditContainer(decisionKey, decisionName, decisionTable.getHitPolicy(),
-            CommandContextUtil.getDmnEngineConfiguration().isStrictMode(), inputVariables);
+            CommandContextUtil.getDmnEngineConfiguration().isStrictMode(), auditLevel == DecisionExecutionAuditLevel.FULL ? inputVariables : null);
     }
 
 }
@@ -55,6 +55,10 @@ public abstract class AbstractExecuteDecisionCmd implements Serializable {
         executeDecisionInfo.setVariables(variables);
     }
 
+    public AbstractExecuteDecisionCmd(ExecuteDecisionInfo executeDecisionInfo) {
+        this.executeDecisionInfo = executeDecisionInfo;
+    }
+
 
     protected DmnDecisionTable resolveDecisionTable() {
         DmnDecisionTable decisionTable = null;
@@ -149,6 +153,7 @@ public abstract class AbstractExecuteDecisionCmd implements Serializable {
 
         DecisionTableCacheEntry decisionTableCacheEntry = CommandContextUtil.getDmnEngineConfiguration().getDeploymentManager().resolveDecisionTable(decisionTable);
         Decision decision = decisionTableCacheEntry.getDecision();
+        executeDecisionInfo.setCompiledDecisionTable(decisionTableCacheEntry.getCompiledDecisionTable());
 
         return decision;
     }
@@ -0,0 +1,149 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.cmd;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.dmn.api.DecisionExecutionAuditContainer;
+import org.flowable.dmn.api.DmnDecisionTable;
+import org.flowable.dmn.engine.RuleEngineExecutor;
+import org.flowable.dmn.engine.impl.ExecuteDecisionBatchBuilderImpl;
+import org.flowable.dmn.engine.impl.ExecuteDecisionInfo;
+import org.flowable.dmn.engine.impl.audit.DecisionExecutionAuditLevel;
+import org.flowable.dmn.engine.impl.util.CommandContextUtil;
+import org.flowable.dmn.model.Decision;
+
+/**
+ * Executes a decision for a batch of variable maps. The decision is resolved once and all the historic decision executions
+ * are inserted when the command context is flushed, which inserts them in bulk.
+ *
+ * When the batch is executed in parallel, the executions are evaluated by a fork join pool with the command context of this command,
+ * and the history is recorded afterwards by the thread executing the command.
+ */
+public class ExecuteDecisionBatchCmd extends AbstractExecuteDecisionCmd implements Command<List<DecisionExecutionAuditContainer>> {
+
+    private static final long serialVersionUID = 1L;
+
+    protected List<Map<String, Object>> variables;
+    protected int parallelism;
+
+    public ExecuteDecisionBatchCmd(ExecuteDecisionBatchBuilderImpl decisionBatchBuilder, List<Map<String, Object>> variables) {
+        this(decisionBatchBuilder, variables, null);
+    }
+
+    public ExecuteDecisionBatchCmd(ExecuteDecisionBatchBuilderImpl decisionBatchBuilder, List<Map<String, Object>> variables, DecisionExecutionAuditLevel auditLevel) {
+        super(new ExecuteDecisionInfo());
+        executeDecisionInfo.setDecisionKey(decisionBatchBuilder.getDecisionKey());
+        executeDecisionInfo.setParentDeploymentId(decisionBatchBuilder.getParentDeploymentId());
+        executeDecisionInfo.setTenantId(decisionBatchBuilder.getTenantId());
+        executeDecisionInfo.setFallbackToDefaultTenant(decisionBatchBuilder.isFallbackToDefaultTenant());
+        executeDecisionInfo.setHistoryEnabled(decisionBatchBuilder.isHistoryEnabled());
+        executeDecisionInfo.setAuditLevel(auditLevel);
+        this.variables = variables;
+        this.parallelism = decisionBatchBuilder.getParallelism();
+    }
+
+    @Override
+    public List<DecisionExecutionAuditContainer> execute(CommandContext commandContext) {
+        if (executeDecisionInfo.getDecisionKey() == null) {
+            throw new FlowableIllegalArgumentException("decisionKey is null");
+        }
+
+        DmnDecisionTable decisionTable = resolveDecisionTable();
+        Decision decision = resolveDecision(decisionTable);
+
+        if (variables == null || variables.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        RuleEngineExecutor ruleEngineExecutor = CommandContextUtil.getDmnEngineConfiguration().getRuleEngineExecutor();
+        if (parallelism > 1 && variables.size() > 1) {
+            return executeParallel(commandContext, ruleEngineExecutor, decision);
+        }
+
+        List<DecisionExecutionAuditContainer> executionResults = new ArrayList<>(variables.size());
+        for (Map<String, Object> executionVariables : variables) {
+            executionResults.add(ruleEngineExecutor.execute(decision, createExecuteDecisionInfo(executionVariables, executeDecisionInfo.isHistoryEnabled())));
+        }
+        return executionResults;
+    }
+
+    protected List<DecisionExecutionAuditContainer> executeParallel(CommandContext commandContext, RuleEngineExecutor ruleEngineExecutor, Decision decision) {
+        ExecuteDecisionInfo[] executeDecisionInfos = new ExecuteDecisionInfo[variables.size()];
+        DecisionExecutionAuditContainer[] executionResults = new DecisionExecutionAuditContainer[variables.size()];
+
+        ForkJoinPool forkJoinPool = new ForkJoinPool(parallelism);
+        try {
+            forkJoinPool.submit(() -> IntStream.range(0, executionResults.length).parallel().forEach(i -> {
+                Context.setCommandContext(commandContext);
+                try {
+                    executeDecisionInfos[i] = createExecuteDecisionInfo(variables.get(i), false);
+                    executionResults[i] = ruleEngineExecutor.execute(decision, executeDecisionInfos[i]);
+                } finally {
+                    Context.removeCommandContext();
+                }
+            })).get();
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FlowableException("Interrupted while executing decision batch", e);
+
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new FlowableException("Error while executing decision batch", e.getCause());
+
+        } finally {
+            forkJoinPool.shutdown();
+        }
+
+        if (executeDecisionInfo.isHistoryEnabled()) {
+            for (int i = 0; i < executionResults.length; i++) {
+                ruleEngineExecutor.recordDecisionExecution(executeDecisionInfos[i], executionResults[i]);
+            }
+        }
+
+        return new ArrayList<>(Arrays.asList(executionResults));
+    }
+
+    protected ExecuteDecisionInfo createExecuteDecisionInfo(Map<String, Object> executionVariables, boolean historyEnabled) {
+        ExecuteDecisionInfo executionInfo = new ExecuteDecisionInfo();
+        executionInfo.setDecisionKey(executeDecisionInfo.getDecisionKey());
+        executionInfo.setDecisionDefinitionId(executeDecisionInfo.getDecisionDefinitionId());
+        executionInfo.setDeploymentId(executeDecisionInfo.getDeploymentId());
+        executionInfo.setParentDeploymentId(executeDecisionInfo.getParentDeploymentId());
+        executionInfo.setTenantId(executeDecisionInfo.getTenantId());
+        executionInfo.setFallbackToDefaultTenant(executeDecisionInfo.isFallbackToDefaultTenant());
+        executionInfo.setCompiledDecisionTable(executeDecisionInfo.getCompiledDecisionTable());
+        executionInfo.setHistoryEnabled(historyEnabled);
+        executionInfo.setAuditLevel(executeDecisionInfo.getAuditLevel());
+
+        // the variables are updated during the execution
+        executionInfo.setVariables(executionVariables != null ? new HashMap<>(executionVariables) : new HashMap<String, Object>());
+        return executionInfo;
+    }
+
+}
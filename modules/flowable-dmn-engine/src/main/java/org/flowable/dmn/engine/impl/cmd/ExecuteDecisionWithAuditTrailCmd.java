@@ -21,6 +21,7 @@ import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.dmn.api.DecisionExecutionAuditContainer;
 import org.flowable.dmn.api.DmnDecisionTable;
 import org.flowable.dmn.engine.impl.ExecuteDecisionBuilderImpl;
+import org.flowable.dmn.engine.impl.audit.DecisionExecutionAuditLevel;
 import org.flowable.dmn.engine.impl.util.CommandContextUtil;
 import org.flowable.dmn.model.Decision;
 
@@ -68,6 +69,8 @@ public class ExecuteDecisionWithAuditTrailCmd extends AbstractExecuteDecisionCmd
             return container;
         }
 
+        // the audit trail is returned to the caller, so it's always complete
+        executeDecisionInfo.setAuditLevel(DecisionExecutionAuditLevel.FULL);
         return CommandContextUtil.getDmnEngineConfiguration().getRuleEngineExecutor().execute(decision, executeDecisionInfo);
     }
 
@@ -0,0 +1,43 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.cmd;
+
+import java.util.List;
+
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.dmn.engine.impl.persistence.entity.HistoricDecisionExecutionEntity;
+import org.flowable.dmn.engine.impl.persistence.entity.HistoricDecisionExecutionEntityManager;
+import org.flowable.dmn.engine.impl.util.CommandContextUtil;
+
+/**
+ * Inserts historic decision executions that were created by earlier decision executions.
+ */
+public class InsertHistoricDecisionExecutionsCmd implements Command<Void> {
+
+    protected List<HistoricDecisionExecutionEntity> decisionExecutionEntities;
+
+    public InsertHistoricDecisionExecutionsCmd(List<HistoricDecisionExecutionEntity> decisionExecutionEntities) {
+        this.decisionExecutionEntities = decisionExecutionEntities;
+    }
+
+    @Override
+    public Void execute(CommandContext commandContext) {
+        HistoricDecisionExecutionEntityManager historicDecisionExecutionEntityManager = CommandContextUtil.getHistoricDecisionExecutionEntityManager(commandContext);
+        for (HistoricDecisionExecutionEntity decisionExecutionEntity : decisionExecutionEntities) {
+            historicDecisionExecutionEntityManager.insert(decisionExecutionEntity);
+        }
+        return null;
+    }
+
+}
@@ -0,0 +1,97 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.compiler;
+
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.dmn.engine.impl.hitpolicy.AbstractHitPolicy;
+import org.flowable.dmn.engine.impl.persistence.deploy.DecisionTableCacheEntry;
+import org.flowable.dmn.model.Decision;
+import org.flowable.dmn.model.DecisionTable;
+
+/**
+ * Executable plan of a decision table, created by the {@link DecisionTableCompiler} when the decision table is deployed or cached
+ * and stored on the {@link DecisionTableCacheEntry}.
+ *
+ * All the entries are parsed upfront and everything that only depends on the decision table (the hit policy behavior,
+ * the typed output values) is resolved, so executing the decision doesn't parse anything.
+ */
+public class CompiledDecisionTable {
+
+    protected Decision decision;
+    protected DecisionTable decisionTable;
+    protected AbstractHitPolicy hitPolicyBehavior;
+    protected List<CompiledRule> rules;
+    protected Map<String, List<Object>> outputValues;
+    protected DecisionTableIndex index;
+    protected List<String> resultCacheInputNames;
+
+    public CompiledDecisionTable(Decision decision, AbstractHitPolicy hitPolicyBehavior, List<CompiledRule> rules, Map<String, List<Object>> outputValues,
+            DecisionTableIndex index) {
+        this(decision, hitPolicyBehavior, rules, outputValues, index, null);
+    }
+
+    public CompiledDecisionTable(Decision decision, AbstractHitPolicy hitPolicyBehavior, List<CompiledRule> rules, Map<String, List<Object>> outputValues,
+            DecisionTableIndex index, List<String> resultCacheInputNames) {
+
+        this.decision = decision;
+        this.decisionTable = (DecisionTable) decision.getExpression();
+        this.hitPolicyBehavior = hitPolicyBehavior;
+        this.rules = rules;
+        this.outputValues = outputValues;
+        this.index = index;
+        this.resultCacheInputNames = resultCacheInputNames;
+    }
+
+    public Decision getDecision() {
+        return decision;
+    }
+
+    public DecisionTable getDecisionTable() {
+        return decisionTable;
+    }
+
+    /**
+     * @return the behavior of the hit policy of the decision table, or null when no behavior is configured for it
+     */
+    public AbstractHitPolicy getHitPolicyBehavior() {
+        return hitPolicyBehavior;
+    }
+
+    public List<CompiledRule> getRules() {
+        return rules;
+    }
+
+    /**
+     * @return the typed output values per output name, or null when they couldn't be determined upfront
+     */
+    public Map<String, List<Object>> getOutputValues() {
+        return outputValues;
+    }
+
+    /**
+     * @return the index of the rules, or null when the decision table is not indexed
+     */
+    public DecisionTableIndex getIndex() {
+        return index;
+    }
+
+    /**
+     * @return the names of the input variables that determine the result of the decision, or null when the results
+     *         of the decision can't be cached
+     */
+    public List<String> getResultCacheInputNames() {
+        return resultCacheInputNames;
+    }
+}
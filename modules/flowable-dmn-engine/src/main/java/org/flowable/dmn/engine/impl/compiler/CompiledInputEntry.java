@@ -0,0 +1,57 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.compiler;
+
+import org.flowable.dmn.engine.impl.el.RuleExpressionCondition;
+import org.flowable.dmn.model.RuleInputClauseContainer;
+
+/**
+ * Input entry of a {@link CompiledRule}: either an entry that matches every value (empty or '-'),
+ * or an entry with a condition that was parsed when the decision table was compiled.
+ *
+ * When the entry could not be parsed, the condition is null and the entry is parsed on execution, which reports the error as before.
+ */
+public class CompiledInputEntry {
+
+    protected RuleInputClauseContainer inputContainer;
+    protected boolean matchAll;
+    protected RuleExpressionCondition condition;
+    protected String parsedExpression;
+
+    public CompiledInputEntry(RuleInputClauseContainer inputContainer, boolean matchAll, RuleExpressionCondition condition, String parsedExpression) {
+        this.inputContainer = inputContainer;
+        this.matchAll = matchAll;
+        this.condition = condition;
+        this.parsedExpression = parsedExpression;
+    }
+
+    public RuleInputClauseContainer getInputContainer() {
+        return inputContainer;
+    }
+
+    public String getInputEntryId() {
+        return inputContainer.getInputEntry().getId();
+    }
+
+    public boolean isMatchAll() {
+        return matchAll;
+    }
+
+    public RuleExpressionCondition getCondition() {
+        return condition;
+    }
+
+    public String getParsedExpression() {
+        return parsedExpression;
+    }
+}
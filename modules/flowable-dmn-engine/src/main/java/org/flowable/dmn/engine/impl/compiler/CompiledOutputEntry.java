@@ -0,0 +1,62 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.compiler;
+
+import org.flowable.dmn.engine.impl.el.RuleExpressionOutput;
+import org.flowable.dmn.model.RuleOutputClauseContainer;
+
+/**
+ * Output entry of a {@link CompiledRule}, with the output expression that was parsed when the decision table was compiled.
+ *
+ * The output is null for an empty output entry, or for an entry that could not be parsed (in which case it is parsed on execution).
+ */
+public class CompiledOutputEntry {
+
+    protected RuleOutputClauseContainer outputContainer;
+    protected String outputVariableId;
+    protected String outputVariableType;
+    protected boolean empty;
+    protected RuleExpressionOutput output;
+
+    public CompiledOutputEntry(RuleOutputClauseContainer outputContainer, boolean empty, RuleExpressionOutput output) {
+        this.outputContainer = outputContainer;
+        this.outputVariableId = outputContainer.getOutputClause().getName();
+        this.outputVariableType = outputContainer.getOutputClause().getTypeRef();
+        this.empty = empty;
+        this.output = output;
+    }
+
+    public RuleOutputClauseContainer getOutputContainer() {
+        return outputContainer;
+    }
+
+    public String getOutputEntryId() {
+        return outputContainer.getOutputEntry().getId();
+    }
+
+    public String getOutputVariableId() {
+        return outputVariableId;
+    }
+
+    public String getOutputVariableType() {
+        return outputVariableType;
+    }
+
+    public boolean isEmpty() {
+        return empty;
+    }
+
+    public RuleExpressionOutput getOutput() {
+        return output;
+    }
+}
@@ -0,0 +1,49 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.compiler;
+
+import java.util.List;
+
+import org.flowable.dmn.model.DecisionRule;
+
+/**
+ * Rule of a {@link CompiledDecisionTable}.
+ */
+public class CompiledRule {
+
+    protected DecisionRule rule;
+    protected List<CompiledInputEntry> inputEntries;
+    protected List<CompiledOutputEntry> outputEntries;
+
+    public CompiledRule(DecisionRule rule, List<CompiledInputEntry> inputEntries, List<CompiledOutputEntry> outputEntries) {
+        this.rule = rule;
+        this.inputEntries = inputEntries;
+        this.outputEntries = outputEntries;
+    }
+
+    public DecisionRule getRule() {
+        return rule;
+    }
+
+    public int getRuleNumber() {
+        return rule.getRuleNumber();
+    }
+
+    public List<CompiledInputEntry> getInputEntries() {
+        return inputEntries;
+    }
+
+    public List<CompiledOutputEntry> getOutputEntries() {
+        return outputEntries;
+    }
+}
@@ -0,0 +1,341 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.compiler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import org.apache.commons.lang3.StringUtils;
+import org.flowable.common.engine.api.delegate.Expression;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.FunctionNode;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.IdentifierNode;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.Tree;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.TreeBuilder;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.Builder;
+import org.flowable.common.engine.impl.el.ExpressionManager;
+import org.flowable.dmn.engine.impl.el.ELInputEntryExpressionPreParser;
+import org.flowable.dmn.engine.impl.el.ELOutputEntryExpressionPreParser;
+import org.flowable.dmn.engine.impl.el.ExecutionVariableFactory;
+import org.flowable.dmn.engine.impl.el.RuleExpressionCondition;
+import org.flowable.dmn.engine.impl.el.RuleExpressionOutput;
+import org.flowable.dmn.engine.impl.hitpolicy.AbstractHitPolicy;
+import org.flowable.dmn.engine.impl.persistence.deploy.DecisionResultCache;
+import org.flowable.dmn.model.Decision;
+import org.flowable.dmn.model.DecisionRule;
+import org.flowable.dmn.model.DecisionTable;
+import org.flowable.dmn.model.InputClause;
+import org.flowable.dmn.model.LiteralExpression;
+import org.flowable.dmn.model.OutputClause;
+import org.flowable.dmn.model.RuleInputClauseContainer;
+import org.flowable.dmn.model.RuleOutputClauseContainer;
+import org.flowable.dmn.model.UnaryTests;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compiles a decision table into a {@link CompiledDecisionTable}.
+ *
+ * Entries that can't be parsed don't make the compilation fail: they are parsed on execution, where the error is reported
+ * in the audit trail as before. Expressions that were already parsed at deployment (see the DmnExpressionPreParser) are reused.
+ */
+public class DecisionTableCompiler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DecisionTableCompiler.class);
+
+    protected static final Pattern VARIABLE_NAME_PATTERN = Pattern.compile("[A-Za-z_$][A-Za-z0-9_$]*");
+    protected static final List<String> RESERVED_WORDS = Arrays.asList("true", "false", "null", "empty", "not", "and", "or",
+            "div", "mod", "eq", "ne", "lt", "gt", "le", "ge", "instanceof");
+
+    protected ExpressionManager expressionManager;
+    protected Map<String, AbstractHitPolicy> hitPolicyBehaviors;
+    protected int indexRuleThreshold = -1; // negative value to never index decision tables
+    protected DecisionResultCache decisionResultCache;
+
+    public DecisionTableCompiler(ExpressionManager expressionManager, Map<String, AbstractHitPolicy> hitPolicyBehaviors) {
+        this.expressionManager = expressionManager;
+        this.hitPolicyBehaviors = hitPolicyBehaviors;
+    }
+
+    /**
+     * @return the compiled decision table, or null if the decision doesn't contain a decision table
+     */
+    public CompiledDecisionTable compile(Decision decision) {
+        if (decision == null || !(decision.getExpression() instanceof DecisionTable)) {
+            return null;
+        }
+
+        DecisionTable decisionTable = (DecisionTable) decision.getExpression();
+
+        List<CompiledRule> rules = new ArrayList<>(decisionTable.getRules().size());
+        for (DecisionRule rule : decisionTable.getRules()) {
+            rules.add(compileRule(rule));
+        }
+
+        AbstractHitPolicy hitPolicyBehavior = null;
+        if (decisionTable.getHitPolicy() != null && hitPolicyBehaviors != null) {
+            hitPolicyBehavior = hitPolicyBehaviors.get(decisionTable.getHitPolicy().getValue());
+        }
+
+        DecisionTableIndex index = null;
+        if (indexRuleThreshold >= 0 && rules.size() >= indexRuleThreshold) {
+            index = createIndex(decisionTable, rules);
+        }
+
+        List<String> resultCacheInputNames = null;
+        if (decisionResultCache != null && decisionResultCache.isCacheEnabled(decision.getId())) {
+            resultCacheInputNames = getResultCacheInputNames(decision, rules);
+        }
+
+        return new CompiledDecisionTable(decision, hitPolicyBehavior, rules, compileOutputValues(decisionTable), index, resultCacheInputNames);
+    }
+
+    protected CompiledRule compileRule(DecisionRule rule) {
+        List<CompiledInputEntry> inputEntries = new ArrayList<>(rule.getInputEntries().size());
+        for (RuleInputClauseContainer inputContainer : rule.getInputEntries()) {
+            inputEntries.add(compileInputEntry(inputContainer));
+        }
+
+        List<CompiledOutputEntry> outputEntries = new ArrayList<>(rule.getOutputEntries().size());
+        for (RuleOutputClauseContainer outputContainer : rule.getOutputEntries()) {
+            outputEntries.add(compileOutputEntry(outputContainer));
+        }
+
+        return new CompiledRule(rule, inputEntries, outputEntries);
+    }
+
+    protected CompiledInputEntry compileInputEntry(RuleInputClauseContainer inputContainer) {
+        UnaryTests inputEntry = inputContainer.getInputEntry();
+        String inputEntryText = inputEntry.getText();
+        if (StringUtils.isEmpty(inputEntryText) || "-".equals(inputEntryText)) {
+            return new CompiledInputEntry(inputContainer, true, null, null);
+        }
+
+        InputClause inputClause = inputContainer.getInputClause();
+        if (inputClause == null || inputClause.getInputExpression() == null || StringUtils.isEmpty(inputClause.getInputExpression().getText())) {
+            // invalid input clause, reported on execution
+            return new CompiledInputEntry(inputContainer, false, null, null);
+        }
+
+        try {
+            Expression expression = getParsedExpression(inputEntry.getParsedExpression(inputEntryText));
+            if (expression == null) {
+                String parsedExpression = ELInputEntryExpressionPreParser.parse(inputEntryText, inputClause.getInputExpression().getText(),
+                        inputClause.getInputExpression().getTypeRef());
+                expression = expressionManager.createExpression(parsedExpression);
+            }
+            return new CompiledInputEntry(inputContainer, false, new RuleExpressionCondition(expression), expression.getExpressionText());
+
+        } catch (RuntimeException e) {
+            LOGGER.debug("Could not compile input entry '{}', it will be parsed when it is executed", inputEntryText, e);
+            return new CompiledInputEntry(inputContainer, false, null, null);
+        }
+    }
+
+    protected CompiledOutputEntry compileOutputEntry(RuleOutputClauseContainer outputContainer) {
+        LiteralExpression outputEntry = outputContainer.getOutputEntry();
+        String outputEntryText = outputEntry.getText();
+        if (StringUtils.isEmpty(outputEntryText)) {
+            return new CompiledOutputEntry(outputContainer, true, null);
+        }
+
+        try {
+            Expression expression = getParsedExpression(outputEntry.getParsedExpression(outputEntryText));
+            if (expression == null) {
+                expression = expressionManager.createExpression(ELOutputEntryExpressionPreParser.parse(outputEntryText));
+            }
+            return new CompiledOutputEntry(outputContainer, false, new RuleExpressionOutput(expression));
+
+        } catch (RuntimeException e) {
+            LOGGER.debug("Could not compile output entry '{}', it will be parsed when it is executed", outputEntryText, e);
+            return new CompiledOutputEntry(outputContainer, false, null);
+        }
+    }
+
+    /**
+     * @return the index of the rules, or null when none of the input columns can be indexed
+     */
+    protected DecisionTableIndex createIndex(DecisionTable decisionTable, List<CompiledRule> rules) {
+        List<InputClause> inputClauses = decisionTable.getInputs();
+        List<InputColumnIndex> columns = new ArrayList<>(inputClauses.size());
+        boolean indexed = false;
+
+        for (int columnIndex = 0; columnIndex < inputClauses.size(); columnIndex++) {
+            InputClause inputClause = inputClauses.get(columnIndex);
+            InputColumnIndex column = new InputColumnIndex(getVariableName(inputClause), rules.size());
+
+            for (int ruleIndex = 0; ruleIndex < rules.size(); ruleIndex++) {
+                List<CompiledInputEntry> inputEntries = rules.get(ruleIndex).getInputEntries();
+                if (inputEntries.size() != inputClauses.size() || inputEntries.get(columnIndex).getInputContainer().getInputClause() != inputClause) {
+                    // the entries of the rule don't follow the inputs of the decision table
+                    return null;
+                }
+
+                CompiledInputEntry inputEntry = inputEntries.get(columnIndex);
+                if (inputEntry.isMatchAll()) {
+                    column.addMatchAllEntry(ruleIndex);
+                } else if (inputEntry.getCondition() != null) {
+                    column.addEntry(ruleIndex, inputEntry.getInputContainer().getInputEntry().getText());
+                } else {
+                    column.addEntry(ruleIndex, null);
+                }
+            }
+
+            indexed |= column.isIndexed();
+            columns.add(column);
+        }
+
+        return indexed ? new DecisionTableIndex(columns, rules.size()) : null;
+    }
+
+    /**
+     * The results of a decision can only be cached when all inputs are variables and the entries don't use any other variable
+     * or an impure function.
+     *
+     * @return the names of the input variables, or null when the results of the decision can't be cached
+     */
+    protected List<String> getResultCacheInputNames(Decision decision, List<CompiledRule> rules) {
+        DecisionTable decisionTable = (DecisionTable) decision.getExpression();
+        List<String> inputNames = new ArrayList<>(decisionTable.getInputs().size());
+        for (InputClause inputClause : decisionTable.getInputs()) {
+            String variableName = getVariableName(inputClause);
+            if (variableName == null) {
+                LOGGER.warn("The results of decision {} are not cached: input {} is not a variable", decision.getId(), inputClause.getId());
+                return null;
+            }
+            inputNames.add(variableName);
+        }
+
+        TreeBuilder treeBuilder = new Builder(Builder.Feature.METHOD_INVOCATIONS, Builder.Feature.VARARGS);
+        for (CompiledRule rule : rules) {
+            for (CompiledInputEntry inputEntry : rule.getInputEntries()) {
+                if (!inputEntry.isMatchAll() && (inputEntry.getCondition() == null || !isPureExpression(treeBuilder, inputEntry.getParsedExpression(), inputNames))) {
+                    LOGGER.warn("The results of decision {} are not cached: input entry {} doesn't only depend on the inputs", decision.getId(), inputEntry.getInputEntryId());
+                    return null;
+                }
+            }
+
+            for (CompiledOutputEntry outputEntry : rule.getOutputEntries()) {
+                if (!outputEntry.isEmpty() && (outputEntry.getOutput() == null
+                        || !isPureExpression(treeBuilder, outputEntry.getOutput().getExpression().getExpressionText(), inputNames))) {
+                    LOGGER.warn("The results of decision {} are not cached: output entry {} doesn't only depend on the inputs", decision.getId(), outputEntry.getOutputEntryId());
+                    return null;
+                }
+            }
+        }
+
+        return inputNames;
+    }
+
+    protected boolean isPureExpression(TreeBuilder treeBuilder, String expressionText, List<String> inputNames) {
+        Tree tree;
+        try {
+            tree = treeBuilder.build(expressionText);
+        } catch (RuntimeException e) {
+            return false;
+        }
+
+        for (IdentifierNode identifierNode : tree.getIdentifierNodes()) {
+            if (!inputNames.contains(identifierNode.getName())) {
+                return false;
+            }
+        }
+        for (FunctionNode functionNode : tree.getFunctionNodes()) {
+            if (decisionResultCache.getImpureFunctionNames().contains(functionNode.getName())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    protected String getVariableName(InputClause inputClause) {
+        if (inputClause.getInputExpression() == null) {
+            return null;
+        }
+
+        String inputExpressionText = inputClause.getInputExpression().getText();
+        if (inputExpressionText == null || !VARIABLE_NAME_PATTERN.matcher(inputExpressionText).matches() || RESERVED_WORDS.contains(inputExpressionText)) {
+            return null;
+        }
+        return inputExpressionText;
+    }
+
+    protected Map<String, List<Object>> compileOutputValues(DecisionTable decisionTable) {
+        Map<String, List<Object>> outputValues = new LinkedHashMap<>();
+        if (decisionTable.getOutputs() != null) {
+            try {
+                for (OutputClause outputClause : decisionTable.getOutputs()) {
+                    if (outputClause.getOutputValues() != null && outputClause.getOutputValues().getTextValues() != null) {
+                        List<Object> executionVariables = ExecutionVariableFactory.getExecutionVariables(outputClause.getTypeRef(),
+                                outputClause.getOutputValues().getTextValues());
+                        outputValues.put(outputClause.getName(), executionVariables != null ? Collections.unmodifiableList(executionVariables) : null);
+                    }
+                }
+
+            } catch (RuntimeException e) {
+                LOGGER.debug("Could not compile the output values of decision table {}, they will be determined when it is executed", decisionTable.getId(), e);
+                return null;
+            }
+        }
+        return outputValues;
+    }
+
+    protected Expression getParsedExpression(Object parsedExpression) {
+        if (parsedExpression instanceof Expression) {
+            return (Expression) parsedExpression;
+        }
+        return null;
+    }
+
+    public ExpressionManager getExpressionManager() {
+        return expressionManager;
+    }
+
+    public void setExpressionManager(ExpressionManager expressionManager) {
+        this.expressionManager = expressionManager;
+    }
+
+    public Map<String, AbstractHitPolicy> getHitPolicyBehaviors() {
+        return hitPolicyBehaviors;
+    }
+
+    public void setHitPolicyBehaviors(Map<String, AbstractHitPolicy> hitPolicyBehaviors) {
+        this.hitPolicyBehaviors = hitPolicyBehaviors;
+    }
+
+    public int getIndexRuleThreshold() {
+        return indexRuleThreshold;
+    }
+
+    /**
+     * Decision tables with at least this number of rules get an index of their rules. A negative value disables indexing.
+     */
+    public void setIndexRuleThreshold(int indexRuleThreshold) {
+        this.indexRuleThreshold = indexRuleThreshold;
+    }
+
+    public DecisionResultCache getDecisionResultCache() {
+        return decisionResultCache;
+    }
+
+    /**
+     * The cache of the decision results, used to determine whether the results of a decision can be cached. Null when no results are cached.
+     */
+    public void setDecisionResultCache(DecisionResultCache decisionResultCache) {
+        this.decisionResultCache = decisionResultCache;
+    }
+}
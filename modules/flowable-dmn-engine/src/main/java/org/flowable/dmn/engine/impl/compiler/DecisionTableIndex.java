@@ -0,0 +1,71 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.compiler;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index of the rules of a {@link CompiledDecisionTable}, with an {@link InputColumnIndex} for every input of the decision table.
+ *
+ * The candidate rules are the intersection of the candidates of the indexed columns. A rule is only left out when evaluating it
+ * would return false without an error: a column can't exclude a rule of which an earlier entry is not indexed,
+ * as that entry is evaluated before the one of the column and could fail.
+ */
+public class DecisionTableIndex {
+
+    protected List<InputColumnIndex> columns;
+    protected int ruleCount;
+
+    public DecisionTableIndex(List<InputColumnIndex> columns, int ruleCount) {
+        this.columns = columns;
+        this.ruleCount = ruleCount;
+    }
+
+    /**
+     * @return the indexes of the rules that need to be evaluated, in the order of the rules of the decision table
+     */
+    public BitSet findCandidateRules(Map<String, Object> variables) {
+        BitSet candidateRules = new BitSet(ruleCount);
+        candidateRules.set(0, ruleCount);
+
+        // rules of which an earlier entry is evaluated without using the index
+        BitSet evaluatedRules = new BitSet(ruleCount);
+
+        for (InputColumnIndex column : columns) {
+            BitSet columnCandidateRules = null;
+            if (column.isIndexed() && variables != null && variables.containsKey(column.getVariableName())) {
+                columnCandidateRules = column.findCandidateRules(variables.get(column.getVariableName()));
+            }
+
+            if (columnCandidateRules != null) {
+                columnCandidateRules.or(evaluatedRules);
+                candidateRules.and(columnCandidateRules);
+                evaluatedRules.or(column.getNotIndexedRules());
+            } else {
+                evaluatedRules.or(column.getConditionalRules());
+            }
+        }
+
+        return candidateRules;
+    }
+
+    public List<InputColumnIndex> getColumns() {
+        return columns;
+    }
+
+    public int getRuleCount() {
+        return ruleCount;
+    }
+}
@@ -0,0 +1,249 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.compiler;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Index of the input entries of one input column of a decision table.
+ *
+ * Only entries that are a literal compared with the input variable are indexed: numbers with ==, &lt;, &lt;=, &gt; or &gt;= (or no operator),
+ * strings between quotes and booleans with == (or no operator). Numbers are kept in interval maps, the other literals in a hash map.
+ * All other entries are not indexed and always are a candidate; entries with '-' or without text match every value.
+ *
+ * The index is only used when the value of the input variable has the type of the literals of the column, so the comparison done
+ * by the index is the same as the one done by the EL expression of the entry.
+ */
+public class InputColumnIndex {
+
+    protected static final Pattern ENTRY_PATTERN = Pattern.compile("(==|<=|>=|<|>)?\\s*(.+?)\\s*");
+    protected static final Pattern NUMBER_PATTERN = Pattern.compile("-?\\d{1,15}(\\.\\d{1,15})?");
+    protected static final Pattern STRING_PATTERN = Pattern.compile("\"[^\"\\\\]*\"|'[^'\\\\]*'");
+
+    protected enum LiteralType {
+        NUMBER, STRING, BOOLEAN
+    }
+
+    protected String variableName;
+    protected int ruleCount;
+    protected LiteralType literalType;
+    protected boolean mixedLiteralTypes;
+
+    protected BitSet matchAllRules = new BitSet();
+    protected BitSet notIndexedRules = new BitSet();
+
+    protected Map<Object, BitSet> equalRules = new HashMap<>();
+    protected NavigableMap<BigDecimal, BitSet> equalNumberRules = new TreeMap<>();
+    protected NavigableMap<BigDecimal, BitSet> lessThanRules = new TreeMap<>();
+    protected NavigableMap<BigDecimal, BitSet> lessOrEqualRules = new TreeMap<>();
+    protected NavigableMap<BigDecimal, BitSet> greaterThanRules = new TreeMap<>();
+    protected NavigableMap<BigDecimal, BitSet> greaterOrEqualRules = new TreeMap<>();
+
+    /**
+     * @param variableName the name of the input variable, or null when the input expression is not a plain variable, in which case nothing is indexed
+     */
+    public InputColumnIndex(String variableName, int ruleCount) {
+        this.variableName = variableName;
+        this.ruleCount = ruleCount;
+    }
+
+    public void addMatchAllEntry(int ruleIndex) {
+        matchAllRules.set(ruleIndex);
+    }
+
+    public void addEntry(int ruleIndex, String entryText) {
+        if (variableName == null || entryText == null || !entryText.equals(entryText.trim()) || !indexEntry(ruleIndex, entryText)) {
+            notIndexedRules.set(ruleIndex);
+        }
+    }
+
+    protected boolean indexEntry(int ruleIndex, String entryText) {
+        Matcher entryMatcher = ENTRY_PATTERN.matcher(entryText);
+        if (!entryMatcher.matches()) {
+            return false;
+        }
+
+        String operator = entryMatcher.group(1) != null ? entryMatcher.group(1) : "==";
+        String literal = entryMatcher.group(2);
+
+        if (NUMBER_PATTERN.matcher(literal).matches()) {
+            BigDecimal number = parseNumber(literal);
+            if (number == null || !setLiteralType(LiteralType.NUMBER)) {
+                return false;
+            }
+
+            if ("==".equals(operator)) {
+                addRule(equalNumberRules, number, ruleIndex);
+            } else if ("<".equals(operator)) {
+                addRule(lessThanRules, number, ruleIndex);
+            } else if ("<=".equals(operator)) {
+                addRule(lessOrEqualRules, number, ruleIndex);
+            } else if (">".equals(operator)) {
+                addRule(greaterThanRules, number, ruleIndex);
+            } else {
+                addRule(greaterOrEqualRules, number, ruleIndex);
+            }
+            return true;
+
+        } else if (!"==".equals(operator)) {
+            return false;
+
+        } else if (STRING_PATTERN.matcher(literal).matches() && !literal.contains("fn_")) {
+            if (!setLiteralType(LiteralType.STRING)) {
+                return false;
+            }
+            addRule(equalRules, literal.substring(1, literal.length() - 1), ruleIndex);
+            return true;
+
+        } else if ("true".equals(literal) || "false".equals(literal)) {
+            if (!setLiteralType(LiteralType.BOOLEAN)) {
+                return false;
+            }
+            addRule(equalRules, Boolean.valueOf(literal), ruleIndex);
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Numbers are compared as the exact decimal value of the literal as it is parsed by the expression language:
+     * integers as long and other numbers as double.
+     */
+    protected BigDecimal parseNumber(String literal) {
+        if (literal.indexOf('.') < 0) {
+            return BigDecimal.valueOf(Long.parseLong(literal));
+        }
+
+        double value = Double.parseDouble(literal);
+        if (value == 0 && literal.startsWith("-")) {
+            // -0.0 is not equal to 0 when compared as double
+            return null;
+        }
+        return new BigDecimal(value);
+    }
+
+    protected boolean setLiteralType(LiteralType type) {
+        if (literalType == null) {
+            literalType = type;
+        } else if (literalType != type) {
+            mixedLiteralTypes = true;
+        }
+        return !mixedLiteralTypes;
+    }
+
+    protected <K> void addRule(Map<K, BitSet> rulesMap, K key, int ruleIndex) {
+        BitSet rules = rulesMap.get(key);
+        if (rules == null) {
+            rules = new BitSet(ruleCount);
+            rulesMap.put(key, rules);
+        }
+        rules.set(ruleIndex);
+    }
+
+    public boolean isIndexed() {
+        return variableName != null && literalType != null && !mixedLiteralTypes;
+    }
+
+    /**
+     * @return the rules of which the entry of this column can match the value, or null when the index can't be used for the value
+     */
+    public BitSet findCandidateRules(Object value) {
+        if (!isIndexed()) {
+            return null;
+        }
+
+        BitSet candidateRules;
+        if (literalType == LiteralType.NUMBER) {
+            BigDecimal number = toNumber(value);
+            if (number == null) {
+                return null;
+            }
+
+            candidateRules = new BitSet(ruleCount);
+            orRules(candidateRules, equalNumberRules.get(number));
+            orRules(candidateRules, lessThanRules.tailMap(number, false));
+            orRules(candidateRules, lessOrEqualRules.tailMap(number, true));
+            orRules(candidateRules, greaterThanRules.headMap(number, false));
+            orRules(candidateRules, greaterOrEqualRules.headMap(number, true));
+
+        } else if ((literalType == LiteralType.STRING && value instanceof String) || (literalType == LiteralType.BOOLEAN && value instanceof Boolean)) {
+            candidateRules = new BitSet(ruleCount);
+            orRules(candidateRules, equalRules.get(value));
+
+        } else {
+            return null;
+        }
+
+        candidateRules.or(matchAllRules);
+        candidateRules.or(notIndexedRules);
+        return candidateRules;
+    }
+
+    /**
+     * The expression language compares a number with another number as long, double or BigDecimal depending on their types,
+     * which is the same as comparing their exact decimal values as long as the value fits in a double without rounding.
+     */
+    protected BigDecimal toNumber(Object value) {
+        if (value instanceof BigDecimal) {
+            return (BigDecimal) value;
+        } else if (value instanceof BigInteger) {
+            BigInteger bigInteger = (BigInteger) value;
+            return bigInteger.bitLength() <= 53 ? new BigDecimal(bigInteger) : null;
+        } else if (value instanceof Short || value instanceof Byte) {
+            return BigDecimal.valueOf(((Number) value).longValue());
+        }
+        return null;
+    }
+
+    protected void orRules(BitSet candidateRules, BitSet rules) {
+        if (rules != null) {
+            candidateRules.or(rules);
+        }
+    }
+
+    protected void orRules(BitSet candidateRules, Map<BigDecimal, BitSet> rulesMap) {
+        for (BitSet rules : rulesMap.values()) {
+            candidateRules.or(rules);
+        }
+    }
+
+    public String getVariableName() {
+        return variableName;
+    }
+
+    /**
+     * @return the rules with an entry in this column that is not indexed, which is evaluated for every execution
+     */
+    public BitSet getNotIndexedRules() {
+        return notIndexedRules;
+    }
+
+    /**
+     * @return the rules of which the entry of this column doesn't match every value
+     */
+    public BitSet getConditionalRules() {
+        BitSet conditionalRules = new BitSet(ruleCount);
+        conditionalRules.set(0, ruleCount);
+        conditionalRules.andNot(matchAllRules);
+        return conditionalRules;
+    }
+}
@@ -38,6 +38,9 @@ public class CachingAndArtifactsManager {
             DmnDefinition dmnDefinition = parsedDeployment.getDmnDefinitionForDecisionTable(decisionTable);
             Decision decision = parsedDeployment.getDecisionForDecisionTable(decisionTable);
             DecisionTableCacheEntry cacheEntry = new DecisionTableCacheEntry(decisionTable, dmnDefinition, decision);
+            if (dmnEngineConfiguration.isEnableDecisionTableCompilation()) {
+                cacheEntry.setCompiledDecisionTable(dmnEngineConfiguration.getDecisionTableCompiler().compile(decision));
+            }
             decisionTableCache.add(decisionTable.getId(), cacheEntry);
 
             // Add to deployment for further usage
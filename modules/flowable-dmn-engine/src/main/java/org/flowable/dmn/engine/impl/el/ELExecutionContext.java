@@ -19,6 +19,7 @@ import java.util.Map;
 
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.dmn.api.DecisionExecutionAuditContainer;
+import org.flowable.dmn.engine.impl.audit.DecisionExecutionAuditLevel;
 import org.flowable.dmn.model.BuiltinAggregator;
 
 /**
@@ -29,6 +30,7 @@ public class ELExecutionContext {
     protected Map<Integer, Map<String, Object>> ruleResults = new LinkedHashMap<>();
     protected Map<String, Object> stackVariables;
     protected DecisionExecutionAuditContainer auditContainer;
+    protected DecisionExecutionAuditLevel auditLevel = DecisionExecutionAuditLevel.FULL;
     protected Map<String, List<Object>> outputValues = new LinkedHashMap<>();
     protected BuiltinAggregator aggregator;
 
@@ -74,6 +76,14 @@ public class ELExecutionContext {
         this.auditContainer = auditContainer;
     }
 
+    public DecisionExecutionAuditLevel getAuditLevel() {
+        return auditLevel;
+    }
+
+    public void setAuditLevel(DecisionExecutionAuditLevel auditLevel) {
+        this.auditLevel = auditLevel;
+    }
+
     public Map<String, List<Object>> getOutputValues() {
         return outputValues;
     }
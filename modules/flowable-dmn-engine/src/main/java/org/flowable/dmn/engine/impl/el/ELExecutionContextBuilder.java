@@ -16,10 +16,13 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.flowable.common.engine.api.FlowableException;
+import org.flowable.dmn.engine.impl.audit.DecisionExecutionAuditLevel;
 import org.flowable.dmn.engine.impl.audit.DecisionExecutionAuditUtil;
+import org.flowable.dmn.engine.impl.compiler.CompiledDecisionTable;
 import org.flowable.dmn.model.Decision;
 import org.flowable.dmn.model.DecisionTable;
 import org.flowable.dmn.model.InputClause;
@@ -36,11 +39,16 @@ public class ELExecutionContextBuilder {
     private static final Logger LOGGER = LoggerFactory.getLogger(ELExecutionContextBuilder.class);
 
     public static ELExecutionContext build(Decision decision, Map<String, Object> inputVariables) {
+        return build(decision, inputVariables, DecisionExecutionAuditLevel.FULL);
+    }
+
+    public static ELExecutionContext build(Decision decision, Map<String, Object> inputVariables, DecisionExecutionAuditLevel auditLevel) {
 
         ELExecutionContext executionContext = new ELExecutionContext();
 
         // initialize audit trail
-        executionContext.setAuditContainer(DecisionExecutionAuditUtil.initializeRuleExecutionAudit(decision, inputVariables));
+        executionContext.setAuditLevel(auditLevel);
+        executionContext.setAuditContainer(DecisionExecutionAuditUtil.initializeRuleExecutionAudit(decision, inputVariables, auditLevel));
 
         DecisionTable decisionTable = (DecisionTable) decision.getExpression();
 
@@ -68,6 +76,43 @@ public class ELExecutionContextBuilder {
         return executionContext;
     }
 
+    public static ELExecutionContext build(CompiledDecisionTable compiledDecisionTable, Map<String, Object> inputVariables) {
+        return build(compiledDecisionTable, inputVariables, DecisionExecutionAuditLevel.FULL);
+    }
+
+    public static ELExecutionContext build(CompiledDecisionTable compiledDecisionTable, Map<String, Object> inputVariables, DecisionExecutionAuditLevel auditLevel) {
+        Map<String, List<Object>> outputValues = compiledDecisionTable.getOutputValues();
+        if (outputValues == null) {
+            return build(compiledDecisionTable.getDecision(), inputVariables, auditLevel);
+        }
+
+        ELExecutionContext executionContext = new ELExecutionContext();
+
+        // initialize audit trail
+        executionContext.setAuditLevel(auditLevel);
+        executionContext.setAuditContainer(DecisionExecutionAuditUtil.initializeRuleExecutionAudit(compiledDecisionTable.getDecision(), inputVariables, auditLevel));
+
+        // add output values to context, these were converted when the decision table was compiled
+        for (Map.Entry<String, List<Object>> outputValuesEntry : outputValues.entrySet()) {
+            executionContext.addOutputValues(outputValuesEntry.getKey(), outputValuesEntry.getValue());
+        }
+
+        DecisionTable decisionTable = compiledDecisionTable.getDecisionTable();
+
+        // set aggregator
+        if (decisionTable.getAggregation() != null) {
+            executionContext.setAggregator(decisionTable.getAggregation());
+        }
+
+        preProcessInputVariables(decisionTable, inputVariables);
+
+        executionContext.setStackVariables(inputVariables);
+
+        LOGGER.debug("Execution Context created");
+
+        return executionContext;
+    }
+
     protected static void preProcessInputVariables(DecisionTable decisionTable, Map<String, Object> inputVariables) {
 
         if (inputVariables == null) {
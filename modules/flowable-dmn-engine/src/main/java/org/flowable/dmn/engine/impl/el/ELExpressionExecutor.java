@@ -46,12 +46,20 @@ public class ELExpressionExecutor {
         String inputExpression = inputClause.getInputExpression().getText();
         executionContext.checkExecutionContext(inputExpression);
         
-        // pre parse expression
-        String parsedExpression = ELInputEntryExpressionPreParser.parse(inputEntry.getText(), inputExpression, inputClause.getInputExpression().getTypeRef());
+        // use the expression parsed at deployment time, or pre parse and parse it now
+        Expression expression = getParsedExpression(inputEntry.getParsedExpression(inputEntry.getText()));
+        String parsedExpression;
+        if (expression != null) {
+            parsedExpression = expression.getExpressionText();
+        } else {
+            parsedExpression = ELInputEntryExpressionPreParser.parse(inputEntry.getText(), inputExpression, inputClause.getInputExpression().getTypeRef());
+            expression = expressionManager.createExpression(parsedExpression);
+        }
 
-        Expression expression = expressionManager.createExpression(parsedExpression);
-        RuleExpressionCondition condition = new RuleExpressionCondition(expression);
-        
+        return executeInputExpression(new RuleExpressionCondition(expression), parsedExpression, executionContext);
+    }
+
+    public static Boolean executeInputExpression(RuleExpressionCondition condition, String parsedExpression, ELExecutionContext executionContext) {
         try {
             return condition.evaluate(executionContext.getStackVariables());
         } catch (Exception ex) {
@@ -71,11 +79,16 @@ public class ELExpressionExecutor {
             throw new IllegalArgumentException("execution context is required");
         }
         
-        String parsedExpression = ELOutputEntryExpressionPreParser.parse(outputEntry.getText());
-        
-        Expression expression = expressionManager.createExpression(parsedExpression);
-        RuleExpressionOutput outputExpression = new RuleExpressionOutput(expression);
+        Expression expression = getParsedExpression(outputEntry.getParsedExpression(outputEntry.getText()));
+        if (expression == null) {
+            String parsedExpression = ELOutputEntryExpressionPreParser.parse(outputEntry.getText());
+            expression = expressionManager.createExpression(parsedExpression);
+        }
 
+        return executeOutputExpression(new RuleExpressionOutput(expression), outputEntry, executionContext);
+    }
+
+    public static Object executeOutputExpression(RuleExpressionOutput outputExpression, LiteralExpression outputEntry, ELExecutionContext executionContext) {
         try {
             return outputExpression.getValue(executionContext.getStackVariables());
         } catch (Exception ex) {
@@ -83,4 +96,11 @@ public class ELExpressionExecutor {
             throw new FlowableDmnExpressionException("error while executing output entry", outputEntry.getText(), ex);
         }
     }
+
+    protected static Expression getParsedExpression(Object parsedExpression) {
+        if (parsedExpression instanceof Expression) {
+            return (Expression) parsedExpression;
+        }
+        return null;
+    }
 }
@@ -37,4 +37,8 @@ public class RuleExpressionOutput {
         return value;
     }
 
+    public Expression getExpression() {
+        return expression;
+    }
+
 }
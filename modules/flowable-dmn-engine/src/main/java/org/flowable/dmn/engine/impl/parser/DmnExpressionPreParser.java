@@ -0,0 +1,101 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.parser;
+
+import org.apache.commons.lang3.StringUtils;
+import org.flowable.common.engine.impl.el.ExpressionManager;
+import org.flowable.dmn.engine.impl.el.ELExpressionExecutor;
+import org.flowable.dmn.engine.impl.el.ELInputEntryExpressionPreParser;
+import org.flowable.dmn.engine.impl.el.ELOutputEntryExpressionPreParser;
+import org.flowable.dmn.model.Decision;
+import org.flowable.dmn.model.DecisionRule;
+import org.flowable.dmn.model.DecisionTable;
+import org.flowable.dmn.model.DmnDefinition;
+import org.flowable.dmn.model.InputClause;
+import org.flowable.dmn.model.LiteralExpression;
+import org.flowable.dmn.model.RuleInputClauseContainer;
+import org.flowable.dmn.model.RuleOutputClauseContainer;
+import org.flowable.dmn.model.UnaryTests;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Parses the input and output entries of the decision tables of a {@link DmnDefinition} when it is deployed
+ * and stores the resulting expressions on the entries, where they are picked up by the {@link ELExpressionExecutor}.
+ */
+public class DmnExpressionPreParser {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DmnExpressionPreParser.class);
+
+    protected ExpressionManager expressionManager;
+
+    public DmnExpressionPreParser(ExpressionManager expressionManager) {
+        this.expressionManager = expressionManager;
+    }
+
+    public void preParseExpressions(DmnDefinition dmnDefinition) {
+        for (Decision decision : dmnDefinition.getDecisions()) {
+            if (decision.getExpression() instanceof DecisionTable) {
+                preParseExpressions((DecisionTable) decision.getExpression());
+            }
+        }
+    }
+
+    protected void preParseExpressions(DecisionTable decisionTable) {
+        for (DecisionRule rule : decisionTable.getRules()) {
+            for (RuleInputClauseContainer inputContainer : rule.getInputEntries()) {
+                preParseInputEntry(inputContainer.getInputClause(), inputContainer.getInputEntry());
+            }
+            for (RuleOutputClauseContainer outputContainer : rule.getOutputEntries()) {
+                preParseOutputEntry(outputContainer.getOutputEntry());
+            }
+        }
+    }
+
+    protected void preParseInputEntry(InputClause inputClause, UnaryTests inputEntry) {
+        if (inputEntry == null || StringUtils.isEmpty(inputEntry.getText()) || "-".equals(inputEntry.getText())
+                || inputClause == null || inputClause.getInputExpression() == null) {
+            return;
+        }
+
+        try {
+            String parsedExpression = ELInputEntryExpressionPreParser.parse(inputEntry.getText(), inputClause.getInputExpression().getText(),
+                    inputClause.getInputExpression().getTypeRef());
+            inputEntry.addParsedExpression(inputEntry.getText(), expressionManager.createExpression(parsedExpression));
+        } catch (RuntimeException e) {
+            LOGGER.debug("Could not parse input entry '{}', it will be parsed when it is executed", inputEntry.getText(), e);
+        }
+    }
+
+    protected void preParseOutputEntry(LiteralExpression outputEntry) {
+        if (outputEntry == null || StringUtils.isEmpty(outputEntry.getText())) {
+            return;
+        }
+
+        try {
+            String parsedExpression = ELOutputEntryExpressionPreParser.parse(outputEntry.getText());
+            outputEntry.addParsedExpression(outputEntry.getText(), expressionManager.createExpression(parsedExpression));
+        } catch (RuntimeException e) {
+            LOGGER.debug("Could not parse output entry '{}', it will be parsed when it is executed", outputEntry.getText(), e);
+        }
+    }
+
+    public ExpressionManager getExpressionManager() {
+        return expressionManager;
+    }
+
+    public void setExpressionManager(ExpressionManager expressionManager) {
+        this.expressionManager = expressionManager;
+    }
+
+}
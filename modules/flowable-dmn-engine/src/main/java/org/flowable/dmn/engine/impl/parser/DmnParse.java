@@ -82,6 +82,11 @@ public class DmnParse implements DmnXMLConstants {
                 dmnDefinition = converter.convertToDmnModel(streamSource, validateSchema, enableSafeDmnXml);
             }
 
+            // Parse the rule entries that are otherwise parsed on every execution
+            if (dmnDefinition != null && dmnDefinition.getDecisions() != null && dmnEngineConfig.isEnableExpressionPreParsing()) {
+                new DmnExpressionPreParser(dmnEngineConfig.getExpressionManager()).preParseExpressions(dmnDefinition);
+            }
+
             if (dmnDefinition != null && dmnDefinition.getDecisions() != null) {
                 for (Decision decision : dmnDefinition.getDecisions()) {
                     DecisionTableEntity decisionTableEntity = CommandContextUtil.getDmnEngineConfiguration().getDecisionTableEntityManager().create();
@@ -0,0 +1,263 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.persistence.deploy;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.flowable.dmn.api.DecisionExecutionAuditContainer;
+import org.flowable.dmn.engine.impl.compiler.DecisionTableCompiler;
+import org.joda.time.LocalDate;
+
+/**
+ * Caches the results of decisions that only depend on the values of their inputs.
+ *
+ * Only the decisions with one of the configured keys are cached, and only when the {@link DecisionTableCompiler} could verify
+ * that the decision table doesn't use other variables than its inputs nor any of the {@link #getImpureFunctionNames() impure functions}.
+ * The results are cached per decision definition (so per decision key and version) and per value of the inputs.
+ * The least recently used results are evicted when the limit is reached and all results of a decision are invalidated
+ * when a new version of it is deployed or when its deployment is removed.
+ * Executions of which the {@link org.flowable.dmn.engine.impl.audit.DecisionExecutionAuditLevel audit level} resolves to FULL
+ * never use the cache, so the engine audit level should be lowered to make use of it.
+ */
+public class DecisionResultCache {
+
+    public static final Set<String> DEFAULT_IMPURE_FUNCTION_NAMES = Collections.singleton("date:now");
+
+    protected Set<String> decisionKeys;
+    protected Set<String> impureFunctionNames = new HashSet<>(DEFAULT_IMPURE_FUNCTION_NAMES);
+    protected int limit;
+    protected Map<CacheKey, CachedDecisionResult> cache;
+
+    protected AtomicLong hitCount = new AtomicLong();
+    protected AtomicLong missCount = new AtomicLong();
+
+    public DecisionResultCache(Collection<String> decisionKeys, final int limit) {
+        this.decisionKeys = new HashSet<>(decisionKeys);
+        this.limit = limit;
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<CacheKey, CachedDecisionResult>(limit + 1, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<CacheKey, CachedDecisionResult> eldest) {
+                return size() > limit;
+            }
+        });
+    }
+
+    public boolean isCacheEnabled(String decisionKey) {
+        return decisionKeys.contains(decisionKey);
+    }
+
+    /**
+     * @return the key of the result of the decision for the given variables,
+     *         or null when the value of one of the inputs can't be used as key
+     */
+    public CacheKey createKey(String decisionKey, String decisionDefinitionId, List<String> inputNames, Map<String, Object> variables) {
+        if (decisionDefinitionId == null) {
+            return null;
+        }
+
+        StringBuilder inputValues = new StringBuilder();
+        for (String inputName : inputNames) {
+            Object value = variables != null ? variables.get(inputName) : null;
+            if (!appendCanonicalValue(inputValues, value)) {
+                return null;
+            }
+        }
+        return new CacheKey(decisionKey, decisionDefinitionId, inputValues.toString());
+    }
+
+    /**
+     * Appends a representation of the value that is equal for equal values of the same type. Every value starts with its type and length,
+     * so the representation of the input values can't be ambiguous.
+     */
+    protected boolean appendCanonicalValue(StringBuilder builder, Object value) {
+        String text;
+        if (value == null) {
+            builder.append("n;");
+            return true;
+
+        } else if (value instanceof String || value instanceof Boolean || value instanceof Number || value instanceof LocalDate) {
+            text = value.toString();
+
+        } else if (value instanceof Date) {
+            text = String.valueOf(((Date) value).getTime());
+
+        } else if (value instanceof Collection) {
+            builder.append("c").append(((Collection<?>) value).size()).append('[');
+            for (Object element : (Collection<?>) value) {
+                if (!appendCanonicalValue(builder, element)) {
+                    return false;
+                }
+            }
+            builder.append(']');
+            return true;
+
+        } else {
+            return false;
+        }
+
+        builder.append(value.getClass().getName()).append(':').append(text.length()).append(':').append(text).append(';');
+        return true;
+    }
+
+    /**
+     * @return the cached result, or null when no result is cached for the key
+     */
+    public CachedDecisionResult get(CacheKey key) {
+        CachedDecisionResult cachedDecisionResult = cache.get(key);
+        if (cachedDecisionResult != null) {
+            hitCount.incrementAndGet();
+        } else {
+            missCount.incrementAndGet();
+        }
+        return cachedDecisionResult;
+    }
+
+    public void put(CacheKey key, DecisionExecutionAuditContainer auditContainer) {
+        cache.put(key, new CachedDecisionResult(auditContainer.getDecisionResult(), auditContainer.getDecisionResultTypes()));
+    }
+
+    /**
+     * Removes the cached results of all versions of the decision.
+     */
+    public void invalidate(String decisionKey) {
+        synchronized (cache) {
+            Iterator<CacheKey> keys = cache.keySet().iterator();
+            while (keys.hasNext()) {
+                if (keys.next().getDecisionKey().equals(decisionKey)) {
+                    keys.remove();
+                }
+            }
+        }
+    }
+
+    public void clear() {
+        cache.clear();
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public void resetStatistics() {
+        hitCount.set(0);
+        missCount.set(0);
+    }
+
+    public Set<String> getDecisionKeys() {
+        return decisionKeys;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * The names (prefix:localName) of the functions whose result doesn't only depend on their arguments.
+     * Decision tables using one of these functions are not cached.
+     */
+    public Set<String> getImpureFunctionNames() {
+        return impureFunctionNames;
+    }
+
+    public void setImpureFunctionNames(Set<String> impureFunctionNames) {
+        this.impureFunctionNames = impureFunctionNames;
+    }
+
+    public static class CacheKey {
+
+        protected final String decisionKey;
+        protected final String decisionDefinitionId;
+        protected final String inputValues;
+
+        public CacheKey(String decisionKey, String decisionDefinitionId, String inputValues) {
+            this.decisionKey = decisionKey;
+            this.decisionDefinitionId = decisionDefinitionId;
+            this.inputValues = inputValues;
+        }
+
+        public String getDecisionKey() {
+            return decisionKey;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof CacheKey)) {
+                return false;
+            }
+            CacheKey other = (CacheKey) obj;
+            return decisionDefinitionId.equals(other.decisionDefinitionId) && inputValues.equals(other.inputValues);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * decisionDefinitionId.hashCode() + inputValues.hashCode();
+        }
+    }
+
+    public static class CachedDecisionResult {
+
+        protected final List<Map<String, Object>> decisionResult;
+        protected final Map<String, String> decisionResultTypes;
+
+        public CachedDecisionResult(List<Map<String, Object>> decisionResult, Map<String, String> decisionResultTypes) {
+            this.decisionResult = copyDecisionResult(decisionResult);
+            this.decisionResultTypes = decisionResultTypes != null ? new HashMap<>(decisionResultTypes) : Collections.<String, String>emptyMap();
+        }
+
+        /**
+         * Adds a copy of the cached result to the audit container, so the cached result can't be changed by the caller.
+         */
+        public void addTo(DecisionExecutionAuditContainer auditContainer) {
+            auditContainer.setDecisionResult(copyDecisionResult(decisionResult));
+            for (Map.Entry<String, String> decisionResultType : decisionResultTypes.entrySet()) {
+                auditContainer.addDecisionResultType(decisionResultType.getKey(), decisionResultType.getValue());
+            }
+        }
+
+        protected static List<Map<String, Object>> copyDecisionResult(List<Map<String, Object>> decisionResult) {
+            List<Map<String, Object>> copy = new ArrayList<>(decisionResult != null ? decisionResult.size() : 0);
+            if (decisionResult != null) {
+                for (Map<String, Object> ruleResult : decisionResult) {
+                    copy.add(new HashMap<>(ruleResult));
+                }
+            }
+            return copy;
+        }
+    }
+
+}
@@ -54,6 +54,14 @@ public class DeploymentManager {
         for (Deployer deployer : deployers) {
             deployer.deploy(deployment, deploymentSettings);
         }
+
+        // the cached results of the previous versions of the deployed decisions are no longer valid
+        DecisionResultCache decisionResultCache = engineConfig.getDecisionResultCache();
+        if (decisionResultCache != null && deployment.isNew()) {
+            for (DecisionTableEntity decisionTable : deployment.getDeployedArtifacts(DecisionTableEntity.class)) {
+                decisionResultCache.invalidate(decisionTable.getKey());
+            }
+        }
     }
 
     public DecisionTableEntity findDeployedDecisionById(String decisionId) {
@@ -171,8 +179,12 @@ public class DeploymentManager {
         // Delete data
         deploymentEntityManager.deleteDeployment(deploymentId);
 
+        DecisionResultCache decisionResultCache = engineConfig.getDecisionResultCache();
         for (DmnDecisionTable decisionTable : decisionTables) {
             decisionCache.remove(decisionTable.getId());
+            if (decisionResultCache != null) {
+                decisionResultCache.invalidate(decisionTable.getKey());
+            }
         }
     }
 
@@ -0,0 +1,109 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.el;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+
+import org.flowable.common.engine.api.delegate.Expression;
+import org.flowable.common.engine.impl.el.DefaultExpressionManager;
+import org.flowable.common.engine.impl.el.ExpressionManager;
+import org.flowable.dmn.engine.impl.parser.DmnExpressionPreParser;
+import org.flowable.dmn.model.Decision;
+import org.flowable.dmn.model.DecisionRule;
+import org.flowable.dmn.model.DecisionTable;
+import org.flowable.dmn.model.DmnDefinition;
+import org.flowable.dmn.model.InputClause;
+import org.flowable.dmn.model.LiteralExpression;
+import org.flowable.dmn.model.OutputClause;
+import org.flowable.dmn.model.RuleInputClauseContainer;
+import org.flowable.dmn.model.RuleOutputClauseContainer;
+import org.flowable.dmn.model.UnaryTests;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ELExpressionExecutorTest {
+
+    protected ExpressionManager expressionManager = new DefaultExpressionManager();
+
+    protected InputClause inputClause;
+    protected UnaryTests inputEntry;
+    protected OutputClause outputClause;
+    protected LiteralExpression outputEntry;
+    protected ELExecutionContext executionContext;
+
+    @Before
+    public void setUp() {
+        LiteralExpression inputExpression = new LiteralExpression();
+        inputExpression.setText("amount");
+        inputExpression.setTypeRef("number");
+        inputClause = new InputClause();
+        inputClause.setInputExpression(inputExpression);
+        inputEntry = new UnaryTests();
+        inputEntry.setText("> 100");
+
+        outputClause = new OutputClause();
+        outputClause.setName("outcome");
+        outputEntry = new LiteralExpression();
+        outputEntry.setText("\"high\"");
+
+        RuleInputClauseContainer inputContainer = new RuleInputClauseContainer();
+        inputContainer.setInputClause(inputClause);
+        inputContainer.setInputEntry(inputEntry);
+        RuleOutputClauseContainer outputContainer = new RuleOutputClauseContainer();
+        outputContainer.setOutputClause(outputClause);
+        outputContainer.setOutputEntry(outputEntry);
+        DecisionRule rule = new DecisionRule();
+        rule.addInputEntry(inputContainer);
+        rule.addOutputEntry(outputContainer);
+        DecisionTable decisionTable = new DecisionTable();
+        decisionTable.addInput(inputClause);
+        decisionTable.addOutput(outputClause);
+        decisionTable.addRule(rule);
+        Decision decision = new Decision();
+        decision.setExpression(decisionTable);
+        DmnDefinition dmnDefinition = new DmnDefinition();
+        dmnDefinition.addDecision(decision);
+
+        new DmnExpressionPreParser(expressionManager).preParseExpressions(dmnDefinition);
+
+        executionContext = new ELExecutionContext();
+        executionContext.setStackVariables(Collections.<String, Object>singletonMap("amount", 150));
+    }
+
+    @Test
+    public void executePreParsedEntries() {
+        assertTrue(inputEntry.getParsedExpression("> 100") instanceof Expression);
+        assertTrue(outputEntry.getParsedExpression("\"high\"") instanceof Expression);
+
+        assertTrue(ELExpressionExecutor.executeInputExpression(inputClause, inputEntry, expressionManager, executionContext));
+        assertEquals("high", ELExpressionExecutor.executeOutputExpression(outputClause, outputEntry, expressionManager, executionContext));
+    }
+
+    @Test
+    public void executeEntriesWithChangedText() {
+        // the pre-parsed expressions are keyed by the text they were parsed from, other text is parsed on execution
+        inputEntry.setText("> 200");
+        outputEntry.setText("\"very high\"");
+        assertNull(inputEntry.getParsedExpression("> 200"));
+        assertNull(outputEntry.getParsedExpression("\"very high\""));
+
+        assertFalse(ELExpressionExecutor.executeInputExpression(inputClause, inputEntry, expressionManager, executionContext));
+        assertEquals("very high", ELExpressionExecutor.executeOutputExpression(outputClause, outputEntry, expressionManager, executionContext));
+    }
+
+}
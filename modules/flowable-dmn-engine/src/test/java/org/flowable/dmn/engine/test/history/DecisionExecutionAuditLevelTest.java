@@ -0,0 +1,230 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.test.history;
+
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.lang3.StringUtils;
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.dmn.api.DecisionExecutionAuditContainer;
+import org.flowable.dmn.api.DmnHistoricDecisionExecution;
+import org.flowable.dmn.engine.impl.audit.AsyncDecisionExecutionHistoryWriter;
+import org.flowable.dmn.engine.impl.audit.DecisionExecutionAuditLevel;
+import org.flowable.dmn.engine.impl.persistence.entity.HistoricDecisionExecutionEntity;
+import org.flowable.dmn.engine.impl.test.PluggableFlowableDmnTestCase;
+import org.flowable.dmn.engine.test.DmnDeployment;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+public class DecisionExecutionAuditLevelTest extends PluggableFlowableDmnTestCase {
+
+    protected static final String RULE_ORDER_DMN = "org/flowable/dmn/engine/test/runtime/HitPolicyRuleOrderTest.ruleOrderHitPolicy.dmn";
+    protected static final String UNIQUE_VIOLATED_DMN = "org/flowable/dmn/engine/test/runtime/HitPolicyUniqueTest.uniqueHitPolicyViolated.dmn";
+
+    @Override
+    protected void tearDown() throws Exception {
+        dmnEngineConfiguration.setDecisionExecutionAuditLevel(DecisionExecutionAuditLevel.FULL);
+        dmnEngineConfiguration.setDecisionExecutionAuditSampleRatio(0.01);
+        super.tearDown();
+    }
+
+    @DmnDeployment(resources = RULE_ORDER_DMN)
+    public void testFullAuditLevel() throws Exception {
+        List<Map<String, Object>> result = executeDecision(5);
+        assertEquals(3, result.size());
+
+        JsonNode executionNode = getExecutionNode();
+        assertEquals(4, executionNode.get("ruleExecutions").size());
+        assertEquals(1, executionNode.get("ruleExecutions").get("2").get("conditionResults").size());
+        assertEquals(5, executionNode.get("inputVariables").get("inputVariable1").asInt());
+    }
+
+    @DmnDeployment(resources = RULE_ORDER_DMN)
+    public void testSummaryAuditLevel() throws Exception {
+        dmnEngineConfiguration.setDecisionExecutionAuditLevel(DecisionExecutionAuditLevel.SUMMARY);
+
+        List<Map<String, Object>> result = executeDecision(5);
+        assertEquals(3, result.size());
+        assertEquals("result1", result.get(0).get("outputVariable1"));
+        assertEquals("result3", result.get(1).get("outputVariable1"));
+        assertEquals("result4", result.get(2).get("outputVariable1"));
+
+        // only the valid rules with their output entries are audited
+        JsonNode executionNode = getExecutionNode();
+        JsonNode ruleExecutions = executionNode.get("ruleExecutions");
+        assertEquals(3, ruleExecutions.size());
+        assertTrue(ruleExecutions.has("1"));
+        assertFalse(ruleExecutions.has("2"));
+        assertTrue(ruleExecutions.has("3"));
+        assertTrue(ruleExecutions.has("4"));
+        assertTrue(ruleExecutions.get("1").get("valid").asBoolean());
+        assertEquals(0, ruleExecutions.get("1").get("conditionResults").size());
+        assertEquals(1, ruleExecutions.get("1").get("conclusionResults").size());
+        assertEquals(0, executionNode.get("inputVariables").size());
+        assertEquals(3, executionNode.get("decisionResult").size());
+    }
+
+    @DmnDeployment(resources = RULE_ORDER_DMN)
+    public void testNoneAuditLevel() {
+        dmnEngineConfiguration.setDecisionExecutionAuditLevel(DecisionExecutionAuditLevel.NONE);
+
+        List<Map<String, Object>> result = executeDecision(11);
+        assertEquals(3, result.size());
+        assertEquals("result2", result.get(0).get("outputVariable1"));
+        assertEquals(0, historyService.createHistoricDecisionExecutionQuery().decisionKey("decision1").count());
+    }
+
+    @DmnDeployment(resources = RULE_ORDER_DMN)
+    public void testSampledAuditLevel() throws Exception {
+        dmnEngineConfiguration.setDecisionExecutionAuditLevel(DecisionExecutionAuditLevel.SAMPLED);
+
+        dmnEngineConfiguration.setDecisionExecutionAuditSampleRatio(0);
+        executeDecision(5);
+        assertEquals(3, getExecutionNode().get("ruleExecutions").size());
+        assertEquals(0, getExecutionNode().get("inputVariables").size());
+
+        // with a ratio of 1 every execution is audited with the full audit level
+        dmnEngineConfiguration.setDecisionExecutionAuditSampleRatio(1);
+        executeDecision(5);
+        executeDecision(5);
+        int fullExecutions = 0;
+        for (DmnHistoricDecisionExecution decisionExecution : historyService.createHistoricDecisionExecutionQuery().decisionKey("decision1").list()) {
+            JsonNode executionNode = dmnEngineConfiguration.getObjectMapper().readTree(decisionExecution.getExecutionJson());
+            if (executionNode.get("ruleExecutions").size() == 4) {
+                fullExecutions++;
+            }
+        }
+        assertEquals(2, fullExecutions);
+    }
+
+    @DmnDeployment(resources = RULE_ORDER_DMN)
+    public void testAuditTrailIsAlwaysComplete() {
+        dmnEngineConfiguration.setDecisionExecutionAuditLevel(DecisionExecutionAuditLevel.NONE);
+
+        DecisionExecutionAuditContainer auditContainer = ruleService.createExecuteDecisionBuilder()
+                .decisionKey("decision1")
+                .variable("inputVariable1", 5)
+                .executeWithAuditTrail();
+        assertEquals(4, auditContainer.getRuleExecutions().size());
+        assertEquals(1, auditContainer.getRuleExecutions().get(2).getConditionResults().size());
+
+        List<DecisionExecutionAuditContainer> batchAuditContainers = ruleService.createExecuteDecisionBatchBuilder()
+                .decisionKey("decision1")
+                .addVariables(auditContainer.getInputVariables())
+                .executeWithAuditTrail();
+        assertEquals(4, batchAuditContainers.get(0).getRuleExecutions().size());
+    }
+
+    @DmnDeployment(resources = UNIQUE_VIOLATED_DMN)
+    public void testHitPolicyValidationWithSummaryAuditLevel() throws Exception {
+        dmnEngineConfiguration.setDecisionExecutionAuditLevel(DecisionExecutionAuditLevel.SUMMARY);
+
+        assertEquals(0, executeDecision(9).size());
+
+        DmnHistoricDecisionExecution decisionExecution = historyService.createHistoricDecisionExecutionQuery().decisionKey("decision1").singleResult();
+        assertTrue(decisionExecution.isFailed());
+
+        JsonNode ruleExecutions = dmnEngineConfiguration.getObjectMapper().readTree(decisionExecution.getExecutionJson()).get("ruleExecutions");
+        assertEquals(2, ruleExecutions.size());
+        assertTrue(ruleExecutions.get("1").has("exception"));
+        assertTrue(ruleExecutions.get("3").has("exception"));
+    }
+
+    @DmnDeployment(resources = RULE_ORDER_DMN)
+    public void testAsyncHistory() throws Exception {
+        AsyncDecisionExecutionHistoryWriter asyncHistoryWriter = new AsyncDecisionExecutionHistoryWriter(dmnEngineConfiguration, 10);
+        dmnEngineConfiguration.setAsyncDecisionExecutionHistoryWriter(asyncHistoryWriter);
+        try {
+            for (int i = 0; i < 25; i++) {
+                executeDecision(i);
+            }
+
+            asyncHistoryWriter.flush();
+            assertEquals(25, historyService.createHistoricDecisionExecutionQuery().decisionKey("decision1").count());
+
+            for (DmnHistoricDecisionExecution decisionExecution : historyService.createHistoricDecisionExecutionQuery().decisionKey("decision1").list()) {
+                assertNotNull(decisionExecution.getDeploymentId());
+                assertNotNull(decisionExecution.getExecutionJson());
+            }
+
+        } finally {
+            dmnEngineConfiguration.setAsyncDecisionExecutionHistoryWriter(null);
+            asyncHistoryWriter.shutdown();
+        }
+    }
+
+    @DmnDeployment(resources = RULE_ORDER_DMN)
+    public void testAsyncHistoryIsNotWrittenForRolledBackTransaction() throws Exception {
+        AsyncDecisionExecutionHistoryWriter asyncHistoryWriter = new AsyncDecisionExecutionHistoryWriter(dmnEngineConfiguration, 10);
+        dmnEngineConfiguration.setAsyncDecisionExecutionHistoryWriter(asyncHistoryWriter);
+        try {
+            try {
+                dmnEngineConfiguration.getCommandExecutor().execute(commandContext -> {
+                    executeDecision(5);
+                    throw new FlowableException("rollback");
+                });
+                fail("Exception expected");
+            } catch (FlowableException e) {
+                assertEquals("rollback", e.getMessage());
+            }
+
+            executeDecision(6);
+            asyncHistoryWriter.flush();
+            assertEquals(1, historyService.createHistoricDecisionExecutionQuery().decisionKey("decision1").count());
+            assertEquals(0, asyncHistoryWriter.getFailedDecisionExecutionCount());
+
+        } finally {
+            dmnEngineConfiguration.setAsyncDecisionExecutionHistoryWriter(null);
+            asyncHistoryWriter.shutdown();
+        }
+    }
+
+    @DmnDeployment(resources = RULE_ORDER_DMN)
+    public void testAsyncHistoryWithFailingInsert() throws Exception {
+        AsyncDecisionExecutionHistoryWriter asyncHistoryWriter = new AsyncDecisionExecutionHistoryWriter(dmnEngineConfiguration, 10);
+        asyncHistoryWriter.setMaxAttempts(2);
+        dmnEngineConfiguration.setAsyncDecisionExecutionHistoryWriter(asyncHistoryWriter);
+        try {
+            // an instance id that doesn't fit in its column makes every insert attempt fail
+            HistoricDecisionExecutionEntity invalidDecisionExecution = dmnEngineConfiguration.getHistoricDecisionExecutionEntityManager().create();
+            invalidDecisionExecution.setInstanceId(StringUtils.repeat('a', 300));
+            asyncHistoryWriter.write(invalidDecisionExecution, new DecisionExecutionAuditContainer());
+            asyncHistoryWriter.flush();
+            assertEquals(1, asyncHistoryWriter.getFailedDecisionExecutionCount());
+
+            // the failed batch is dropped, later executions are written again
+            executeDecision(5);
+            asyncHistoryWriter.flush();
+            assertEquals(1, historyService.createHistoricDecisionExecutionQuery().decisionKey("decision1").count());
+            assertEquals(1, asyncHistoryWriter.getFailedDecisionExecutionCount());
+
+        } finally {
+            dmnEngineConfiguration.setAsyncDecisionExecutionHistoryWriter(null);
+            asyncHistoryWriter.shutdown();
+        }
+    }
+
+    protected List<Map<String, Object>> executeDecision(int inputValue) {
+        return ruleService.createExecuteDecisionBuilder()
+                .decisionKey("decision1")
+                .variable("inputVariable1", inputValue)
+                .execute();
+    }
+
+    protected JsonNode getExecutionNode() throws Exception {
+        DmnHistoricDecisionExecution decisionExecution = historyService.createHistoricDecisionExecutionQuery().decisionKey("decision1").singleResult();
+        return dmnEngineConfiguration.getObjectMapper().readTree(decisionExecution.getExecutionJson());
+    }
+
+}
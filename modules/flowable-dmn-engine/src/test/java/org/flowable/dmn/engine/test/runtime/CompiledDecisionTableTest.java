@@ -0,0 +1,96 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.test.runtime;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.dmn.api.DecisionExecutionAuditContainer;
+import org.flowable.dmn.api.DmnDecisionTable;
+import org.flowable.dmn.api.DmnRuleService;
+import org.flowable.dmn.engine.DmnEngineConfiguration;
+import org.flowable.dmn.engine.impl.compiler.CompiledDecisionTable;
+import org.flowable.dmn.engine.impl.persistence.deploy.DecisionTableCacheEntry;
+import org.flowable.dmn.engine.test.DmnDeployment;
+import org.flowable.dmn.engine.test.FlowableDmnRule;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class CompiledDecisionTableTest {
+
+    @Rule
+    public FlowableDmnRule flowableDmnRule = new FlowableDmnRule();
+
+    @Test
+    @DmnDeployment(resources = "org/flowable/dmn/engine/test/runtime/HitPolicyPriorityTest.priorityHitPolicyCompound.dmn")
+    public void compiledResultsMatchInterpretedResults() {
+        DecisionTableCacheEntry cacheEntry = getCacheEntry("decision1");
+        CompiledDecisionTable compiledDecisionTable = cacheEntry.getCompiledDecisionTable();
+        assertNotNull(compiledDecisionTable);
+        assertSame(cacheEntry.getDecision(), compiledDecisionTable.getDecision());
+        assertEquals(4, compiledDecisionTable.getRules().size());
+        assertNotNull(compiledDecisionTable.getHitPolicyBehavior());
+        assertNotNull(compiledDecisionTable.getOutputValues());
+
+        for (int i = 0; i < 40; i += 3) {
+            cacheEntry.setCompiledDecisionTable(compiledDecisionTable);
+            DecisionExecutionAuditContainer compiledResult = executeDecision(i);
+
+            cacheEntry.setCompiledDecisionTable(null);
+            DecisionExecutionAuditContainer interpretedResult = executeDecision(i);
+
+            assertEquals("inputVariable1=" + i, interpretedResult.getDecisionResult(), compiledResult.getDecisionResult());
+            assertEquals(interpretedResult.getRuleExecutions().keySet(), compiledResult.getRuleExecutions().keySet());
+            assertEquals(interpretedResult.isFailed(), compiledResult.isFailed());
+        }
+    }
+
+    @Test
+    @DmnDeployment(resources = "org/flowable/dmn/engine/test/runtime/HitPolicyRuleOrderTest.ruleOrderHitPolicy.dmn")
+    public void compiledRuleOrder() {
+        assertNotNull(getCacheEntry("decision1").getCompiledDecisionTable());
+
+        DmnRuleService dmnRuleService = flowableDmnRule.getDmnEngine().getDmnRuleService();
+        for (int i = 0; i < 3; i++) {
+            List<Map<String, Object>> result = dmnRuleService.createExecuteDecisionBuilder()
+                    .decisionKey("decision1")
+                    .variable("inputVariable1", 13)
+                    .execute();
+
+            assertEquals(2, result.size());
+            assertEquals("result2", result.get(0).get("outputVariable1"));
+            assertEquals("result4", result.get(1).get("outputVariable1"));
+        }
+    }
+
+    protected DecisionExecutionAuditContainer executeDecision(int inputValue) {
+        return flowableDmnRule.getDmnEngine().getDmnRuleService().createExecuteDecisionBuilder()
+                .decisionKey("decision1")
+                .variable("inputVariable1", inputValue)
+                .executeWithAuditTrail();
+    }
+
+    protected DecisionTableCacheEntry getCacheEntry(String decisionKey) {
+        DmnDecisionTable decisionTable = flowableDmnRule.getDmnEngine().getDmnRepositoryService().createDecisionTableQuery()
+                .decisionTableKey(decisionKey)
+                .singleResult();
+        DmnEngineConfiguration dmnEngineConfiguration = flowableDmnRule.getDmnEngine().getDmnEngineConfiguration();
+        dmnEngineConfiguration.getDeploymentManager().findDeployedDecisionById(decisionTable.getId());
+        return dmnEngineConfiguration.getDeploymentManager().getDecisionCache().get(decisionTable.getId());
+    }
+
+}
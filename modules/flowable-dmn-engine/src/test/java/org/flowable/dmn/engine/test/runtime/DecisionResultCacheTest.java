@@ -0,0 +1,237 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.test.runtime;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.dmn.api.DecisionExecutionAuditContainer;
+import org.flowable.dmn.api.DmnDecisionTable;
+import org.flowable.dmn.api.DmnDeployment;
+import org.flowable.dmn.api.DmnRepositoryService;
+import org.flowable.dmn.api.DmnRuleService;
+import org.flowable.dmn.engine.DmnEngineConfiguration;
+import org.flowable.dmn.engine.impl.audit.DecisionExecutionAuditLevel;
+import org.flowable.dmn.engine.impl.compiler.CompiledDecisionTable;
+import org.flowable.dmn.engine.impl.persistence.deploy.DecisionResultCache;
+import org.flowable.dmn.engine.test.FlowableDmnRule;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class DecisionResultCacheTest {
+
+    protected static final String RULE_ORDER_DMN = "org/flowable/dmn/engine/test/runtime/HitPolicyRuleOrderTest.ruleOrderHitPolicy.dmn";
+    protected static final String DYNAMIC_DATES_DMN = "org/flowable/dmn/engine/test/deployment/dates_2.dmn";
+
+    @Rule
+    public FlowableDmnRule flowableDmnRule = new FlowableDmnRule();
+
+    protected DecisionResultCache decisionResultCache;
+
+    @Before
+    public void setUp() {
+        decisionResultCache = new DecisionResultCache(Arrays.asList("decision1", "decision", "undeclaredVariable"), 3);
+        getDmnEngineConfiguration().setDecisionResultCache(decisionResultCache);
+        getDmnEngineConfiguration().getDecisionTableCompiler().setDecisionResultCache(decisionResultCache);
+        getDmnEngineConfiguration().setDecisionExecutionAuditLevel(DecisionExecutionAuditLevel.SUMMARY);
+    }
+
+    @After
+    public void tearDown() {
+        getDmnEngineConfiguration().setDecisionResultCache(null);
+        getDmnEngineConfiguration().getDecisionTableCompiler().setDecisionResultCache(null);
+        getDmnEngineConfiguration().setDecisionExecutionAuditLevel(DecisionExecutionAuditLevel.FULL);
+    }
+
+    @Test
+    public void cachedResult() {
+        DmnDeployment deployment = getRepositoryService().createDeployment().addClasspathResource(RULE_ORDER_DMN).deploy();
+        try {
+            assertEquals(Collections.singletonList("inputVariable1"), getCompiledDecisionTable("decision1").getResultCacheInputNames());
+
+            List<Map<String, Object>> result = execute("decision1", "inputVariable1", 5);
+            assertEquals(3, result.size());
+            assertEquals(0, decisionResultCache.getHitCount());
+            assertEquals(1, decisionResultCache.getMissCount());
+
+            // changing the result doesn't change the cached result
+            result.get(0).put("outputVariable1", "changed");
+
+            List<Map<String, Object>> cachedResult = execute("decision1", "inputVariable1", 5);
+            assertEquals(1, decisionResultCache.getHitCount());
+            assertEquals(3, cachedResult.size());
+            assertEquals("result1", cachedResult.get(0).get("outputVariable1"));
+            assertEquals("result3", cachedResult.get(1).get("outputVariable1"));
+            assertEquals("result4", cachedResult.get(2).get("outputVariable1"));
+
+            assertEquals("result2", execute("decision1", "inputVariable1", 11).get(0).get("outputVariable1"));
+            assertEquals(1, decisionResultCache.getHitCount());
+            assertEquals(2, decisionResultCache.getMissCount());
+
+            // the complete audit trail is never taken from the cache
+            DecisionExecutionAuditContainer auditContainer = getRuleService().createExecuteDecisionBuilder()
+                    .decisionKey("decision1")
+                    .variable("inputVariable1", 5)
+                    .executeWithAuditTrail();
+            assertEquals(4, auditContainer.getRuleExecutions().size());
+            assertEquals(1, decisionResultCache.getHitCount());
+
+            // history is still recorded for cached results
+            assertEquals(4, getDmnEngineConfiguration().getDmnHistoryService().createHistoricDecisionExecutionQuery().decisionKey("decision1").count());
+
+            // nor is it used when the engine records the complete audit trail
+            getDmnEngineConfiguration().setDecisionExecutionAuditLevel(DecisionExecutionAuditLevel.FULL);
+            execute("decision1", "inputVariable1", 5);
+            assertEquals(1, decisionResultCache.getHitCount());
+            assertEquals(2, decisionResultCache.getMissCount());
+
+        } finally {
+            getRepositoryService().deleteDeployment(deployment.getId());
+        }
+    }
+
+    @Test
+    public void evictionAndInvalidation() {
+        DmnDeployment deployment = getRepositoryService().createDeployment().addClasspathResource(RULE_ORDER_DMN).deploy();
+        DmnDeployment redeployment = null;
+        try {
+            for (int i = 0; i < 5; i++) {
+                execute("decision1", "inputVariable1", i);
+            }
+            assertEquals(3, decisionResultCache.size());
+
+            execute("decision1", "inputVariable1", 4);
+            assertEquals(1, decisionResultCache.getHitCount());
+
+            redeployment = getRepositoryService().createDeployment().addClasspathResource(RULE_ORDER_DMN).deploy();
+            assertEquals(0, decisionResultCache.size());
+
+            execute("decision1", "inputVariable1", 4);
+            assertEquals(1, decisionResultCache.getHitCount());
+            assertEquals(1, decisionResultCache.size());
+
+        } finally {
+            getRepositoryService().deleteDeployment(deployment.getId());
+            if (redeployment != null) {
+                getRepositoryService().deleteDeployment(redeployment.getId());
+            }
+        }
+        assertEquals(0, decisionResultCache.size());
+    }
+
+    @Test
+    public void impureDecisionsAreNotCached() {
+        DmnDeployment datesDeployment = getRepositoryService().createDeployment().addClasspathResource(DYNAMIC_DATES_DMN).deploy();
+        DmnDeployment undeclaredVariableDeployment = getRepositoryService().createDeployment()
+                .addString("undeclaredVariable.dmn", createUndeclaredVariableDecisionTable())
+                .deploy();
+        try {
+            // the dates decision table uses fn_now()
+            assertNull(getCompiledDecisionTable("decision").getResultCacheInputNames());
+            // the output entry uses a variable that is not an input
+            assertNull(getCompiledDecisionTable("undeclaredVariable").getResultCacheInputNames());
+
+            for (int i = 0; i < 2; i++) {
+                assertEquals("other5", execute("undeclaredVariable", "input1", 5, "other", "other" + 5).get(0).get("output1"));
+                assertEquals("other6", execute("undeclaredVariable", "input1", 5, "other", "other" + 6).get(0).get("output1"));
+            }
+            assertEquals(0, decisionResultCache.getHitCount());
+            assertEquals(0, decisionResultCache.getMissCount());
+
+        } finally {
+            getRepositoryService().deleteDeployment(datesDeployment.getId());
+            getRepositoryService().deleteDeployment(undeclaredVariableDeployment.getId());
+        }
+    }
+
+    @Test
+    public void cacheKey() {
+        List<String> inputNames = Arrays.asList("a", "b");
+        assertEquals(decisionResultCache.createKey("key", "id", inputNames, variables("a", 1, "b", "x")),
+                decisionResultCache.createKey("key", "id", inputNames, variables("b", "x", "a", 1, "c", "ignored")));
+        assertEquals(decisionResultCache.createKey("key", "id", inputNames, variables("a", Arrays.asList(1, "2"))),
+                decisionResultCache.createKey("key", "id", inputNames, variables("a", Arrays.asList(1, "2"))));
+
+        assertNotEquals(decisionResultCache.createKey("key", "id", inputNames, variables("a", 1)),
+                decisionResultCache.createKey("key", "id", inputNames, variables("a", 1L)));
+        assertNotEquals(decisionResultCache.createKey("key", "id", inputNames, variables("a", "1;", "b", "2")),
+                decisionResultCache.createKey("key", "id", inputNames, variables("a", "1", "b", ";2")));
+        assertNotEquals(decisionResultCache.createKey("key", "id", inputNames, variables("a", 1)),
+                decisionResultCache.createKey("key", "otherId", inputNames, variables("a", 1)));
+
+        // values of unknown types can't be used as key
+        assertNull(decisionResultCache.createKey("key", "id", inputNames, variables("a", new Object())));
+    }
+
+    protected Map<String, Object> variables(Object... namesAndValues) {
+        Map<String, Object> variables = new HashMap<>();
+        for (int i = 0; i < namesAndValues.length; i += 2) {
+            variables.put((String) namesAndValues[i], namesAndValues[i + 1]);
+        }
+        return variables;
+    }
+
+    protected List<Map<String, Object>> execute(String decisionKey, Object... namesAndValues) {
+        return getRuleService().createExecuteDecisionBuilder()
+                .decisionKey(decisionKey)
+                .variables(variables(namesAndValues))
+                .execute();
+    }
+
+    protected CompiledDecisionTable getCompiledDecisionTable(String decisionKey) {
+        DmnDecisionTable decisionTable = getRepositoryService().createDecisionTableQuery()
+                .decisionTableKey(decisionKey)
+                .latestVersion()
+                .singleResult();
+        getDmnEngineConfiguration().getDeploymentManager().findDeployedDecisionById(decisionTable.getId());
+        CompiledDecisionTable compiledDecisionTable = getDmnEngineConfiguration().getDeploymentManager().getDecisionCache()
+                .get(decisionTable.getId()).getCompiledDecisionTable();
+        assertNotNull(compiledDecisionTable);
+        return compiledDecisionTable;
+    }
+
+    protected String createUndeclaredVariableDecisionTable() {
+        return "<definitions xmlns=\"http://www.omg.org/spec/DMN/20151101\" id=\"undeclared\" name=\"Undeclared\" namespace=\"http://www.flowable.org/dmn\">"
+                + "<decision id=\"undeclaredVariable\" name=\"Undeclared variable\">"
+                + "<decisionTable id=\"decisionTable\" hitPolicy=\"FIRST\">"
+                + "<input><inputExpression id=\"inputExpression1\" typeRef=\"number\"><text>input1</text></inputExpression></input>"
+                + "<output id=\"output1\" label=\"Output 1\" name=\"output1\" typeRef=\"string\"/>"
+                + "<rule><inputEntry id=\"inputEntry1\"><text>&gt; 1</text></inputEntry><outputEntry id=\"outputEntry1\"><text>${other}</text></outputEntry></rule>"
+                + "</decisionTable>"
+                + "</decision>"
+                + "</definitions>";
+    }
+
+    protected DmnEngineConfiguration getDmnEngineConfiguration() {
+        return flowableDmnRule.getDmnEngine().getDmnEngineConfiguration();
+    }
+
+    protected DmnRepositoryService getRepositoryService() {
+        return flowableDmnRule.getDmnEngine().getDmnRepositoryService();
+    }
+
+    protected DmnRuleService getRuleService() {
+        return flowableDmnRule.getDmnEngine().getDmnRuleService();
+    }
+
+}
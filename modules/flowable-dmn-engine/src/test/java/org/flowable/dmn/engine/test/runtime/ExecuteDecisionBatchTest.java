@@ -0,0 +1,125 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.test.runtime;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import org.flowable.dmn.api.DecisionExecutionAuditContainer;
+import org.flowable.dmn.engine.impl.test.PluggableFlowableDmnTestCase;
+import org.flowable.dmn.engine.test.DmnDeployment;
+
+public class ExecuteDecisionBatchTest extends PluggableFlowableDmnTestCase {
+
+    @DmnDeployment(resources = "org/flowable/dmn/engine/test/runtime/HitPolicyRuleOrderTest.ruleOrderHitPolicy.dmn")
+    public void testBatchExecution() {
+        List<Map<String, Object>> variables = createVariables(5);
+
+        List<List<Map<String, Object>>> results = ruleService.createExecuteDecisionBatchBuilder()
+                .decisionKey("decision1")
+                .variables(variables)
+                .execute();
+
+        assertEquals(5, results.size());
+        for (int i = 0; i < variables.size(); i++) {
+            assertEquals(executeDecision(variables.get(i)), results.get(i));
+        }
+        assertEquals(10, historyService.createHistoricDecisionExecutionQuery().decisionKey("decision1").count());
+
+        // the variables of the batch are not changed by the execution
+        assertEquals(0, variables.get(0).get("inputVariable1"));
+        assertEquals(1, variables.get(0).size());
+    }
+
+    @DmnDeployment(resources = "org/flowable/dmn/engine/test/runtime/HitPolicyRuleOrderTest.ruleOrderHitPolicy.dmn")
+    public void testParallelBatchExecution() {
+        List<Map<String, Object>> variables = createVariables(200);
+
+        List<DecisionExecutionAuditContainer> parallelResults = ruleService.createExecuteDecisionBatchBuilder()
+                .decisionKey("decision1")
+                .variables(variables)
+                .parallelism(4)
+                .executeWithAuditTrail();
+
+        List<DecisionExecutionAuditContainer> sequentialResults = ruleService.createExecuteDecisionBatchBuilder()
+                .decisionKey("decision1")
+                .variables(variables)
+                .executeWithAuditTrail();
+
+        assertEquals(200, parallelResults.size());
+        for (int i = 0; i < variables.size(); i++) {
+            assertFalse(parallelResults.get(i).isFailed());
+            assertEquals(sequentialResults.get(i).getDecisionResult(), parallelResults.get(i).getDecisionResult());
+        }
+        assertEquals(400, historyService.createHistoricDecisionExecutionQuery().decisionKey("decision1").count());
+    }
+
+    @DmnDeployment(resources = "org/flowable/dmn/engine/test/runtime/HitPolicyRuleOrderTest.ruleOrderHitPolicy.dmn")
+    public void testBatchExecutionWithoutHistory() {
+        ruleService.createExecuteDecisionBatchBuilder()
+                .decisionKey("decision1")
+                .variables(createVariables(10))
+                .disableHistory()
+                .execute();
+
+        ruleService.createExecuteDecisionBatchBuilder()
+                .decisionKey("decision1")
+                .variables(createVariables(10))
+                .parallelism(2)
+                .disableHistory()
+                .execute();
+
+        assertEquals(0, historyService.createHistoricDecisionExecutionQuery().decisionKey("decision1").count());
+    }
+
+    @DmnDeployment(resources = "org/flowable/dmn/engine/test/runtime/HitPolicyRuleOrderTest.ruleOrderHitPolicy.dmn")
+    public void testStreamExecution() {
+        List<Map<String, Object>> handledVariables = new ArrayList<>();
+        List<List<Map<String, Object>>> handledResults = new ArrayList<>();
+
+        ruleService.createExecuteDecisionBatchBuilder()
+                .decisionKey("decision1")
+                .disableHistory()
+                .execute(createVariables(25).stream(), 10, (variables, result) -> {
+                    handledVariables.add(variables);
+                    handledResults.add(result);
+                });
+
+        assertEquals(25, handledVariables.size());
+        for (int i = 0; i < handledVariables.size(); i++) {
+            assertEquals(i, handledVariables.get(i).get("inputVariable1"));
+            assertEquals(executeDecision(handledVariables.get(i)), handledResults.get(i));
+        }
+    }
+
+    protected List<Map<String, Object>> executeDecision(Map<String, Object> variables) {
+        return ruleService.createExecuteDecisionBuilder()
+                .decisionKey("decision1")
+                .variables(variables)
+                .execute();
+    }
+
+    protected List<Map<String, Object>> createVariables(int count) {
+        List<Map<String, Object>> variables = new ArrayList<>();
+        IntStream.range(0, count).forEach(i -> {
+            Map<String, Object> executionVariables = new HashMap<>();
+            executionVariables.put("inputVariable1", i);
+            variables.add(executionVariables);
+        });
+        return variables;
+    }
+
+}
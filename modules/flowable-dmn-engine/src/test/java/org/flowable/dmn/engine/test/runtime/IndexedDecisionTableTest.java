@@ -0,0 +1,194 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.test.runtime;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.flowable.dmn.api.DecisionExecutionAuditContainer;
+import org.flowable.dmn.api.DmnDecisionTable;
+import org.flowable.dmn.api.DmnDeployment;
+import org.flowable.dmn.api.ExecuteDecisionBuilder;
+import org.flowable.dmn.engine.DmnEngine;
+import org.flowable.dmn.engine.DmnEngineConfiguration;
+import org.flowable.dmn.engine.impl.compiler.CompiledDecisionTable;
+import org.flowable.dmn.engine.impl.persistence.deploy.DecisionTableCacheEntry;
+import org.flowable.dmn.engine.test.FlowableDmnRule;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class IndexedDecisionTableTest {
+
+    protected static final int RULE_COUNT = 40;
+
+    protected static final List<String> HIT_POLICIES = Arrays.asList("FIRST", "UNIQUE", "ANY", "PRIORITY", "RULE ORDER", "OUTPUT ORDER", "COLLECT");
+
+    protected static final List<Object> COUNTRIES = Arrays.<Object>asList("C0", "C1", "C2", "C4", "C9", null);
+
+    protected static final List<Object> AMOUNTS = Arrays.<Object>asList(0, 3, 7, 12, 21, 55, 100, 150.5, 160.0, 399, 1000L, -1);
+
+    @Rule
+    public FlowableDmnRule flowableDmnRule = new FlowableDmnRule();
+
+    @Test
+    public void indexedResultsMatchLinearResults() {
+        DmnEngineConfiguration dmnEngineConfiguration = flowableDmnRule.getDmnEngine().getDmnEngineConfiguration();
+        boolean strictMode = dmnEngineConfiguration.isStrictMode();
+        try {
+            for (boolean strict : Arrays.asList(true, false)) {
+                dmnEngineConfiguration.setStrictMode(strict);
+                for (String hitPolicy : HIT_POLICIES) {
+                    assertIndexedResultsMatchLinearResults(hitPolicy);
+                }
+            }
+        } finally {
+            dmnEngineConfiguration.setStrictMode(strictMode);
+        }
+    }
+
+    @Test
+    public void indexSkipsRules() {
+        DmnEngine dmnEngine = flowableDmnRule.getDmnEngine();
+        DmnDeployment deployment = deploy("RULE ORDER");
+        try {
+            DecisionTableCacheEntry cacheEntry = getCacheEntry();
+            CompiledDecisionTable compiledDecisionTable = cacheEntry.getCompiledDecisionTable();
+            assertNotNull(compiledDecisionTable.getIndex());
+
+            DecisionExecutionAuditContainer indexedResult = execute("C2", 12, true);
+
+            cacheEntry.setCompiledDecisionTable(withoutIndex(compiledDecisionTable));
+            DecisionExecutionAuditContainer result = execute("C2", 12, true);
+
+            assertEquals(RULE_COUNT, result.getRuleExecutions().size());
+            assertTrue(indexedResult.getRuleExecutions().size() < RULE_COUNT);
+            assertEquals(result.getDecisionResult(), indexedResult.getDecisionResult());
+            assertTrue(indexedResult.getDecisionResult().contains(Collections.singletonMap("result", "R12")));
+
+        } finally {
+            dmnEngine.getDmnRepositoryService().deleteDeployment(deployment.getId());
+        }
+    }
+
+    protected void assertIndexedResultsMatchLinearResults(String hitPolicy) {
+        DmnEngine dmnEngine = flowableDmnRule.getDmnEngine();
+        DmnDeployment deployment = deploy(hitPolicy);
+        try {
+            DecisionTableCacheEntry cacheEntry = getCacheEntry();
+            CompiledDecisionTable compiledDecisionTable = cacheEntry.getCompiledDecisionTable();
+            assertNotNull(compiledDecisionTable.getIndex());
+            CompiledDecisionTable compiledDecisionTableWithoutIndex = withoutIndex(compiledDecisionTable);
+
+            for (Object country : COUNTRIES) {
+                for (Object amount : AMOUNTS) {
+                    for (Boolean flag : Arrays.asList(Boolean.TRUE, Boolean.FALSE)) {
+                        cacheEntry.setCompiledDecisionTable(compiledDecisionTable);
+                        DecisionExecutionAuditContainer indexedResult = execute(country, amount, flag);
+
+                        cacheEntry.setCompiledDecisionTable(compiledDecisionTableWithoutIndex);
+                        DecisionExecutionAuditContainer linearResult = execute(country, amount, flag);
+
+                        String message = hitPolicy + " with country=" + country + ", amount=" + amount + ", flag=" + flag;
+                        assertEquals(message, linearResult.isFailed(), indexedResult.isFailed());
+                        assertEquals(message, linearResult.getDecisionResult(), indexedResult.getDecisionResult());
+                        assertEquals(message, linearResult.getValidationMessage(), indexedResult.getValidationMessage());
+                    }
+                }
+            }
+
+        } finally {
+            dmnEngine.getDmnRepositoryService().deleteDeployment(deployment.getId());
+        }
+    }
+
+    protected CompiledDecisionTable withoutIndex(CompiledDecisionTable compiledDecisionTable) {
+        return new CompiledDecisionTable(compiledDecisionTable.getDecision(), compiledDecisionTable.getHitPolicyBehavior(),
+                compiledDecisionTable.getRules(), compiledDecisionTable.getOutputValues(), null);
+    }
+
+    protected DecisionExecutionAuditContainer execute(Object country, Object amount, Boolean flag) {
+        ExecuteDecisionBuilder executeDecisionBuilder = flowableDmnRule.getDmnEngine().getDmnRuleService().createExecuteDecisionBuilder()
+                .decisionKey("decision1")
+                .variable("amount", amount)
+                .variable("flag", flag);
+        if (country != null) {
+            executeDecisionBuilder.variable("country", country);
+        }
+        return executeDecisionBuilder.executeWithAuditTrail();
+    }
+
+    protected DmnDeployment deploy(String hitPolicy) {
+        return flowableDmnRule.getDmnEngine().getDmnRepositoryService().createDeployment()
+                .addString("indexed.dmn", createDecisionTable(hitPolicy))
+                .deploy();
+    }
+
+    protected DecisionTableCacheEntry getCacheEntry() {
+        DmnDecisionTable decisionTable = flowableDmnRule.getDmnEngine().getDmnRepositoryService().createDecisionTableQuery()
+                .decisionTableKey("decision1")
+                .latestVersion()
+                .singleResult();
+        DmnEngineConfiguration dmnEngineConfiguration = flowableDmnRule.getDmnEngine().getDmnEngineConfiguration();
+        dmnEngineConfiguration.getDeploymentManager().findDeployedDecisionById(decisionTable.getId());
+        return dmnEngineConfiguration.getDeploymentManager().getDecisionCache().get(decisionTable.getId());
+    }
+
+    protected String createDecisionTable(String hitPolicy) {
+        StringBuilder outputValues = new StringBuilder();
+        StringBuilder rules = new StringBuilder();
+        for (int i = 0; i < RULE_COUNT; i++) {
+            if (i > 0) {
+                outputValues.append(", ");
+            }
+            outputValues.append("\"R").append(i).append("\"");
+
+            String countryEntry = i % 4 == 3 ? "-" : "\"C" + (i % 5) + "\"";
+            String amountEntry;
+            if (i % 10 == 9) {
+                amountEntry = "-";
+            } else if (i % 3 == 0) {
+                amountEntry = "&lt; " + (i * 10);
+            } else if (i % 3 == 1) {
+                amountEntry = "&gt;= " + (i * 5) + ".5";
+            } else {
+                amountEntry = "== " + i;
+            }
+            String flagEntry = i % 7 == 0 ? "true" : (i % 11 == 0 ? "#{flag || amount &gt; 100}" : "-");
+
+            rules.append("<rule>")
+                    .append("<inputEntry id=\"country").append(i).append("\"><text>").append(countryEntry).append("</text></inputEntry>")
+                    .append("<inputEntry id=\"amount").append(i).append("\"><text>").append(amountEntry).append("</text></inputEntry>")
+                    .append("<inputEntry id=\"flag").append(i).append("\"><text>").append(flagEntry).append("</text></inputEntry>")
+                    .append("<outputEntry id=\"result").append(i).append("\"><text>\"R").append(i).append("\"</text></outputEntry>")
+                    .append("</rule>");
+        }
+
+        return "<definitions xmlns=\"http://www.omg.org/spec/DMN/20151101\" id=\"indexed\" name=\"Indexed\" namespace=\"http://www.flowable.org/dmn\">"
+                + "<decision id=\"decision1\" name=\"Indexed Decision\">"
+                + "<decisionTable id=\"decisionTable\" hitPolicy=\"" + hitPolicy + "\">"
+                + "<input><inputExpression id=\"inputCountry\" typeRef=\"string\"><text>country</text></inputExpression></input>"
+                + "<input><inputExpression id=\"inputAmount\" typeRef=\"number\"><text>amount</text></inputExpression></input>"
+                + "<input><inputExpression id=\"inputFlag\" typeRef=\"boolean\"><text>flag</text></inputExpression></input>"
+                + "<output id=\"output1\" label=\"Result\" name=\"result\" typeRef=\"string\"><outputValues><text>" + outputValues + "</text></outputValues></output>"
+                + rules
+                + "</decisionTable>"
+                + "</decision>"
+                + "</definitions>";
+    }
+
+}
@@ -175,6 +175,20 @@ public final class TreeValueExpression extends ValueExpression {
 	public boolean isDeferred() {
 		return deferred;
 	}
+
+	/**
+	 * Answer the root node of the parsed expression tree
+	 */
+	public ExpressionNode getNode() {
+		return node;
+	}
+
+	/**
+	 * Answer the function and variable bindings of this expression
+	 */
+	public Bindings getBindings() {
+		return bindings;
+	}
 	
 	/**
 	 * Expressions are compared using the concept of a <em>structural id</em>:
@@ -0,0 +1,106 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.el;
+
+import org.flowable.common.engine.impl.de.odysseus.el.tree.Bindings;
+import org.flowable.common.engine.impl.el.JuelExpressionCompiler.CompiledNode;
+import org.flowable.common.engine.impl.javax.el.ELContext;
+import org.flowable.common.engine.impl.javax.el.ValueExpression;
+import org.flowable.common.engine.impl.javax.el.ValueReference;
+
+/**
+ * {@link ValueExpression} that gets its value from a tree compiled by the {@link JuelExpressionCompiler}.
+ * All other operations (setting the value, type information, ...) are delegated to the original interpreted expression.
+ */
+public class CompiledValueExpression extends ValueExpression {
+
+    private static final long serialVersionUID = 1L;
+
+    protected final ValueExpression interpretedExpression;
+
+    // Not serialized: a deserialized instance falls back to the interpreted expression
+    protected final transient CompiledNode compiledRoot;
+    protected final transient Bindings bindings;
+
+    public CompiledValueExpression(ValueExpression interpretedExpression, CompiledNode compiledRoot, Bindings bindings) {
+        this.interpretedExpression = interpretedExpression;
+        this.compiledRoot = compiledRoot;
+        this.bindings = bindings;
+    }
+
+    @Override
+    public Object getValue(ELContext context) {
+        if (compiledRoot == null) {
+            return interpretedExpression.getValue(context);
+        }
+        return bindings.convert(compiledRoot.eval(context), interpretedExpression.getExpectedType());
+    }
+
+    @Override
+    public Class<?> getExpectedType() {
+        return interpretedExpression.getExpectedType();
+    }
+
+    @Override
+    public Class<?> getType(ELContext context) {
+        return interpretedExpression.getType(context);
+    }
+
+    @Override
+    public boolean isReadOnly(ELContext context) {
+        return interpretedExpression.isReadOnly(context);
+    }
+
+    @Override
+    public void setValue(ELContext context, Object value) {
+        interpretedExpression.setValue(context, value);
+    }
+
+    @Override
+    public ValueReference getValueReference(ELContext context) {
+        return interpretedExpression.getValueReference(context);
+    }
+
+    @Override
+    public String getExpressionString() {
+        return interpretedExpression.getExpressionString();
+    }
+
+    @Override
+    public boolean isLiteralText() {
+        return interpretedExpression.isLiteralText();
+    }
+
+    public ValueExpression getInterpretedExpression() {
+        return interpretedExpression;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj instanceof CompiledValueExpression) {
+            return interpretedExpression.equals(((CompiledValueExpression) obj).interpretedExpression);
+        }
+        return interpretedExpression.equals(obj);
+    }
+
+    @Override
+    public int hashCode() {
+        return interpretedExpression.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "CompiledValueExpression(" + interpretedExpression.getExpressionString() + ")";
+    }
+
+}
@@ -52,6 +52,10 @@ public class DefaultExpressionManager implements ExpressionManager {
     
     protected DeploymentCache<Expression> expressionCache;
     protected int expressionTextLengthCacheLimit = -1;
+
+    protected volatile ELResolver staticElResolver;
+
+    protected JuelExpressionCompiler expressionCompiler;
     
     public DefaultExpressionManager() {
         this(null);
@@ -87,6 +91,9 @@ public class DefaultExpressionManager implements ExpressionManager {
         
         ValueExpression valueExpression = expressionFactory.createValueExpression(parsingElContext, expressionText, Object.class);
         Expression expression = createJuelExpression(text, valueExpression);
+        if (expressionCompiler != null && expression instanceof JuelExpression) {
+            ((JuelExpression) expression).setExpressionCompiler(expressionCompiler);
+        }
         
         if (isCacheEnabled(text)) {
             expressionCache.add(text, expression);
@@ -113,9 +120,33 @@ public class DefaultExpressionManager implements ExpressionManager {
         return new FlowableElContext(elResolver, functionDelegates);
     }
     
+    /**
+     * Creates the resolver used for one evaluation: the resolver for the given variable container, followed by the
+     * shared resolver chain (see {@link #getStaticElResolver()}).
+     */
     protected ELResolver createElResolver(VariableContainer variableContainer) {
+        CompositeELResolver compositeELResolver = new CompositeELResolver();
+        compositeELResolver.add(createVariableElResolver(variableContainer));
+        compositeELResolver.add(getStaticElResolver());
+        return compositeELResolver;
+    }
+
+    /**
+     * Returns the resolvers that don't depend on the variable container. These are created once and shared between all evaluations,
+     * so that e.g. the property cache of the {@link BeanELResolver} is kept between evaluations.
+     */
+    protected ELResolver getStaticElResolver() {
+        ELResolver elResolver = staticElResolver;
+        if (elResolver == null) {
+            // Creating it twice concurrently is harmless, both chains are equivalent
+            elResolver = createStaticElResolver();
+            staticElResolver = elResolver;
+        }
+        return elResolver;
+    }
+
+    protected ELResolver createStaticElResolver() {
         List<ELResolver> elResolvers = new ArrayList<>();
-        elResolvers.add(createVariableElResolver(variableContainer));
         if (beans != null) {
             elResolvers.add(new ReadOnlyMapELResolver(beans));
         }
@@ -138,6 +169,9 @@ public class DefaultExpressionManager implements ExpressionManager {
         return compositeELResolver;
     }
     
+    /**
+     * Allows to change the shared resolvers, which don't include the variable resolver.
+     */
     protected void configureResolvers(List<ELResolver> elResolvers) {
         // to be extended if needed
     }
@@ -158,6 +192,7 @@ public class DefaultExpressionManager implements ExpressionManager {
     @Override
     public void setBeans(Map<Object, Object> beans) {
         this.beans = beans;
+        this.staticElResolver = null;
     }
 
     @Override
@@ -188,6 +223,17 @@ public class DefaultExpressionManager implements ExpressionManager {
         this.expressionCache = expressionCache;
     }
 
+    public JuelExpressionCompiler getExpressionCompiler() {
+        return expressionCompiler;
+    }
+
+    /**
+     * Enables compilation of expressions that are evaluated often. Null (the default) keeps all expressions interpreted.
+     */
+    public void setExpressionCompiler(JuelExpressionCompiler expressionCompiler) {
+        this.expressionCompiler = expressionCompiler;
+    }
+
     public int getExpressionTextLengthCacheLimit() {
         return expressionTextLengthCacheLimit;
     }
@@ -35,6 +35,9 @@ public class JuelExpression implements Expression {
     protected ValueExpression valueExpression;
     protected ExpressionManager expressionManager;
 
+    protected transient JuelExpressionCompiler expressionCompiler;
+    protected transient int evaluationCount;
+
     public JuelExpression(ExpressionManager expressionManager, ValueExpression valueExpression, String expressionText) {
         this.valueExpression = valueExpression;
         this.expressionText = expressionText;
@@ -43,6 +46,8 @@ public class JuelExpression implements Expression {
     
     @Override
     public Object getValue(VariableContainer variableContainer) {
+        countEvaluation();
+
         ELContext elContext = expressionManager.getElContext(variableContainer);
         try {
             return resolveGetValueExpression(elContext);
@@ -57,6 +62,22 @@ public class JuelExpression implements Expression {
         }
     }
 
+    /**
+     * Replaces the interpreted expression with a compiled one once the compilation threshold is reached.
+     * The count isn't exact under concurrent evaluations, which only means the compilation might happen slightly later (or twice).
+     */
+    protected void countEvaluation() {
+        JuelExpressionCompiler compiler = expressionCompiler;
+        if (compiler != null && ++evaluationCount >= compiler.getCompilationThreshold()) {
+            ValueExpression compiledExpression = compiler.compile(valueExpression);
+            if (compiledExpression != null) {
+                valueExpression = compiledExpression;
+            }
+            // Compiled or not, there's no need to count anymore
+            expressionCompiler = null;
+        }
+    }
+
     protected Object resolveGetValueExpression(ELContext elContext) {
         return valueExpression.getValue(elContext);
     }
@@ -88,4 +109,12 @@ public class JuelExpression implements Expression {
         return expressionText;
     }
 
+    public JuelExpressionCompiler getExpressionCompiler() {
+        return expressionCompiler;
+    }
+
+    public void setExpressionCompiler(JuelExpressionCompiler expressionCompiler) {
+        this.expressionCompiler = expressionCompiler;
+    }
+
 }
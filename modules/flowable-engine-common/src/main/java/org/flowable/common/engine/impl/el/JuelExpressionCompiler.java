@@ -0,0 +1,375 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.el;
+
+import org.flowable.common.engine.impl.de.odysseus.el.TreeValueExpression;
+import org.flowable.common.engine.impl.de.odysseus.el.misc.BooleanOperations;
+import org.flowable.common.engine.impl.de.odysseus.el.misc.LocalMessages;
+import org.flowable.common.engine.impl.de.odysseus.el.misc.TypeConverter;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.Bindings;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.ExpressionNode;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.Node;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstBinary;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstBoolean;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstChoice;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstDot;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstEval;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstIdentifier;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstNested;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstNode;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstNull;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstNumber;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstString;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstUnary;
+import org.flowable.common.engine.impl.javax.el.ELContext;
+import org.flowable.common.engine.impl.javax.el.PropertyNotFoundException;
+import org.flowable.common.engine.impl.javax.el.ValueExpression;
+
+/**
+ * Compiles frequently evaluated JUEL expressions into a tree of specialized evaluators.
+ *
+ * The JUEL interpreter evaluates every node generically: operands are passed through the {@link TypeConverter} and the comparison operators check
+ * the full set of numeric types at each evaluation. The compiled form is built once from the parsed tree and
+ * <ul>
+ * <li>resolves identifiers and properties directly through the {@link ELContext} resolver, without going through the bindings,</li>
+ * <li>compares integral numbers, strings and booleans without coercion when both operands have that type,</li>
+ * <li>short-circuits boolean operators without conversion when the operands are already booleans.</li>
+ * </ul>
+ * When the operand types at evaluation time don't match a fast path, the node falls back to the same operation as the interpreter, so the result
+ * is always the same as the interpreted one.
+ *
+ * Only expressions consisting of the nodes above (identifiers, properties, literals, comparisons, boolean operators and the choice operator) are compiled.
+ * For any other expression (method calls, functions, arithmetic, composite text, ...) {@link #compile(ValueExpression)} returns null and the expression
+ * stays interpreted.
+ */
+public class JuelExpressionCompiler {
+
+    protected int compilationThreshold;
+
+    /**
+     * @param compilationThreshold
+     *            the number of evaluations after which an expression gets compiled
+     */
+    public JuelExpressionCompiler(int compilationThreshold) {
+        this.compilationThreshold = compilationThreshold;
+    }
+
+    /**
+     * @return the compiled expression, or null when the expression can't be compiled
+     */
+    public ValueExpression compile(ValueExpression valueExpression) {
+        if (!(valueExpression instanceof TreeValueExpression)) {
+            return null;
+        }
+
+        TreeValueExpression treeValueExpression = (TreeValueExpression) valueExpression;
+        ExpressionNode root = treeValueExpression.getNode();
+        CompiledNode compiledRoot = compileNode(root, treeValueExpression.getBindings());
+        if (compiledRoot == null) {
+            return null;
+        }
+        return new CompiledValueExpression(treeValueExpression, compiledRoot, treeValueExpression.getBindings());
+    }
+
+    protected CompiledNode compileNode(Node node, Bindings bindings) {
+        if (node instanceof AstEval || node instanceof AstNested) {
+            return compileNode(node.getChild(0), bindings);
+
+        } else if (node instanceof AstString || node instanceof AstNumber || node instanceof AstBoolean || node instanceof AstNull) {
+            return new LiteralNode(((AstNode) node).eval(bindings, null));
+
+        } else if (node instanceof AstIdentifier) {
+            AstIdentifier identifier = (AstIdentifier) node;
+            if (bindings.isVariableBound(identifier.getIndex())) {
+                return null;
+            }
+            return new IdentifierNode(identifier.getName());
+
+        } else if (node instanceof AstDot) {
+            CompiledNode base = compileNode(node.getChild(0), bindings);
+            return base != null ? new PropertyNode(base, ((AstDot) node).getPropertyName()) : null;
+
+        } else if (node instanceof AstUnary) {
+            AstUnary unary = (AstUnary) node;
+            if (unary.getOperator() != AstUnary.NOT) {
+                return null;
+            }
+            CompiledNode child = compileNode(unary.getChild(0), bindings);
+            return child != null ? new NotNode(child, bindings) : null;
+
+        } else if (node instanceof AstChoice) {
+            CompiledNode question = compileNode(node.getChild(0), bindings);
+            CompiledNode yes = compileNode(node.getChild(1), bindings);
+            CompiledNode no = compileNode(node.getChild(2), bindings);
+            return question != null && yes != null && no != null ? new ChoiceNode(question, yes, no, bindings) : null;
+
+        } else if (node instanceof AstBinary) {
+            return compileBinary((AstBinary) node, bindings);
+        }
+
+        return null;
+    }
+
+    protected CompiledNode compileBinary(AstBinary binary, Bindings bindings) {
+        AstBinary.Operator operator = binary.getOperator();
+        boolean logical = operator == AstBinary.AND || operator == AstBinary.OR;
+        boolean comparison = operator == AstBinary.EQ || operator == AstBinary.NE || operator == AstBinary.LT
+                || operator == AstBinary.LE || operator == AstBinary.GT || operator == AstBinary.GE;
+        if (!logical && !comparison) {
+            return null;
+        }
+
+        CompiledNode left = compileNode(binary.getChild(0), bindings);
+        CompiledNode right = compileNode(binary.getChild(1), bindings);
+        if (left == null || right == null) {
+            return null;
+        }
+
+        if (operator == AstBinary.AND) {
+            return new AndNode(left, right, bindings);
+        } else if (operator == AstBinary.OR) {
+            return new OrNode(left, right, bindings);
+        }
+        return new ComparisonNode(operator, left, right, bindings);
+    }
+
+    public int getCompilationThreshold() {
+        return compilationThreshold;
+    }
+
+    public void setCompilationThreshold(int compilationThreshold) {
+        this.compilationThreshold = compilationThreshold;
+    }
+
+    public interface CompiledNode {
+
+        Object eval(ELContext context);
+
+    }
+
+    protected static class LiteralNode implements CompiledNode {
+
+        protected final Object value;
+
+        public LiteralNode(Object value) {
+            this.value = value;
+        }
+
+        @Override
+        public Object eval(ELContext context) {
+            return value;
+        }
+    }
+
+    protected static class IdentifierNode implements CompiledNode {
+
+        protected final String name;
+
+        public IdentifierNode(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public Object eval(ELContext context) {
+            context.setPropertyResolved(false);
+            Object result = context.getELResolver().getValue(context, null, name);
+            if (!context.isPropertyResolved()) {
+                throw new PropertyNotFoundException(LocalMessages.get("error.identifier.property.notfound", name));
+            }
+            return result;
+        }
+    }
+
+    protected static class PropertyNode implements CompiledNode {
+
+        protected final CompiledNode base;
+        protected final String property;
+
+        public PropertyNode(CompiledNode base, String property) {
+            this.base = base;
+            this.property = property;
+        }
+
+        @Override
+        public Object eval(ELContext context) {
+            Object baseValue = base.eval(context);
+            if (baseValue == null) {
+                return null;
+            }
+            context.setPropertyResolved(false);
+            Object result = context.getELResolver().getValue(context, baseValue, property);
+            if (!context.isPropertyResolved()) {
+                throw new PropertyNotFoundException(LocalMessages.get("error.property.property.notfound", property, baseValue));
+            }
+            return result;
+        }
+    }
+
+    protected static class NotNode implements CompiledNode {
+
+        protected final CompiledNode child;
+        protected final TypeConverter converter;
+
+        public NotNode(CompiledNode child, TypeConverter converter) {
+            this.child = child;
+            this.converter = converter;
+        }
+
+        @Override
+        public Object eval(ELContext context) {
+            return !toBoolean(child.eval(context), converter);
+        }
+    }
+
+    protected static class AndNode implements CompiledNode {
+
+        protected final CompiledNode left;
+        protected final CompiledNode right;
+        protected final TypeConverter converter;
+
+        public AndNode(CompiledNode left, CompiledNode right, TypeConverter converter) {
+            this.left = left;
+            this.right = right;
+            this.converter = converter;
+        }
+
+        @Override
+        public Object eval(ELContext context) {
+            return toBoolean(left.eval(context), converter) ? toBoolean(right.eval(context), converter) : Boolean.FALSE;
+        }
+    }
+
+    protected static class OrNode implements CompiledNode {
+
+        protected final CompiledNode left;
+        protected final CompiledNode right;
+        protected final TypeConverter converter;
+
+        public OrNode(CompiledNode left, CompiledNode right, TypeConverter converter) {
+            this.left = left;
+            this.right = right;
+            this.converter = converter;
+        }
+
+        @Override
+        public Object eval(ELContext context) {
+            return toBoolean(left.eval(context), converter) ? Boolean.TRUE : toBoolean(right.eval(context), converter);
+        }
+    }
+
+    protected static class ChoiceNode implements CompiledNode {
+
+        protected final CompiledNode question;
+        protected final CompiledNode yes;
+        protected final CompiledNode no;
+        protected final TypeConverter converter;
+
+        public ChoiceNode(CompiledNode question, CompiledNode yes, CompiledNode no, TypeConverter converter) {
+            this.question = question;
+            this.yes = yes;
+            this.no = no;
+            this.converter = converter;
+        }
+
+        @Override
+        public Object eval(ELContext context) {
+            return toBoolean(question.eval(context), converter) ? yes.eval(context) : no.eval(context);
+        }
+    }
+
+    protected static class ComparisonNode implements CompiledNode {
+
+        protected final AstBinary.Operator operator;
+        protected final CompiledNode left;
+        protected final CompiledNode right;
+        protected final TypeConverter converter;
+
+        public ComparisonNode(AstBinary.Operator operator, CompiledNode left, CompiledNode right, TypeConverter converter) {
+            this.operator = operator;
+            this.left = left;
+            this.right = right;
+            this.converter = converter;
+        }
+
+        @Override
+        public Object eval(ELContext context) {
+            Object leftValue = left.eval(context);
+            Object rightValue = right.eval(context);
+
+            if (isIntegral(leftValue) && isIntegral(rightValue)) {
+                return compare(Long.compare(((Number) leftValue).longValue(), ((Number) rightValue).longValue()));
+
+            } else if (leftValue instanceof String && rightValue instanceof String) {
+                if (operator == AstBinary.EQ) {
+                    return leftValue.equals(rightValue);
+                } else if (operator == AstBinary.NE) {
+                    return !leftValue.equals(rightValue);
+                }
+                return compare(((String) leftValue).compareTo((String) rightValue));
+
+            } else if (leftValue instanceof Boolean && rightValue instanceof Boolean && (operator == AstBinary.EQ || operator == AstBinary.NE)) {
+                return leftValue.equals(rightValue) == (operator == AstBinary.EQ);
+            }
+
+            return evalGeneric(leftValue, rightValue);
+        }
+
+        protected boolean compare(int comparison) {
+            if (operator == AstBinary.EQ) {
+                return comparison == 0;
+            } else if (operator == AstBinary.NE) {
+                return comparison != 0;
+            } else if (operator == AstBinary.LT) {
+                return comparison < 0;
+            } else if (operator == AstBinary.LE) {
+                return comparison <= 0;
+            } else if (operator == AstBinary.GT) {
+                return comparison > 0;
+            } else {
+                return comparison >= 0;
+            }
+        }
+
+        protected boolean evalGeneric(Object leftValue, Object rightValue) {
+            if (operator == AstBinary.EQ) {
+                return BooleanOperations.eq(converter, leftValue, rightValue);
+            } else if (operator == AstBinary.NE) {
+                return BooleanOperations.ne(converter, leftValue, rightValue);
+            } else if (operator == AstBinary.LT) {
+                return BooleanOperations.lt(converter, leftValue, rightValue);
+            } else if (operator == AstBinary.LE) {
+                return BooleanOperations.le(converter, leftValue, rightValue);
+            } else if (operator == AstBinary.GT) {
+                return BooleanOperations.gt(converter, leftValue, rightValue);
+            } else {
+                return BooleanOperations.ge(converter, leftValue, rightValue);
+            }
+        }
+
+        protected boolean isIntegral(Object value) {
+            if (value == null) {
+                return false;
+            }
+            Class<?> type = value.getClass();
+            return type == Long.class || type == Integer.class || type == Short.class || type == Byte.class;
+        }
+    }
+
+    protected static boolean toBoolean(Object value, TypeConverter converter) {
+        if (value instanceof Boolean) {
+            return (Boolean) value;
+        }
+        return Boolean.TRUE.equals(converter.convert(value, Boolean.class));
+    }
+
+}
@@ -0,0 +1,121 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence;
+
+import java.security.SecureRandom;
+import java.util.Random;
+
+import org.flowable.common.engine.impl.cfg.IdGenerator;
+
+/**
+ * {@link IdGenerator} implementation that creates compact, time-ordered ids, in the format of a ULID.
+ *
+ * An id consists of a 48-bit millisecond timestamp followed by 80 random bits, encoded as 26 Crockford base32 characters
+ * (e.g. <code>01D5ZK5V0C8B3W7Y6N4Q2R9T1M</code>). Because the timestamp comes first and the encoding preserves the ordering, ids created later
+ * sort after ids created earlier, both as strings and in the database. New rows are therefore appended at the right-hand side of the primary
+ * and foreign key indexes, instead of being spread randomly over them as happens with the {@link StrongUuidGenerator} ids.
+ *
+ * Within the same millisecond, the random part is incremented instead of being regenerated, so the ids created by one generator are strictly
+ * increasing. Ids created on different machines in the same millisecond are unique thanks to the random part, but their relative order is arbitrary.
+ */
+public class TimeOrderedIdGenerator implements IdGenerator {
+
+    protected static final char[] ENCODING_CHARS = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    protected static final int ID_LENGTH = 26;
+    protected static final long RANDOM_HIGH_MASK = 0xFFFFL;
+
+    // different ProcessEngines on the same classloader share one generator, which keeps the ids monotonic within the JVM.
+    protected static final Object LOCK = new Object();
+    protected static long lastTimestamp = -1L;
+    protected static long randomHigh; // upper 16 of the 80 random bits
+    protected static long randomLow; // lower 64 of the 80 random bits
+
+    protected static volatile Random random;
+
+    public TimeOrderedIdGenerator() {
+        ensureRandomInitialized();
+    }
+
+    protected void ensureRandomInitialized() {
+        if (random == null) {
+            synchronized (TimeOrderedIdGenerator.class) {
+                if (random == null) {
+                    random = new SecureRandom();
+                }
+            }
+        }
+    }
+
+    @Override
+    public String getNextId() {
+        long timestamp;
+        long high;
+        long low;
+        synchronized (LOCK) {
+            timestamp = getCurrentTimestamp();
+            if (timestamp > lastTimestamp) {
+                lastTimestamp = timestamp;
+                randomHigh = random.nextInt() & RANDOM_HIGH_MASK;
+                randomLow = random.nextLong();
+
+            } else {
+                // Same millisecond, or the clock went backwards: keep the ids increasing
+                timestamp = lastTimestamp;
+                randomLow++;
+                if (randomLow == 0L) {
+                    randomHigh = (randomHigh + 1) & RANDOM_HIGH_MASK;
+                    if (randomHigh == 0L) {
+                        // All 2^80 values of this millisecond are used up, continue in the next one
+                        timestamp = ++lastTimestamp;
+                    }
+                }
+            }
+            high = randomHigh;
+            low = randomLow;
+        }
+        return encode(timestamp, high, low);
+    }
+
+    protected long getCurrentTimestamp() {
+        return System.currentTimeMillis();
+    }
+
+    protected String encode(long timestamp, long high, long low) {
+        char[] chars = new char[ID_LENGTH];
+
+        // 10 characters for the 48-bit timestamp (the 2 leading bits are always 0)
+        for (int i = 9; i >= 0; i--) {
+            chars[i] = ENCODING_CHARS[(int) (timestamp & 0x1F)];
+            timestamp >>>= 5;
+        }
+
+        // 16 characters for the 80 random bits: the 16 high bits and 64 low bits are split into 4 groups of 20 bits (4 characters each)
+        long[] groups = new long[] {
+                (high << 4) | (low >>> 60),
+                (low >>> 40) & 0xFFFFFL,
+                (low >>> 20) & 0xFFFFFL,
+                low & 0xFFFFFL
+        };
+        for (int group = 0; group < groups.length; group++) {
+            long value = groups[group];
+            int offset = 10 + group * 4;
+            for (int i = 3; i >= 0; i--) {
+                chars[offset + i] = ENCODING_CHARS[(int) (value & 0x1F)];
+                value >>>= 5;
+            }
+        }
+
+        return new String(chars);
+    }
+
+}
@@ -0,0 +1,138 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.deploy;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * LRU cache which is bounded by the total weight of its elements instead of by the number of elements.
+ * 
+ * Each element is weighed once, when it's added, by the configured {@link DeploymentCacheWeigher}. When the total weight exceeds the maximum weight, the least
+ * recently used elements are evicted until the cache fits its budget again. The element that was added last is never evicted by its own insertion, even
+ * when it is heavier than the whole budget, as it will typically be used right away.
+ */
+public class WeightedDeploymentCache<T> implements DeploymentCache<T> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(WeightedDeploymentCache.class);
+
+    protected final long maxWeight;
+    protected final DeploymentCacheWeigher<T> weigher;
+
+    // 0.75 is the default load factor, true will keep the 'access-order', which is needed to have a real LRU cache
+    protected final LinkedHashMap<String, T> cache = new LinkedHashMap<>(16, 0.75f, true);
+    protected final Map<String, Long> weights = new HashMap<>();
+    protected long totalWeight;
+
+    public WeightedDeploymentCache(long maxWeight, DeploymentCacheWeigher<T> weigher) {
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+    }
+
+    @Override
+    public synchronized T get(String id) {
+        return cache.get(id);
+    }
+
+    @Override
+    public synchronized boolean contains(String id) {
+        return cache.containsKey(id);
+    }
+
+    @Override
+    public synchronized void add(String id, T object) {
+        long weight = Math.max(0L, weigher.weigh(id, object));
+        removeInternal(id);
+
+        cache.put(id, object);
+        weights.put(id, weight);
+        totalWeight += weight;
+
+        evict(id);
+    }
+
+    protected void evict(String addedId) {
+        Iterator<Map.Entry<String, T>> iterator = cache.entrySet().iterator();
+        while (totalWeight > maxWeight && iterator.hasNext()) {
+            String eldestId = iterator.next().getKey();
+            if (eldestId.equals(addedId)) {
+                break;
+            }
+
+            if (LOGGER.isTraceEnabled()) {
+                LOGGER.trace("Cache weight limit {} is reached (current weight {}), {} will be evicted", maxWeight, totalWeight, eldestId);
+            }
+            iterator.remove();
+            totalWeight -= weights.remove(eldestId);
+        }
+    }
+
+    @Override
+    public synchronized void remove(String id) {
+        removeInternal(id);
+    }
+
+    protected void removeInternal(String id) {
+        if (cache.remove(id) != null) {
+            totalWeight -= weights.remove(id);
+        }
+    }
+
+    @Override
+    public synchronized void clear() {
+        cache.clear();
+        weights.clear();
+        totalWeight = 0L;
+    }
+
+    /**
+     * @return the weight the element with the given id had when it was added, or -1 if it isn't cached.
+     */
+    public synchronized long getWeight(String id) {
+        Long weight = weights.get(id);
+        return weight != null ? weight : -1L;
+    }
+
+    /**
+     * @return a snapshot of the weights of all cached elements, by id.
+     */
+    public synchronized Map<String, Long> getWeights() {
+        return new HashMap<>(weights);
+    }
+
+    public synchronized long getTotalWeight() {
+        return totalWeight;
+    }
+
+    public long getMaxWeight() {
+        return maxWeight;
+    }
+
+    // For testing purposes only
+    public synchronized Collection<T> getAll() {
+        return new ArrayList<>(cache.values());
+    }
+
+    // For testing purposes only
+    public synchronized int size() {
+        return cache.size();
+    }
+
+}
@@ -12,11 +12,17 @@
  */
 package org.flowable.common.engine.impl.scripting;
 
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import javax.script.Bindings;
+import javax.script.Compilable;
+import javax.script.CompiledScript;
 import javax.script.ScriptContext;
 import javax.script.ScriptEngine;
 import javax.script.ScriptEngineFactory;
@@ -42,6 +48,21 @@ public class ScriptingEngines {
     protected boolean cacheScriptingEngines = true;
     protected Map<String, ScriptEngine> cachedEngines;
 
+    /**
+     * The maximum number of compiled scripts that are kept per script engine, for engines that implement {@link Compilable}.
+     * A value of 0 or less disables the compilation of scripts.
+     */
+    protected int compiledScriptCacheSize = 500;
+
+    /**
+     * The maximum number of idle engines that are kept per language, for engines that can't be shared between threads
+     * (the THREADING parameter of their factory is null). A value of 0 or less disables the pooling of those engines.
+     */
+    protected int scriptEnginePoolSize = 10;
+
+    protected Map<CompiledScriptKey, CompiledScript> compiledScripts;
+    protected Map<String, Queue<PooledScriptEngine>> pooledEngines;
+
     public ScriptingEngines(ScriptBindingsFactory scriptBindingsFactory) {
         this(new ScriptEngineManager());
         this.scriptBindingsFactory = scriptBindingsFactory;
@@ -49,7 +70,8 @@ public class ScriptingEngines {
 
     public ScriptingEngines(ScriptEngineManager scriptEngineManager) {
         this.scriptEngineManager = scriptEngineManager;
-        cachedEngines = new HashMap<>();
+        cachedEngines = new ConcurrentHashMap<>();
+        pooledEngines = new ConcurrentHashMap<>();
     }
 
     public ScriptingEngines addScriptEngineFactory(ScriptEngineFactory scriptEngineFactory) {
@@ -81,15 +103,130 @@ public class ScriptingEngines {
         return cacheScriptingEngines;
     }
 
+    public int getCompiledScriptCacheSize() {
+        return compiledScriptCacheSize;
+    }
+
+    public ScriptingEngines setCompiledScriptCacheSize(int compiledScriptCacheSize) {
+        this.compiledScriptCacheSize = compiledScriptCacheSize;
+        this.compiledScripts = null;
+        return this;
+    }
+
+    public int getScriptEnginePoolSize() {
+        return scriptEnginePoolSize;
+    }
+
+    public ScriptingEngines setScriptEnginePoolSize(int scriptEnginePoolSize) {
+        this.scriptEnginePoolSize = scriptEnginePoolSize;
+        return this;
+    }
+
     protected Object evaluate(String script, String language, Bindings bindings) {
-        ScriptEngine scriptEngine = getEngineByName(language);
+        if (!cacheScriptingEngines) {
+            return evaluate(getEngineByName(language), null, script, language, bindings);
+        }
+
+        PooledScriptEngine pooledEngine = borrowPooledEngine(language);
+        if (pooledEngine == null) {
+            ScriptEngine scriptEngine = getEngineByName(language);
+            if (scriptEngine == cachedEngines.get(language)) {
+                // Shared engine: the compiled scripts are shared as well
+                return evaluate(scriptEngine, getCompiledScripts(), script, language, bindings);
+
+            } else if (scriptEnginePoolSize <= 0) {
+                return evaluate(scriptEngine, null, script, language, bindings);
+            }
+
+            pooledEngine = new PooledScriptEngine(scriptEngine, createCompiledScriptCache());
+        }
+
         try {
+            return evaluate(pooledEngine.getScriptEngine(), pooledEngine.getCompiledScripts(), script, language, bindings);
+        } finally {
+            returnPooledEngine(language, pooledEngine);
+        }
+    }
+
+    protected Object evaluate(ScriptEngine scriptEngine, Map<CompiledScriptKey, CompiledScript> compiledScriptCache, String script, String language, Bindings bindings) {
+        try {
+            CompiledScript compiledScript = getCompiledScript(scriptEngine, compiledScriptCache, script, language);
+            if (compiledScript != null) {
+                return compiledScript.eval(bindings);
+            }
             return scriptEngine.eval(script, bindings);
         } catch (ScriptException e) {
             throw new FlowableException("problem evaluating script: " + e.getMessage(), e);
         }
     }
 
+    protected CompiledScript getCompiledScript(ScriptEngine scriptEngine, Map<CompiledScriptKey, CompiledScript> compiledScriptCache,
+            String script, String language) throws ScriptException {
+
+        if (compiledScriptCache == null || script == null || !isCompilable(scriptEngine)) {
+            return null;
+        }
+
+        CompiledScriptKey key = new CompiledScriptKey(language, script);
+        CompiledScript compiledScript = compiledScriptCache.get(key);
+        if (compiledScript == null) {
+            // Compiling the same script concurrently is harmless: the last one wins
+            compiledScript = ((Compilable) scriptEngine).compile(script);
+            compiledScriptCache.put(key, compiledScript);
+        }
+        return compiledScript;
+    }
+
+    protected boolean isCompilable(ScriptEngine scriptEngine) {
+        // The JUEL engine binds the variables of the script context when the expression is parsed,
+        // so a script compiled upfront would not see the variables of a later evaluation.
+        // The Groovy engine already caches the classes of the scripts it evaluates, and evaluating
+        // a compiled Groovy script wraps a failure differently than evaluating the script text.
+        return scriptEngine instanceof Compilable
+                && !DEFAULT_SCRIPTING_LANGUAGE.equals(scriptEngine.getFactory().getEngineName())
+                && !GROOVY_SCRIPTING_LANGUAGE.equalsIgnoreCase(scriptEngine.getFactory().getLanguageName());
+    }
+
+    protected Map<CompiledScriptKey, CompiledScript> getCompiledScripts() {
+        Map<CompiledScriptKey, CompiledScript> currentCompiledScripts = compiledScripts;
+        if (currentCompiledScripts == null && compiledScriptCacheSize > 0) {
+            currentCompiledScripts = createCompiledScriptCache();
+            compiledScripts = currentCompiledScripts;
+        }
+        return currentCompiledScripts;
+    }
+
+    protected Map<CompiledScriptKey, CompiledScript> createCompiledScriptCache() {
+        final int limit = compiledScriptCacheSize;
+        if (limit <= 0) {
+            return null;
+        }
+
+        return Collections.synchronizedMap(new LinkedHashMap<CompiledScriptKey, CompiledScript>(16, 0.75f, true) {
+            // true will keep the 'access-order', which is needed to have a real LRU cache
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<CompiledScriptKey, CompiledScript> eldest) {
+                return size() > limit;
+            }
+
+        });
+    }
+
+    protected PooledScriptEngine borrowPooledEngine(String language) {
+        Queue<PooledScriptEngine> pool = pooledEngines.get(language);
+        return pool != null ? pool.poll() : null;
+    }
+
+    protected void returnPooledEngine(String language, PooledScriptEngine pooledEngine) {
+        Queue<PooledScriptEngine> pool = pooledEngines.computeIfAbsent(language, key -> new ConcurrentLinkedQueue<>());
+        // The size check isn't atomic, so the pool can temporarily hold a few engines more than the configured size
+        if (pool.size() < scriptEnginePoolSize) {
+            pool.offer(pooledEngine);
+        }
+    }
+
     protected ScriptEngine getEngineByName(String language) {
         ScriptEngine scriptEngine = null;
 
@@ -146,4 +283,63 @@ public class ScriptingEngines {
     public void setScriptBindingsFactory(ScriptBindingsFactory scriptBindingsFactory) {
         this.scriptBindingsFactory = scriptBindingsFactory;
     }
+
+    /**
+     * Key of a compiled script. The hash code of the script text is calculated once, the text itself is still compared on equality
+     * so that a hash collision can never return the wrong script.
+     */
+    protected static class CompiledScriptKey {
+
+        protected final String language;
+        protected final String script;
+        protected final int hashCode;
+
+        public CompiledScriptKey(String language, String script) {
+            this.language = language;
+            this.script = script;
+            this.hashCode = 31 * (language != null ? language.hashCode() : 0) + script.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof CompiledScriptKey)) {
+                return false;
+            }
+            CompiledScriptKey other = (CompiledScriptKey) obj;
+            return hashCode == other.hashCode
+                    && (language != null ? language.equals(other.language) : other.language == null)
+                    && script.equals(other.script);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    /**
+     * An engine that can't be shared between threads, together with the scripts that were compiled by it.
+     * It is only used by one thread at a time: it is taken out of the pool for the duration of one evaluation.
+     */
+    protected static class PooledScriptEngine {
+
+        protected final ScriptEngine scriptEngine;
+        protected final Map<CompiledScriptKey, CompiledScript> compiledScripts;
+
+        public PooledScriptEngine(ScriptEngine scriptEngine, Map<CompiledScriptKey, CompiledScript> compiledScripts) {
+            this.scriptEngine = scriptEngine;
+            this.compiledScripts = compiledScripts;
+        }
+
+        public ScriptEngine getScriptEngine() {
+            return scriptEngine;
+        }
+
+        public Map<CompiledScriptKey, CompiledScript> getCompiledScripts() {
+            return compiledScripts;
+        }
+    }
 }
@@ -0,0 +1,223 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.util;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Estimates the retained heap size of an object graph by walking it reflectively.
+ *
+ * The estimation is deliberately conservative in what it traverses: only objects of which the class belongs to one of the configured package prefixes are
+ * descended into field by field. Strings, arrays, collections and maps are sized and followed through their public API. Any other object (e.g. parsed
+ * behaviors, which might reference the engine configuration) only contributes its shallow size, so that the walk never escapes into shared engine state.
+ *
+ * The numbers assume a 64-bit JVM with compressed object pointers. They are an estimate, meant to compare and budget cache entries, not an exact measurement.
+ */
+public class ObjectSizeEstimator {
+
+    protected static final int OBJECT_HEADER_SIZE = 12;
+    protected static final int ARRAY_HEADER_SIZE = 16;
+    protected static final int REFERENCE_SIZE = 4;
+    protected static final int OBJECT_ALIGNMENT = 8;
+
+    /** Approximation of the per-entry overhead of a hash based map or set (node object + table slot) */
+    protected static final int MAP_ENTRY_SIZE = 32 + REFERENCE_SIZE;
+
+    protected final List<String> traversedPackagePrefixes;
+    protected final Map<Class<?>, ClassLayout> classLayouts = new ConcurrentHashMap<>();
+
+    public ObjectSizeEstimator(Collection<String> traversedPackagePrefixes) {
+        this.traversedPackagePrefixes = new ArrayList<>(traversedPackagePrefixes);
+    }
+
+    /**
+     * @return the estimated retained size, in bytes, of all the given roots together (objects shared between the roots are counted once).
+     */
+    public long estimateSize(Object... roots) {
+        Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        Deque<Object> stack = new ArrayDeque<>();
+        for (Object root : roots) {
+            if (root != null) {
+                stack.push(root);
+            }
+        }
+
+        long size = 0L;
+        while (!stack.isEmpty()) {
+            Object object = stack.pop();
+            if (!visited.add(object)) {
+                continue;
+            }
+            size += sizeOf(object, stack);
+        }
+        return size;
+    }
+
+    protected long sizeOf(Object object, Deque<Object> stack) {
+        Class<?> clazz = object.getClass();
+
+        if (clazz.isArray()) {
+            return sizeOfArray(object, clazz, stack);
+
+        } else if (object instanceof String) {
+            // String object + backing array, assuming Latin-1 compaction is not available
+            return align(OBJECT_HEADER_SIZE + REFERENCE_SIZE + 8) + align(ARRAY_HEADER_SIZE + 2L * ((String) object).length());
+
+        } else if (object instanceof Class || clazz.isEnum()) {
+            // Shared by everybody, not retained by the graph
+            return 0L;
+
+        } else if (object instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) object;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                pushIfNotNull(entry.getKey(), stack);
+                pushIfNotNull(entry.getValue(), stack);
+            }
+            return align(OBJECT_HEADER_SIZE + 4L * REFERENCE_SIZE + 16) + (long) map.size() * MAP_ENTRY_SIZE;
+
+        } else if (object instanceof Collection) {
+            Collection<?> collection = (Collection<?>) object;
+            for (Object element : collection) {
+                pushIfNotNull(element, stack);
+            }
+            long perElement = (object instanceof Set) ? MAP_ENTRY_SIZE : REFERENCE_SIZE;
+            return align(OBJECT_HEADER_SIZE + 2L * REFERENCE_SIZE + 8) + (long) collection.size() * perElement;
+
+        }
+
+        ClassLayout layout = getClassLayout(clazz);
+        if (layout.traversable) {
+            for (Field field : layout.referenceFields) {
+                try {
+                    pushIfNotNull(field.get(object), stack);
+                } catch (IllegalAccessException e) {
+                    // Not reachable: accessibility is checked when building the layout
+                }
+            }
+        }
+        return layout.shallowSize;
+    }
+
+    protected long sizeOfArray(Object array, Class<?> clazz, Deque<Object> stack) {
+        int length = Array.getLength(array);
+        Class<?> componentType = clazz.getComponentType();
+        if (componentType.isPrimitive()) {
+            return align(ARRAY_HEADER_SIZE + (long) length * primitiveSize(componentType));
+        }
+
+        for (int i = 0; i < length; i++) {
+            pushIfNotNull(Array.get(array, i), stack);
+        }
+        return align(ARRAY_HEADER_SIZE + (long) length * REFERENCE_SIZE);
+    }
+
+    protected void pushIfNotNull(Object object, Deque<Object> stack) {
+        if (object != null) {
+            stack.push(object);
+        }
+    }
+
+    protected ClassLayout getClassLayout(Class<?> clazz) {
+        ClassLayout layout = classLayouts.get(clazz);
+        if (layout == null) {
+            layout = createClassLayout(clazz);
+            classLayouts.put(clazz, layout);
+        }
+        return layout;
+    }
+
+    protected ClassLayout createClassLayout(Class<?> clazz) {
+        boolean traversable = isTraversable(clazz);
+        long fieldsSize = 0L;
+        List<Field> referenceFields = new ArrayList<>();
+
+        Class<?> current = clazz;
+        while (current != null && current != Object.class) {
+            for (Field field : current.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers())) {
+                    continue;
+                }
+
+                Class<?> type = field.getType();
+                if (type.isPrimitive()) {
+                    fieldsSize += primitiveSize(type);
+                } else {
+                    fieldsSize += REFERENCE_SIZE;
+                    if (traversable && isTraversable(current)) {
+                        try {
+                            field.setAccessible(true);
+                            referenceFields.add(field);
+                        } catch (RuntimeException e) {
+                            // Field can't be made accessible (e.g. module restrictions): it only counts as a reference
+                        }
+                    }
+                }
+            }
+            current = current.getSuperclass();
+        }
+
+        return new ClassLayout(align(OBJECT_HEADER_SIZE + fieldsSize), traversable, referenceFields);
+    }
+
+    protected boolean isTraversable(Class<?> clazz) {
+        String className = clazz.getName();
+        for (String packagePrefix : traversedPackagePrefixes) {
+            if (className.startsWith(packagePrefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    protected int primitiveSize(Class<?> type) {
+        if (type == long.class || type == double.class) {
+            return 8;
+        } else if (type == int.class || type == float.class) {
+            return 4;
+        } else if (type == short.class || type == char.class) {
+            return 2;
+        } else {
+            return 1;
+        }
+    }
+
+    protected long align(long size) {
+        return ((size + OBJECT_ALIGNMENT - 1) / OBJECT_ALIGNMENT) * OBJECT_ALIGNMENT;
+    }
+
+    protected static class ClassLayout {
+
+        protected final long shallowSize;
+        protected final boolean traversable;
+        protected final List<Field> referenceFields;
+
+        public ClassLayout(long shallowSize, boolean traversable, List<Field> referenceFields) {
+            this.shallowSize = shallowSize;
+            this.traversable = traversable;
+            this.referenceFields = referenceFields;
+        }
+    }
+
+}
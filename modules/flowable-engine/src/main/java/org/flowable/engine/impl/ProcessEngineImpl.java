@@ -30,6 +30,8 @@ import org.flowable.engine.RuntimeService;
 import org.flowable.engine.TaskService;
 import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.db.PrefetchingDbIdGenerator;
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionCacheWarmUp;
 import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -78,6 +80,15 @@ public class ProcessEngineImpl implements ProcessEngine {
             commandExecutor.execute(processEngineConfiguration.getSchemaCommandConfig(), processEngineConfiguration.getSchemaManagementCmd());
         }
 
+        if (processEngineConfiguration.getDeploymentCacheCoherenceManager() != null) {
+            processEngineConfiguration.getDeploymentCacheCoherenceManager().start();
+        }
+
+        if (processEngineConfiguration.getProcessDefinitionCacheWarmUpSize() > 0) {
+            new ProcessDefinitionCacheWarmUp(processEngineConfiguration, processEngineConfiguration.getProcessDefinitionCacheWarmUpSize(),
+                    processEngineConfiguration.getProcessDefinitionCacheWarmUpThreads()).warmUp();
+        }
+
         if (name == null) {
             LOGGER.info("default ProcessEngine created");
         } else {
@@ -109,6 +120,12 @@ public class ProcessEngineImpl implements ProcessEngine {
         if (asyncHistoryExecutor != null && asyncHistoryExecutor.isActive()) {
             asyncHistoryExecutor.shutdown();
         }
+        if (processEngineConfiguration.getDeploymentCacheCoherenceManager() != null) {
+            processEngineConfiguration.getDeploymentCacheCoherenceManager().shutdown();
+        }
+        if (processEngineConfiguration.getIdGenerator() instanceof PrefetchingDbIdGenerator) {
+            ((PrefetchingDbIdGenerator) processEngineConfiguration.getIdGenerator()).shutdown();
+        }
 
         Runnable closeRunnable = processEngineConfiguration.getProcessEngineCloseRunnable();
         if (closeRunnable != null) {
@@ -40,6 +40,7 @@ import org.flowable.engine.impl.el.UelExpressionCondition;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntityManager;
 import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.impl.util.ExpressionUtil;
 import org.flowable.engine.impl.util.condition.ConditionUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -151,7 +152,7 @@ public class TakeOutgoingSequenceFlowsOperation extends AbstractOperation {
                     outgoingSequenceFlows.add(sequenceFlow);
                 }
 
-            } else if (flowNode.getOutgoingFlows().size() == 1 || SkipExpressionUtil.shouldSkipFlowElement(commandContext, execution, skipExpressionString)) {
+            } else if (flowNode.getOutgoingFlows().size() == 1 || SkipExpressionUtil.shouldSkipFlowElement(commandContext, execution, sequenceFlow, skipExpressionString)) {
                 // The 'skip' for a sequence flow means that we skip the condition, not the sequence flow.
                 outgoingSequenceFlows.add(sequenceFlow);
             }
@@ -220,7 +221,8 @@ public class TakeOutgoingSequenceFlowsOperation extends AbstractOperation {
         boolean completeAdhocSubProcess = false;
         AdhocSubProcess adhocSubProcess = (AdhocSubProcess) flowNode.getParentContainer();
         if (adhocSubProcess.getCompletionCondition() != null) {
-            Expression expression = CommandContextUtil.getProcessEngineConfiguration(commandContext).getExpressionManager().createExpression(adhocSubProcess.getCompletionCondition());
+            Expression expression = ExpressionUtil.getExpression(adhocSubProcess, adhocSubProcess.getCompletionCondition(),
+                    CommandContextUtil.getProcessEngineConfiguration(commandContext).getExpressionManager());
             Condition condition = new UelExpressionCondition(expression);
             if (condition.evaluate(adhocSubProcess.getId(), execution)) {
                 completeAdhocSubProcess = true;
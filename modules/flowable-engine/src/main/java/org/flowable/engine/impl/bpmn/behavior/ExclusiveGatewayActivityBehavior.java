@@ -79,7 +79,7 @@ public class ExclusiveGatewayActivityBehavior extends GatewayActivityBehavior {
                     }
                     outgoingSequenceFlow = sequenceFlow;
                 }
-            } else if (SkipExpressionUtil.shouldSkipFlowElement(Context.getCommandContext(), execution, skipExpressionString)) {
+            } else if (SkipExpressionUtil.shouldSkipFlowElement(Context.getCommandContext(), execution, sequenceFlow, skipExpressionString)) {
                 outgoingSequenceFlow = sequenceFlow;
             }
 
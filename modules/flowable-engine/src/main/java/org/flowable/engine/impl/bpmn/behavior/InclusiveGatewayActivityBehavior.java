@@ -64,7 +64,9 @@ public class InclusiveGatewayActivityBehavior extends GatewayActivityBehavior im
 
         lockFirstParentScope(execution);
 
-        Collection<ExecutionEntity> allExecutions = executionEntityManager.findChildExecutionsByProcessInstanceId(execution.getProcessInstanceId());
+        // Only executions in the same "execution path" (with the same parent) can prevent the gateway from activating,
+        // an execution nested deeper is represented by its ancestor with that parent
+        Collection<ExecutionEntity> allExecutions = executionEntityManager.findChildExecutionsByParentExecutionId(execution.getParentId());
         Iterator<ExecutionEntity> executionIterator = allExecutions.iterator();
         boolean oneExecutionCanReachGatewayInstance = false;
         while (!oneExecutionCanReachGatewayInstance && executionIterator.hasNext()) {
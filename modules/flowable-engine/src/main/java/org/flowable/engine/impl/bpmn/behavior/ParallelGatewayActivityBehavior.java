@@ -23,6 +23,7 @@ import org.flowable.bpmn.model.FlowNode;
 import org.flowable.bpmn.model.ParallelGateway;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.engine.delegate.DelegateExecution;
+import org.flowable.engine.impl.cfg.PerformanceSettings;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntityManager;
 import org.flowable.engine.impl.util.CommandContextUtil;
@@ -43,6 +44,9 @@ import org.slf4j.LoggerFactory;
  * Note that a Parallel Gateway having one incoming and multiple outgoing sequence flow, is the same as having multiple outgoing sequence flow on a given activity. However, a parallel gateway does NOT
  * check conditions on the outgoing sequence flow.
  * 
+ * When {@link PerformanceSettings#isEnableParallelGatewayParentScopedJoin()} is enabled, the arrived executions are looked up among the child executions
+ * of the parent execution, instead of querying the inactive executions of the gateway in the whole process instance.
+ * 
  * @author Joram Barrez
  * @author Tom Baeyens
  */
@@ -69,19 +73,27 @@ public class ParallelGatewayActivityBehavior extends GatewayActivityBehavior {
 
         lockFirstParentScope(execution);
 
-        DelegateExecution multiInstanceExecution = null;
-        if (hasMultiInstanceParent(parallelGateway)) {
-            multiInstanceExecution = findMultiInstanceParentExecution(execution);
-        }
-
         ExecutionEntityManager executionEntityManager = CommandContextUtil.getExecutionEntityManager();
-        Collection<ExecutionEntity> joinedExecutions = executionEntityManager.findInactiveExecutionsByActivityIdAndProcessInstanceId(execution.getCurrentActivityId(), execution.getProcessInstanceId());
-        if (multiInstanceExecution != null) {
-            joinedExecutions = cleanJoinedExecutions(joinedExecutions, multiInstanceExecution);
-        }
-
         int nbrOfExecutionsToJoin = parallelGateway.getIncomingFlows().size();
-        int nbrOfExecutionsCurrentlyJoined = joinedExecutions.size();
+        int nbrOfExecutionsCurrentlyJoined;
+        Collection<ExecutionEntity> joinedExecutions = null;
+
+        if (nbrOfExecutionsToJoin > 1 && CommandContextUtil.getProcessEngineConfiguration().getPerformanceSettings().isEnableParallelGatewayParentScopedJoin()) {
+            joinedExecutions = findJoinedChildExecutions(execution);
+            nbrOfExecutionsCurrentlyJoined = joinedExecutions.size();
+
+        } else {
+            DelegateExecution multiInstanceExecution = null;
+            if (hasMultiInstanceParent(parallelGateway)) {
+                multiInstanceExecution = findMultiInstanceParentExecution(execution);
+            }
+
+            joinedExecutions = executionEntityManager.findInactiveExecutionsByActivityIdAndProcessInstanceId(execution.getCurrentActivityId(), execution.getProcessInstanceId());
+            if (multiInstanceExecution != null) {
+                joinedExecutions = cleanJoinedExecutions(joinedExecutions, multiInstanceExecution);
+            }
+            nbrOfExecutionsCurrentlyJoined = joinedExecutions.size();
+        }
 
         // Fork
 
@@ -120,6 +132,21 @@ public class ParallelGatewayActivityBehavior extends GatewayActivityBehavior {
 
     }
 
+    /**
+     * Returns the inactive child executions of the parent execution that are waiting in the gateway, including the given execution.
+     * When the execution tree is fetched eagerly, these are already loaded and no query is needed.
+     */
+    protected Collection<ExecutionEntity> findJoinedChildExecutions(DelegateExecution execution) {
+        List<ExecutionEntity> joinedExecutions = new ArrayList<>();
+        List<ExecutionEntity> childExecutions = CommandContextUtil.getExecutionEntityManager().findChildExecutionsByParentExecutionId(execution.getParentId());
+        for (ExecutionEntity childExecution : childExecutions) {
+            if (!childExecution.isActive() && execution.getCurrentActivityId().equals(childExecution.getActivityId())) {
+                joinedExecutions.add(childExecution);
+            }
+        }
+        return joinedExecutions;
+    }
+
     protected Collection<ExecutionEntity> cleanJoinedExecutions(Collection<ExecutionEntity> joinedExecutions, DelegateExecution multiInstanceExecution) {
         List<ExecutionEntity> cleanedExecutions = new ArrayList<>();
         for (ExecutionEntity executionEntity : joinedExecutions) {
@@ -29,9 +29,14 @@ import org.flowable.common.engine.impl.util.CollectionUtil;
 import org.flowable.engine.delegate.DelegateExecution;
 import org.flowable.engine.impl.bpmn.helper.ScopeUtil;
 import org.flowable.engine.impl.delegate.ActivityBehavior;
+import org.flowable.engine.impl.jobexecutor.ParallelMultiInstanceInstantiationJobHandler;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntityManager;
 import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.job.api.Job;
+import org.flowable.job.service.JobService;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
 
 /**
  * @author Joram Barrez
@@ -41,6 +46,19 @@ public class ParallelMultiInstanceBehavior extends MultiInstanceActivityBehavior
 
     private static final long serialVersionUID = 1L;
 
+    /**
+     * When larger than zero, at most this number of instances is created in one transaction.
+     * The remaining instances are created by asynchronous jobs on the multi instance root execution.
+     * A chunk is never larger than {@link #maxActiveInstances}, when that is set.
+     */
+    protected int instantiationChunkSize;
+
+    /**
+     * When larger than zero (and instances are created in chunks), no new instances are created
+     * as long as this number of instances is active.
+     */
+    protected int maxActiveInstances;
+
     public ParallelMultiInstanceBehavior(Activity activity, AbstractBpmnActivityBehavior originalActivityBehavior) {
         super(activity, originalActivityBehavior);
     }
@@ -57,10 +75,127 @@ public class ParallelMultiInstanceBehavior extends MultiInstanceActivityBehavior
 
         setLoopVariable(multiInstanceRootExecution, NUMBER_OF_INSTANCES, nrOfInstances);
         setLoopVariable(multiInstanceRootExecution, NUMBER_OF_COMPLETED_INSTANCES, 0);
+
+        if (instantiationChunkSize > 0) {
+            setLoopVariable(multiInstanceRootExecution, NUMBER_OF_ACTIVE_INSTANCES, 0);
+            if (nrOfInstances > 0) {
+                multiInstanceRootExecution.setActive(false);
+                createInstanceChunk(multiInstanceRootExecution, nrOfInstances, 0, 0, null);
+            }
+            return nrOfInstances;
+        }
+
         setLoopVariable(multiInstanceRootExecution, NUMBER_OF_ACTIVE_INSTANCES, nrOfInstances);
 
-        List<ExecutionEntity> concurrentExecutions = new ArrayList<>();
-        for (int loopCounter = 0; loopCounter < nrOfInstances; loopCounter++) {
+        List<ExecutionEntity> concurrentExecutions = createConcurrentExecutions(multiInstanceRootExecution, 0, nrOfInstances, 0, nrOfInstances, nrOfInstances);
+
+        // See ACT-1586: ExecutionQuery returns wrong results when using multi
+        // instance on a receive task The parent execution must be set to false, so it wouldn't show up in
+        // the execution query when using .activityId(something). Do not we cannot nullify the
+        // activityId (that would have been a better solution), as it would break boundary event behavior.
+        if (!concurrentExecutions.isEmpty()) {
+            multiInstanceRootExecution.setActive(false);
+        }
+
+        return nrOfInstances;
+    }
+
+    /**
+     * Creates the next chunk of instances, when instances are created in chunks (see {@link #instantiationChunkSize}).
+     * Called by the {@link ParallelMultiInstanceInstantiationJobHandler}, with the id of the job that is being executed.
+     */
+    public void createNextInstances(DelegateExecution multiInstanceRootExecution, String executingJobId) {
+        int nrOfInstances = getLoopVariable(multiInstanceRootExecution, NUMBER_OF_INSTANCES);
+        int nrOfCompletedInstances = getLoopVariable(multiInstanceRootExecution, NUMBER_OF_COMPLETED_INSTANCES);
+        int nrOfActiveInstances = getLoopVariable(multiInstanceRootExecution, NUMBER_OF_ACTIVE_INSTANCES);
+        createInstanceChunk(multiInstanceRootExecution, nrOfInstances, nrOfCompletedInstances, nrOfActiveInstances, executingJobId);
+    }
+
+    protected void createInstanceChunk(DelegateExecution multiInstanceRootExecution, int nrOfInstances, int nrOfCompletedInstances, int nrOfActiveInstances,
+            String executingJobId) {
+        
+        // Every instance that was created is either still active or completed
+        int nrOfCreatedInstances = nrOfCompletedInstances + nrOfActiveInstances;
+        int nrOfInstancesToCreate = Math.min(getEffectiveInstantiationChunkSize(), nrOfInstances - nrOfCreatedInstances);
+        if (maxActiveInstances > 0) {
+            nrOfInstancesToCreate = Math.min(nrOfInstancesToCreate, maxActiveInstances - nrOfActiveInstances);
+        }
+
+        if (nrOfInstancesToCreate <= 0) {
+            return;
+        }
+
+        nrOfActiveInstances += nrOfInstancesToCreate;
+        setLoopVariable(multiInstanceRootExecution, NUMBER_OF_ACTIVE_INSTANCES, nrOfActiveInstances);
+
+        createConcurrentExecutions(multiInstanceRootExecution, nrOfCreatedInstances, nrOfInstancesToCreate, 
+                nrOfCompletedInstances, nrOfActiveInstances, nrOfInstances);
+
+        // Instances without wait states have completed already, so the loop variables need to be read again
+        scheduleNextInstanceChunk(multiInstanceRootExecution, executingJobId);
+    }
+
+    /**
+     * Schedules the job creating the next chunk of instances, when there are instances left to create, there's room for a new chunk
+     * and no such job is pending yet.
+     */
+    protected void scheduleNextInstanceChunk(DelegateExecution multiInstanceRootExecution, String executingJobId) {
+        ExecutionEntity multiInstanceRootExecutionEntity = (ExecutionEntity) multiInstanceRootExecution;
+        if (multiInstanceRootExecutionEntity.isDeleted() || multiInstanceRootExecutionEntity.isEnded()) {
+            return;
+        }
+
+        int nrOfInstances = getLoopVariable(multiInstanceRootExecution, NUMBER_OF_INSTANCES);
+        int nrOfCompletedInstances = getLoopVariable(multiInstanceRootExecution, NUMBER_OF_COMPLETED_INSTANCES);
+        int nrOfActiveInstances = getLoopVariable(multiInstanceRootExecution, NUMBER_OF_ACTIVE_INSTANCES);
+        int nrOfRemainingInstances = nrOfInstances - nrOfCompletedInstances - nrOfActiveInstances;
+        if (nrOfRemainingInstances <= 0) {
+            return;
+        }
+
+        if (maxActiveInstances > 0 && maxActiveInstances - nrOfActiveInstances < Math.min(getEffectiveInstantiationChunkSize(), nrOfRemainingInstances)) {
+            return;
+        }
+
+        if (!hasPendingInstanceChunkJob(multiInstanceRootExecutionEntity, executingJobId)) {
+            scheduleInstanceChunkJob(multiInstanceRootExecution);
+        }
+    }
+
+    protected boolean hasPendingInstanceChunkJob(ExecutionEntity multiInstanceRootExecution, String executingJobId) {
+        for (JobEntity job : multiInstanceRootExecution.getJobs()) {
+            if (isInstanceChunkJob(job, executingJobId)) {
+                return true;
+            }
+        }
+        
+        // A failed job waits as timer job until it's retried
+        for (TimerJobEntity timerJob : multiInstanceRootExecution.getTimerJobs()) {
+            if (isInstanceChunkJob(timerJob, executingJobId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    protected boolean isInstanceChunkJob(Job job, String executingJobId) {
+        return ParallelMultiInstanceInstantiationJobHandler.TYPE.equals(job.getJobHandlerType())
+                && activity.getId().equals(job.getJobHandlerConfiguration())
+                && (executingJobId == null || !executingJobId.equals(job.getId()));
+    }
+
+    protected int getEffectiveInstantiationChunkSize() {
+        if (maxActiveInstances > 0) {
+            return Math.min(instantiationChunkSize, maxActiveInstances);
+        }
+        return instantiationChunkSize;
+    }
+
+    protected List<ExecutionEntity> createConcurrentExecutions(DelegateExecution multiInstanceRootExecution, int firstLoopCounter, int nrOfExecutions,
+            int nrOfCompletedInstances, int nrOfActiveInstances, int nrOfInstances) {
+        
+        List<ExecutionEntity> concurrentExecutions = new ArrayList<>(nrOfExecutions);
+        for (int loopCounter = firstLoopCounter; loopCounter < firstLoopCounter + nrOfExecutions; loopCounter++) {
             ExecutionEntity concurrentExecution = CommandContextUtil.getExecutionEntityManager()
                     .createChildExecution((ExecutionEntity) multiInstanceRootExecution);
             concurrentExecution.setCurrentFlowElement(activity);
@@ -68,7 +203,7 @@ public class ParallelMultiInstanceBehavior extends MultiInstanceActivityBehavior
             concurrentExecution.setScope(false);
 
             concurrentExecutions.add(concurrentExecution);
-            logLoopDetails(concurrentExecution, "initialized", loopCounter, 0, nrOfInstances, nrOfInstances);
+            logLoopDetails(concurrentExecution, "initialized", loopCounter, nrOfCompletedInstances, nrOfActiveInstances, nrOfInstances);
             
             //CommandContextUtil.getHistoryManager().recordActivityStart(concurrentExecution);
         }
@@ -76,26 +211,43 @@ public class ParallelMultiInstanceBehavior extends MultiInstanceActivityBehavior
         // Before the activities are executed, all executions MUST be created up front
         // Do not try to merge this loop with the previous one, as it will lead
         // to bugs, due to possible child execution pruning.
-        for (int loopCounter = 0; loopCounter < nrOfInstances; loopCounter++) {
-            ExecutionEntity concurrentExecution = concurrentExecutions.get(loopCounter);
+        for (int i = 0; i < nrOfExecutions; i++) {
+            ExecutionEntity concurrentExecution = concurrentExecutions.get(i);
             // executions can be inactive, if instances are all automatics
             // (no-waitstate) and completionCondition has been met in the meantime
             if (concurrentExecution.isActive() 
                     && !concurrentExecution.isEnded() 
                     && !concurrentExecution.getParent().isEnded()) {
-                executeOriginalBehavior(concurrentExecution, (ExecutionEntity) multiInstanceRootExecution, loopCounter);
+                executeOriginalBehavior(concurrentExecution, (ExecutionEntity) multiInstanceRootExecution, firstLoopCounter + i);
             } 
         }
 
-        // See ACT-1586: ExecutionQuery returns wrong results when using multi
-        // instance on a receive task The parent execution must be set to false, so it wouldn't show up in
-        // the execution query when using .activityId(something). Do not we cannot nullify the
-        // activityId (that would have been a better solution), as it would break boundary event behavior.
-        if (!concurrentExecutions.isEmpty()) {
-            multiInstanceRootExecution.setActive(false);
+        return concurrentExecutions;
+    }
+
+    /**
+     * Schedules an (exclusive) job on the multi instance root execution that creates the next chunk of instances.
+     */
+    protected void scheduleInstanceChunkJob(DelegateExecution multiInstanceRootExecution) {
+        ExecutionEntity multiInstanceRootExecutionEntity = (ExecutionEntity) multiInstanceRootExecution;
+        JobService jobService = CommandContextUtil.getJobService();
+
+        JobEntity job = jobService.createJob();
+        job.setExecutionId(multiInstanceRootExecutionEntity.getId());
+        job.setProcessInstanceId(multiInstanceRootExecutionEntity.getProcessInstanceId());
+        job.setProcessDefinitionId(multiInstanceRootExecutionEntity.getProcessDefinitionId());
+        job.setJobHandlerType(ParallelMultiInstanceInstantiationJobHandler.TYPE);
+        job.setJobHandlerConfiguration(activity.getId());
+
+        // Inherit tenant id (if applicable)
+        if (multiInstanceRootExecutionEntity.getTenantId() != null) {
+            job.setTenantId(multiInstanceRootExecutionEntity.getTenantId());
         }
 
-        return nrOfInstances;
+        multiInstanceRootExecutionEntity.getJobs().add(job);
+
+        jobService.createAsyncJob(job, true);
+        jobService.scheduleAsyncJob(job);
     }
 
     /**
@@ -172,7 +324,12 @@ public class ParallelMultiInstanceBehavior extends MultiInstanceActivityBehavior
                 }
 
                 super.leave(leavingExecution);
-              }
+
+            } else if (instantiationChunkSize > 0 && maxActiveInstances > 0) {
+                // Instance creation was halted because the maximum number of active instances was reached:
+                // continue as soon as there's room for a new chunk again
+                scheduleNextInstanceChunk(miRootExecution, null);
+            }
 
         } else {
             sendCompletedEvent(execution);
@@ -180,6 +337,22 @@ public class ParallelMultiInstanceBehavior extends MultiInstanceActivityBehavior
         }
     }
 
+    public int getInstantiationChunkSize() {
+        return instantiationChunkSize;
+    }
+
+    public void setInstantiationChunkSize(int instantiationChunkSize) {
+        this.instantiationChunkSize = instantiationChunkSize;
+    }
+
+    public int getMaxActiveInstances() {
+        return maxActiveInstances;
+    }
+
+    public void setMaxActiveInstances(int maxActiveInstances) {
+        this.maxActiveInstances = maxActiveInstances;
+    }
+
     protected Activity verifyCompensation(DelegateExecution execution, ExecutionEntity executionToUse, Activity activity) {
         boolean hasCompensation = false;
         if (activity instanceof Transaction) {
@@ -38,6 +38,7 @@ import org.flowable.engine.impl.context.BpmnOverrideContext;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.engine.impl.util.EntityLinkUtil;
+import org.flowable.engine.impl.util.ExpressionUtil;
 import org.flowable.engine.impl.util.IdentityLinkUtil;
 import org.flowable.engine.impl.util.TaskHelper;
 import org.flowable.identitylink.service.impl.persistence.entity.IdentityLinkEntity;
@@ -119,7 +120,7 @@ public class UserTaskActivityBehavior extends TaskActivityBehavior {
         if (StringUtils.isNotEmpty(activeTaskName)) {
             String name = null;
             try {
-                Object nameValue = expressionManager.createExpression(activeTaskName).getValue(execution);
+                Object nameValue = ExpressionUtil.getExpression(userTask, activeTaskName, expressionManager).getValue(execution);
                 if (nameValue != null) {
                     name = nameValue.toString();
                 }
@@ -133,7 +134,7 @@ public class UserTaskActivityBehavior extends TaskActivityBehavior {
         if (StringUtils.isNotEmpty(activeTaskDescription)) {
             String description = null;
             try {
-                Object descriptionValue = expressionManager.createExpression(activeTaskDescription).getValue(execution);
+                Object descriptionValue = ExpressionUtil.getExpression(userTask, activeTaskDescription, expressionManager).getValue(execution);
                 if (descriptionValue != null) {
                     description = descriptionValue.toString();
                 }
@@ -145,14 +146,14 @@ public class UserTaskActivityBehavior extends TaskActivityBehavior {
         }
 
         if (StringUtils.isNotEmpty(activeTaskDueDate)) {
-            Object dueDate = expressionManager.createExpression(activeTaskDueDate).getValue(execution);
+            Object dueDate = ExpressionUtil.getExpression(userTask, activeTaskDueDate, expressionManager).getValue(execution);
             if (dueDate != null) {
                 if (dueDate instanceof Date) {
                     task.setDueDate((Date) dueDate);
                 } else if (dueDate instanceof String) {
                     String businessCalendarName = null;
                     if (StringUtils.isNotEmpty(userTask.getBusinessCalendarName())) {
-                        businessCalendarName = expressionManager.createExpression(userTask.getBusinessCalendarName()).getValue(execution).toString();
+                        businessCalendarName = ExpressionUtil.getExpression(userTask, userTask.getBusinessCalendarName(), expressionManager).getValue(execution).toString();
                     } else {
                         businessCalendarName = DueDateBusinessCalendar.NAME;
                     }
@@ -168,7 +169,7 @@ public class UserTaskActivityBehavior extends TaskActivityBehavior {
         }
 
         if (StringUtils.isNotEmpty(activeTaskPriority)) {
-            final Object priority = expressionManager.createExpression(activeTaskPriority).getValue(execution);
+            final Object priority = ExpressionUtil.getExpression(userTask, activeTaskPriority, expressionManager).getValue(execution);
             if (priority != null) {
                 if (priority instanceof String) {
                     try {
@@ -187,7 +188,7 @@ public class UserTaskActivityBehavior extends TaskActivityBehavior {
         if (StringUtils.isNotEmpty(activeTaskCategory)) {
             String category = null;
             try {
-                Object categoryValue = expressionManager.createExpression(activeTaskCategory).getValue(execution);
+                Object categoryValue = ExpressionUtil.getExpression(userTask, activeTaskCategory, expressionManager).getValue(execution);
                 if (categoryValue != null) {
                     category = categoryValue.toString();
                 }
@@ -201,7 +202,7 @@ public class UserTaskActivityBehavior extends TaskActivityBehavior {
         if (StringUtils.isNotEmpty(activeTaskFormKey)) {
             String formKey = null;
             try {
-                Object formKeyValue = expressionManager.createExpression(activeTaskFormKey).getValue(execution);
+                Object formKeyValue = ExpressionUtil.getExpression(userTask, activeTaskFormKey, expressionManager).getValue(execution);
                 if (formKeyValue != null) {
                     formKey = formKeyValue.toString();
                 }
@@ -214,7 +215,7 @@ public class UserTaskActivityBehavior extends TaskActivityBehavior {
 
         boolean skipUserTask = false;
         if (StringUtils.isNotEmpty(activeTaskSkipExpression)) {
-            Expression skipExpression = expressionManager.createExpression(activeTaskSkipExpression);
+            Expression skipExpression = ExpressionUtil.getExpression(userTask, activeTaskSkipExpression, expressionManager);
             skipUserTask = SkipExpressionUtil.isSkipExpressionEnabled(execution, skipExpression)
                     && SkipExpressionUtil.shouldSkipFlowElement(execution, skipExpression);
         }
@@ -262,7 +263,7 @@ public class UserTaskActivityBehavior extends TaskActivityBehavior {
             List<String> candidateGroups, TaskEntity task, ExpressionManager expressionManager, DelegateExecution execution) {
 
         if (StringUtils.isNotEmpty(assignee)) {
-            Object assigneeExpressionValue = expressionManager.createExpression(assignee).getValue(execution);
+            Object assigneeExpressionValue = ExpressionUtil.getExpression(userTask, assignee, expressionManager).getValue(execution);
             String assigneeValue = null;
             if (assigneeExpressionValue != null) {
                 assigneeValue = assigneeExpressionValue.toString();
@@ -274,7 +275,7 @@ public class UserTaskActivityBehavior extends TaskActivityBehavior {
         }
 
         if (StringUtils.isNotEmpty(owner)) {
-            Object ownerExpressionValue = expressionManager.createExpression(owner).getValue(execution);
+            Object ownerExpressionValue = ExpressionUtil.getExpression(userTask, owner, expressionManager).getValue(execution);
             String ownerValue = null;
             if (ownerExpressionValue != null) {
                 ownerValue = ownerExpressionValue.toString();
@@ -287,7 +288,7 @@ public class UserTaskActivityBehavior extends TaskActivityBehavior {
 
         if (candidateGroups != null && !candidateGroups.isEmpty()) {
             for (String candidateGroup : candidateGroups) {
-                Expression groupIdExpr = expressionManager.createExpression(candidateGroup);
+                Expression groupIdExpr = ExpressionUtil.getExpression(userTask, candidateGroup, expressionManager);
                 Object value = groupIdExpr.getValue(execution);
                 if (value != null) {
                     if (value instanceof Collection) {
@@ -308,7 +309,7 @@ public class UserTaskActivityBehavior extends TaskActivityBehavior {
 
         if (candidateUsers != null && !candidateUsers.isEmpty()) {
             for (String candidateUser : candidateUsers) {
-                Expression userIdExpr = expressionManager.createExpression(candidateUser);
+                Expression userIdExpr = ExpressionUtil.getExpression(userTask, candidateUser, expressionManager);
                 Object value = userIdExpr.getValue(execution);
                 if (value != null) {
                     if (value instanceof Collection) {
@@ -332,7 +333,7 @@ public class UserTaskActivityBehavior extends TaskActivityBehavior {
 
             for (String customUserIdentityLinkType : userTask.getCustomUserIdentityLinks().keySet()) {
                 for (String userIdentityLink : userTask.getCustomUserIdentityLinks().get(customUserIdentityLinkType)) {
-                    Expression idExpression = expressionManager.createExpression(userIdentityLink);
+                    Expression idExpression = ExpressionUtil.getExpression(userTask, userIdentityLink, expressionManager);
                     Object value = idExpression.getValue(execution);
                     if (value instanceof Collection) {
                         Iterator userIdSet = ((Collection) value).iterator();
@@ -361,7 +362,7 @@ public class UserTaskActivityBehavior extends TaskActivityBehavior {
             for (String customGroupIdentityLinkType : userTask.getCustomGroupIdentityLinks().keySet()) {
                 for (String groupIdentityLink : userTask.getCustomGroupIdentityLinks().get(customGroupIdentityLinkType)) {
 
-                    Expression idExpression = expressionManager.createExpression(groupIdentityLink);
+                    Expression idExpression = ExpressionUtil.getExpression(userTask, groupIdentityLink, expressionManager);
                     Object value = idExpression.getValue(execution);
                     if (value instanceof Collection) {
                         Iterator groupIdSet = ((Collection) value).iterator();
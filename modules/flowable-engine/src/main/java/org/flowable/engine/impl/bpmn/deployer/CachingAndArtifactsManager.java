@@ -13,6 +13,7 @@
 package org.flowable.engine.impl.bpmn.deployer;
 
 import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.bpmn.model.InclusiveGateway;
 import org.flowable.bpmn.model.Process;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.impl.context.Context;
@@ -21,12 +22,16 @@ import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.persistence.deploy.DeploymentManager;
 import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionCacheEntry;
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionCacheEntrySizeEstimator;
 import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionInfoCacheObject;
 import org.flowable.engine.impl.persistence.entity.DeploymentEntity;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntity;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionInfoEntity;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionInfoEntityManager;
 import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.impl.util.FlowNodeReachabilityIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
@@ -36,6 +41,8 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
  */
 public class CachingAndArtifactsManager {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(CachingAndArtifactsManager.class);
+
     /**
      * Ensures that the process definition is cached in the appropriate places, including the deployment's collection of deployed artifacts and the deployment manager's cache, as well as caching any
      * ProcessDefinitionInfos.
@@ -50,6 +57,8 @@ public class CachingAndArtifactsManager {
             BpmnModel bpmnModel = parsedDeployment.getBpmnModelForProcessDefinition(processDefinition);
             Process process = parsedDeployment.getProcessModelForProcessDefinition(processDefinition);
             ProcessDefinitionCacheEntry cacheEntry = new ProcessDefinitionCacheEntry(processDefinition, bpmnModel, process);
+            initReachabilityIndex(cacheEntry);
+            estimateCacheEntrySize(cacheEntry, processEngineConfiguration);
             processDefinitionCache.add(processDefinition.getId(), cacheEntry);
             addDefinitionInfoToCache(processDefinition, processEngineConfiguration, commandContext);
 
@@ -69,10 +78,34 @@ public class CachingAndArtifactsManager {
             BpmnModel bpmnModel = parsedDeployment.getBpmnModelForProcessDefinition(processDefinition);
             Process process = parsedDeployment.getProcessModelForProcessDefinition(processDefinition);
             ProcessDefinitionCacheEntry cacheEntry = new ProcessDefinitionCacheEntry(processDefinition, bpmnModel, process);
+            initReachabilityIndex(cacheEntry);
+            estimateCacheEntrySize(cacheEntry, processEngineConfiguration);
             processDefinitionCache.add(processDefinition.getId(), cacheEntry);
         }
     }
 
+    /**
+     * Calculates the reachability of the flow nodes, which is used by the join of an inclusive gateway,
+     * so that the join doesn't need to search through the process graph for every execution.
+     */
+    protected void initReachabilityIndex(ProcessDefinitionCacheEntry cacheEntry) {
+        Process process = cacheEntry.getProcess();
+        if (process != null && !process.findFlowElementsOfType(InclusiveGateway.class).isEmpty()) {
+            cacheEntry.setReachabilityIndex(new FlowNodeReachabilityIndex(process));
+        }
+    }
+
+    /**
+     * Calculates the estimated retained size of the cache entry, if enabled, so that it's known before the entry is added to a size-bounded cache.
+     */
+    protected void estimateCacheEntrySize(ProcessDefinitionCacheEntry cacheEntry, ProcessEngineConfigurationImpl processEngineConfiguration) {
+        ProcessDefinitionCacheEntrySizeEstimator sizeEstimator = processEngineConfiguration.getProcessDefinitionCacheEntrySizeEstimator();
+        if (sizeEstimator != null) {
+            cacheEntry.setEstimatedSize(sizeEstimator.estimateSize(cacheEntry));
+            LOGGER.debug("Estimated size of the cache entry for process definition {} is {} bytes", cacheEntry.getProcessDefinition().getId(), cacheEntry.getEstimatedSize());
+        }
+    }
+
     protected void addDefinitionInfoToCache(ProcessDefinitionEntity processDefinition,
             ProcessEngineConfigurationImpl processEngineConfiguration, CommandContext commandContext) {
 
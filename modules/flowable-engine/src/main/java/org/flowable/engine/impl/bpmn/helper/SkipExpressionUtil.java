@@ -12,11 +12,13 @@
  */
 package org.flowable.engine.impl.bpmn.helper;
 
+import org.flowable.bpmn.model.BaseElement;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.delegate.Expression;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.engine.delegate.DelegateExecution;
 import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.impl.util.ExpressionUtil;
 
 public class SkipExpressionUtil {
 
@@ -57,15 +59,13 @@ public class SkipExpressionUtil {
     }
 
     public static boolean shouldSkipFlowElement(CommandContext commandContext, DelegateExecution execution, String skipExpressionString) {
-        Expression skipExpression = CommandContextUtil.getProcessEngineConfiguration(commandContext).getExpressionManager().createExpression(skipExpressionString);
-        Object value = skipExpression.getValue(execution);
-
-        if (value instanceof Boolean) {
-            return ((Boolean) value).booleanValue();
+        return shouldSkipFlowElement(commandContext, execution, null, skipExpressionString);
+    }
 
-        } else {
-            throw new FlowableIllegalArgumentException("Skip expression does not resolve to a boolean: " + skipExpression.getExpressionText());
-        }
+    public static boolean shouldSkipFlowElement(CommandContext commandContext, DelegateExecution execution, BaseElement element, String skipExpressionString) {
+        Expression skipExpression = ExpressionUtil.getExpression(element, skipExpressionString,
+                CommandContextUtil.getProcessEngineConfiguration(commandContext).getExpressionManager());
+        return shouldSkipFlowElement(execution, skipExpression);
     }
 
     public static boolean shouldSkipFlowElement(DelegateExecution execution, Expression skipExpression) {
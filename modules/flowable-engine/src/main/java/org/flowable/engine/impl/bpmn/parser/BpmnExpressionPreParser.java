@@ -0,0 +1,134 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.bpmn.parser;
+
+import java.util.Collection;
+
+import org.apache.commons.lang3.StringUtils;
+import org.flowable.bpmn.model.AdhocSubProcess;
+import org.flowable.bpmn.model.BaseElement;
+import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.bpmn.model.Event;
+import org.flowable.bpmn.model.EventDefinition;
+import org.flowable.bpmn.model.FlowElement;
+import org.flowable.bpmn.model.Process;
+import org.flowable.bpmn.model.SequenceFlow;
+import org.flowable.bpmn.model.TimerEventDefinition;
+import org.flowable.bpmn.model.UserTask;
+import org.flowable.common.engine.impl.el.ExpressionManager;
+import org.flowable.engine.impl.util.ExpressionUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Parses the expressions of a {@link BpmnModel} that otherwise would only be parsed when they are used for the first time
+ * (sequence flow conditions, skip expressions, timer definitions, user task properties, ...)
+ * and stores the resulting expressions on the model elements, where they are picked up by {@link ExpressionUtil#getExpression}.
+ *
+ * Expressions that can't be parsed are left alone: the error will be thrown when the expression is used, as before.
+ * The CMMN and DMN engines pre-parse their models the same way.
+ */
+public class BpmnExpressionPreParser {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BpmnExpressionPreParser.class);
+
+    protected ExpressionManager expressionManager;
+
+    public BpmnExpressionPreParser(ExpressionManager expressionManager) {
+        this.expressionManager = expressionManager;
+    }
+
+    public void preParseExpressions(BpmnModel bpmnModel) {
+        for (Process process : bpmnModel.getProcesses()) {
+            for (FlowElement flowElement : process.findFlowElementsOfType(FlowElement.class)) {
+                preParseExpressions(flowElement);
+            }
+        }
+    }
+
+    protected void preParseExpressions(FlowElement flowElement) {
+        if (flowElement instanceof SequenceFlow) {
+            SequenceFlow sequenceFlow = (SequenceFlow) flowElement;
+            preParseExpression(sequenceFlow, sequenceFlow.getConditionExpression());
+            preParseExpression(sequenceFlow, sequenceFlow.getSkipExpression());
+
+        } else if (flowElement instanceof UserTask) {
+            preParseUserTaskExpressions((UserTask) flowElement);
+
+        } else if (flowElement instanceof AdhocSubProcess) {
+            preParseExpression(flowElement, ((AdhocSubProcess) flowElement).getCompletionCondition());
+
+        } else if (flowElement instanceof Event) {
+            for (EventDefinition eventDefinition : ((Event) flowElement).getEventDefinitions()) {
+                if (eventDefinition instanceof TimerEventDefinition) {
+                    TimerEventDefinition timerEventDefinition = (TimerEventDefinition) eventDefinition;
+                    preParseExpression(timerEventDefinition, timerEventDefinition.getTimeDate());
+                    preParseExpression(timerEventDefinition, timerEventDefinition.getTimeCycle());
+                    preParseExpression(timerEventDefinition, timerEventDefinition.getTimeDuration());
+                    preParseExpression(timerEventDefinition, timerEventDefinition.getCalendarName());
+                }
+            }
+        }
+    }
+
+    protected void preParseUserTaskExpressions(UserTask userTask) {
+        preParseExpression(userTask, userTask.getName());
+        preParseExpression(userTask, userTask.getDocumentation());
+        preParseExpression(userTask, userTask.getDueDate());
+        preParseExpression(userTask, userTask.getBusinessCalendarName());
+        preParseExpression(userTask, userTask.getPriority());
+        preParseExpression(userTask, userTask.getCategory());
+        preParseExpression(userTask, userTask.getFormKey());
+        preParseExpression(userTask, userTask.getSkipExpression());
+        preParseExpression(userTask, userTask.getAssignee());
+        preParseExpression(userTask, userTask.getOwner());
+        preParseExpressions(userTask, userTask.getCandidateUsers());
+        preParseExpressions(userTask, userTask.getCandidateGroups());
+
+        for (Collection<String> identityLinks : userTask.getCustomUserIdentityLinks().values()) {
+            preParseExpressions(userTask, identityLinks);
+        }
+        for (Collection<String> identityLinks : userTask.getCustomGroupIdentityLinks().values()) {
+            preParseExpressions(userTask, identityLinks);
+        }
+    }
+
+    protected void preParseExpressions(BaseElement element, Collection<String> expressionTexts) {
+        if (expressionTexts != null) {
+            for (String expressionText : expressionTexts) {
+                preParseExpression(element, expressionText);
+            }
+        }
+    }
+
+    protected void preParseExpression(BaseElement element, String expressionText) {
+        if (StringUtils.isEmpty(expressionText) || element.getParsedExpression(expressionText) != null) {
+            return;
+        }
+
+        try {
+            element.addParsedExpression(expressionText, expressionManager.createExpression(expressionText));
+        } catch (RuntimeException e) {
+            LOGGER.debug("Could not parse expression '{}' of element {}, it will be parsed when it is used", expressionText, element.getId(), e);
+        }
+    }
+
+    public ExpressionManager getExpressionManager() {
+        return expressionManager;
+    }
+
+    public void setExpressionManager(ExpressionManager expressionManager) {
+        this.expressionManager = expressionManager;
+    }
+
+}
@@ -194,6 +194,11 @@ public class BpmnParse implements BpmnXMLConstants {
             // Attach logic to the processes (eg. map ActivityBehaviors to bpmn model elements)
             applyParseHandlers();
 
+            // Parse the expressions that are otherwise only parsed on their first use
+            if (processEngineConfiguration != null && processEngineConfiguration.isEnableExpressionPreParsing()) {
+                new BpmnExpressionPreParser(processEngineConfiguration.getExpressionManager()).preParseExpressions(bpmnModel);
+            }
+
             // Finally, process the diagram interchange info
             processDI();
 
@@ -17,9 +17,11 @@ import org.flowable.bpmn.model.Activity;
 import org.flowable.bpmn.model.BaseElement;
 import org.flowable.bpmn.model.FlowNode;
 import org.flowable.bpmn.model.MultiInstanceLoopCharacteristics;
+import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.impl.el.ExpressionManager;
 import org.flowable.engine.impl.bpmn.behavior.AbstractBpmnActivityBehavior;
 import org.flowable.engine.impl.bpmn.behavior.MultiInstanceActivityBehavior;
+import org.flowable.engine.impl.bpmn.behavior.ParallelMultiInstanceBehavior;
 import org.flowable.engine.impl.bpmn.parser.BpmnParse;
 import org.flowable.engine.impl.util.CommandContextUtil;
 
@@ -81,6 +83,37 @@ public abstract class AbstractActivityBpmnParseHandler<T extends FlowNode> exten
         if (loopCharacteristics.getHandler() != null) {
             miActivityBehavior.setHandler(loopCharacteristics.getHandler().clone());
         }
+
+        if (miActivityBehavior instanceof ParallelMultiInstanceBehavior) {
+            ParallelMultiInstanceBehavior parallelMiActivityBehavior = (ParallelMultiInstanceBehavior) miActivityBehavior;
+
+            // flowable:instantiationChunkSize
+            if (StringUtils.isNotEmpty(loopCharacteristics.getInstantiationChunkSize())) {
+                parallelMiActivityBehavior.setInstantiationChunkSize(parsePositiveInteger(modelActivity, 
+                        "instantiationChunkSize", loopCharacteristics.getInstantiationChunkSize()));
+            }
+
+            // flowable:maxActiveInstances
+            if (StringUtils.isNotEmpty(loopCharacteristics.getMaxActiveInstances())) {
+                parallelMiActivityBehavior.setMaxActiveInstances(parsePositiveInteger(modelActivity, 
+                        "maxActiveInstances", loopCharacteristics.getMaxActiveInstances()));
+            }
+        }
+    }
+
+    protected int parsePositiveInteger(Activity modelActivity, String attributeName, String value) {
+        int intValue;
+        try {
+            intValue = Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            intValue = -1;
+        }
+
+        if (intValue <= 0) {
+            throw new FlowableException("Invalid " + attributeName + " '" + value + "' for multi instance activity " + modelActivity.getId() 
+                    + ": must be a positive integer value");
+        }
+        return intValue;
     }
     
     protected MultiInstanceActivityBehavior createMultiInstanceActivityBehavior(Activity modelActivity, MultiInstanceLoopCharacteristics loopCharacteristics, BpmnParse bpmnParse) {
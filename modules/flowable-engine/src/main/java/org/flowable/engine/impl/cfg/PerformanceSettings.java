@@ -23,10 +23,22 @@ public class PerformanceSettings {
      * Less roundtrips to the database outweighs doing many, smaller fetches and often multiple executions from the same tree are 
      * needed anyway when executing process instances.
      * 
-     * This enables the setting globally. However, it must also be enabled on a process definition itself.
-     * If false, the setting on the process definition is ignored.
+     * The tree is fetched once per command and the fetched executions are linked to each other, so navigating the tree
+     * (parent, child executions, process instance, sub process instance, ...) doesn't need any further database calls.
+     * When the execution relationship counts are enabled, the related entity collections that are known to be empty
+     * (jobs, timer jobs, tasks and event subscriptions) are initialized too. Related entities that do exist are not fetched
+     * with the tree, they are still fetched per execution when they are needed.
+     * 
+     * This applies to all process definitions, the (deprecated) isEagerExecutionFetching attribute on a process definition is ignored.
+     */
+    protected boolean enableEagerExecutionTreeFetching = true;
+
+    /**
+     * The maximum number of executions of a tree that is fetched eagerly. Larger trees (for example of a large parallel multi instance)
+     * are not fetched at once, their executions are fetched when they are needed as if eager fetching was disabled.
+     * Negative value to fetch trees of any size.
      */
-    protected boolean enableEagerExecutionTreeFetching = false;
+    protected int eagerExecutionTreeFetchingLimit = 1000;
 
     /**
      * Keeps a count on each execution that holds how many variables, jobs, tasks, event subscriptions, etc. the execution has.
@@ -55,6 +67,13 @@ public class PerformanceSettings {
      */
     protected boolean validateTaskRelationshipCountConfigOnBoot = true;
 
+    /**
+     * If true, a parallel gateway join only looks for the arrived executions among the child executions of the parent execution,
+     * instead of querying all inactive executions of the gateway in the process instance on every arrival.
+     * The child executions are still read on every arrival: this is one query per arrival, unless the execution tree was fetched eagerly.
+     */
+    protected boolean enableParallelGatewayParentScopedJoin = false;
+
     /**
      * Experimental setting: in certain places in the engine (execution/process instance/historic process instance/ tasks/data objects) localization is supported. When this setting is false,
      * localization is completely disabled, which gives a small performance gain.
@@ -69,6 +88,14 @@ public class PerformanceSettings {
         this.enableEagerExecutionTreeFetching = enableEagerExecutionTreeFetching;
     }
 
+    public int getEagerExecutionTreeFetchingLimit() {
+        return eagerExecutionTreeFetchingLimit;
+    }
+
+    public void setEagerExecutionTreeFetchingLimit(int eagerExecutionTreeFetchingLimit) {
+        this.eagerExecutionTreeFetchingLimit = eagerExecutionTreeFetchingLimit;
+    }
+
     public boolean isEnableExecutionRelationshipCounts() {
         return enableExecutionRelationshipCounts;
     }
@@ -101,6 +128,14 @@ public class PerformanceSettings {
         this.validateTaskRelationshipCountConfigOnBoot = validateTaskRelationshipCountConfigOnBoot;
     }
 
+    public boolean isEnableParallelGatewayParentScopedJoin() {
+        return enableParallelGatewayParentScopedJoin;
+    }
+
+    public void setEnableParallelGatewayParentScopedJoin(boolean enableParallelGatewayParentScopedJoin) {
+        this.enableParallelGatewayParentScopedJoin = enableParallelGatewayParentScopedJoin;
+    }
+
     public boolean isEnableLocalization() {
         return enableLocalization;
     }
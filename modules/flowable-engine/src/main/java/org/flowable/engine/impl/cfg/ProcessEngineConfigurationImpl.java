@@ -56,6 +56,7 @@ import org.flowable.common.engine.impl.cfg.IdGenerator;
 import org.flowable.common.engine.impl.db.AbstractDataManager;
 import org.flowable.common.engine.impl.db.SchemaManager;
 import org.flowable.common.engine.impl.el.ExpressionManager;
+import org.flowable.common.engine.impl.el.JuelExpressionCompiler;
 import org.flowable.common.engine.impl.el.function.FlowableShortHandExpressionFunction;
 import org.flowable.common.engine.impl.el.function.VariableContainsAnyExpressionFunction;
 import org.flowable.common.engine.impl.el.function.VariableContainsExpressionFunction;
@@ -83,6 +84,7 @@ import org.flowable.common.engine.impl.persistence.cache.EntityCache;
 import org.flowable.common.engine.impl.persistence.cache.EntityCacheImpl;
 import org.flowable.common.engine.impl.persistence.deploy.DefaultDeploymentCache;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
+import org.flowable.common.engine.impl.persistence.deploy.WeightedDeploymentCache;
 import org.flowable.common.engine.impl.runtime.Clock;
 import org.flowable.common.engine.impl.scripting.BeansResolverFactory;
 import org.flowable.common.engine.impl.scripting.ResolverFactory;
@@ -244,13 +246,16 @@ import org.flowable.engine.impl.jobexecutor.AsyncContinuationJobHandler;
 import org.flowable.engine.impl.jobexecutor.AsyncTriggerJobHandler;
 import org.flowable.engine.impl.jobexecutor.DefaultFailedJobCommandFactory;
 import org.flowable.engine.impl.jobexecutor.ProcessEventJobHandler;
+import org.flowable.engine.impl.jobexecutor.ParallelMultiInstanceInstantiationJobHandler;
 import org.flowable.engine.impl.jobexecutor.TimerActivateProcessDefinitionHandler;
 import org.flowable.engine.impl.jobexecutor.TimerStartEventJobHandler;
 import org.flowable.engine.impl.jobexecutor.TimerSuspendProcessDefinitionHandler;
 import org.flowable.engine.impl.jobexecutor.TriggerTimerEventJobHandler;
 import org.flowable.engine.impl.migration.ProcessInstanceMigrationManagerImpl;
+import org.flowable.engine.impl.persistence.deploy.DeploymentCacheCoherenceManager;
 import org.flowable.engine.impl.persistence.deploy.DeploymentManager;
 import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionCacheEntry;
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionCacheEntrySizeEstimator;
 import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionInfoCache;
 import org.flowable.engine.impl.persistence.entity.AttachmentEntityManager;
 import org.flowable.engine.impl.persistence.entity.AttachmentEntityManagerImpl;
@@ -506,9 +511,37 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected int processDefinitionCacheLimit = -1; // By default, no limit
     protected DeploymentCache<ProcessDefinitionCacheEntry> processDefinitionCache;
 
+    /**
+     * Heap budget, in bytes, for the process definition cache. When set to a positive value, the cache is bounded by the estimated size of its entries
+     * instead of by the {@link #processDefinitionCacheLimit}.
+     */
+    protected long processDefinitionCacheMaxSize = -1L; // By default, no heap budget
+
+    /**
+     * Whether the retained size of each process definition cache entry is estimated at deployment time (see {@link ProcessDefinitionCacheEntry#getEstimatedSize()}).
+     * Always enabled when a {@link #processDefinitionCacheMaxSize} is configured.
+     */
+    protected boolean enableProcessDefinitionCacheSizeEstimation;
+    protected ProcessDefinitionCacheEntrySizeEstimator processDefinitionCacheEntrySizeEstimator;
+
     protected int processDefinitionInfoCacheLimit = -1; // By default, no limit
     protected ProcessDefinitionInfoCache processDefinitionInfoCache;
 
+    /**
+     * Enables propagating deployment cache changes between engines sharing the same database through a change log (see {@link DeploymentCacheCoherenceManager}),
+     * instead of checking the process definition info revision in the database on every access.
+     */
+    protected boolean enableDeploymentCacheCoherence;
+    protected long deploymentCacheCoherencePollInterval = 5000L;
+    protected long deploymentCacheChangeLogRetention = 3600000L;
+    protected DeploymentCacheCoherenceManager deploymentCacheCoherenceManager;
+
+    /**
+     * The number of recently used process definitions that are parsed and put in the process definition cache when the engine boots. 0 disables the warm-up.
+     */
+    protected int processDefinitionCacheWarmUpSize;
+    protected int processDefinitionCacheWarmUpThreads = 4;
+
     protected int knowledgeBaseCacheLimit = -1;
     protected DeploymentCache<Object> knowledgeBaseCache;
 
@@ -788,6 +821,18 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected int expressionCacheSize = 4096;
     protected int expressionTextLengthCacheLimit = -1; // negative value to have no max length
 
+    /**
+     * Number of evaluations after which an expression is compiled into specialized evaluators (see {@link JuelExpressionCompiler}).
+     * A negative value (the default) disables expression compilation.
+     */
+    protected int expressionCompilationThreshold = -1;
+
+    /**
+     * Parse the expressions of a process definition (conditions, timers, user task properties, ...) when the definition is deployed or
+     * put in the process definition cache, instead of on their first use.
+     */
+    protected boolean enableExpressionPreParsing = true;
+
     protected BusinessCalendarManager businessCalendarManager;
 
     protected ProcessInstanceQueryInterceptor processInstanceQueryInterceptor;
@@ -973,6 +1018,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         initProcessInstanceMigrationValidationManager();
         initJpa();
         initDeployers();
+        initDeploymentCacheCoherence();
         initEventHandlers();
         initFailedJobCommandFactory();
         initEventDispatcher();
@@ -1584,8 +1630,14 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     // ////////////////////////////////////////////////////////////////
 
     public void initProcessDefinitionCache() {
+        if (processDefinitionCacheEntrySizeEstimator == null && (enableProcessDefinitionCacheSizeEstimation || processDefinitionCacheMaxSize > 0)) {
+            processDefinitionCacheEntrySizeEstimator = new ProcessDefinitionCacheEntrySizeEstimator();
+        }
+
         if (processDefinitionCache == null) {
-            if (processDefinitionCacheLimit <= 0) {
+            if (processDefinitionCacheMaxSize > 0) {
+                processDefinitionCache = new WeightedDeploymentCache<>(processDefinitionCacheMaxSize, processDefinitionCacheEntrySizeEstimator);
+            } else if (processDefinitionCacheLimit <= 0) {
                 processDefinitionCache = new DefaultDeploymentCache<>();
             } else {
                 processDefinitionCache = new DefaultDeploymentCache<>(processDefinitionCacheLimit);
@@ -1603,6 +1655,21 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         }
     }
 
+    public void initDeploymentCacheCoherence() {
+        if (enableDeploymentCacheCoherence) {
+            if (deploymentCacheCoherenceManager == null) {
+                deploymentCacheCoherenceManager = new DeploymentCacheCoherenceManager(this);
+                deploymentCacheCoherenceManager.setPollInterval(deploymentCacheCoherencePollInterval);
+                deploymentCacheCoherenceManager.setChangeLogRetention(deploymentCacheChangeLogRetention);
+            }
+
+            // Changes made by other engines are evicted through the change log, no need to check the revision on every access
+            if (processDefinitionInfoCache != null) {
+                processDefinitionInfoCache.setRevisionCheckEnabled(false);
+            }
+        }
+    }
+
     public void initAppResourceCache() {
         if (appResourceCache == null) {
             if (appResourceCacheLimit <= 0) {
@@ -1873,6 +1940,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         AsyncCompleteCallActivityJobHandler asyncCompleteCallActivityJobHandler = new AsyncCompleteCallActivityJobHandler();
         jobHandlers.put(asyncCompleteCallActivityJobHandler.getType(), asyncCompleteCallActivityJobHandler);
 
+        ParallelMultiInstanceInstantiationJobHandler parallelMultiInstanceInstantiationJobHandler = new ParallelMultiInstanceInstantiationJobHandler();
+        jobHandlers.put(parallelMultiInstanceInstantiationJobHandler.getType(), parallelMultiInstanceInstantiationJobHandler);
+
         // if we have custom job handlers, register them
         if (getCustomJobHandlers() != null) {
             for (JobHandler customJobHandler : getCustomJobHandlers()) {
@@ -2218,6 +2288,10 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
                 processExpressionManager.setExpressionCache(new DefaultDeploymentCache<>(expressionCacheSize));
                 processExpressionManager.setExpressionTextLengthCacheLimit(expressionTextLengthCacheLimit);
             }
+
+            if (expressionCompilationThreshold >= 0) {
+                processExpressionManager.setExpressionCompiler(new JuelExpressionCompiler(expressionCompilationThreshold));
+            }
             
             expressionManager = processExpressionManager;
         }
@@ -2927,6 +3001,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public int getExpressionCompilationThreshold() {
+        return expressionCompilationThreshold;
+    }
+
+    public ProcessEngineConfigurationImpl setExpressionCompilationThreshold(int expressionCompilationThreshold) {
+        this.expressionCompilationThreshold = expressionCompilationThreshold;
+        return this;
+    }
+
+    public boolean isEnableExpressionPreParsing() {
+        return enableExpressionPreParsing;
+    }
+
+    public ProcessEngineConfigurationImpl setEnableExpressionPreParsing(boolean enableExpressionPreParsing) {
+        this.enableExpressionPreParsing = enableExpressionPreParsing;
+        return this;
+    }
+
     public BusinessCalendarManager getBusinessCalendarManager() {
         return businessCalendarManager;
     }
@@ -3317,6 +3409,87 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public long getProcessDefinitionCacheMaxSize() {
+        return processDefinitionCacheMaxSize;
+    }
+
+    public ProcessEngineConfigurationImpl setProcessDefinitionCacheMaxSize(long processDefinitionCacheMaxSize) {
+        this.processDefinitionCacheMaxSize = processDefinitionCacheMaxSize;
+        return this;
+    }
+
+    public boolean isEnableProcessDefinitionCacheSizeEstimation() {
+        return enableProcessDefinitionCacheSizeEstimation;
+    }
+
+    public ProcessEngineConfigurationImpl setEnableProcessDefinitionCacheSizeEstimation(boolean enableProcessDefinitionCacheSizeEstimation) {
+        this.enableProcessDefinitionCacheSizeEstimation = enableProcessDefinitionCacheSizeEstimation;
+        return this;
+    }
+
+    public ProcessDefinitionCacheEntrySizeEstimator getProcessDefinitionCacheEntrySizeEstimator() {
+        return processDefinitionCacheEntrySizeEstimator;
+    }
+
+    public ProcessEngineConfigurationImpl setProcessDefinitionCacheEntrySizeEstimator(ProcessDefinitionCacheEntrySizeEstimator processDefinitionCacheEntrySizeEstimator) {
+        this.processDefinitionCacheEntrySizeEstimator = processDefinitionCacheEntrySizeEstimator;
+        return this;
+    }
+
+    public boolean isEnableDeploymentCacheCoherence() {
+        return enableDeploymentCacheCoherence;
+    }
+
+    public ProcessEngineConfigurationImpl setEnableDeploymentCacheCoherence(boolean enableDeploymentCacheCoherence) {
+        this.enableDeploymentCacheCoherence = enableDeploymentCacheCoherence;
+        return this;
+    }
+
+    public long getDeploymentCacheCoherencePollInterval() {
+        return deploymentCacheCoherencePollInterval;
+    }
+
+    public ProcessEngineConfigurationImpl setDeploymentCacheCoherencePollInterval(long deploymentCacheCoherencePollInterval) {
+        this.deploymentCacheCoherencePollInterval = deploymentCacheCoherencePollInterval;
+        return this;
+    }
+
+    public long getDeploymentCacheChangeLogRetention() {
+        return deploymentCacheChangeLogRetention;
+    }
+
+    public ProcessEngineConfigurationImpl setDeploymentCacheChangeLogRetention(long deploymentCacheChangeLogRetention) {
+        this.deploymentCacheChangeLogRetention = deploymentCacheChangeLogRetention;
+        return this;
+    }
+
+    public DeploymentCacheCoherenceManager getDeploymentCacheCoherenceManager() {
+        return deploymentCacheCoherenceManager;
+    }
+
+    public ProcessEngineConfigurationImpl setDeploymentCacheCoherenceManager(DeploymentCacheCoherenceManager deploymentCacheCoherenceManager) {
+        this.deploymentCacheCoherenceManager = deploymentCacheCoherenceManager;
+        return this;
+    }
+
+    public int getProcessDefinitionCacheWarmUpSize() {
+        return processDefinitionCacheWarmUpSize;
+    }
+
+    public ProcessEngineConfigurationImpl setProcessDefinitionCacheWarmUpSize(int processDefinitionCacheWarmUpSize) {
+        this.processDefinitionCacheWarmUpSize = processDefinitionCacheWarmUpSize;
+        return this;
+    }
+
+    public int getProcessDefinitionCacheWarmUpThreads() {
+        return processDefinitionCacheWarmUpThreads;
+    }
+
+    public ProcessEngineConfigurationImpl setProcessDefinitionCacheWarmUpThreads(int processDefinitionCacheWarmUpThreads) {
+        this.processDefinitionCacheWarmUpThreads = processDefinitionCacheWarmUpThreads;
+        return this;
+    }
+
     public int getKnowledgeBaseCacheLimit() {
         return knowledgeBaseCacheLimit;
     }
@@ -3487,6 +3660,11 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public ProcessEngineConfigurationImpl setEagerExecutionTreeFetchingLimit(int eagerExecutionTreeFetchingLimit) {
+        this.performanceSettings.setEagerExecutionTreeFetchingLimit(eagerExecutionTreeFetchingLimit);
+        return this;
+    }
+
     public ProcessEngineConfigurationImpl setEnableExecutionRelationshipCounts(boolean enableExecutionRelationshipCounts) {
         this.performanceSettings.setEnableExecutionRelationshipCounts(enableExecutionRelationshipCounts);
         return this;
@@ -3497,6 +3675,11 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public ProcessEngineConfigurationImpl setEnableParallelGatewayParentScopedJoin(boolean enableParallelGatewayParentScopedJoin) {
+        this.performanceSettings.setEnableParallelGatewayParentScopedJoin(enableParallelGatewayParentScopedJoin);
+        return this;
+    }
+
     public PerformanceSettings getPerformanceSettings() {
         return performanceSettings;
     }
@@ -27,6 +27,7 @@ import org.flowable.engine.ProcessEngineConfiguration;
 import org.flowable.engine.compatibility.Flowable5CompatibilityHandler;
 import org.flowable.engine.impl.ProcessDefinitionQueryImpl;
 import org.flowable.engine.impl.ProcessInstanceQueryImpl;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.jobexecutor.TimerChangeProcessDefinitionSuspensionStateJobHandler;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntity;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntityManager;
@@ -178,7 +179,11 @@ public abstract class AbstractSetProcessDefinitionStateCmd implements Command<Vo
             SuspensionStateUtil.setSuspensionState(processDefinition, getProcessDefinitionSuspensionState());
 
             // Evict cache
-            CommandContextUtil.getProcessEngineConfiguration(commandContext).getDeploymentManager().getProcessDefinitionCache().remove(processDefinition.getId());
+            ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+            processEngineConfiguration.getDeploymentManager().getProcessDefinitionCache().remove(processDefinition.getId());
+            if (processEngineConfiguration.getDeploymentCacheCoherenceManager() != null) {
+                processEngineConfiguration.getDeploymentCacheCoherenceManager().processDefinitionChanged(commandContext, processDefinition.getId());
+            }
 
             // Suspend process instances (if needed)
             if (includeProcessInstances) {
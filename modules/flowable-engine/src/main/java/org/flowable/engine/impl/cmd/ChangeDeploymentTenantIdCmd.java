@@ -20,6 +20,7 @@ import org.flowable.common.engine.api.FlowableObjectNotFoundException;
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.engine.impl.ProcessDefinitionQueryImpl;
+import org.flowable.engine.impl.persistence.deploy.DeploymentCacheCoherenceManager;
 import org.flowable.engine.impl.persistence.entity.DeploymentEntity;
 import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.engine.impl.util.Flowable5Util;
@@ -72,8 +73,15 @@ public class ChangeDeploymentTenantIdCmd implements Command<Void>, Serializable
 
         // Doing process definitions in memory, cause we need to clear the process definition cache
         List<ProcessDefinition> processDefinitions = new ProcessDefinitionQueryImpl().deploymentId(deploymentId).list();
+        DeploymentCacheCoherenceManager deploymentCacheCoherenceManager = CommandContextUtil.getProcessEngineConfiguration(commandContext).getDeploymentCacheCoherenceManager();
         for (ProcessDefinition processDefinition : processDefinitions) {
             CommandContextUtil.getProcessEngineConfiguration(commandContext).getProcessDefinitionCache().remove(processDefinition.getId());
+            if (deploymentCacheCoherenceManager != null) {
+                deploymentCacheCoherenceManager.processDefinitionChanged(commandContext, processDefinition.getId());
+            }
+        }
+        if (deploymentCacheCoherenceManager != null) {
+            deploymentCacheCoherenceManager.deploymentChanged(commandContext, deploymentId);
         }
 
         // Clear process definition cache
@@ -18,6 +18,7 @@ import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.persistence.deploy.DeploymentCacheCoherenceManager;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionInfoEntity;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionInfoEntityManager;
 import org.flowable.engine.impl.util.CommandContextUtil;
@@ -65,6 +66,13 @@ public class SaveProcessDefinitionInfoCmd implements Command<Void>, Serializable
             throw new FlowableException("Unable to serialize info node " + infoNode, e);
         }
 
+        DeploymentCacheCoherenceManager deploymentCacheCoherenceManager = CommandContextUtil.getProcessEngineConfiguration(commandContext).getDeploymentCacheCoherenceManager();
+        if (deploymentCacheCoherenceManager != null) {
+            // The info cache doesn't check the revision when coherence is enabled, so the local copy needs to be evicted explicitly
+            CommandContextUtil.getProcessEngineConfiguration(commandContext).getDeploymentManager().getProcessDefinitionInfoCache().remove(processDefinitionId);
+            deploymentCacheCoherenceManager.processDefinitionInfoChanged(commandContext, processDefinitionId);
+        }
+
         return null;
     }
 
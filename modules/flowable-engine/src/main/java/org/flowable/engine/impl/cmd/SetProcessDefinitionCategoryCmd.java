@@ -20,6 +20,7 @@ import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.engine.compatibility.Flowable5CompatibilityHandler;
 import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
+import org.flowable.engine.impl.persistence.deploy.DeploymentCacheCoherenceManager;
 import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionCacheEntry;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntity;
 import org.flowable.engine.impl.util.CommandContextUtil;
@@ -67,6 +68,11 @@ public class SetProcessDefinitionCategoryCmd implements Command<Void> {
             processDefinitionCache.remove(processDefinitionId);
         }
 
+        DeploymentCacheCoherenceManager deploymentCacheCoherenceManager = CommandContextUtil.getProcessEngineConfiguration(commandContext).getDeploymentCacheCoherenceManager();
+        if (deploymentCacheCoherenceManager != null) {
+            deploymentCacheCoherenceManager.processDefinitionChanged(commandContext, processDefinitionId);
+        }
+
         if (CommandContextUtil.getEventDispatcher().isEnabled()) {
             CommandContextUtil.getEventDispatcher().dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_UPDATED, processDefinition));
         }
@@ -0,0 +1,199 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.db;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.db.IdBlock;
+import org.flowable.engine.impl.cmd.GetNextIdBlockCmd;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link DbIdGenerator} that hands out ids without taking a lock and fetches the next id block in the background.
+ *
+ * Ids are handed out from an {@link AtomicLong} range. When a configurable percentage of the current block is used (80% by default), the next block
+ * is fetched asynchronously, so that the thread exhausting the current block normally finds the next block ready instead of waiting on a database
+ * round trip while blocking all other threads.
+ *
+ * Optionally, the ids can be handed out from multiple stripes, each with their own blocks, to spread contention when lots of threads are creating
+ * entities concurrently. Note that with more than one stripe, ids are still unique but no longer increase monotonically across threads.
+ */
+public class PrefetchingDbIdGenerator extends DbIdGenerator {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PrefetchingDbIdGenerator.class);
+
+    /** Percentage of the current block that needs to be used before the next block is fetched. 0 or 100 or more disables prefetching. */
+    protected int prefetchThreshold = 80;
+    protected int nrOfStripes = 1;
+
+    protected volatile IdStripe[] stripes;
+    protected final Object fetchLock = new Object();
+    protected ExecutorService prefetchExecutorService;
+
+    @Override
+    public String getNextId() {
+        return Long.toString(getStripe().nextId());
+    }
+
+    protected IdStripe getStripe() {
+        IdStripe[] currentStripes = stripes;
+        if (currentStripes == null) {
+            currentStripes = initStripes();
+        }
+        if (currentStripes.length == 1) {
+            return currentStripes[0];
+        }
+        return currentStripes[(int) (Thread.currentThread().getId() % currentStripes.length)];
+    }
+
+    protected synchronized IdStripe[] initStripes() {
+        if (stripes == null) {
+            IdStripe[] newStripes = new IdStripe[Math.max(1, nrOfStripes)];
+            for (int i = 0; i < newStripes.length; i++) {
+                newStripes[i] = new IdStripe();
+            }
+            stripes = newStripes;
+        }
+        return stripes;
+    }
+
+    protected IdBlock fetchBlock() {
+        // Stripes and the prefetch thread fetch independently, but concurrent updates of the same property would only cause optimistic locking failures
+        synchronized (fetchLock) {
+            return commandExecutor.execute(commandConfig, new GetNextIdBlockCmd(idBlockSize));
+        }
+    }
+
+    protected CompletableFuture<IdBlock> prefetchBlock() {
+        return CompletableFuture.supplyAsync(this::fetchBlock, getPrefetchExecutorService());
+    }
+
+    protected synchronized ExecutorService getPrefetchExecutorService() {
+        if (prefetchExecutorService == null) {
+            BasicThreadFactory threadFactory = new BasicThreadFactory.Builder().namingPattern("flowable-id-block-prefetch-%d").daemon(true).build();
+            prefetchExecutorService = Executors.newSingleThreadExecutor(threadFactory);
+        }
+        return prefetchExecutorService;
+    }
+
+    public synchronized void shutdown() {
+        if (prefetchExecutorService != null) {
+            prefetchExecutorService.shutdownNow();
+            prefetchExecutorService = null;
+        }
+    }
+
+    protected long calculatePrefetchId(IdBlock idBlock) {
+        if (prefetchThreshold <= 0 || prefetchThreshold >= 100) {
+            return -1L;
+        }
+        long blockSize = idBlock.getLastId() - idBlock.getNextId() + 1;
+        return idBlock.getNextId() + (blockSize * prefetchThreshold) / 100;
+    }
+
+    protected class IdStripe {
+
+        protected volatile IdRange currentRange = new IdRange(0L, -1L, -1L);
+        protected CompletableFuture<IdBlock> prefetchedBlock;
+
+        public long nextId() {
+            while (true) {
+                IdRange range = currentRange;
+                long id = range.next.getAndIncrement();
+                if (id <= range.lastId) {
+                    if (id == range.prefetchId) {
+                        startPrefetch();
+                    }
+                    return id;
+                }
+                switchRange(range);
+            }
+        }
+
+        protected synchronized void startPrefetch() {
+            if (prefetchedBlock == null) {
+                prefetchedBlock = prefetchBlock();
+            }
+        }
+
+        protected synchronized void switchRange(IdRange exhaustedRange) {
+            if (currentRange != exhaustedRange) {
+                // Another thread already switched to a new range
+                return;
+            }
+
+            IdBlock idBlock = takePrefetchedBlock();
+            if (idBlock == null) {
+                idBlock = fetchBlock();
+            }
+            currentRange = new IdRange(idBlock.getNextId(), idBlock.getLastId(), calculatePrefetchId(idBlock));
+        }
+
+        protected IdBlock takePrefetchedBlock() {
+            if (prefetchedBlock == null) {
+                return null;
+            }
+
+            CompletableFuture<IdBlock> future = prefetchedBlock;
+            prefetchedBlock = null;
+            try {
+                return future.get();
+
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new FlowableException("Interrupted while waiting for the prefetched id block", e);
+
+            } catch (ExecutionException e) {
+                LOGGER.warn("Prefetching the next id block failed, fetching it synchronously", e.getCause());
+                return null;
+            }
+        }
+    }
+
+    protected static class IdRange {
+
+        protected final AtomicLong next;
+        protected final long lastId;
+        protected final long prefetchId;
+
+        public IdRange(long nextId, long lastId, long prefetchId) {
+            this.next = new AtomicLong(nextId);
+            this.lastId = lastId;
+            this.prefetchId = prefetchId;
+        }
+    }
+
+    public int getPrefetchThreshold() {
+        return prefetchThreshold;
+    }
+
+    public void setPrefetchThreshold(int prefetchThreshold) {
+        this.prefetchThreshold = prefetchThreshold;
+    }
+
+    public int getNrOfStripes() {
+        return nrOfStripes;
+    }
+
+    public void setNrOfStripes(int nrOfStripes) {
+        this.nrOfStripes = nrOfStripes;
+    }
+
+}
@@ -25,6 +25,11 @@ public class DefaultHistoryTaskManager implements InternalHistoryTaskManager {
         this.processEngineConfiguration = processEngineConfiguration;
     }
 
+    @Override
+    public void recordTaskCreated(TaskEntity taskEntity) {
+        getHistoryManager().recordTaskCreated(taskEntity, null);
+    }
+
     @Override
     public void recordTaskInfoChange(TaskEntity taskEntity) {
         getHistoryManager().recordTaskInfoChange(taskEntity);
@@ -0,0 +1,56 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.jobexecutor;
+
+import org.flowable.bpmn.model.FlowElement;
+import org.flowable.bpmn.model.FlowNode;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.bpmn.behavior.ParallelMultiInstanceBehavior;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.job.service.JobHandler;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.variable.api.delegate.VariableScope;
+
+/**
+ * A {@link JobHandler} implementation that creates the next chunk of instances of a parallel multi instance activity,
+ * when its instances are created in chunks (see {@link ParallelMultiInstanceBehavior#getInstantiationChunkSize()}).
+ * 
+ * The job is scheduled on the multi instance root execution and the id of the multi instance activity is passed as configuration.
+ */
+public class ParallelMultiInstanceInstantiationJobHandler implements JobHandler {
+
+    public static final String TYPE = "parallel-multi-instance-instantiation";
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public void execute(JobEntity job, String configuration, VariableScope variableScope, CommandContext commandContext) {
+        ExecutionEntity multiInstanceRootExecution = (ExecutionEntity) variableScope;
+
+        // The multi instance activity could have been completed in the meantime (e.g. when its completion condition is satisfied)
+        FlowElement currentFlowElement = multiInstanceRootExecution.getCurrentFlowElement();
+        if (!multiInstanceRootExecution.isMultiInstanceRoot() || multiInstanceRootExecution.isEnded()
+                || currentFlowElement == null || !currentFlowElement.getId().equals(configuration)) {
+            return;
+        }
+
+        Object behavior = ((FlowNode) currentFlowElement).getBehavior();
+        if (behavior instanceof ParallelMultiInstanceBehavior) {
+            ((ParallelMultiInstanceBehavior) behavior).createNextInstances(multiInstanceRootExecution, job.getId());
+        }
+    }
+
+}
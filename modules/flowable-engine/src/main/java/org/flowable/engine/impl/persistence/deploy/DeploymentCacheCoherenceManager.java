@@ -0,0 +1,300 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.persistence.deploy;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.event.EventLogEntry;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.persistence.entity.EventLogEntryEntity;
+import org.flowable.engine.impl.persistence.entity.EventLogEntryEntityManager;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Keeps the deployment caches of multiple engines sharing the same database coherent.
+ *
+ * Every change that invalidates cached deployment data (suspending a process definition, changing its category or its info, deleting a deployment, ...)
+ * is written as a change log entry in the ACT_EVT_LOG table, in the same transaction as the change itself. The log number of the entries acts as a
+ * version stamp: each engine periodically fetches the entries logged by other nodes since the last log number it has seen and evicts the affected
+ * elements from its local caches. As a consequence, the {@link ProcessDefinitionInfoCache} doesn't need to check the revision in the database on every
+ * access anymore.
+ *
+ * Entries older than the configured retention are deleted again.
+ */
+public class DeploymentCacheCoherenceManager {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DeploymentCacheCoherenceManager.class);
+
+    public static final String TYPE_PREFIX = "DEPLOYMENT_CACHE_";
+    public static final String TYPE_PROCESS_DEFINITION_CHANGED = TYPE_PREFIX + "PROCESS_DEFINITION_CHANGED";
+    public static final String TYPE_PROCESS_DEFINITION_INFO_CHANGED = TYPE_PREFIX + "PROCESS_DEFINITION_INFO_CHANGED";
+    public static final String TYPE_DEPLOYMENT_CHANGED = TYPE_PREFIX + "DEPLOYMENT_CHANGED";
+
+    protected static final String DATA_NODE_ID = "nodeId";
+    protected static final String DATA_DEPLOYMENT_ID = "deploymentId";
+
+    protected ProcessEngineConfigurationImpl processEngineConfiguration;
+    protected String nodeId;
+
+    /** Interval, in milliseconds, between two synchronizations with the change log */
+    protected long pollInterval = 5000L;
+
+    /**
+     * Entries logged within this window, in milliseconds, are always fetched again, even when their log number is lower than the last seen one.
+     * This covers entries of which the transaction committed after an entry with a higher log number was seen.
+     */
+    protected long lookBackWindow = 60000L;
+
+    /** How long, in milliseconds, change log entries are kept before they are deleted */
+    protected long changeLogRetention = 3600000L;
+
+    protected long lastLogNr = -1L;
+    protected Map<Long, Long> appliedLogNrs = new HashMap<>();
+    protected long lastCleanupTime;
+
+    protected ScheduledExecutorService executorService;
+
+    public DeploymentCacheCoherenceManager(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        this.processEngineConfiguration = processEngineConfiguration;
+        this.nodeId = UUID.randomUUID().toString();
+    }
+
+    // Logging changes
+    // //////////////////////////////////////////////////////
+
+    public void processDefinitionChanged(CommandContext commandContext, String processDefinitionId) {
+        insertChangeLogEntry(commandContext, TYPE_PROCESS_DEFINITION_CHANGED, processDefinitionId, null);
+    }
+
+    public void processDefinitionInfoChanged(CommandContext commandContext, String processDefinitionId) {
+        insertChangeLogEntry(commandContext, TYPE_PROCESS_DEFINITION_INFO_CHANGED, processDefinitionId, null);
+    }
+
+    public void deploymentChanged(CommandContext commandContext, String deploymentId) {
+        insertChangeLogEntry(commandContext, TYPE_DEPLOYMENT_CHANGED, null, deploymentId);
+    }
+
+    protected void insertChangeLogEntry(CommandContext commandContext, String type, String processDefinitionId, String deploymentId) {
+        ObjectNode dataNode = processEngineConfiguration.getObjectMapper().createObjectNode();
+        dataNode.put(DATA_NODE_ID, nodeId);
+        if (deploymentId != null) {
+            dataNode.put(DATA_DEPLOYMENT_ID, deploymentId);
+        }
+
+        EventLogEntryEntityManager eventLogEntryEntityManager = CommandContextUtil.getEventLogEntryEntityManager(commandContext);
+        EventLogEntryEntity eventLogEntry = eventLogEntryEntityManager.create();
+        eventLogEntry.setType(type);
+        eventLogEntry.setProcessDefinitionId(processDefinitionId);
+        eventLogEntry.setTimeStamp(processEngineConfiguration.getClock().getCurrentTime());
+        try {
+            eventLogEntry.setData(processEngineConfiguration.getObjectMapper().writeValueAsBytes(dataNode));
+        } catch (Exception e) {
+            LOGGER.warn("Could not serialize deployment cache change log data", e);
+        }
+        eventLogEntryEntityManager.insert(eventLogEntry, false);
+    }
+
+    // Applying changes
+    // //////////////////////////////////////////////////////
+
+    public synchronized void start() {
+        if (executorService != null) {
+            return;
+        }
+
+        if (lastLogNr < 0) {
+            // The local caches are empty: changes logged before this node started are not relevant
+            lastLogNr = processEngineConfiguration.getCommandExecutor().execute(new Command<Long>() {
+
+                @Override
+                public Long execute(CommandContext commandContext) {
+                    return CommandContextUtil.getEventLogEntryEntityManager(commandContext).findMaxEventLogNumberByTypePrefix(TYPE_PREFIX);
+                }
+            });
+        }
+
+        BasicThreadFactory threadFactory = new BasicThreadFactory.Builder().namingPattern("flowable-deployment-cache-coherence-%d").daemon(true).build();
+        executorService = new ScheduledThreadPoolExecutor(1, threadFactory);
+        executorService.scheduleWithFixedDelay(this::synchronizeQuietly, pollInterval, pollInterval, TimeUnit.MILLISECONDS);
+        LOGGER.info("Deployment cache coherence started for node {}, starting from change log number {}", nodeId, lastLogNr);
+    }
+
+    public synchronized void shutdown() {
+        if (executorService != null) {
+            executorService.shutdownNow();
+            executorService = null;
+        }
+    }
+
+    protected void synchronizeQuietly() {
+        try {
+            synchronize();
+        } catch (Throwable t) {
+            LOGGER.warn("Exception while synchronizing the deployment cache with the change log", t);
+        }
+    }
+
+    /**
+     * Fetches the change log entries written by other nodes since the last synchronization and evicts the affected deployment cache elements.
+     */
+    public synchronized void synchronize() {
+        long now = processEngineConfiguration.getClock().getCurrentTime().getTime();
+        final Date fromTimeStamp = new Date(now - lookBackWindow);
+
+        final long startLogNr = lastLogNr;
+        List<EventLogEntry> changeLogEntries = processEngineConfiguration.getCommandExecutor().execute(new Command<List<EventLogEntry>>() {
+
+            @Override
+            public List<EventLogEntry> execute(CommandContext commandContext) {
+                return CommandContextUtil.getEventLogEntryEntityManager(commandContext).findEventLogEntriesByTypePrefix(TYPE_PREFIX, startLogNr, fromTimeStamp);
+            }
+        });
+
+        for (EventLogEntry changeLogEntry : changeLogEntries) {
+            if (appliedLogNrs.containsKey(changeLogEntry.getLogNumber())) {
+                continue;
+            }
+
+            applyChangeLogEntry(changeLogEntry);
+            appliedLogNrs.put(changeLogEntry.getLogNumber(), changeLogEntry.getTimeStamp() != null ? changeLogEntry.getTimeStamp().getTime() : now);
+            lastLogNr = Math.max(lastLogNr, changeLogEntry.getLogNumber());
+        }
+
+        // Applied entries outside of the look back window will never be fetched again
+        Iterator<Long> appliedTimeStampIterator = appliedLogNrs.values().iterator();
+        while (appliedTimeStampIterator.hasNext()) {
+            if (appliedTimeStampIterator.next() < fromTimeStamp.getTime()) {
+                appliedTimeStampIterator.remove();
+            }
+        }
+
+        if (now - lastCleanupTime >= changeLogRetention) {
+            deleteExpiredChangeLogEntries(new Date(now - changeLogRetention));
+            lastCleanupTime = now;
+        }
+    }
+
+    protected void applyChangeLogEntry(EventLogEntry changeLogEntry) {
+        JsonNode dataNode = readData(changeLogEntry);
+        if (dataNode != null && nodeId.equals(dataNode.path(DATA_NODE_ID).asText(null))) {
+            // The local caches were already updated by the change itself
+            return;
+        }
+
+        DeploymentManager deploymentManager = processEngineConfiguration.getDeploymentManager();
+        String processDefinitionId = changeLogEntry.getProcessDefinitionId();
+        String type = changeLogEntry.getType();
+        LOGGER.debug("Applying deployment cache change {} for process definition {}", type, processDefinitionId);
+
+        if (TYPE_PROCESS_DEFINITION_CHANGED.equals(type)) {
+            deploymentManager.getProcessDefinitionCache().remove(processDefinitionId);
+            if (deploymentManager.getProcessDefinitionInfoCache() != null) {
+                deploymentManager.getProcessDefinitionInfoCache().remove(processDefinitionId);
+            }
+
+        } else if (TYPE_PROCESS_DEFINITION_INFO_CHANGED.equals(type)) {
+            if (deploymentManager.getProcessDefinitionInfoCache() != null) {
+                deploymentManager.getProcessDefinitionInfoCache().remove(processDefinitionId);
+            }
+
+        } else if (TYPE_DEPLOYMENT_CHANGED.equals(type) && dataNode != null && dataNode.hasNonNull(DATA_DEPLOYMENT_ID)) {
+            String deploymentId = dataNode.get(DATA_DEPLOYMENT_ID).asText();
+            deploymentManager.getAppResourceCache().remove(deploymentId);
+            deploymentManager.getKnowledgeBaseCache().remove(deploymentId);
+        }
+    }
+
+    protected JsonNode readData(EventLogEntry changeLogEntry) {
+        if (changeLogEntry.getData() == null) {
+            return null;
+        }
+
+        try {
+            return processEngineConfiguration.getObjectMapper().readTree(changeLogEntry.getData());
+        } catch (Exception e) {
+            LOGGER.warn("Could not read data of deployment cache change log entry {}", changeLogEntry.getLogNumber(), e);
+            return null;
+        }
+    }
+
+    protected void deleteExpiredChangeLogEntries(final Date timeStamp) {
+        processEngineConfiguration.getCommandExecutor().execute(new Command<Void>() {
+
+            @Override
+            public Void execute(CommandContext commandContext) {
+                CommandContextUtil.getEventLogEntryEntityManager(commandContext).deleteEventLogEntriesByTypePrefixAndTimeStamp(TYPE_PREFIX, timeStamp);
+                return null;
+            }
+        });
+    }
+
+    // getters and setters
+    // //////////////////////////////////////////////////////
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public void setNodeId(String nodeId) {
+        this.nodeId = nodeId;
+    }
+
+    public long getPollInterval() {
+        return pollInterval;
+    }
+
+    public void setPollInterval(long pollInterval) {
+        this.pollInterval = pollInterval;
+    }
+
+    public long getLookBackWindow() {
+        return lookBackWindow;
+    }
+
+    public void setLookBackWindow(long lookBackWindow) {
+        this.lookBackWindow = lookBackWindow;
+    }
+
+    public long getChangeLogRetention() {
+        return changeLogRetention;
+    }
+
+    public void setChangeLogRetention(long changeLogRetention) {
+        this.changeLogRetention = changeLogRetention;
+    }
+
+    public long getLastLogNr() {
+        return lastLogNr;
+    }
+
+    public void setLastLogNr(long lastLogNr) {
+        this.lastLogNr = lastLogNr;
+    }
+
+}
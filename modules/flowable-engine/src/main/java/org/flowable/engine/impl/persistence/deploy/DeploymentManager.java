@@ -23,6 +23,7 @@ import org.flowable.common.engine.api.FlowableObjectNotFoundException;
 import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
 import org.flowable.common.engine.api.delegate.event.FlowableEventDispatcher;
 import org.flowable.common.engine.impl.EngineDeployer;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.engine.app.AppModel;
 import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
@@ -216,6 +217,15 @@ public class DeploymentManager {
 
         appResourceCache.remove(deploymentId);
         knowledgeBaseCache.remove(deploymentId);
+
+        DeploymentCacheCoherenceManager deploymentCacheCoherenceManager = processEngineConfiguration.getDeploymentCacheCoherenceManager();
+        if (deploymentCacheCoherenceManager != null) {
+            CommandContext commandContext = CommandContextUtil.getCommandContext();
+            for (ProcessDefinition processDefinition : processDefinitions) {
+                deploymentCacheCoherenceManager.processDefinitionChanged(commandContext, processDefinition.getId());
+            }
+            deploymentCacheCoherenceManager.deploymentChanged(commandContext, deploymentId);
+        }
     }
 
     // getters and setters
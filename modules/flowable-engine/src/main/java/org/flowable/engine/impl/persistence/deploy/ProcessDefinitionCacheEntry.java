@@ -16,6 +16,7 @@ import java.io.Serializable;
 
 import org.flowable.bpmn.model.BpmnModel;
 import org.flowable.bpmn.model.Process;
+import org.flowable.engine.impl.util.FlowNodeReachabilityIndex;
 import org.flowable.engine.repository.ProcessDefinition;
 
 /**
@@ -28,6 +29,8 @@ public class ProcessDefinitionCacheEntry implements Serializable {
     protected ProcessDefinition processDefinition;
     protected BpmnModel bpmnModel;
     protected Process process;
+    protected long estimatedSize = -1L;
+    protected FlowNodeReachabilityIndex reachabilityIndex;
 
     public ProcessDefinitionCacheEntry(ProcessDefinition processDefinition, BpmnModel bpmnModel, Process process) {
         this.processDefinition = processDefinition;
@@ -59,4 +62,27 @@ public class ProcessDefinitionCacheEntry implements Serializable {
         this.process = process;
     }
 
+    /**
+     * @return the estimated retained heap size of this cache entry in bytes, as calculated when the process definition was deployed or -1 if it wasn't
+     *         calculated (see {@link ProcessDefinitionCacheEntrySizeEstimator}).
+     */
+    public long getEstimatedSize() {
+        return estimatedSize;
+    }
+
+    public void setEstimatedSize(long estimatedSize) {
+        this.estimatedSize = estimatedSize;
+    }
+
+    /**
+     * @return the reachability of the flow nodes of the process, or null if it wasn't calculated (only processes with an inclusive gateway need it).
+     */
+    public FlowNodeReachabilityIndex getReachabilityIndex() {
+        return reachabilityIndex;
+    }
+
+    public void setReachabilityIndex(FlowNodeReachabilityIndex reachabilityIndex) {
+        this.reachabilityIndex = reachabilityIndex;
+    }
+
 }
@@ -0,0 +1,58 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.persistence.deploy;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.flowable.common.engine.impl.persistence.deploy.DeploymentCacheWeigher;
+import org.flowable.common.engine.impl.util.ObjectSizeEstimator;
+
+/**
+ * Estimates the retained heap size of a {@link ProcessDefinitionCacheEntry}: the {@link org.flowable.bpmn.model.BpmnModel} with all its elements,
+ * the {@link org.flowable.bpmn.model.Process} and the process definition entity.
+ *
+ * Parsed behaviors and listeners are counted with their shallow size only, as they can reference objects shared by the whole engine.
+ * 
+ * The estimated size is calculated once at deployment time and stored on the cache entry, which makes this class usable as the weigher of a
+ * {@link org.flowable.common.engine.impl.persistence.deploy.WeightedDeploymentCache}.
+ */
+public class ProcessDefinitionCacheEntrySizeEstimator implements DeploymentCacheWeigher<ProcessDefinitionCacheEntry> {
+
+    public static final Collection<String> DEFAULT_TRAVERSED_PACKAGE_PREFIXES = Arrays.asList(
+            "org.flowable.bpmn.model.", 
+            "org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntity");
+
+    protected ObjectSizeEstimator objectSizeEstimator;
+
+    public ProcessDefinitionCacheEntrySizeEstimator() {
+        this(DEFAULT_TRAVERSED_PACKAGE_PREFIXES);
+    }
+
+    public ProcessDefinitionCacheEntrySizeEstimator(Collection<String> traversedPackagePrefixes) {
+        this.objectSizeEstimator = new ObjectSizeEstimator(traversedPackagePrefixes);
+    }
+
+    public long estimateSize(ProcessDefinitionCacheEntry cacheEntry) {
+        return objectSizeEstimator.estimateSize(cacheEntry, cacheEntry.getProcessDefinition(), cacheEntry.getBpmnModel(), cacheEntry.getProcess());
+    }
+
+    @Override
+    public long weigh(String id, ProcessDefinitionCacheEntry cacheEntry) {
+        if (cacheEntry.getEstimatedSize() < 0) {
+            cacheEntry.setEstimatedSize(estimateSize(cacheEntry));
+        }
+        return cacheEntry.getEstimatedSize();
+    }
+
+}
@@ -0,0 +1,160 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.persistence.deploy;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.flowable.common.engine.impl.history.HistoryLevel;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.history.HistoricProcessInstance;
+import org.flowable.engine.impl.HistoricProcessInstanceQueryImpl;
+import org.flowable.engine.impl.ProcessDefinitionQueryImpl;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cmd.GetDeploymentProcessDefinitionCmd;
+import org.flowable.engine.repository.ProcessDefinition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Fills the process definition cache at engine startup, so that the first requests after a restart don't pay the full BPMN parse cost.
+ *
+ * The process definitions of the most recently started process instances are parsed first. When there are less of those than the configured
+ * warm-up size, the remainder is filled up with the latest versions of the deployed process definitions.
+ * Parsing happens in parallel, and {@link #warmUp()} only returns when all of them have been parsed.
+ */
+public class ProcessDefinitionCacheWarmUp {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProcessDefinitionCacheWarmUp.class);
+
+    protected ProcessEngineConfigurationImpl processEngineConfiguration;
+    protected int warmUpSize;
+    protected int nrOfThreads;
+
+    public ProcessDefinitionCacheWarmUp(ProcessEngineConfigurationImpl processEngineConfiguration, int warmUpSize, int nrOfThreads) {
+        this.processEngineConfiguration = processEngineConfiguration;
+        this.warmUpSize = warmUpSize;
+        this.nrOfThreads = nrOfThreads;
+    }
+
+    /**
+     * @return the number of process definitions that were successfully put in the cache
+     */
+    public int warmUp() {
+        if (warmUpSize <= 0) {
+            return 0;
+        }
+
+        long startTime = System.currentTimeMillis();
+        List<String> processDefinitionIds = processEngineConfiguration.getCommandExecutor().execute(new Command<List<String>>() {
+
+            @Override
+            public List<String> execute(CommandContext commandContext) {
+                return findProcessDefinitionIdsToWarmUp(commandContext);
+            }
+        });
+
+        if (processDefinitionIds.isEmpty()) {
+            return 0;
+        }
+
+        BasicThreadFactory threadFactory = new BasicThreadFactory.Builder().namingPattern("flowable-process-definition-cache-warm-up-%d").build();
+        ExecutorService executorService = Executors.newFixedThreadPool(Math.max(1, Math.min(nrOfThreads, processDefinitionIds.size())), threadFactory);
+
+        int warmedUp = 0;
+        try {
+            List<Future<ProcessDefinition>> futures = new ArrayList<>(processDefinitionIds.size());
+            for (String processDefinitionId : processDefinitionIds) {
+                futures.add(executorService.submit(() -> processEngineConfiguration.getCommandExecutor().execute(new GetDeploymentProcessDefinitionCmd(processDefinitionId))));
+            }
+
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    futures.get(i).get();
+                    warmedUp++;
+                } catch (ExecutionException e) {
+                    LOGGER.warn("Could not warm up the cache for process definition {}", processDefinitionIds.get(i), e.getCause());
+                }
+            }
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.warn("Interrupted while warming up the process definition cache");
+
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        LOGGER.info("Warmed up the process definition cache with {} process definitions in {} ms", warmedUp, System.currentTimeMillis() - startTime);
+        return warmedUp;
+    }
+
+    protected List<String> findProcessDefinitionIdsToWarmUp(CommandContext commandContext) {
+        Set<String> processDefinitionIds = new LinkedHashSet<>();
+
+        if (processEngineConfiguration.getHistoryLevel() != HistoryLevel.NONE) {
+            // Recently started instances typically use only a few process definitions, so more instances than the warm-up size are needed
+            List<HistoricProcessInstance> historicProcessInstances = new HistoricProcessInstanceQueryImpl(commandContext)
+                    .orderByProcessInstanceStartTime().desc()
+                    .listPage(0, warmUpSize * 10);
+
+            for (HistoricProcessInstance historicProcessInstance : historicProcessInstances) {
+                processDefinitionIds.add(historicProcessInstance.getProcessDefinitionId());
+                if (processDefinitionIds.size() >= warmUpSize) {
+                    break;
+                }
+            }
+        }
+
+        if (processDefinitionIds.size() < warmUpSize) {
+            List<ProcessDefinition> processDefinitions = new ProcessDefinitionQueryImpl(commandContext)
+                    .latestVersion()
+                    .orderByProcessDefinitionKey().asc()
+                    .listPage(0, warmUpSize);
+
+            for (ProcessDefinition processDefinition : processDefinitions) {
+                if (processDefinitionIds.size() >= warmUpSize) {
+                    break;
+                }
+                processDefinitionIds.add(processDefinition.getId());
+            }
+        }
+
+        return new ArrayList<>(processDefinitionIds);
+    }
+
+    public int getWarmUpSize() {
+        return warmUpSize;
+    }
+
+    public void setWarmUpSize(int warmUpSize) {
+        this.warmUpSize = warmUpSize;
+    }
+
+    public int getNrOfThreads() {
+        return nrOfThreads;
+    }
+
+    public void setNrOfThreads(int nrOfThreads) {
+        this.nrOfThreads = nrOfThreads;
+    }
+
+}
@@ -43,6 +43,12 @@ public class ProcessDefinitionInfoCache {
     protected Map<String, ProcessDefinitionInfoCacheObject> cache;
     protected CommandExecutor commandExecutor;
 
+    /**
+     * When false, a cached info object is returned without checking its revision in the database.
+     * Only safe when changes made by other engines are propagated otherwise, see {@link DeploymentCacheCoherenceManager}.
+     */
+    protected boolean revisionCheckEnabled = true;
+
     /** Cache with no limit */
     public ProcessDefinitionInfoCache(CommandExecutor commandExecutor) {
         this.commandExecutor = commandExecutor;
@@ -110,10 +116,12 @@ public class ProcessDefinitionInfoCache {
         ProcessDefinitionInfoEntityManager infoEntityManager = CommandContextUtil.getProcessDefinitionInfoEntityManager(commandContext);
         ObjectMapper objectMapper = CommandContextUtil.getProcessEngineConfiguration(commandContext).getObjectMapper();
 
-        ProcessDefinitionInfoCacheObject cacheObject = null;
-        if (cache.containsKey(processDefinitionId)) {
-            cacheObject = cache.get(processDefinitionId);
-        } else {
+        ProcessDefinitionInfoCacheObject cacheObject = cache.get(processDefinitionId);
+        if (cacheObject != null && !revisionCheckEnabled) {
+            return cacheObject;
+        }
+
+        if (cacheObject == null) {
             cacheObject = new ProcessDefinitionInfoCacheObject();
             cacheObject.setRevision(0);
             cacheObject.setInfoNode(objectMapper.createObjectNode());
@@ -136,7 +144,19 @@ public class ProcessDefinitionInfoCache {
             cacheObject.setInfoNode(objectMapper.createObjectNode());
         }
 
+        if (!revisionCheckEnabled) {
+            cache.put(processDefinitionId, cacheObject);
+        }
+
         return cacheObject;
     }
 
+    public boolean isRevisionCheckEnabled() {
+        return revisionCheckEnabled;
+    }
+
+    public void setRevisionCheckEnabled(boolean revisionCheckEnabled) {
+        this.revisionCheckEnabled = revisionCheckEnabled;
+    }
+
 }
@@ -13,6 +13,7 @@
 
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Date;
 import java.util.List;
 
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
@@ -52,11 +53,26 @@ public class EventLogEntryEntityManagerImpl extends AbstractEntityManager<EventL
         return eventLogEntryDataManager.findEventLogEntriesByProcessInstanceId(processInstanceId);
     }
 
+    @Override
+    public List<EventLogEntry> findEventLogEntriesByTypePrefix(String typePrefix, long startLogNr, Date fromTimeStamp) {
+        return eventLogEntryDataManager.findEventLogEntriesByTypePrefix(typePrefix, startLogNr, fromTimeStamp);
+    }
+
+    @Override
+    public long findMaxEventLogNumberByTypePrefix(String typePrefix) {
+        return eventLogEntryDataManager.findMaxEventLogNumberByTypePrefix(typePrefix);
+    }
+
     @Override
     public void deleteEventLogEntry(long logNr) {
         eventLogEntryDataManager.deleteEventLogEntry(logNr);
     }
 
+    @Override
+    public void deleteEventLogEntriesByTypePrefixAndTimeStamp(String typePrefix, Date timeStamp) {
+        eventLogEntryDataManager.deleteEventLogEntriesByTypePrefixAndTimeStamp(typePrefix, timeStamp);
+    }
+
     public EventLogEntryDataManager getEventLogEntryDataManager() {
         return eventLogEntryDataManager;
     }
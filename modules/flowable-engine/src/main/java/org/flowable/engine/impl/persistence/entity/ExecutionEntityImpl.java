@@ -229,6 +229,57 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
         return execution;
     }
 
+    /**
+     * Sets the references to the other executions of the same execution tree, using the executions that were fetched together with this one.
+     * References that are already initialized are left untouched.
+     */
+    public void initializeExecutionTreeReferences(Map<String, ExecutionEntityImpl> executionsById,
+            Map<String, List<ExecutionEntityImpl>> childExecutionsByParentId, Map<String, ExecutionEntityImpl> subProcessInstancesBySuperExecutionId) {
+
+        if (parent == null && parentId != null) {
+            parent = executionsById.get(parentId);
+        }
+        if (processInstance == null && processInstanceId != null) {
+            processInstance = executionsById.get(processInstanceId);
+        }
+        if (rootProcessInstance == null && rootProcessInstanceId != null) {
+            rootProcessInstance = executionsById.get(rootProcessInstanceId);
+        }
+        if (superExecution == null && superExecutionId != null) {
+            superExecution = executionsById.get(superExecutionId);
+        }
+        if (subProcessInstance == null) {
+            subProcessInstance = subProcessInstancesBySuperExecutionId.get(id);
+        }
+        if (executions == null) {
+            List<ExecutionEntityImpl> childExecutions = childExecutionsByParentId.get(id);
+            executions = childExecutions != null ? new ArrayList<>(childExecutions) : new ArrayList<>(1);
+        }
+    }
+
+    /**
+     * Initializes the related entity collections of which the relationship count is zero with empty collections,
+     * so they don't need to be fetched from the database when they are used.
+     */
+    public void initializeEmptyRelatedEntitiesFromCounts() {
+        if (!isCountEnabled) {
+            return;
+        }
+
+        if (jobs == null && jobCount == 0) {
+            jobs = new ArrayList<>(1);
+        }
+        if (timerJobs == null && timerJobCount == 0) {
+            timerJobs = new ArrayList<>(1);
+        }
+        if (tasks == null && taskCount == 0) {
+            tasks = new ArrayList<>(1);
+        }
+        if (eventSubscriptions == null && eventSubscriptionCount == 0) {
+            eventSubscriptions = new ArrayList<>(1);
+        }
+    }
+
     // persistent state /////////////////////////////////////////////////////////
 
     @Override
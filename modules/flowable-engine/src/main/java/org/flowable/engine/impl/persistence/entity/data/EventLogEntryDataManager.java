@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity.data;
 
+import java.util.Date;
 import java.util.List;
 
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
@@ -29,6 +30,16 @@ public interface EventLogEntryDataManager extends DataManager<EventLogEntryEntit
 
     List<EventLogEntry> findEventLogEntriesByProcessInstanceId(String processInstanceId);
 
+    /**
+     * Finds the entries of which the type starts with the given prefix and which either have a log number higher than the given one,
+     * or were logged at or after the given time stamp.
+     */
+    List<EventLogEntry> findEventLogEntriesByTypePrefix(String typePrefix, long startLogNr, Date fromTimeStamp);
+
+    long findMaxEventLogNumberByTypePrefix(String typePrefix);
+
     void deleteEventLogEntry(long logNr);
 
+    void deleteEventLogEntriesByTypePrefixAndTimeStamp(String typePrefix, Date timeStamp);
+
 }
@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity.data.impl;
 
+import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -67,9 +68,35 @@ public class MybatisEventLogEntryDataManager extends AbstractProcessDataManager<
         return getDbSqlSession().selectList("selectEventLogEntriesByProcessInstanceId", params);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<EventLogEntry> findEventLogEntriesByTypePrefix(String typePrefix, long startLogNr, Date fromTimeStamp) {
+        Map<String, Object> params = new HashMap<>(3);
+        params.put("typePrefix", typePrefix + "%");
+        params.put("startLogNr", startLogNr);
+        params.put("fromTimeStamp", fromTimeStamp);
+        return getDbSqlSession().selectListNoCacheCheck("selectEventLogEntriesByTypePrefix", params);
+    }
+
+    @Override
+    public long findMaxEventLogNumberByTypePrefix(String typePrefix) {
+        Map<String, Object> params = new HashMap<>(1);
+        params.put("typePrefix", typePrefix + "%");
+        Long maxLogNr = (Long) getDbSqlSession().selectOne("selectMaxEventLogNumberByTypePrefix", params);
+        return maxLogNr != null ? maxLogNr : 0L;
+    }
+
     @Override
     public void deleteEventLogEntry(long logNr) {
         getDbSqlSession().getSqlSession().delete("deleteEventLogEntry", logNr);
     }
 
+    @Override
+    public void deleteEventLogEntriesByTypePrefixAndTimeStamp(String typePrefix, Date timeStamp) {
+        Map<String, Object> params = new HashMap<>(2);
+        params.put("typePrefix", typePrefix + "%");
+        params.put("timeStamp", timeStamp);
+        getDbSqlSession().getSqlSession().delete("deleteEventLogEntriesByTypePrefixAndTimeStamp", params);
+    }
+
 }
@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity.data.impl;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
@@ -21,6 +22,7 @@ import java.util.Map;
 
 import org.flowable.common.engine.api.FlowableOptimisticLockingException;
 import org.flowable.common.engine.impl.db.SingleCachedEntityMatcher;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcher;
 import org.flowable.engine.impl.ExecutionQueryImpl;
 import org.flowable.engine.impl.ProcessInstanceQueryImpl;
@@ -41,7 +43,7 @@ import org.flowable.engine.impl.persistence.entity.data.impl.cachematcher.Inacti
 import org.flowable.engine.impl.persistence.entity.data.impl.cachematcher.InactiveExecutionsInActivityMatcher;
 import org.flowable.engine.impl.persistence.entity.data.impl.cachematcher.ProcessInstancesByProcessDefinitionMatcher;
 import org.flowable.engine.impl.persistence.entity.data.impl.cachematcher.SubProcessInstanceExecutionBySuperExecutionIdMatcher;
-import org.flowable.engine.impl.util.ProcessDefinitionUtil;
+import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.engine.runtime.Execution;
 import org.flowable.engine.runtime.ProcessInstance;
 
@@ -50,6 +52,8 @@ import org.flowable.engine.runtime.ProcessInstance;
  */
 public class MybatisExecutionDataManager extends AbstractProcessDataManager<ExecutionEntity> implements ExecutionDataManager {
 
+    protected static final String FETCHED_EXECUTION_TREES_ATTRIBUTE = "ctx.attribute.fetchedExecutionTrees";
+
     protected PerformanceSettings performanceSettings;
 
     protected CachedEntityMatcher<ExecutionEntity> executionsByParentIdMatcher = new ExecutionsByParentExecutionIdEntityMatcher();
@@ -98,8 +102,11 @@ public class MybatisExecutionDataManager extends AbstractProcessDataManager<Exec
     }
     
     /**
-     * Fetches the execution tree related to the execution (if the process definition has been configured to do so)
-     * @return True if the tree has been fetched, false otherwise or if fetching is disabled.  
+     * Fetches the execution tree related to the execution, if that hasn't been done before in the current command context.
+     * The fetched executions are stored in the cache and linked to each other, which avoids extra database calls.
+     * 
+     * @return True if the tree has been fetched (or the execution doesn't exist), false if fetching is disabled
+     *         or if the tree has more executions than {@link PerformanceSettings#getEagerExecutionTreeFetchingLimit()}.
      */
     protected boolean isExecutionTreeFetched(final String executionId) {
         
@@ -108,27 +115,119 @@ public class MybatisExecutionDataManager extends AbstractProcessDataManager<Exec
             return false;
         }
         
-        // Need to get the cache result before doing the findById
+        Map<String, Boolean> fetchedExecutionTrees = getFetchedExecutionTrees();
+        
         ExecutionEntity cachedExecutionEntity = getEntityCache().findInCache(getManagedEntityClass(), executionId);
+        if (cachedExecutionEntity != null) {
+            String rootProcessInstanceId = cachedExecutionEntity.getRootProcessInstanceId();
+            if (rootProcessInstanceId == null) {
+                return false;
+            }
+            
+            Boolean executionTreeFetched = fetchedExecutionTrees.get(rootProcessInstanceId);
+            if (executionTreeFetched != null) {
+                return executionTreeFetched;
+            }
+            
+            // A tree that was created in the current command context is completely in the cache already
+            ExecutionEntity rootProcessInstance = getEntityCache().findInCache(getManagedEntityClass(), rootProcessInstanceId);
+            if (rootProcessInstance != null && rootProcessInstance.isInserted()) {
+                fetchedExecutionTrees.put(rootProcessInstanceId, Boolean.TRUE);
+                return true;
+            }
+            
+            executionTreeFetched = fetchExecutionTree(rootProcessInstanceId) != null;
+            fetchedExecutionTrees.put(rootProcessInstanceId, executionTreeFetched);
+            return executionTreeFetched;
+        }
         
-        // Find execution in db or cache to check process definition setting for execution fetch.
-        // If not set, no extra work is done. The execution is in the cache however now as a side-effect of calling this method.
-        ExecutionEntity executionEntity = (cachedExecutionEntity != null) ? cachedExecutionEntity : super.findById(executionId);
-        if (!ProcessDefinitionUtil.getProcess(executionEntity.getProcessDefinitionId()).isEnableEagerExecutionTreeFetching()) {
+        // Fetching the tree directly with the execution id, the execution itself is part of the result
+        List<ExecutionEntity> executions = fetchExecutionTree(executionId);
+        if (executions == null) {
+            // The tree is too large, the executions are fetched when they are needed (the execution itself is probably cached already)
+            ExecutionEntity executionEntity = super.findById(executionId);
+            if (executionEntity != null && executionEntity.getRootProcessInstanceId() != null) {
+                fetchedExecutionTrees.put(executionEntity.getRootProcessInstanceId(), Boolean.FALSE);
+            }
             return false;
         }
         
-        // If it's in the cache, the execution and its tree have been fetched before. No need to do anything more.
-        if (cachedExecutionEntity != null) {
-            return true;
+        if (!executions.isEmpty()) {
+            String rootProcessInstanceId = executions.get(0).getRootProcessInstanceId();
+            if (rootProcessInstanceId == null) {
+                return false;
+            }
+            fetchedExecutionTrees.put(rootProcessInstanceId, Boolean.TRUE);
         }
         
-        // Fetches execution tree. This will store them in the cache and thus avoind extra database calls.
-        getList("selectExecutionsWithSameRootProcessInstanceId", executionId,
-                executionsWithSameRootProcessInstanceIdMatcher, true);
-        
         return true;
     }
+    
+    /**
+     * @return the executions of the tree of the execution, or null when the tree has more executions than the configured limit
+     */
+    protected List<ExecutionEntity> fetchExecutionTree(String executionId) {
+        List<ExecutionEntity> executions;
+        int limit = performanceSettings.getEagerExecutionTreeFetchingLimit();
+        if (limit >= 0) {
+            // One execution more than the limit is selected, to know whether the tree exceeds it
+            List<ExecutionEntity> databaseExecutions = getDbSqlSession().selectList("selectExecutionsWithSameRootProcessInstanceId", executionId, 0, limit + 1);
+            if (databaseExecutions.size() > limit) {
+                return null;
+            }
+            
+            // The selected executions are in the cache now, together with the executions of the tree that were created or changed in this command
+            executions = getListFromCache(executionsWithSameRootProcessInstanceIdMatcher, executionId);
+            
+        } else {
+            executions = getList("selectExecutionsWithSameRootProcessInstanceId", executionId,
+                    executionsWithSameRootProcessInstanceIdMatcher, true);
+        }
+        
+        linkExecutionTree(executions);
+        return executions;
+    }
+    
+    /**
+     * Links the executions of one execution tree to each other, so navigating the tree doesn't need to go through the cache or database anymore.
+     */
+    protected void linkExecutionTree(List<ExecutionEntity> executions) {
+        Map<String, ExecutionEntityImpl> executionsById = new HashMap<>(executions.size());
+        Map<String, List<ExecutionEntityImpl>> childExecutionsByParentId = new HashMap<>();
+        Map<String, ExecutionEntityImpl> subProcessInstancesBySuperExecutionId = new HashMap<>();
+        for (ExecutionEntity execution : executions) {
+            ExecutionEntityImpl executionEntity = (ExecutionEntityImpl) execution;
+            executionsById.put(executionEntity.getId(), executionEntity);
+            if (executionEntity.getParentId() != null) {
+                childExecutionsByParentId.computeIfAbsent(executionEntity.getParentId(), parentId -> new ArrayList<>()).add(executionEntity);
+            }
+            if (executionEntity.getSuperExecutionId() != null) {
+                subProcessInstancesBySuperExecutionId.put(executionEntity.getSuperExecutionId(), executionEntity);
+            }
+        }
+        
+        boolean initializeRelatedEntitiesFromCounts = performanceSettings.isEnableExecutionRelationshipCounts();
+        for (ExecutionEntityImpl executionEntity : executionsById.values()) {
+            executionEntity.initializeExecutionTreeReferences(executionsById, childExecutionsByParentId, subProcessInstancesBySuperExecutionId);
+            if (initializeRelatedEntitiesFromCounts) {
+                executionEntity.initializeEmptyRelatedEntitiesFromCounts();
+            }
+        }
+    }
+    
+    /**
+     * @return whether the tree was fetched, per root process instance id of the trees that were looked at in the current command context
+     */
+    @SuppressWarnings("unchecked")
+    protected Map<String, Boolean> getFetchedExecutionTrees() {
+        CommandContext commandContext = CommandContextUtil.getCommandContext();
+        Map<String, Boolean> fetchedExecutionTrees = (Map<String, Boolean>) commandContext.getAttribute(FETCHED_EXECUTION_TREES_ATTRIBUTE);
+        if (fetchedExecutionTrees == null) {
+            fetchedExecutionTrees = new HashMap<>();
+            commandContext.addAttribute(FETCHED_EXECUTION_TREES_ATTRIBUTE, fetchedExecutionTrees);
+        }
+        return fetchedExecutionTrees;
+    }
 
     @Override
     public ExecutionEntity findSubProcessInstanceBySuperExecutionId(final String superExecutionId) {
@@ -229,13 +328,7 @@ public class MybatisExecutionDataManager extends AbstractProcessDataManager<Exec
     @Override
     @SuppressWarnings("unchecked")
     public List<ExecutionEntity> findExecutionsByQueryCriteria(ExecutionQueryImpl executionQuery) {
-        // False -> executions should not be cached if using executionTreeFetching
-        boolean useCache = !performanceSettings.isEnableEagerExecutionTreeFetching();
-        if (useCache) {
-            return getDbSqlSession().selectList("selectExecutionsByQueryCriteria", executionQuery);
-        } else {
-            return getDbSqlSession().selectListNoCacheCheck("selectExecutionsByQueryCriteria", executionQuery);
-        }
+        return getDbSqlSession().selectList("selectExecutionsByQueryCriteria", executionQuery);
     }
 
     @Override
@@ -246,13 +339,7 @@ public class MybatisExecutionDataManager extends AbstractProcessDataManager<Exec
     @Override
     @SuppressWarnings("unchecked")
     public List<ProcessInstance> findProcessInstanceByQueryCriteria(ProcessInstanceQueryImpl executionQuery) {
-        // False -> executions should not be cached if using executionTreeFetching
-        boolean useCache = !performanceSettings.isEnableEagerExecutionTreeFetching();
-        if (useCache) {
-            return getDbSqlSession().selectList("selectProcessInstanceByQueryCriteria", executionQuery);
-        } else {
-            return getDbSqlSession().selectListNoCacheCheck("selectProcessInstanceByQueryCriteria", executionQuery);
-        }
+        return getDbSqlSession().selectList("selectProcessInstanceByQueryCriteria", executionQuery);
     }
 
     @Override
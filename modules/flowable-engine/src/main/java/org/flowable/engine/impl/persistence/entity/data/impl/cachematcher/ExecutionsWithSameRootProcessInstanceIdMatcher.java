@@ -26,7 +26,8 @@ public class ExecutionsWithSameRootProcessInstanceIdMatcher implements CachedEnt
     @Override
     public boolean isRetained(Collection<ExecutionEntity> databaseEntities, Collection<CachedEntity> cachedEntities, ExecutionEntity entity, Object param) {
         ExecutionEntity executionEntity = getMatchingExecution(databaseEntities, cachedEntities, (String) param);
-        return (executionEntity.getRootProcessInstanceId() != null
+        return (executionEntity != null
+                && executionEntity.getRootProcessInstanceId() != null
                 && executionEntity.getRootProcessInstanceId().equals(entity.getRootProcessInstanceId()));
     }
 
@@ -28,6 +28,7 @@ import org.flowable.bpmn.model.SequenceFlow;
 import org.flowable.bpmn.model.StartEvent;
 import org.flowable.bpmn.model.SubProcess;
 import org.flowable.common.engine.api.FlowableException;
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionCacheEntry;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 
 public class ExecutionGraphUtil {
@@ -71,6 +72,13 @@ public class ExecutionGraphUtil {
      */
     public static boolean isReachable(String processDefinitionId, String sourceElementId, String targetElementId) {
 
+        // Use the precomputed reachability if the process definition has it
+        ProcessDefinitionCacheEntry cacheEntry = ProcessDefinitionUtil.getProcessDefinitionCacheEntry(processDefinitionId);
+        FlowNodeReachabilityIndex reachabilityIndex = cacheEntry != null ? cacheEntry.getReachabilityIndex() : null;
+        if (reachabilityIndex != null && reachabilityIndex.containsElement(sourceElementId) && reachabilityIndex.containsElement(targetElementId)) {
+            return reachabilityIndex.isReachable(sourceElementId, targetElementId);
+        }
+
         // Fetch source and target elements
         Process process = ProcessDefinitionUtil.getProcess(processDefinitionId);
 
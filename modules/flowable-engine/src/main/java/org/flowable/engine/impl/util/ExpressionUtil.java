@@ -0,0 +1,36 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.util;
+
+import org.flowable.bpmn.model.BaseElement;
+import org.flowable.common.engine.api.delegate.Expression;
+import org.flowable.common.engine.impl.el.ExpressionManager;
+import org.flowable.engine.impl.bpmn.parser.BpmnExpressionPreParser;
+
+public class ExpressionUtil {
+
+    /**
+     * Returns the expression for the given text of the element, as parsed at deployment time by the {@link BpmnExpressionPreParser}.
+     * When the expression wasn't parsed up front (e.g. because the text is a dynamic override of the original model value), it is created with the expression manager.
+     */
+    public static Expression getExpression(BaseElement element, String expressionText, ExpressionManager expressionManager) {
+        if (element != null) {
+            Object parsedExpression = element.getParsedExpression(expressionText);
+            if (parsedExpression instanceof Expression) {
+                return (Expression) parsedExpression;
+            }
+        }
+        return expressionManager.createExpression(expressionText);
+    }
+
+}
@@ -0,0 +1,119 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.util;
+
+import java.io.Serializable;
+import java.util.ArrayDeque;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.bpmn.model.FlowElement;
+import org.flowable.bpmn.model.FlowElementsContainer;
+import org.flowable.bpmn.model.FlowNode;
+import org.flowable.bpmn.model.Process;
+import org.flowable.bpmn.model.SequenceFlow;
+import org.flowable.bpmn.model.StartEvent;
+import org.flowable.bpmn.model.SubProcess;
+
+/**
+ * Precomputed answers of {@link ExecutionGraphUtil#isReachable(Process, FlowNode, FlowNode, java.util.Set)} for all flow nodes of a process,
+ * including the flow nodes in (event) subprocesses. It is created when the process definition is cached,
+ * so that checking if an element can reach another one is a lookup instead of a search through the process graph.
+ *
+ * The same rules as the graph search apply: a flow node without outgoing sequence flow continues with the outgoing sequence flow
+ * of its parent subprocess, and a start event of an event subprocess can't reach anything.
+ * A sequence flow id can be used instead of the id of the flow node it targets.
+ */
+public class FlowNodeReachabilityIndex implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    protected Map<String, Integer> flowNodeIndexes = new HashMap<>();
+    protected BitSet[] reachableFlowNodes;
+
+    public FlowNodeReachabilityIndex(Process process) {
+        List<FlowNode> flowNodes = process.findFlowElementsOfType(FlowNode.class);
+        for (int i = 0; i < flowNodes.size(); i++) {
+            flowNodeIndexes.put(flowNodes.get(i).getId(), i);
+        }
+        for (SequenceFlow sequenceFlow : process.findFlowElementsOfType(SequenceFlow.class)) {
+            Integer targetIndex = flowNodeIndexes.get(sequenceFlow.getTargetRef());
+            if (targetIndex != null) {
+                flowNodeIndexes.put(sequenceFlow.getId(), targetIndex);
+            }
+        }
+
+        reachableFlowNodes = new BitSet[flowNodes.size()];
+        for (int i = 0; i < flowNodes.size(); i++) {
+            reachableFlowNodes[i] = findReachableFlowNodes(process, flowNodes, flowNodes.get(i));
+        }
+    }
+
+    protected BitSet findReachableFlowNodes(Process process, List<FlowNode> flowNodes, FlowNode sourceElement) {
+        BitSet reachable = new BitSet(flowNodes.size());
+        BitSet visited = new BitSet(flowNodes.size());
+        Deque<FlowNode> flowNodesToVisit = new ArrayDeque<>();
+        flowNodesToVisit.add(sourceElement);
+        visited.set(flowNodeIndexes.get(sourceElement.getId()));
+
+        while (!flowNodesToVisit.isEmpty()) {
+            FlowNode flowNode = flowNodesToVisit.poll();
+            if (flowNode instanceof StartEvent && ExecutionGraphUtil.isInEventSubprocess(flowNode)) {
+                continue;
+            }
+
+            if (flowNode.getOutgoingFlows().isEmpty()) {
+                FlowElementsContainer parentElement = process.findParent(flowNode);
+                if (parentElement instanceof SubProcess) {
+                    flowNode = (SubProcess) parentElement;
+                } else {
+                    continue;
+                }
+            }
+
+            reachable.set(flowNodeIndexes.get(flowNode.getId()));
+
+            for (SequenceFlow sequenceFlow : flowNode.getOutgoingFlows()) {
+                FlowElement sequenceFlowTarget = process.getFlowElement(sequenceFlow.getTargetRef(), true);
+                if (sequenceFlowTarget instanceof FlowNode) {
+                    int targetIndex = flowNodeIndexes.get(sequenceFlowTarget.getId());
+                    if (!visited.get(targetIndex)) {
+                        visited.set(targetIndex);
+                        flowNodesToVisit.add((FlowNode) sequenceFlowTarget);
+                    }
+                }
+            }
+        }
+
+        return reachable;
+    }
+
+    /**
+     * @return whether the index knows the flow node or sequence flow with the given id.
+     */
+    public boolean containsElement(String elementId) {
+        return flowNodeIndexes.containsKey(elementId);
+    }
+
+    /**
+     * @return whether the element with the given source id can reach the element with the target id through following sequence flow.
+     *         Both elements must be known by the index (see {@link #containsElement(String)}).
+     */
+    public boolean isReachable(String sourceElementId, String targetElementId) {
+        return reachableFlowNodes[flowNodeIndexes.get(sourceElementId)].get(flowNodeIndexes.get(targetElementId));
+    }
+
+}
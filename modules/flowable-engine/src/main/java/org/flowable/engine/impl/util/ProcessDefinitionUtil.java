@@ -67,6 +67,19 @@ public class ProcessDefinitionUtil {
         }
     }
 
+    public static ProcessDefinitionCacheEntry getProcessDefinitionCacheEntry(String processDefinitionId) {
+        if (CommandContextUtil.getProcessEngineConfiguration() == null) {
+            return null;
+
+        } else {
+            DeploymentManager deploymentManager = CommandContextUtil.getProcessEngineConfiguration().getDeploymentManager();
+
+            // This will check the cache in the findDeployedProcessDefinitionById and resolveProcessDefinition method
+            ProcessDefinition processDefinitionEntity = deploymentManager.findDeployedProcessDefinitionById(processDefinitionId);
+            return deploymentManager.resolveProcessDefinition(processDefinitionEntity);
+        }
+    }
+
     public static BpmnModel getBpmnModel(String processDefinitionId) {
         if (CommandContextUtil.getProcessEngineConfiguration() == null) {
             return Flowable5Util.getFlowable5CompatibilityHandler().getProcessDefinitionBpmnModel(processDefinitionId);
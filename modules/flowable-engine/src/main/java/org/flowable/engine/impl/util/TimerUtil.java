@@ -77,22 +77,22 @@ public class TimerUtil {
         if (StringUtils.isNotEmpty(timerEventDefinition.getTimeDate())) {
 
             businessCalendarRef = DueDateBusinessCalendar.NAME;
-            expression = expressionManager.createExpression(timerEventDefinition.getTimeDate());
+            expression = ExpressionUtil.getExpression(timerEventDefinition, timerEventDefinition.getTimeDate(), expressionManager);
 
         } else if (StringUtils.isNotEmpty(timerEventDefinition.getTimeCycle())) {
 
             businessCalendarRef = CycleBusinessCalendar.NAME;
-            expression = expressionManager.createExpression(timerEventDefinition.getTimeCycle());
+            expression = ExpressionUtil.getExpression(timerEventDefinition, timerEventDefinition.getTimeCycle(), expressionManager);
 
         } else if (StringUtils.isNotEmpty(timerEventDefinition.getTimeDuration())) {
 
             businessCalendarRef = DurationBusinessCalendar.NAME;
-            expression = expressionManager.createExpression(timerEventDefinition.getTimeDuration());
+            expression = ExpressionUtil.getExpression(timerEventDefinition, timerEventDefinition.getTimeDuration(), expressionManager);
         }
 
         if (StringUtils.isNotEmpty(timerEventDefinition.getCalendarName())) {
             businessCalendarRef = timerEventDefinition.getCalendarName();
-            Expression businessCalendarExpression = expressionManager.createExpression(businessCalendarRef);
+            Expression businessCalendarExpression = ExpressionUtil.getExpression(timerEventDefinition, businessCalendarRef, expressionManager);
             businessCalendarRef = businessCalendarExpression.getValue(scopeForExpression).toString();
         }
 
@@ -15,6 +15,7 @@ package org.flowable.engine.test.bpmn.gateway;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -22,15 +23,22 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.flowable.bpmn.model.FlowNode;
+import org.flowable.bpmn.model.InclusiveGateway;
+import org.flowable.bpmn.model.Process;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.util.CollectionUtil;
 import org.flowable.engine.impl.EventSubscriptionQueryImpl;
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionCacheEntry;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 import org.flowable.engine.impl.test.AbstractFlowableTestCase;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
 import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.impl.util.ExecutionGraphUtil;
+import org.flowable.engine.impl.util.FlowNodeReachabilityIndex;
+import org.flowable.engine.impl.util.ProcessDefinitionUtil;
 import org.flowable.engine.repository.ProcessDefinition;
 import org.flowable.engine.runtime.EventSubscription;
 import org.flowable.engine.runtime.Execution;
@@ -1165,6 +1173,39 @@ public class InclusiveGatewayTest extends PluggableFlowableTestCase {
         assertProcessEnded(processInstance.getId());
     }
 
+    @Test
+    @Deployment(resources = {
+            "org/flowable/engine/test/bpmn/gateway/InclusiveGatewayTest.testJoinAfterSubprocesses.bpmn20.xml",
+            "org/flowable/engine/test/bpmn/gateway/InclusiveGatewayTest.testLoop.bpmn20.xml",
+            "org/flowable/engine/test/bpmn/gateway/InclusiveGatewayTest.testInclusiveGatewayInEventSubProcess.bpmn20.xml",
+            "org/flowable/engine/test/bpmn/gateway/InclusiveGatewayTest.inSubProcessNestedInMultiInstanceParallelSubProcess.bpmn20.xml",
+            "org/flowable/engine/test/bpmn/gateway/InclusiveGatewayTest.testParentActivationOnNonJoiningEnd.bpmn20.xml"
+    })
+    public void testReachabilityIndexMatchesGraphSearch() {
+        for (ProcessDefinition processDefinition : repositoryService.createProcessDefinitionQuery().list()) {
+            managementService.executeCommand(commandContext -> {
+                ProcessDefinitionCacheEntry cacheEntry = ProcessDefinitionUtil.getProcessDefinitionCacheEntry(processDefinition.getId());
+                FlowNodeReachabilityIndex reachabilityIndex = cacheEntry.getReachabilityIndex();
+                Process process = cacheEntry.getProcess();
+                if (process.findFlowElementsOfType(InclusiveGateway.class).isEmpty()) {
+                    assertNull(reachabilityIndex);
+                    return null;
+                }
+
+                assertNotNull(reachabilityIndex);
+                List<FlowNode> flowNodes = process.findFlowElementsOfType(FlowNode.class);
+                for (FlowNode sourceElement : flowNodes) {
+                    for (FlowNode targetElement : flowNodes) {
+                        boolean reachable = ExecutionGraphUtil.isReachable(process, sourceElement, targetElement, new HashSet<>());
+                        assertEquals(processDefinition.getKey() + ": " + sourceElement.getId() + " -> " + targetElement.getId(),
+                                reachable, reachabilityIndex.isReachable(sourceElement.getId(), targetElement.getId()));
+                    }
+                }
+                return null;
+            });
+        }
+    }
+
     /*
      * @Test
      * @Deployment public void testAsyncBehavior() { for (int i = 0; i < 100; i++) { ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("async"); } assertEquals(200,
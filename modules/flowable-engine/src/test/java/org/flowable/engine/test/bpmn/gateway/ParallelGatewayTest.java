@@ -117,6 +117,49 @@ public class ParallelGatewayTest extends PluggableFlowableTestCase {
         assertEquals("Task C", tasks.get(0).getName());
     }
 
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/bpmn/gateway/ParallelGatewayTest.testNestedForkJoin.bpmn20.xml")
+    public void testNestedForkJoinWithParentScopedJoin() {
+        processEngineConfiguration.getPerformanceSettings().setEnableParallelGatewayParentScopedJoin(true);
+        try {
+            ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("nestedForkJoin");
+
+            TaskQuery query = taskService.createTaskQuery().orderByTaskName().asc();
+            taskService.complete(query.singleResult().getId());
+
+            // Completing task A only waits in the join
+            List<org.flowable.task.api.Task> tasks = query.list();
+            assertEquals("Task A", tasks.get(0).getName());
+            taskService.complete(tasks.get(0).getId());
+            assertEquals(1, query.count());
+
+            taskService.complete(query.singleResult().getId());
+            tasks = query.list();
+            assertEquals(2, tasks.size());
+            taskService.complete(tasks.get(0).getId());
+            taskService.complete(tasks.get(1).getId());
+
+            // Both joins are activated and the joined executions are deleted
+            tasks = query.list();
+            assertEquals(1, tasks.size());
+            assertEquals("Task C", tasks.get(0).getName());
+            assertEquals(2, runtimeService.createExecutionQuery().processInstanceId(processInstance.getId()).count());
+
+            // The joins don't store anything
+            assertTrue(runtimeService.getVariables(processInstance.getId()).isEmpty());
+
+            taskService.complete(tasks.get(0).getId());
+            assertProcessEnded(processInstance.getId());
+
+            if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+                assertEquals(0, historyService.createHistoricVariableInstanceQuery().processInstanceId(processInstance.getId()).count());
+            }
+
+        } finally {
+            processEngineConfiguration.getPerformanceSettings().setEnableParallelGatewayParentScopedJoin(false);
+        }
+    }
+
     /**
      * https://activiti.atlassian.net/browse/ACT-1222
      */
@@ -271,6 +271,186 @@ public class MultiInstanceTest extends PluggableFlowableTestCase {
         assertProcessEnded(procId);
     }
 
+    @Test
+    @Deployment
+    public void testChunkedInstantiation() {
+        String procId = runtimeService.startProcessInstanceByKey("miChunkedInstantiation", 
+                CollectionUtil.singletonMap("assigneeList", createAssigneeList(10))).getId();
+
+        // The first chunk is created when the activity is entered, the next chunks by async jobs
+        assertEquals(3, taskService.createTaskQuery().count());
+        assertEquals(1, managementService.createJobQuery().processInstanceId(procId).count());
+
+        executeJobs(procId);
+        assertEquals(10, taskService.createTaskQuery().taskDefinitionKey("miTasks").count());
+        String taskExecutionId = taskService.createTaskQuery().listPage(0, 1).get(0).getExecutionId();
+        assertEquals(10, runtimeService.getVariable(taskExecutionId, "nrOfInstances"));
+        assertEquals(10, runtimeService.getVariable(taskExecutionId, "nrOfActiveInstances"));
+        assertAssigneesAndLoopCounters(taskService.createTaskQuery().taskDefinitionKey("miTasks").list(), 10);
+
+        for (org.flowable.task.api.Task task : taskService.createTaskQuery().taskDefinitionKey("miTasks").list()) {
+            taskService.complete(task.getId());
+        }
+        taskService.complete(taskService.createTaskQuery().taskDefinitionKey("afterMiTask").singleResult().getId());
+        assertProcessEnded(procId);
+    }
+
+    @Test
+    @Deployment
+    public void testChunkedInstantiationWithMaxActiveInstances() {
+        String procId = runtimeService.startProcessInstanceByKey("miChunkedInstantiation", 
+                CollectionUtil.singletonMap("assigneeList", createAssigneeList(10))).getId();
+
+        assertEquals(2, taskService.createTaskQuery().count());
+        executeJobs(procId);
+        assertEquals(4, taskService.createTaskQuery().count());
+        assertEquals(0, managementService.createJobQuery().processInstanceId(procId).count());
+
+        List<org.flowable.task.api.Task> allTasks = new ArrayList<>(taskService.createTaskQuery().list());
+        int nrOfCompletedInstances = 0;
+        while (nrOfCompletedInstances < 10) {
+            List<org.flowable.task.api.Task> tasks = taskService.createTaskQuery().taskDefinitionKey("miTasks").list();
+            assertTrue(tasks.size() <= 4);
+
+            // There's only room for a new chunk of 2 instances after 2 active instances have completed
+            taskService.complete(tasks.get(0).getId());
+            nrOfCompletedInstances++;
+            if (tasks.size() == 4) {
+                assertEquals(0, managementService.createJobQuery().processInstanceId(procId).count());
+            }
+
+            executeJobs(procId);
+            for (org.flowable.task.api.Task task : taskService.createTaskQuery().taskDefinitionKey("miTasks").list()) {
+                if (!containsTask(allTasks, task)) {
+                    allTasks.add(task);
+                }
+            }
+        }
+
+        assertAssigneesAndLoopCounters(allTasks, 10);
+        assertEquals(1, taskService.createTaskQuery().taskDefinitionKey("afterMiTask").count());
+        taskService.complete(taskService.createTaskQuery().taskDefinitionKey("afterMiTask").singleResult().getId());
+        assertProcessEnded(procId);
+    }
+
+    @Test
+    @Deployment
+    public void testChunkedInstantiationWithCompletionCondition() {
+        String procId = runtimeService.startProcessInstanceByKey("miChunkedInstantiation", 
+                CollectionUtil.singletonMap("assigneeList", createAssigneeList(10))).getId();
+
+        assertEquals(2, taskService.createTaskQuery().count());
+        assertEquals(0, managementService.createJobQuery().processInstanceId(procId).count());
+
+        taskService.complete(taskService.createTaskQuery().listPage(0, 1).get(0).getId());
+        assertEquals(1, taskService.createTaskQuery().count());
+        taskService.complete(taskService.createTaskQuery().listPage(0, 1).get(0).getId());
+        assertEquals(1, managementService.createJobQuery().processInstanceId(procId).count());
+        executeJobs(procId);
+        assertEquals(2, taskService.createTaskQuery().count());
+
+        // The third completed instance satisfies the completion condition: no more instances are created
+        taskService.complete(taskService.createTaskQuery().listPage(0, 1).get(0).getId());
+        assertEquals(0, managementService.createJobQuery().processInstanceId(procId).count());
+        assertEquals(1, taskService.createTaskQuery().count());
+        assertEquals("afterMiTask", taskService.createTaskQuery().singleResult().getTaskDefinitionKey());
+
+        taskService.complete(taskService.createTaskQuery().singleResult().getId());
+        assertProcessEnded(procId);
+    }
+
+    @Test
+    @Deployment
+    public void testChunkedInstantiationWithChunkLargerThanMaxActiveInstances() {
+        String procId = runtimeService.startProcessInstanceByKey("miChunkedInstantiation", 
+                CollectionUtil.singletonMap("assigneeList", createAssigneeList(20))).getId();
+
+        // A chunk is never larger than the maximum number of active instances
+        assertEquals(5, taskService.createTaskQuery().count());
+        assertEquals(0, managementService.createJobQuery().processInstanceId(procId).count());
+
+        List<org.flowable.task.api.Task> allTasks = new ArrayList<>();
+        for (int chunk = 0; chunk < 4; chunk++) {
+            List<org.flowable.task.api.Task> tasks = taskService.createTaskQuery().taskDefinitionKey("miTasks").list();
+            assertEquals(5, tasks.size());
+            allTasks.addAll(tasks);
+
+            for (org.flowable.task.api.Task task : tasks) {
+                taskService.complete(task.getId());
+            }
+            executeJobs(procId);
+        }
+
+        assertAssigneesAndLoopCounters(allTasks, 20);
+        assertEquals(1, taskService.createTaskQuery().taskDefinitionKey("afterMiTask").count());
+        taskService.complete(taskService.createTaskQuery().taskDefinitionKey("afterMiTask").singleResult().getId());
+        assertProcessEnded(procId);
+    }
+
+    @Test
+    @Deployment
+    public void testChunkedInstantiationOfAutomaticInstances() {
+        String procId = runtimeService.startProcessInstanceByKey("miChunkedInstantiation", 
+                CollectionUtil.singletonMap("assigneeList", createAssigneeList(10))).getId();
+
+        // The instances complete immediately, so only one job is needed for the next chunk
+        assertEquals(0, taskService.createTaskQuery().count());
+        assertEquals(1, managementService.createJobQuery().processInstanceId(procId).count());
+
+        executeJobs(procId);
+        assertEquals(1, taskService.createTaskQuery().taskDefinitionKey("afterMiTask").count());
+
+        // Every element was handled exactly once
+        Map<String, Object> variables = runtimeService.getVariables(procId);
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i, variables.get("user" + i));
+        }
+
+        taskService.complete(taskService.createTaskQuery().taskDefinitionKey("afterMiTask").singleResult().getId());
+        assertProcessEnded(procId);
+    }
+
+    protected List<String> createAssigneeList(int size) {
+        List<String> assigneeList = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            assigneeList.add("user" + i);
+        }
+        return assigneeList;
+    }
+
+    protected void executeJobs(String processInstanceId) {
+        List<Job> jobs = managementService.createJobQuery().processInstanceId(processInstanceId).list();
+        while (!jobs.isEmpty()) {
+            for (Job job : jobs) {
+                managementService.executeJob(job.getId());
+            }
+            jobs = managementService.createJobQuery().processInstanceId(processInstanceId).list();
+        }
+    }
+
+    protected boolean containsTask(List<org.flowable.task.api.Task> tasks, org.flowable.task.api.Task task) {
+        for (org.flowable.task.api.Task otherTask : tasks) {
+            if (otherTask.getId().equals(task.getId())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    protected void assertAssigneesAndLoopCounters(List<org.flowable.task.api.Task> tasks, int nrOfInstances) {
+        assertEquals(nrOfInstances, tasks.size());
+        List<String> taskNames = new ArrayList<>();
+        List<String> assignees = new ArrayList<>();
+        for (org.flowable.task.api.Task task : tasks) {
+            taskNames.add(task.getName());
+            assignees.add(task.getAssignee());
+        }
+        for (int i = 0; i < nrOfInstances; i++) {
+            assertTrue(taskNames.contains("My Task " + i));
+            assertTrue(assignees.contains("user" + i));
+        }
+    }
+
     @Test
     @Deployment
     public void testParallelUserTasksCustomCollectionStringExtension() {
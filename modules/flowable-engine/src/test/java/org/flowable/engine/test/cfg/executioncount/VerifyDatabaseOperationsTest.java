@@ -34,6 +34,7 @@ import org.flowable.engine.test.profiler.ProfileSession;
 import org.flowable.engine.test.profiler.ProfilingDbSqlSessionFactory;
 import org.flowable.engine.test.profiler.TotalExecutionTimeCommandInterceptor;
 import org.flowable.job.api.Job;
+import org.flowable.task.api.Task;
 import org.flowable.task.service.TaskServiceConfiguration;
 import org.junit.Assert;
 import org.junit.jupiter.api.AfterEach;
@@ -336,7 +337,6 @@ public class VerifyDatabaseOperationsTest extends PluggableFlowableTestCase {
                     "selectById org.flowable.engine.impl.persistence.entity.HistoricProcessInstanceEntityImpl", 1L,
                     "selectById org.flowable.task.service.impl.persistence.entity.HistoricTaskInstanceEntityImpl", 1L,
                     "selectById org.flowable.task.service.impl.persistence.entity.TaskEntityImpl", 1L,
-                    "selectById org.flowable.engine.impl.persistence.entity.ExecutionEntityImpl", 1L,
                     "selectUnfinishedHistoricActivityInstanceExecutionIdAndActivityId", 1L,
                     "selectExecutionsWithSameRootProcessInstanceId", 1L,
                     "selectTasksByExecutionId", 2L,
@@ -487,7 +487,6 @@ public class VerifyDatabaseOperationsTest extends PluggableFlowableTestCase {
                     "IdentityLinkEntityImpl-bulk-with-2", 2l);
             assertDatabaseSelects("AddIdentityLinkCmd", 
                     "selectById org.flowable.task.service.impl.persistence.entity.TaskEntityImpl", 2L, 
-                    "selectById org.flowable.engine.impl.persistence.entity.ExecutionEntityImpl", 2L,
                     "selectIdentityLinksByTaskId", 2L,
                     "selectExecutionsWithSameRootProcessInstanceId", 2L, 
                     "selectIdentityLinksByProcessInstance", 2L);
@@ -551,6 +550,63 @@ public class VerifyDatabaseOperationsTest extends PluggableFlowableTestCase {
         }
     }
 
+    @Test
+    public void testEagerExecutionTreeFetchingSelects() {
+        if (!processEngineConfiguration.isAsyncHistoryEnabled()) {
+            deploy("process-usertask-03.bpmn20.xml");
+
+            long eagerFetchingSelects = countSelectsForCompletingTasks("process-usertask-03");
+            processEngineConfiguration.getPerformanceSettings().setEnableEagerExecutionTreeFetching(false);
+            long lazyFetchingSelects = countSelectsForCompletingTasks("process-usertask-03");
+
+            Assert.assertTrue("Expected less selects with eager fetching (" + eagerFetchingSelects + ") than with lazy fetching (" + lazyFetchingSelects + ")",
+                    eagerFetchingSelects < lazyFetchingSelects);
+            Assert.assertEquals(0, runtimeService.createProcessInstanceQuery().count());
+        }
+    }
+
+    @Test
+    public void testEagerExecutionTreeFetchingLimit() {
+        if (!processEngineConfiguration.isAsyncHistoryEnabled()) {
+            deploy("process-usertask-03.bpmn20.xml");
+
+            int oldEagerExecutionTreeFetchingLimit = processEngineConfiguration.getPerformanceSettings().getEagerExecutionTreeFetchingLimit();
+            try {
+                long eagerFetchingSelects = countSelectsForCompletingTasks("process-usertask-03");
+
+                // the tree of the process has more executions than the limit, so its executions are fetched when they are needed
+                processEngineConfiguration.getPerformanceSettings().setEagerExecutionTreeFetchingLimit(2);
+                long limitedFetchingSelects = countSelectsForCompletingTasks("process-usertask-03");
+
+                Assert.assertTrue("Expected less selects with eager fetching (" + eagerFetchingSelects + ") than above the limit (" + limitedFetchingSelects + ")",
+                        eagerFetchingSelects < limitedFetchingSelects);
+                Assert.assertEquals(0, runtimeService.createProcessInstanceQuery().count());
+
+            } finally {
+                processEngineConfiguration.getPerformanceSettings().setEagerExecutionTreeFetchingLimit(oldEagerExecutionTreeFetchingLimit);
+            }
+        }
+    }
+
+    protected long countSelectsForCompletingTasks(String processDefinitionKey) {
+        String processInstanceId = runtimeService.startProcessInstanceByKey(processDefinitionKey).getId();
+        List<Task> tasks = taskService.createTaskQuery().processInstanceId(processInstanceId).list();
+
+        FlowableProfiler profiler = FlowableProfiler.getInstance();
+        profiler.startProfileSession("Profiling session");
+        for (Task task : tasks) {
+            taskService.complete(task.getId());
+        }
+        profiler.stopCurrentProfileSession();
+
+        long selects = 0;
+        for (Long count : getStats("CompleteTaskCmd").getDbSelects().values()) {
+            selects += count;
+        }
+        profiler.reset();
+        return selects;
+    }
+
     private Map<String, Object> createVariables(long count, String prefix) {
         Map<String, Object> vars = new HashMap<>();
         for (int i = 0; i < count; i++) {
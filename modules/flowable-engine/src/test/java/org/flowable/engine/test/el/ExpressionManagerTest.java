@@ -15,14 +15,21 @@ package org.flowable.engine.test.el;
 
 import static org.junit.Assert.assertThat;
 
+import java.util.Collections;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.bpmn.model.SequenceFlow;
+import org.flowable.bpmn.model.UserTask;
 import org.flowable.common.engine.api.delegate.Expression;
+import org.flowable.common.engine.impl.el.VariableContainerWrapper;
 import org.flowable.common.engine.impl.identity.Authentication;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.test.Deployment;
+import org.flowable.task.api.Task;
 import org.flowable.variable.service.impl.el.NoExecutionVariableScope;
 import org.hamcrest.core.Is;
 import org.junit.jupiter.api.Test;
@@ -39,6 +46,43 @@ public class ExpressionManagerTest extends PluggableFlowableTestCase {
         assertThat(value, Is.<Object>is(true));
     }
 
+    @Test
+    public void testExpressionEvaluationWithDifferentVariableContainers() {
+        Expression expression = this.processEngineConfiguration.getExpressionManager().createExpression("${myVar.time}");
+
+        // The resolver chain is shared between evaluations, the variable container must not be
+        assertEquals(1000L, expression.getValue(new VariableContainerWrapper(Collections.<String, Object>singletonMap("myVar", new Date(1000L)))));
+        assertEquals(2000L, expression.getValue(new VariableContainerWrapper(Collections.<String, Object>singletonMap("myVar", new Date(2000L)))));
+        assertEquals(1000L, expression.getValue(new VariableContainerWrapper(Collections.<String, Object>singletonMap("myVar", new Date(1000L)))));
+    }
+
+    @Test
+    @Deployment
+    public void testExpressionsParsedAtDeployment() {
+        String processDefinitionId = repositoryService.createProcessDefinitionQuery().processDefinitionKey("preParsedExpressionsProcess").singleResult().getId();
+        BpmnModel bpmnModel = repositoryService.getBpmnModel(processDefinitionId);
+        SequenceFlow highFlow = (SequenceFlow) bpmnModel.getFlowElement("flowHigh");
+        UserTask highTask = (UserTask) bpmnModel.getFlowElement("highTask");
+
+        assertTrue(highFlow.getParsedExpression("${amount > 100}") instanceof Expression);
+        assertTrue(highTask.getParsedExpression("High ${amount}") instanceof Expression);
+        assertTrue(highTask.getParsedExpression("${approver}") instanceof Expression);
+
+        Map<String, Object> vars = new HashMap<>();
+        vars.put("amount", 150);
+        vars.put("approver", "kermit");
+        runtimeService.startProcessInstanceByKey("preParsedExpressionsProcess", vars);
+        Task task = taskService.createTaskQuery().singleResult();
+        assertEquals("High 150", task.getName());
+        assertEquals("kermit", task.getAssignee());
+        taskService.complete(task.getId());
+
+        runtimeService.startProcessInstanceByKey("preParsedExpressionsProcess", Collections.<String, Object>singletonMap("amount", 50));
+        task = taskService.createTaskQuery().singleResult();
+        assertEquals("Low 50", task.getName());
+        taskService.complete(task.getId());
+    }
+
     @Test
     @Deployment
     public void testMethodExpressions() {
@@ -0,0 +1,165 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.el;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.delegate.Expression;
+import org.flowable.common.engine.impl.el.CompiledValueExpression;
+import org.flowable.common.engine.impl.el.DefaultExpressionManager;
+import org.flowable.common.engine.impl.el.JuelExpression;
+import org.flowable.common.engine.impl.el.JuelExpressionCompiler;
+import org.flowable.common.engine.impl.el.VariableContainerWrapper;
+import org.flowable.common.engine.impl.javax.el.ValueExpression;
+import org.junit.jupiter.api.Test;
+
+public class JuelExpressionCompilerTest {
+
+    protected static final List<String> EXPRESSIONS = Arrays.asList(
+            "${a == b}", "${a != b}", "${a < b}", "${a <= b}", "${a > b}", "${a >= b}",
+            "${a == 5}", "${a > 4.5}", "${a == 'abc'}", "${a < 'b'}",
+            "${flag && a > 1}", "${!flag || a == b}", "${(a > b) ? 'yes' : 'no'}",
+            "${bean.time > 1000}", "${a == null}");
+
+    protected static final List<Object> VALUES = Arrays.<Object>asList(
+            5, 5L, 6L, (short) 2, 4.5d, 5.0f, new BigDecimal("5.00"), "abc", "5", "b", true, false, null);
+
+    @Test
+    public void testCompiledResultsMatchInterpretedResults() {
+        DefaultExpressionManager interpretingExpressionManager = new DefaultExpressionManager();
+        DefaultExpressionManager compilingExpressionManager = new DefaultExpressionManager();
+        compilingExpressionManager.setExpressionCompiler(new JuelExpressionCompiler(1));
+
+        for (String expressionText : EXPRESSIONS) {
+            Expression interpretedExpression = interpretingExpressionManager.createExpression(expressionText);
+            Expression compiledExpression = compilingExpressionManager.createExpression(expressionText);
+
+            for (Object a : VALUES) {
+                for (Object b : VALUES) {
+                    Map<String, Object> variables = new HashMap<>();
+                    variables.put("a", a);
+                    variables.put("b", b);
+                    variables.put("flag", b instanceof Boolean ? b : Boolean.TRUE);
+                    variables.put("bean", new Date(a instanceof Number ? ((Number) a).longValue() * 400 : 0L));
+
+                    Object interpretedResult = evaluate(interpretedExpression, variables);
+                    Object compiledResult = evaluate(compiledExpression, variables);
+                    assertEquals(expressionText + " with a=" + a + ", b=" + b, interpretedResult, compiledResult);
+                }
+            }
+
+            assertTrue(expressionText, ((JuelExpression) compiledExpression).getExpressionCompiler() == null);
+        }
+    }
+
+    @Test
+    public void testCompilationAfterThreshold() {
+        RecordingExpressionCompiler compiler = new RecordingExpressionCompiler(3);
+        DefaultExpressionManager expressionManager = new DefaultExpressionManager();
+        expressionManager.setExpressionCompiler(compiler);
+
+        Expression expression = expressionManager.createExpression("${a > 10}");
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("a", 20);
+
+        expression.getValue(new VariableContainerWrapper(variables));
+        expression.getValue(new VariableContainerWrapper(variables));
+        assertNull(compiler.lastCompiledExpression);
+
+        assertEquals(Boolean.TRUE, expression.getValue(new VariableContainerWrapper(variables)));
+        assertTrue(compiler.lastCompiledExpression instanceof CompiledValueExpression);
+
+        variables.put("a", 5);
+        assertEquals(Boolean.FALSE, expression.getValue(new VariableContainerWrapper(variables)));
+        assertEquals(1, compiler.compilationCount);
+    }
+
+    @Test
+    public void testUnsupportedExpressionStaysInterpreted() {
+        JuelExpressionCompiler compiler = new JuelExpressionCompiler(1);
+        ValueExpressionRecordingExpressionManager expressionManager = new ValueExpressionRecordingExpressionManager();
+
+        assertNull(compiler.compile(expressionManager.createValueExpression("${a + 1}")));
+        assertNull(compiler.compile(expressionManager.createValueExpression("${bean.toString()}")));
+        assertNull(compiler.compile(expressionManager.createValueExpression("text ${a}")));
+        assertNotNull(compiler.compile(expressionManager.createValueExpression("${a.b.c == 'x' && !d}")));
+    }
+
+    @Test
+    public void testUnknownPropertyInCompiledExpression() {
+        DefaultExpressionManager expressionManager = new DefaultExpressionManager();
+        expressionManager.setExpressionCompiler(new JuelExpressionCompiler(1));
+
+        Expression expression = expressionManager.createExpression("${unknown == 1}");
+        try {
+            expression.getValue(new VariableContainerWrapper(new HashMap<String, Object>()));
+            fail("Exception expected");
+        } catch (FlowableException e) {
+            assertTrue(e.getMessage().contains("Unknown property used in expression"));
+        }
+    }
+
+    protected Object evaluate(Expression expression, Map<String, Object> variables) {
+        try {
+            return expression.getValue(new VariableContainerWrapper(variables));
+        } catch (FlowableException e) {
+            return e.getClass();
+        }
+    }
+
+    protected static class RecordingExpressionCompiler extends JuelExpressionCompiler {
+
+        protected int compilationCount;
+        protected ValueExpression lastCompiledExpression;
+
+        public RecordingExpressionCompiler(int compilationThreshold) {
+            super(compilationThreshold);
+        }
+
+        @Override
+        public ValueExpression compile(ValueExpression valueExpression) {
+            compilationCount++;
+            lastCompiledExpression = super.compile(valueExpression);
+            return lastCompiledExpression;
+        }
+    }
+
+    protected static class ValueExpressionRecordingExpressionManager extends DefaultExpressionManager {
+
+        protected ValueExpression lastValueExpression;
+
+        public ValueExpression createValueExpression(String expressionText) {
+            createExpression(expressionText);
+            return lastValueExpression;
+        }
+
+        @Override
+        protected Expression createJuelExpression(String expression, ValueExpression valueExpression) {
+            lastValueExpression = valueExpression;
+            return super.createJuelExpression(expression, valueExpression);
+        }
+    }
+
+}
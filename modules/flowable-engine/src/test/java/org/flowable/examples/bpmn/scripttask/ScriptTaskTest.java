@@ -150,6 +150,18 @@ public class ScriptTaskTest extends PluggableFlowableTestCase {
         assertProcessEnded(processInstance.getId());
     }
 
+    @Test
+    @Deployment
+    public void testCachedScriptsUseCurrentVariables() {
+        // The scripts are compiled once and cached, the variables of every execution must still be used
+        for (int i = 0; i < 5; i++) {
+            ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("cachedScripts", CollectionUtil.map("a", i, "b", 10));
+            assertEquals(10 + i, ((Number) runtimeService.getVariable(processInstance.getId(), "groovySum")).intValue());
+            assertEquals(20 + i, ((Number) runtimeService.getVariable(processInstance.getId(), "javascriptSum")).intValue());
+            assertEquals(30 + i, ((Number) runtimeService.getVariable(processInstance.getId(), "juelSum")).intValue());
+        }
+    }
+
     protected void verifyExceptionInStacktrace(Exception rootException, Class<?> expectedExceptionClass) {
         Throwable expectedException = rootException;
         boolean found = false;
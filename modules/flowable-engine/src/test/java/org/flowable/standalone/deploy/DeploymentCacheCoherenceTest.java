@@ -0,0 +1,131 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.deploy;
+
+import java.io.IOException;
+import java.text.MessageFormat;
+import java.util.List;
+
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.event.EventLogEntry;
+import org.flowable.engine.impl.persistence.deploy.DeploymentCacheCoherenceManager;
+import org.flowable.engine.impl.persistence.deploy.DeploymentManager;
+import org.flowable.engine.impl.test.ResourceFlowableTestCase;
+import org.flowable.engine.repository.Deployment;
+import org.flowable.engine.repository.ProcessDefinition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+public class DeploymentCacheCoherenceTest extends ResourceFlowableTestCase {
+
+    public DeploymentCacheCoherenceTest() {
+        super("org/flowable/standalone/deploy/deployment.cache.coherence.test.flowable.cfg.xml");
+    }
+
+    @AfterEach
+    public void cleanup() {
+        for (Deployment deployment : repositoryService.createDeploymentQuery().list()) {
+            repositoryService.deleteDeployment(deployment.getId(), true);
+        }
+        for (EventLogEntry eventLogEntry : managementService.getEventLogEntries(null, null)) {
+            managementService.deleteEventLogEntry(eventLogEntry.getLogNumber());
+        }
+    }
+
+    @Test
+    public void testChangeByOtherNodeEvictsProcessDefinition() throws IOException {
+        DeploymentManager deploymentManager = processEngineConfiguration.getDeploymentManager();
+        DeploymentCacheCoherenceManager coherenceManager = processEngineConfiguration.getDeploymentCacheCoherenceManager();
+        assertNotNull(coherenceManager);
+
+        String processDefinitionId = deployProcessDefinition();
+        assertNotNull(deploymentManager.getProcessDefinitionCache().get(processDefinitionId));
+
+        // Changes made by this node are not applied a second time
+        repositoryService.suspendProcessDefinitionById(processDefinitionId);
+        assertNull(deploymentManager.getProcessDefinitionCache().get(processDefinitionId));
+        repositoryService.getProcessDefinition(processDefinitionId);
+        assertNotNull(deploymentManager.getProcessDefinitionCache().get(processDefinitionId));
+        coherenceManager.synchronize();
+        assertNotNull(deploymentManager.getProcessDefinitionCache().get(processDefinitionId));
+
+        // Changes made by another node are
+        logChangeFromOtherNode(processDefinitionId, false);
+        coherenceManager.synchronize();
+        assertNull(deploymentManager.getProcessDefinitionCache().get(processDefinitionId));
+
+        // The same change is only applied once
+        repositoryService.getProcessDefinition(processDefinitionId);
+        coherenceManager.synchronize();
+        assertNotNull(deploymentManager.getProcessDefinitionCache().get(processDefinitionId));
+    }
+
+    @Test
+    public void testInfoChangeByOtherNodeEvictsProcessDefinitionInfo() throws IOException {
+        DeploymentManager deploymentManager = processEngineConfiguration.getDeploymentManager();
+        String processDefinitionId = deployProcessDefinition();
+
+        ObjectNode infoNode = dynamicBpmnService.changeUserTaskName("theTask", "Changed name");
+        dynamicBpmnService.saveProcessDefinitionInfo(processDefinitionId, infoNode);
+        assertEquals("Changed name", dynamicBpmnService.getProcessDefinitionInfo(processDefinitionId)
+                .path("bpmn").path("theTask").path("userTaskName").asText());
+        assertEquals(1, deploymentManager.getProcessDefinitionInfoCache().size());
+
+        logChangeFromOtherNode(processDefinitionId, true);
+        processEngineConfiguration.getDeploymentCacheCoherenceManager().synchronize();
+        assertEquals(0, deploymentManager.getProcessDefinitionInfoCache().size());
+
+        // Reloaded from the database
+        assertEquals("Changed name", dynamicBpmnService.getProcessDefinitionInfo(processDefinitionId)
+                .path("bpmn").path("theTask").path("userTaskName").asText());
+        assertEquals(1, deploymentManager.getProcessDefinitionInfoCache().size());
+    }
+
+    @Test
+    public void testChangeLogEntriesAreWrittenInTheEventLog() throws IOException {
+        String processDefinitionId = deployProcessDefinition();
+        repositoryService.setProcessDefinitionCategory(processDefinitionId, "newCategory");
+
+        List<EventLogEntry> eventLogEntries = managementService.getEventLogEntries(null, null);
+        assertEquals(1, eventLogEntries.size());
+        assertEquals(DeploymentCacheCoherenceManager.TYPE_PROCESS_DEFINITION_CHANGED, eventLogEntries.get(0).getType());
+        assertEquals(processDefinitionId, eventLogEntries.get(0).getProcessDefinitionId());
+    }
+
+    protected String deployProcessDefinition() throws IOException {
+        String processDefinitionTemplate = DeploymentCacheTestUtil.readTemplateFile("/org/flowable/standalone/deploy/deploymentCacheTest.bpmn20.xml");
+        repositoryService.createDeployment().addString("Process 1.bpmn20.xml", MessageFormat.format(processDefinitionTemplate, 1)).deploy();
+        ProcessDefinition processDefinition = repositoryService.createProcessDefinitionQuery().singleResult();
+        return processDefinition.getId();
+    }
+
+    protected void logChangeFromOtherNode(final String processDefinitionId, final boolean infoChange) {
+        final DeploymentCacheCoherenceManager otherNode = new DeploymentCacheCoherenceManager(processEngineConfiguration);
+        managementService.executeCommand(new Command<Void>() {
+
+            @Override
+            public Void execute(CommandContext commandContext) {
+                if (infoChange) {
+                    otherNode.processDefinitionInfoChanged(commandContext, processDefinitionId);
+                } else {
+                    otherNode.processDefinitionChanged(commandContext, processDefinitionId);
+                }
+                return null;
+            }
+        });
+    }
+
+}
@@ -0,0 +1,95 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.deploy;
+
+import java.io.IOException;
+import java.text.MessageFormat;
+
+import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
+import org.flowable.common.engine.impl.persistence.deploy.WeightedDeploymentCache;
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionCacheEntry;
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionCacheEntrySizeEstimator;
+import org.flowable.engine.impl.test.ResourceFlowableTestCase;
+import org.flowable.engine.repository.Deployment;
+import org.flowable.engine.repository.ProcessDefinition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class DeploymentCacheMaxSizeTest extends ResourceFlowableTestCase {
+
+    public DeploymentCacheMaxSizeTest() {
+        super("org/flowable/standalone/deploy/deployment.cache.max.size.test.flowable.cfg.xml");
+    }
+
+    @AfterEach
+    public void cleanup() {
+        for (Deployment deployment : repositoryService.createDeploymentQuery().list()) {
+            repositoryService.deleteDeployment(deployment.getId(), true);
+        }
+    }
+
+    @Test
+    public void testEstimatedSizeIsCalculatedAtDeployment() throws IOException {
+        WeightedDeploymentCache<ProcessDefinitionCacheEntry> processDefinitionCache = (WeightedDeploymentCache<ProcessDefinitionCacheEntry>) processEngineConfiguration.getProcessDefinitionCache();
+        assertEquals(0, processDefinitionCache.size());
+        assertEquals(16777216L, processDefinitionCache.getMaxWeight());
+
+        String processDefinitionTemplate = DeploymentCacheTestUtil.readTemplateFile("/org/flowable/standalone/deploy/deploymentCacheTest.bpmn20.xml");
+        repositoryService.createDeployment().addString("Process 1.bpmn20.xml", MessageFormat.format(processDefinitionTemplate, 1)).deploy();
+
+        ProcessDefinition processDefinition = repositoryService.createProcessDefinitionQuery().singleResult();
+        ProcessDefinitionCacheEntry cacheEntry = processDefinitionCache.get(processDefinition.getId());
+        assertNotNull(cacheEntry);
+        assertTrue(cacheEntry.getEstimatedSize() > 0);
+        assertEquals(cacheEntry.getEstimatedSize(), processDefinitionCache.getWeight(processDefinition.getId()));
+        assertEquals(cacheEntry.getEstimatedSize(), processDefinitionCache.getTotalWeight());
+
+        // A bigger model must have a bigger estimated size
+        ProcessDefinitionCacheEntrySizeEstimator sizeEstimator = processEngineConfiguration.getProcessDefinitionCacheEntrySizeEstimator();
+        long sizeBefore = sizeEstimator.estimateSize(cacheEntry);
+        cacheEntry.getProcess().setDocumentation(new String(new char[10000]));
+        assertTrue(sizeEstimator.estimateSize(cacheEntry) >= sizeBefore + 20000);
+    }
+
+    @Test
+    public void testEvictionByWeight() throws IOException {
+        DeploymentCache<ProcessDefinitionCacheEntry> originalCache = processEngineConfiguration.getDeploymentManager().getProcessDefinitionCache();
+        try {
+            String processDefinitionTemplate = DeploymentCacheTestUtil.readTemplateFile("/org/flowable/standalone/deploy/deploymentCacheTest.bpmn20.xml");
+            repositoryService.createDeployment().addString("Process 1.bpmn20.xml", MessageFormat.format(processDefinitionTemplate, 1)).deploy();
+            ProcessDefinition processDefinition = repositoryService.createProcessDefinitionQuery().singleResult();
+            long entrySize = ((WeightedDeploymentCache<ProcessDefinitionCacheEntry>) originalCache).getWeight(processDefinition.getId());
+
+            // Budget for (a bit more than) three process definitions of the same size
+            WeightedDeploymentCache<ProcessDefinitionCacheEntry> processDefinitionCache = new WeightedDeploymentCache<>(
+                    (entrySize * 7) / 2, processEngineConfiguration.getProcessDefinitionCacheEntrySizeEstimator());
+            processEngineConfiguration.getDeploymentManager().setProcessDefinitionCache(processDefinitionCache);
+
+            for (int i = 2; i <= 6; i++) {
+                repositoryService.createDeployment().addString("Process " + i + ".bpmn20.xml", MessageFormat.format(processDefinitionTemplate, i)).deploy();
+                assertEquals(Math.min(i - 1, 3), processDefinitionCache.size());
+                assertTrue(processDefinitionCache.getTotalWeight() <= processDefinitionCache.getMaxWeight());
+            }
+
+            // Evicted process definitions are transparently reloaded
+            for (ProcessDefinition definition : repositoryService.createProcessDefinitionQuery().list()) {
+                assertNotNull(repositoryService.getBpmnModel(definition.getId()));
+            }
+            assertTrue(processDefinitionCache.getTotalWeight() <= processDefinitionCache.getMaxWeight());
+
+        } finally {
+            processEngineConfiguration.getDeploymentManager().setProcessDefinitionCache(originalCache);
+        }
+    }
+
+}
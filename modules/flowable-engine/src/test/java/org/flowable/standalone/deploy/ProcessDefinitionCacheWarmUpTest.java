@@ -0,0 +1,59 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.deploy;
+
+import java.io.IOException;
+import java.text.MessageFormat;
+
+import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionCacheEntry;
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionCacheWarmUp;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.repository.Deployment;
+import org.flowable.engine.repository.ProcessDefinition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class ProcessDefinitionCacheWarmUpTest extends PluggableFlowableTestCase {
+
+    @AfterEach
+    public void cleanup() {
+        for (Deployment deployment : repositoryService.createDeploymentQuery().list()) {
+            repositoryService.deleteDeployment(deployment.getId(), true);
+        }
+    }
+
+    @Test
+    public void testWarmUpRecentlyUsedProcessDefinitions() throws IOException {
+        String processDefinitionTemplate = DeploymentCacheTestUtil.readTemplateFile("/org/flowable/standalone/deploy/deploymentCacheTest.bpmn20.xml");
+        for (int i = 1; i <= 3; i++) {
+            repositoryService.createDeployment().addString("Process " + i + ".bpmn20.xml", MessageFormat.format(processDefinitionTemplate, i)).deploy();
+        }
+        ProcessDefinition usedProcessDefinition = repositoryService.createProcessDefinitionQuery().processDefinitionKey("myProcess2").singleResult();
+        runtimeService.startProcessInstanceByKey("myProcess2");
+
+        DeploymentCache<ProcessDefinitionCacheEntry> processDefinitionCache = processEngineConfiguration.getProcessDefinitionCache();
+        processDefinitionCache.clear();
+
+        assertEquals(1, new ProcessDefinitionCacheWarmUp(processEngineConfiguration, 1, 2).warmUp());
+        assertTrue(processDefinitionCache.contains(usedProcessDefinition.getId()));
+
+        // Filled up with the latest process definitions
+        processDefinitionCache.clear();
+        assertEquals(3, new ProcessDefinitionCacheWarmUp(processEngineConfiguration, 5, 2).warmUp());
+        for (ProcessDefinition processDefinition : repositoryService.createProcessDefinitionQuery().list()) {
+            assertTrue(processDefinitionCache.contains(processDefinition.getId()));
+        }
+    }
+
+}
@@ -0,0 +1,166 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.idgenerator;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.flowable.common.engine.impl.cfg.IdGenerator;
+import org.flowable.common.engine.impl.persistence.StrongUuidGenerator;
+import org.flowable.common.engine.impl.persistence.TimeOrderedIdGenerator;
+import org.flowable.engine.impl.db.DbIdGenerator;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares the insert throughput and the resulting index size of the different {@link IdGenerator} implementations.
+ *
+ * Not part of the regular test suite (the class name doesn't match the surefire includes). Run it explicitly against the default H2 database with
+ * <code>mvn test -Dtest=IdGeneratorBenchmark</code>, or against PostgreSQL by combining it with the database profile:
+ * <code>mvn test -Pdatabase -Ddatabase=postgres -Dtest=IdGeneratorBenchmark</code>.
+ * The number of inserted rows can be changed with the <code>flowable.benchmark.rows</code> system property.
+ *
+ * Every row references an earlier row, to mimic the foreign key columns (e.g. PROC_INST_ID_) that are indexed as well.
+ */
+public class IdGeneratorBenchmark extends PluggableFlowableTestCase {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(IdGeneratorBenchmark.class);
+
+    protected static final String TABLE_NAME = "BENCH_ID_GENERATOR";
+    protected static final int BATCH_SIZE = 500;
+
+    @Test
+    public void benchmarkIdGenerators() throws Exception {
+        int nrOfRows = Integer.getInteger("flowable.benchmark.rows", 50000);
+
+        DbIdGenerator dbIdGenerator = new DbIdGenerator();
+        dbIdGenerator.setIdBlockSize(processEngineConfiguration.getIdBlockSize());
+        dbIdGenerator.setCommandExecutor(processEngineConfiguration.getCommandExecutor());
+        dbIdGenerator.setCommandConfig(processEngineConfiguration.getDefaultCommandConfig().transactionRequiresNew());
+
+        Map<String, IdGenerator> idGenerators = new LinkedHashMap<>();
+        idGenerators.put("DbIdGenerator", dbIdGenerator);
+        idGenerators.put("StrongUuidGenerator", new StrongUuidGenerator());
+        idGenerators.put("TimeOrderedIdGenerator", new TimeOrderedIdGenerator());
+
+        // Warm up the JIT and the connection pool, so the first generator isn't disadvantaged
+        for (IdGenerator idGenerator : idGenerators.values()) {
+            runBenchmark(idGenerator, Math.min(nrOfRows, 5000));
+        }
+
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("%nId generator benchmark on %s with %d rows%n", processEngineConfiguration.getDatabaseType(), nrOfRows));
+        report.append(String.format("%-24s %12s %14s %16s%n", "Generator", "Time (ms)", "Rows/s", "Index size"));
+        for (Map.Entry<String, IdGenerator> entry : idGenerators.entrySet()) {
+            BenchmarkResult result = runBenchmark(entry.getValue(), nrOfRows);
+            assertEquals(nrOfRows, result.rowCount);
+
+            report.append(String.format("%-24s %12d %14d %16s%n", entry.getKey(), result.time, (nrOfRows * 1000L) / Math.max(1L, result.time),
+                    result.indexSize >= 0 ? Long.toString(result.indexSize) : "n/a"));
+        }
+        LOGGER.info(report.toString());
+    }
+
+    protected BenchmarkResult runBenchmark(IdGenerator idGenerator, int nrOfRows) throws SQLException {
+        DataSource dataSource = processEngineConfiguration.getDataSource();
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            createTable(connection);
+
+            try {
+                BenchmarkResult result = new BenchmarkResult();
+                List<String> ids = new ArrayList<>(nrOfRows);
+
+                long startTime = System.currentTimeMillis();
+                try (PreparedStatement statement = connection.prepareStatement("insert into " + TABLE_NAME + " (ID_, REF_ID_, NAME_) values (?, ?, ?)")) {
+                    for (int i = 0; i < nrOfRows; i++) {
+                        String id = idGenerator.getNextId();
+                        ids.add(id);
+
+                        statement.setString(1, id);
+                        statement.setString(2, ids.get(i / 10));
+                        statement.setString(3, "row " + i);
+                        statement.addBatch();
+
+                        if ((i + 1) % BATCH_SIZE == 0 || i == nrOfRows - 1) {
+                            statement.executeBatch();
+                            connection.commit();
+                        }
+                    }
+                }
+                result.time = System.currentTimeMillis() - startTime;
+
+                result.rowCount = queryLong(connection, "select count(*) from " + TABLE_NAME);
+                result.indexSize = determineIndexSize(connection);
+                return result;
+
+            } finally {
+                dropTable(connection);
+            }
+        }
+    }
+
+    protected void createTable(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("create table " + TABLE_NAME + " (ID_ varchar(64) not null, REF_ID_ varchar(64), NAME_ varchar(255), primary key (ID_))");
+            statement.execute("create index " + TABLE_NAME + "_REF_IDX on " + TABLE_NAME + " (REF_ID_)");
+        }
+        connection.commit();
+    }
+
+    protected void dropTable(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop table " + TABLE_NAME);
+        }
+        connection.commit();
+    }
+
+    protected long determineIndexSize(Connection connection) throws SQLException {
+        String databaseType = processEngineConfiguration.getDatabaseType();
+        if ("postgres".equals(databaseType)) {
+            return queryLong(connection, "select pg_indexes_size('" + TABLE_NAME.toLowerCase() + "')");
+
+        } else if ("h2".equals(databaseType)) {
+            // H2 only reports the size of the table including its indexes, and nothing at all for an in-memory database
+            long size = queryLong(connection, "call disk_space_used('" + TABLE_NAME + "')");
+            return size > 0 ? size : -1L;
+        }
+        return -1L;
+    }
+
+    protected long queryLong(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement(); ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    protected static class BenchmarkResult {
+
+        protected long time;
+        protected long rowCount;
+        protected long indexSize;
+    }
+
+}
@@ -0,0 +1,84 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.idgenerator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.flowable.common.engine.impl.cfg.IdGenerator;
+import org.flowable.engine.impl.db.PrefetchingDbIdGenerator;
+import org.flowable.engine.impl.test.ResourceFlowableTestCase;
+import org.flowable.engine.test.Deployment;
+import org.flowable.task.api.Task;
+import org.junit.jupiter.api.Test;
+
+public class PrefetchingDbIdGeneratorTest extends ResourceFlowableTestCase {
+
+    public PrefetchingDbIdGeneratorTest() {
+        super("org/flowable/standalone/idgenerator/prefetchingidgenerator.test.flowable.cfg.xml");
+    }
+
+    @Test
+    public void testConcurrentIdsAreUnique() throws Exception {
+        final IdGenerator idGenerator = processEngineConfiguration.getIdGenerator();
+        assertTrue(idGenerator instanceof PrefetchingDbIdGenerator);
+
+        final Set<String> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Void>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executorService.submit(new Callable<Void>() {
+
+                    @Override
+                    public Void call() {
+                        for (int j = 0; j < 1000; j++) {
+                            ids.add(idGenerator.getNextId());
+                        }
+                        return null;
+                    }
+                }));
+            }
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+        } finally {
+            executorService.shutdown();
+        }
+
+        assertEquals(8000, ids.size());
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/standalone/idgenerator/UuidGeneratorTest.testUuidGeneratorUsage.bpmn20.xml")
+    public void testProcessInstancesWithPrefetchedIds() {
+        for (int i = 0; i < 20; i++) {
+            runtimeService.startProcessInstanceByKey("simpleProcess");
+        }
+        List<Task> tasks = taskService.createTaskQuery().list();
+        while (!tasks.isEmpty()) {
+            for (Task task : tasks) {
+                taskService.complete(task.getId());
+            }
+            tasks = taskService.createTaskQuery().list();
+        }
+        assertEquals(20, historyService.createHistoricProcessInstanceQuery().finished().count());
+    }
+
+}
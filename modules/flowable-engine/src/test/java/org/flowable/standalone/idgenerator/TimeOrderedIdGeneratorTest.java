@@ -0,0 +1,92 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.idgenerator;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import org.flowable.common.engine.impl.cfg.IdGenerator;
+import org.flowable.common.engine.impl.persistence.TimeOrderedIdGenerator;
+import org.flowable.engine.impl.test.ResourceFlowableTestCase;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.task.api.Task;
+import org.junit.jupiter.api.Test;
+
+public class TimeOrderedIdGeneratorTest extends ResourceFlowableTestCase {
+
+    public TimeOrderedIdGeneratorTest() {
+        super("org/flowable/standalone/idgenerator/timeorderedidgenerator.test.flowable.cfg.xml");
+    }
+
+    @Test
+    public void testIdsAreCompactAndOrdered() {
+        IdGenerator idGenerator = new TimeOrderedIdGenerator();
+
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            ids.add(idGenerator.getNextId());
+        }
+
+        assertEquals(10000, new HashSet<>(ids).size());
+        for (int i = 0; i < ids.size(); i++) {
+            String id = ids.get(i);
+            assertEquals(26, id.length());
+            assertTrue(id.matches("[0-9A-HJKMNP-TV-Z]+"));
+            if (i > 0) {
+                assertTrue(ids.get(i - 1).compareTo(id) < 0);
+            }
+        }
+    }
+
+    @Test
+    public void testIdsAreOrderedWhenRandomPartOverflows() {
+        EncodingTimeOrderedIdGenerator idGenerator = new EncodingTimeOrderedIdGenerator();
+
+        String lowest = idGenerator.encodeId(1000L, 0L, 0L);
+        String lowWordOverflow = idGenerator.encodeId(1000L, 1L, 0L);
+        String highest = idGenerator.encodeId(1000L, 0xFFFFL, -1L);
+        String nextMillisecond = idGenerator.encodeId(1001L, 0L, 0L);
+
+        assertEquals("00000000Z80000000000000000", lowest);
+        assertTrue(lowest.compareTo(idGenerator.encodeId(1000L, 0L, -1L)) < 0);
+        assertTrue(idGenerator.encodeId(1000L, 0L, -1L).compareTo(lowWordOverflow) < 0);
+        assertTrue(lowWordOverflow.compareTo(highest) < 0);
+        assertTrue(highest.compareTo(nextMillisecond) < 0);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/standalone/idgenerator/UuidGeneratorTest.testUuidGeneratorUsage.bpmn20.xml")
+    public void testTimeOrderedIdGeneratorUsage() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("simpleProcess");
+        assertEquals(26, processInstance.getId().length());
+
+        List<Task> tasks = taskService.createTaskQuery().list();
+        while (!tasks.isEmpty()) {
+            for (Task task : tasks) {
+                taskService.complete(task.getId());
+            }
+            tasks = taskService.createTaskQuery().list();
+        }
+        assertProcessEnded(processInstance.getId());
+    }
+
+    protected static class EncodingTimeOrderedIdGenerator extends TimeOrderedIdGenerator {
+
+        public String encodeId(long timestamp, long high, long low) {
+            return encode(timestamp, high, low);
+        }
+    }
+
+}
@@ -15,7 +15,6 @@ package org.flowable.form.spring;
 
 import java.util.Map;
 
-import org.flowable.common.engine.api.variable.VariableContainer;
 import org.flowable.common.engine.impl.el.DefaultExpressionManager;
 import org.flowable.common.engine.impl.el.JsonNodeELResolver;
 import org.flowable.common.engine.impl.el.ReadOnlyMapELResolver;
@@ -49,10 +48,8 @@ public class SpringFormExpressionManager extends DefaultExpressionManager {
     }
     
     @Override
-    protected ELResolver createElResolver(VariableContainer variableContainer) {
+    protected ELResolver createStaticElResolver() {
         CompositeELResolver compositeElResolver = new CompositeELResolver();
-        compositeElResolver.add(createVariableElResolver(variableContainer));
-
         if (beans != null) {
             // Only expose limited set of beans in expressions
             compositeElResolver.add(new ReadOnlyMapELResolver(beans));
@@ -94,6 +94,10 @@ public interface StencilConstants {
     final String PROPERTY_PROCESS_HISTORYLEVEL = "process_historylevel";
 
     final String PROPERTY_IS_EXECUTABLE = "isexecutable";
+    /**
+     * @deprecated Ignored by the engine, see {@link org.flowable.bpmn.model.Process#isEnableEagerExecutionTreeFetching()}.
+     */
+    @Deprecated
     final String PROPERTY_IS_EAGER_EXECUTION_FETCHING = "iseagerexecutionfetch";
 
     final String PROPERTY_PROCESS_POTENTIALSTARTERUSER = "process_potentialstarteruser";
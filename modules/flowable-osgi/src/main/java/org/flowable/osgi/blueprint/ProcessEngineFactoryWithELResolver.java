@@ -3,7 +3,6 @@ package org.flowable.osgi.blueprint;
 import java.util.ArrayList;
 import java.util.List;
 
-import org.flowable.common.engine.api.variable.VariableContainer;
 import org.flowable.common.engine.impl.de.odysseus.el.ExpressionFactoryImpl;
 import org.flowable.common.engine.impl.javax.el.ArrayELResolver;
 import org.flowable.common.engine.impl.javax.el.BeanELResolver;
@@ -25,11 +24,13 @@ public class ProcessEngineFactoryWithELResolver extends ProcessEngineFactory {
 
     private BlueprintELResolver blueprintELResolver;
     private BlueprintContextELResolver blueprintContextELResolver;
+    private BlueprintExpressionManager blueprintExpressionManager;
 
     @Override
     public void init() throws Exception {
         ProcessEngineConfigurationImpl configImpl = (ProcessEngineConfigurationImpl) getProcessEngineConfiguration();
-        configImpl.setExpressionManager(new BlueprintExpressionManager());
+        blueprintExpressionManager = new BlueprintExpressionManager();
+        configImpl.setExpressionManager(blueprintExpressionManager);
 
         List<ResolverFactory> resolverFactories = configImpl.getResolverFactories();
         if (resolverFactories == null) {
@@ -50,9 +51,8 @@ public class ProcessEngineFactoryWithELResolver extends ProcessEngineFactory {
         }
 
         @Override
-        protected ELResolver createElResolver(VariableContainer variableContainer) {
+        protected ELResolver createStaticElResolver() {
             CompositeELResolver compositeElResolver = new CompositeELResolver();
-            compositeElResolver.add(createVariableElResolver(variableContainer));
             if (blueprintContextELResolver != null) {
                 compositeElResolver.add(blueprintContextELResolver);
             }
@@ -65,13 +65,23 @@ public class ProcessEngineFactoryWithELResolver extends ProcessEngineFactory {
             return compositeElResolver;
         }
 
+        protected void resetStaticElResolver() {
+            staticElResolver = null;
+        }
+
     }
 
     public void setBlueprintELResolver(BlueprintELResolver blueprintELResolver) {
         this.blueprintELResolver = blueprintELResolver;
+        if (blueprintExpressionManager != null) {
+            blueprintExpressionManager.resetStaticElResolver();
+        }
     }
 
     public void setBlueprintContextELResolver(BlueprintContextELResolver blueprintContextELResolver) {
         this.blueprintContextELResolver = blueprintContextELResolver;
+        if (blueprintExpressionManager != null) {
+            blueprintExpressionManager.resetStaticElResolver();
+        }
     }
 }
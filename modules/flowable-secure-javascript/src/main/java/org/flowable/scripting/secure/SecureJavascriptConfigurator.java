@@ -90,6 +90,12 @@ public class SecureJavascriptConfigurator extends AbstractProcessEngineConfigura
      */
     protected int scriptOptimizationLevel = -1;
 
+    /**
+     * The maximum number of compiled scripts that are kept, so the same script isn't compiled again for every execution.
+     * Set to 0 or less to compile the script for every execution.
+     */
+    protected int compiledScriptCacheSize = 500;
+
     @Override
     public void beforeInit(AbstractEngineConfiguration engineConfiguration) {
 
@@ -113,6 +119,7 @@ public class SecureJavascriptConfigurator extends AbstractProcessEngineConfigura
             secureScriptContextFactory = new SecureScriptContextFactory();
 
             secureScriptContextFactory.setOptimizationLevel(getScriptOptimizationLevel());
+            secureScriptContextFactory.setCompiledScriptCacheSize(getCompiledScriptCacheSize());
 
             if (isEnableClassWhiteListing() || getWhiteListedClasses() != null) {
                 secureScriptClassShutter = new SecureScriptClassShutter();
@@ -213,6 +220,15 @@ public class SecureJavascriptConfigurator extends AbstractProcessEngineConfigura
         return this;
     }
 
+    public int getCompiledScriptCacheSize() {
+        return compiledScriptCacheSize;
+    }
+
+    public SecureJavascriptConfigurator setCompiledScriptCacheSize(int compiledScriptCacheSize) {
+        this.compiledScriptCacheSize = compiledScriptCacheSize;
+        return this;
+    }
+
     public SecureScriptContextFactory getSecureScriptContextFactory() {
         return secureScriptContextFactory;
     }
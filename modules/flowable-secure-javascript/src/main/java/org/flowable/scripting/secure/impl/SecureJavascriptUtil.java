@@ -14,6 +14,7 @@ package org.flowable.scripting.secure.impl;
 
 import org.flowable.variable.api.delegate.VariableScope;
 import org.mozilla.javascript.Context;
+import org.mozilla.javascript.ContextFactory;
 import org.mozilla.javascript.Scriptable;
 
 /**
@@ -24,6 +25,15 @@ public class SecureJavascriptUtil {
     public static Object evaluateScript(VariableScope variableScope, String script) {
         Context context = Context.enter();
         try {
+            ContextFactory contextFactory = context.getFactory();
+            if (contextFactory instanceof SecureScriptContextFactory) {
+                // Compiled once and executed in a new scope on top of the sealed shared standard objects.
+                // The compiled script contains the instruction observer callbacks, so the time and memory limits still apply.
+                SecureScriptContextFactory secureScriptContextFactory = (SecureScriptContextFactory) contextFactory;
+                Scriptable scope = new SecureScriptInvocationScope(secureScriptContextFactory.getSharedScope(context), new SecureScriptScope(variableScope));
+                return secureScriptContextFactory.getCompiledScript(context, script).exec(context, scope);
+            }
+
             Scriptable scope = context.initStandardObjects();
             SecureScriptScope secureScriptScope = new SecureScriptScope(variableScope);
             scope.setPrototype(secureScriptScope);
@@ -12,10 +12,16 @@
  */
 package org.flowable.scripting.secure.impl;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 import org.mozilla.javascript.Callable;
 import org.mozilla.javascript.Context;
 import org.mozilla.javascript.ContextFactory;
+import org.mozilla.javascript.Script;
 import org.mozilla.javascript.Scriptable;
+import org.mozilla.javascript.ScriptableObject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -34,6 +40,10 @@ public class SecureScriptContextFactory extends ContextFactory {
     protected int optimizationLevel = -1;
     protected SecureScriptThreadMxBeanWrapper threadMxBeanWrapper;
 
+    protected int compiledScriptCacheSize = 500;
+    protected Map<String, Script> compiledScripts;
+    protected volatile ScriptableObject sharedScope;
+
     @Override
     protected Context makeContext() {
         SecureScriptContext context = new SecureScriptContext(this);
@@ -103,6 +113,67 @@ public class SecureScriptContextFactory extends ContextFactory {
         return super.doTopCall(callable, cx, scope, thisObj, args);
     }
 
+    /**
+     * Returns the compiled version of the script. Scripts are compiled by a context of this factory,
+     * which means they contain the instruction observer callbacks needed for the time and memory limits.
+     */
+    public Script getCompiledScript(Context context, String script) {
+        Map<String, Script> currentCompiledScripts = getCompiledScripts();
+        if (currentCompiledScripts == null) {
+            return context.compileString(script, "<script>", 0, null);
+        }
+
+        Script compiledScript = currentCompiledScripts.get(script);
+        if (compiledScript == null) {
+            compiledScript = context.compileString(script, "<script>", 0, null);
+            currentCompiledScripts.put(script, compiledScript);
+        }
+        return compiledScript;
+    }
+
+    protected synchronized Map<String, Script> getCompiledScripts() {
+        if (compiledScripts == null && compiledScriptCacheSize > 0) {
+            final int limit = compiledScriptCacheSize;
+            compiledScripts = Collections.synchronizedMap(new LinkedHashMap<String, Script>(16, 0.75f, true) {
+                // true will keep the 'access-order', which is needed to have a real LRU cache
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Script> eldest) {
+                    return size() > limit;
+                }
+            });
+        }
+        return compiledScripts;
+    }
+
+    /**
+     * Returns the scope with the standard javascript objects, shared by all script invocations.
+     * The scope is sealed, so scripts can't change it. The Java classes are not accessible through this scope (see {@link SecureScriptInvocationScope}).
+     */
+    public ScriptableObject getSharedScope(Context context) {
+        ScriptableObject currentSharedScope = sharedScope;
+        if (currentSharedScope == null) {
+            synchronized (this) {
+                currentSharedScope = sharedScope;
+                if (currentSharedScope == null) {
+                    currentSharedScope = context.initSafeStandardObjects(null, true);
+                    sharedScope = currentSharedScope;
+                }
+            }
+        }
+        return currentSharedScope;
+    }
+
+    public int getCompiledScriptCacheSize() {
+        return compiledScriptCacheSize;
+    }
+
+    public synchronized void setCompiledScriptCacheSize(int compiledScriptCacheSize) {
+        this.compiledScriptCacheSize = compiledScriptCacheSize;
+        this.compiledScripts = null;
+    }
+
     public int getOptimizationLevel() {
         return optimizationLevel;
     }
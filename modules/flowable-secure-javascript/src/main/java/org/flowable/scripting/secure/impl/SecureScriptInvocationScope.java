@@ -0,0 +1,81 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.scripting.secure.impl;
+
+import org.mozilla.javascript.ClassCache;
+import org.mozilla.javascript.LazilyLoadedCtor;
+import org.mozilla.javascript.Scriptable;
+import org.mozilla.javascript.ScriptableObject;
+
+/**
+ * Top level scope of one script invocation.
+ *
+ * Properties are looked up in this order: the properties defined by the script itself, the standard javascript objects of the
+ * (sealed) shared scope and finally the variables of the {@link SecureScriptScope}. Everything the script defines stays in this scope,
+ * so nothing leaks into the shared scope or into other invocations.
+ *
+ * The objects that give access to Java classes (Packages, java, ...) are not shared: Rhino caches the classes that were looked up
+ * on those objects, which would bypass later changes to the white-listed classes.
+ */
+public class SecureScriptInvocationScope extends ScriptableObject {
+
+    private static final long serialVersionUID = 1L;
+
+    protected static final String[] JAVA_TOP_PACKAGES = { "java", "javax", "org", "com", "edu", "net" };
+
+    protected Scriptable sharedScope;
+    protected SecureScriptScope secureScriptScope;
+
+    public SecureScriptInvocationScope(Scriptable sharedScope, SecureScriptScope secureScriptScope) {
+        this.sharedScope = sharedScope;
+        this.secureScriptScope = secureScriptScope;
+
+        // Rhino looks up values like its library scope on the prototype chain of the top level scope
+        setPrototype(sharedScope);
+        new ClassCache().associate(this);
+
+        new LazilyLoadedCtor(this, "Packages", "org.mozilla.javascript.NativeJavaTopPackage", false);
+        new LazilyLoadedCtor(this, "getClass", "org.mozilla.javascript.NativeJavaTopPackage", false);
+        new LazilyLoadedCtor(this, "JavaAdapter", "org.mozilla.javascript.JavaAdapter", false);
+        new LazilyLoadedCtor(this, "JavaImporter", "org.mozilla.javascript.ImporterTopLevel", false);
+        for (String topPackage : JAVA_TOP_PACKAGES) {
+            new LazilyLoadedCtor(this, topPackage, "org.mozilla.javascript.NativeJavaTopPackage", false);
+        }
+    }
+
+    @Override
+    public String getClassName() {
+        return "global";
+    }
+
+    @Override
+    public Object get(String name, Scriptable start) {
+        Object value = super.get(name, start);
+        if (value != NOT_FOUND) {
+            return value;
+        }
+
+        value = sharedScope.get(name, sharedScope);
+        if (value != NOT_FOUND) {
+            return value;
+        }
+
+        return secureScriptScope.get(name, start);
+    }
+
+    @Override
+    public boolean has(String name, Scriptable start) {
+        return super.has(name, start) || sharedScope.has(name, sharedScope) || secureScriptScope.has(name, start);
+    }
+
+}
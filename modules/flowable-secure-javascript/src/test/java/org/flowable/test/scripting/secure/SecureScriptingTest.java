@@ -90,6 +90,35 @@ public class SecureScriptingTest extends SecureScriptingBaseTest {
         Assert.assertEquals(1, tasks.size());
     }
 
+    @Test
+    public void testCompiledScriptUsesVariablesOfEachExecution() {
+        deployProcessDefinition("test-secure-script-use-variableScope-and-vars.bpmn20.xml");
+
+        addWhiteListedClass("java.lang.Integer");
+        addWhiteListedClass("org.flowable.engine.impl.persistence.entity.ExecutionEntityImpl");
+
+        for (int i = 0; i < 3; i++) {
+            Map<String, Object> vars = new HashMap<>();
+            vars.put("a", i);
+            vars.put("b", 100);
+            ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("useExecutionAndVars", vars);
+
+            Number c = (Number) runtimeService.getVariable(processInstance.getId(), "c");
+            Assert.assertEquals(100 + i, c.intValue());
+        }
+    }
+
+    @Test
+    public void testLimitsApplyToCompiledScript() {
+        deployProcessDefinition("test-secure-script-max-memory-usage.bpmn20.xml");
+
+        // The second execution uses the cached compiled script
+        for (int i = 0; i < 2; i++) {
+            Throwable t = catchThrowable(() -> runtimeService.startProcessInstanceByKey("secureScripting"));
+            Assert.assertTrue(t.getMessage().contains("Memory limit of 3145728 bytes reached"));
+        }
+    }
+
     @Test
     public void testExecutionListener() {
         deployProcessDefinition("test-secure-script-execution-listener.bpmn20.xml");
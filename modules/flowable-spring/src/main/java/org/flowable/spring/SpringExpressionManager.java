@@ -15,7 +15,6 @@ package org.flowable.spring;
 
 import java.util.Map;
 
-import org.flowable.common.engine.api.variable.VariableContainer;
 import org.flowable.common.engine.impl.el.DefaultExpressionManager;
 import org.flowable.common.engine.impl.el.JsonNodeELResolver;
 import org.flowable.common.engine.impl.el.ReadOnlyMapELResolver;
@@ -51,10 +50,8 @@ public class SpringExpressionManager extends ProcessExpressionManager {
     }
     
     @Override
-    protected ELResolver createElResolver(VariableContainer variableContainer) {
+    protected ELResolver createStaticElResolver() {
         CompositeELResolver compositeElResolver = new CompositeELResolver();
-        compositeElResolver.add(createVariableElResolver(variableContainer));
-
         compositeElResolver.add(createSpringElResolver());
         compositeElResolver.add(new ArrayELResolver());
         compositeElResolver.add(new ListELResolver());
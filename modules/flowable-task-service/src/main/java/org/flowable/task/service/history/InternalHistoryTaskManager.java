@@ -13,9 +13,18 @@
 package org.flowable.task.service.history;
 
 import org.flowable.task.service.impl.persistence.entity.TaskEntity;
+import org.flowable.task.service.impl.util.CommandContextUtil;
 
 public interface InternalHistoryTaskManager {
 
+    /**
+     * Record the creation of a task, if audit history is enabled.
+     * By default the historic task is written directly by the historic task service.
+     */
+    default void recordTaskCreated(TaskEntity taskEntity) {
+        CommandContextUtil.getTaskServiceConfiguration().getHistoricTaskService().recordTaskCreated(taskEntity);
+    }
+
     /**
      * Record task name change, if audit history is enabled.
      */
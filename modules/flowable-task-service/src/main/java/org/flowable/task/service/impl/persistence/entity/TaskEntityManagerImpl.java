@@ -96,7 +96,7 @@ public class TaskEntityManagerImpl extends AbstractEntityManager<TaskEntity> imp
         }
 
         if (taskServiceConfiguration.getHistoryLevel().isAtLeast(HistoryLevel.AUDIT)) {
-            taskServiceConfiguration.getHistoricTaskService().recordTaskCreated(taskEntity);
+            taskServiceConfiguration.getInternalHistoryTaskManager().recordTaskCreated(taskEntity);
         }
 
         return enrichedTaskEntity;
@@ -51,6 +51,8 @@ public interface VariableService {
 
     List<VariableInstanceEntity> findVariableInstancesByScopeIdAndScopeTypeAndNames(String scopeId, String scopeType, Collection<String> variableNames);
 
+    List<VariableInstanceEntity> findVariableInstancesByScopeIdAndScopeTypeIncludingSubScopes(String scopeId, String scopeType);
+
     List<VariableInstanceEntity> findVariableInstanceBySubScopeIdAndScopeType(String subScopeId, String scopeType);
 
     VariableInstanceEntity findVariableInstanceBySubScopeIdAndScopeTypeAndName(String subScopeId, String scopeType, String variableName);
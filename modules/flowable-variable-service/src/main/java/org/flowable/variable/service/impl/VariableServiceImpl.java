@@ -93,6 +93,11 @@ public class VariableServiceImpl extends CommonServiceImpl<VariableServiceConfig
         return getVariableInstanceEntityManager().findVariableInstancesByScopeIdAndScopeTypeAndNames(scopeId, scopeType, variableNames);
     }
 
+    @Override
+    public List<VariableInstanceEntity> findVariableInstancesByScopeIdAndScopeTypeIncludingSubScopes(String scopeId, String scopeType) {
+        return getVariableInstanceEntityManager().findVariableInstancesByScopeIdAndScopeTypeIncludingSubScopes(scopeId, scopeType);
+    }
+
     @Override
     public List<VariableInstanceEntity> findVariableInstanceBySubScopeIdAndScopeType(String subScopeId, String scopeType) {
         return getVariableInstanceEntityManager().findVariableInstanceBySubScopeIdAndScopeType(subScopeId, scopeType);
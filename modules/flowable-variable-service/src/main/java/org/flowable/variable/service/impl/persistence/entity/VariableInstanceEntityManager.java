@@ -48,6 +48,8 @@ public interface VariableInstanceEntityManager extends EntityManager<VariableIns
     
     List<VariableInstanceEntity> findVariableInstancesByScopeIdAndScopeTypeAndNames(String scopeId, String scopeType, Collection<String> variableNames);
     
+    List<VariableInstanceEntity> findVariableInstancesByScopeIdAndScopeTypeIncludingSubScopes(String scopeId, String scopeType);
+    
     List<VariableInstanceEntity> findVariableInstanceBySubScopeIdAndScopeType(String subScopeId, String scopeType);
     
     VariableInstanceEntity findVariableInstanceBySubScopeIdAndScopeTypeAndName(String subScopeId, String scopeType, String variableName);
@@ -107,6 +107,11 @@ public class VariableInstanceEntityManagerImpl extends AbstractEntityManager<Var
         return variableInstanceDataManager.findVariableInstancesByScopeIdAndScopeTypeAndNames(scopeId, scopeType, variableNames);
     }
     
+    @Override
+    public List<VariableInstanceEntity> findVariableInstancesByScopeIdAndScopeTypeIncludingSubScopes(String scopeId, String scopeType) {
+        return variableInstanceDataManager.findVariableInstancesByScopeIdAndScopeTypeIncludingSubScopes(scopeId, scopeType);
+    }
+    
     @Override
     public List<VariableInstanceEntity> findVariableInstanceBySubScopeIdAndScopeType(String subScopeId, String scopeType) {
         return variableInstanceDataManager.findVariableInstanceBySubScopeIdAndScopeType(subScopeId, scopeType);
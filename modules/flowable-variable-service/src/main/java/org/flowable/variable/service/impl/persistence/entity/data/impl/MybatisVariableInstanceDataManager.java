@@ -153,6 +153,14 @@ public class MybatisVariableInstanceDataManager extends AbstractDataManager<Vari
         return getList("selectVariableInstanceByScopeIdAndScopeTypeAndNames", params, variableInstanceByScopeIdAndScopeTypeAndVariableNamesMatcher, true);
     }
 
+    @Override
+    public List<VariableInstanceEntity> findVariableInstancesByScopeIdAndScopeTypeIncludingSubScopes(String scopeId, String scopeType) {
+        Map<String, Object> params = new HashMap<>(2);
+        params.put("scopeId", scopeId);
+        params.put("scopeType", scopeType);
+        return getList("selectVariableInstancesByScopeIdAndScopeTypeIncludingSubScopes", params, variableInstanceByScopeIdAndScopeTypeMatcher, true);
+    }
+
     @Override
     public List<VariableInstanceEntity> findVariableInstanceBySubScopeIdAndScopeType(String subScopeId, String scopeType) {
         Map<String, Object> params = new HashMap<>(2);